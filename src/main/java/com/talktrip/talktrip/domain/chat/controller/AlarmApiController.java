@@ -0,0 +1,48 @@
+package com.talktrip.talktrip.domain.chat.controller;
+
+import com.talktrip.talktrip.domain.chat.dto.response.AlarmDto;
+import com.talktrip.talktrip.domain.chat.service.AlarmService;
+import com.talktrip.talktrip.global.dto.SliceResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+
+@Tag(name = "Alarm", description = "알림 관련 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/alarm")
+public class AlarmApiController {
+
+    private final AlarmService alarmService;
+
+    @Operation(summary = "내 알림 목록 (최신순 페이지, cursor = 이전 페이지 nextCursor)")
+    @GetMapping("/me")
+    public SliceResponse<AlarmDto> getMyAlarms(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            Principal principal
+    ) {
+        return alarmService.getAlarms(principal.getName(), limit, cursor);
+    }
+
+    @Operation(summary = "안 읽은 알림 수")
+    @GetMapping("/me/unread-count")
+    public int getUnreadAlarmCount(Principal principal) {
+        return alarmService.getUnreadCount(principal.getName());
+    }
+
+    @Operation(summary = "알림 읽음 처리")
+    @PatchMapping("/me/{alarmId}/read")
+    public void markRead(@PathVariable Long alarmId, Principal principal) {
+        alarmService.markRead(principal.getName(), alarmId);
+    }
+
+    @Operation(summary = "알림 모두 읽음 처리")
+    @PatchMapping("/me/read-all")
+    public void markAllRead(Principal principal) {
+        alarmService.markAllRead(principal.getName());
+    }
+}
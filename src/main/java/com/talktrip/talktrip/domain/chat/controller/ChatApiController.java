@@ -2,7 +2,9 @@ package com.talktrip.talktrip.domain.chat.controller;
 
 import com.talktrip.talktrip.domain.chat.dto.request.ChatRoomRequestDto;
 import com.talktrip.talktrip.domain.chat.dto.response.*;
+import com.talktrip.talktrip.domain.chat.service.ChatSearchIndexService;
 import com.talktrip.talktrip.domain.chat.service.ChatService;
+import com.talktrip.talktrip.domain.chat.service.ChatSyncService;
 import com.talktrip.talktrip.global.dto.SliceResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -21,6 +23,8 @@ import java.util.Map;
 public class ChatApiController {
 
     private final ChatService chatService;
+    private final ChatSearchIndexService chatSearchIndexService;
+    private final ChatSyncService chatSyncService;
 
     @Operation(summary = "채팅방 접속")
     @PostMapping
@@ -35,6 +39,15 @@ public class ChatApiController {
         return chatService.getRooms(accountEmail);
 
     }
+    @Operation(summary = "내 채팅 목록 (최신순 페이지, cursor = 이전 페이지 nextCursor)")
+    @GetMapping("/me/chatRooms/slice")
+    public SliceResponse<ChatRoomDTO> getMyChatsSlice(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            Principal principal
+    ) {
+        return chatService.getRoomPage(principal.getName(), limit, cursor);
+    }
     @Operation(summary = "채팅방 메타 + (옵션) 첫 페이지 메시지")
     @GetMapping("/me/chatRooms/{roomId}")
     public ChatRoomWithMessagesDto getChatRoom(
@@ -70,6 +83,25 @@ public class ChatApiController {
                 cursor
         );
     }
+    @Operation(summary = "채팅 검색 (roomId 없으면 내 모든 방, cursor = 이전 페이지 nextCursor)")
+    @GetMapping("/me/search")
+    public SliceResponse<ChatSearchHitDto> searchMessages(
+            @RequestParam String q,
+            @RequestParam(required = false) String roomId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            Principal principal
+    ) {
+        return chatSearchIndexService.search(principal.getName(), roomId, q, limit, cursor);
+    }
+    @Operation(summary = "재연결 동기화 (token 이후 바뀐 방/새 메시지/읽음 위치, 응답의 syncToken 을 다음 호출에 사용)")
+    @GetMapping("/me/sync")
+    public ChatSyncResponse sync(
+            @RequestParam(required = false) String token,
+            Principal principal
+    ) {
+        return chatSyncService.sync(principal.getName(), token);
+    }
     @Operation(summary = "안읽은 모든 채팅갯수")
     @GetMapping("/countALLUnreadMessages")
     public Map<String, Integer> getCountAllUnreadMessages(Principal principal) {
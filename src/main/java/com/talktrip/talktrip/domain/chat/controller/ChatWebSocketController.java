@@ -4,6 +4,8 @@ import com.talktrip.talktrip.domain.chat.dto.request.ChatMessageRequestDto;
 import com.talktrip.talktrip.domain.chat.service.ChatService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
@@ -16,6 +18,8 @@ import java.util.Map;
 @Controller
 public class ChatWebSocketController {
 
+    private static final String CLIENT_KEY_CONSTRAINT = "uk_msg_sender_client_key";
+
     private final ChatService chatService;
     private final SimpMessagingTemplate messagingTemplate;
 
@@ -26,6 +30,12 @@ public class ChatWebSocketController {
             // 정상 처리 시 메시지 저장 및 발송
             chatService.saveAndSend(dto, principal);
         } catch (RuntimeException ex) {
+            // 같은 clientMessageKey 재전송이 먼저 저장된 메시지와 유니크 제약에서 부딪힘 → 실패가 아니라 원래 영수증으로 응답
+            // (길이 초과 등 다른 무결성 오류는 아래 오류 응답으로 보낸다)
+            if (ex instanceof DataIntegrityViolationException && dto.getClientMessageKey() != null) {
+                boolean acked = chatService.resendAck(dto, principal);
+                if (acked || isClientKeyViolation(ex)) return;
+            }
             log.error("WebSocket 메시지 처리 실패: {}", ex.getMessage());
 
             // 클라이언트에게 실패 정보를 전달
@@ -44,4 +54,9 @@ public class ChatWebSocketController {
             );
         }
     }
+
+    private static boolean isClientKeyViolation(Exception ex) {
+        String message = NestedExceptionUtils.getMostSpecificCause(ex).getMessage();
+        return message != null && message.contains(CLIENT_KEY_CONSTRAINT);
+    }
 }
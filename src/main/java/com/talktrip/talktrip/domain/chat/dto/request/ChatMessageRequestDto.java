@@ -3,11 +3,10 @@ package com.talktrip.talktrip.domain.chat.dto.request;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.talktrip.talktrip.domain.chat.entity.ChatMessage;
+import com.talktrip.talktrip.global.util.SortableIdGenerator;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.time.LocalDateTime;
-import java.util.UUID;
 
 @Getter
 @NoArgsConstructor
@@ -15,31 +14,38 @@ public class ChatMessageRequestDto {
     private String roomId;
     private String accountEmail;
     private String message;
+    private String clientMessageKey; // 클라이언트가 만든 전송 멱등 키 (재전송 시 같은 값, 선택)
     //private String receiverAccountEmail;
 
+    public ChatMessageRequestDto(String roomId, String accountEmail, String message) {
+        this(roomId, accountEmail, message, null);
+    }
+
     @JsonCreator
     public ChatMessageRequestDto(
             @JsonProperty("roomId") String roomId,
             @JsonProperty("accountEmail") String accountEmail,
-            @JsonProperty("message") String message
-
+            @JsonProperty("message") String message,
+            @JsonProperty("clientMessageKey") String clientMessageKey
             ) {
         this.roomId = roomId;
         this.accountEmail = accountEmail;
         this.message = message;
-
+        this.clientMessageKey = clientMessageKey;
     }
 
     public ChatMessage toEntity(String accountEmail) {
-        String uuid = UUID.randomUUID().toString().replace("-", "");
-        String messageId = "mgs" + uuid.substring(0, 7);
+        // createdAt 은 ID 에 담긴 시각과 같게 맞춘다 (커서가 ID 하나로 동작하도록)
+        SortableIdGenerator.SortableId id = SortableIdGenerator.next(SortableIdGenerator.MESSAGE_PREFIX);
 
-        return new ChatMessage(
-                messageId,
+        ChatMessage entity = new ChatMessage(
+                id.value(),
                 this.roomId,
                 accountEmail,
                 this.message,
-                LocalDateTime.now()
+                id.createdAt()
         );
+        entity.setClientMessageKey(this.clientMessageKey);
+        return entity;
     }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.talktrip.talktrip.domain.chat.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.talktrip.talktrip.domain.chat.entity.Alarm;
+import com.talktrip.talktrip.domain.chat.entity.AlarmType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 한 건. 실시간 푸시(/user/queue/alarm)로 보낼 때는 아직 id 를 모르므로 비어 있다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AlarmDto(
+        Long id,
+        AlarmType type,
+        String message,
+        String link,
+        int eventCount,              // 합쳐진 이벤트 수
+        boolean read,
+        LocalDateTime createdAt
+) {
+    public static AlarmDto from(Alarm alarm) {
+        return new AlarmDto(
+                alarm.getId(),
+                alarm.getType(),
+                alarm.getMessage(),
+                alarm.getLink(),
+                alarm.getEventCount(),
+                Boolean.TRUE.equals(alarm.getIsRead()),
+                alarm.getCreatedAt()
+        );
+    }
+}
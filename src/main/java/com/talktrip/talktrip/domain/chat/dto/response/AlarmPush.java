@@ -0,0 +1,11 @@
+package com.talktrip.talktrip.domain.chat.dto.response;
+
+import java.util.List;
+
+/**
+ * flush 한 번에 한 사용자에게 보내는 알림 묶음 (/user/queue/alarm)
+ */
+public record AlarmPush(
+        int unreadAlarmCount,
+        List<AlarmDto> alarms
+) {}
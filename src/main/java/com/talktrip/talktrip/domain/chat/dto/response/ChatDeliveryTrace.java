@@ -0,0 +1,37 @@
+package com.talktrip.talktrip.domain.chat.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 방 메시지 전달 단계별 시각 (epoch µs, 0 = 기록 안 됨).
+ * ChatMessagePush 에 실려 가고, 메시지를 전달하는 각 노드가 수신/브로커 전달 시각을 더해 단계별 지연을 기록한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatDeliveryTrace {
+    private long acceptedAt;     // 발신 노드가 SEND 처리를 시작한 시각
+    private long persistedAt;    // DB 저장 (write-behind 면 큐 적재/그룹 커밋) 완료 시각
+    private long publishedAt;    // 커밋 후 Redis 로 발행하기 직전 시각
+
+    public static ChatDeliveryTrace accepted(long acceptedAt) {
+        return new ChatDeliveryTrace(acceptedAt, 0L, 0L);
+    }
+
+    public void markPersisted() {
+        this.persistedAt = nowMicros();
+    }
+
+    public void markPublished() {
+        this.publishedAt = nowMicros();
+    }
+
+    public static long nowMicros() {
+        Instant now = Instant.now();
+        return now.getEpochSecond() * 1_000_000L + now.getNano() / 1_000;
+    }
+}
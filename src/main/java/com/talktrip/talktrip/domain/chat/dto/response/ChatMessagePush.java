@@ -1,12 +1,16 @@
 package com.talktrip.talktrip.domain.chat.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+// 수신 노드가 JSON 바이트를 파싱하지 않고 messageId(첫 필드)와 trace(마지막 필드)를 읽으므로 순서를 고정한다
+@JsonPropertyOrder({"messageId", "roomId", "sender", "senderName", "message", "createdAt", "streamId", "trace"})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -17,6 +21,14 @@ public class ChatMessagePush {
     private String senderName;   // 발신자 이름
     private String message;
     private String createdAt;    // ISO8601 string
+    private String streamId;     // Redis Stream 전송일 때만 채워짐 (재연결 시 last-stream-id 로 사용)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private ChatDeliveryTrace trace; // 전달 단계별 시각 (노드 간 내부용, 클라이언트로는 보내지 않는다. 직렬화 시 마지막 필드)
+
+    public ChatMessagePush(String messageId, String roomId, String sender, String senderName,
+                           String message, String createdAt) {
+        this(messageId, roomId, sender, senderName, message, createdAt, null, null);
+    }
 
     @JsonCreator //redis -  Jackson에게 역직렬화에 사용할 생성자 지정
     public ChatMessagePush(
@@ -25,7 +37,9 @@ public class ChatMessagePush {
             @JsonProperty("sender") String sender,
             @JsonProperty("senderName") String senderName,
             @JsonProperty("message") String message,
-            @JsonProperty("createdAt") String createdAt
+            @JsonProperty("createdAt") String createdAt,
+            @JsonProperty("streamId") String streamId,
+            @JsonProperty("trace") ChatDeliveryTrace trace
     ) {
         this.messageId = messageId;
         this.roomId = roomId;
@@ -33,5 +47,25 @@ public class ChatMessagePush {
         this.senderName = senderName;
         this.message = message;
         this.createdAt = createdAt;
+        this.streamId = streamId;
+        this.trace = trace;
+    }
+
+    public ChatMessagePush withStreamId(String streamId) {
+        return new ChatMessagePush(messageId, roomId, sender, senderName, message, createdAt, streamId, trace);
+    }
+
+    /**
+     * 브라우저로 보낼 사본 (내부 지연 측정용 trace 제외)
+     */
+    public ChatMessagePush forClient() {
+        return new ChatMessagePush(messageId, roomId, sender, senderName, message, createdAt, streamId, null);
+    }
+
+    /**
+     * Redis 로 발행하기 직전에 호출한다 (trace 가 없는 payload 는 그대로).
+     */
+    public void markPublished() {
+        if (trace != null) trace.markPublished();
     }
-}
\ No newline at end of file
+}
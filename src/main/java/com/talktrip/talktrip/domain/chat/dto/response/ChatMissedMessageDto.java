@@ -0,0 +1,19 @@
+package com.talktrip.talktrip.domain.chat.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * 오프라인 동안 방마다 마지막으로 받은 메시지 요약. 재접속 시 /user/queue/chat/missed 로 한 번에 전달된다.
+ */
+public record ChatMissedMessageDto(
+        String roomId,
+        String messageId,
+        String senderAccountEmail,
+        String message,              // 미리보기 (최대 100자)
+        LocalDateTime createdAt,
+        int unreadCount              // 전달 시점의 안 읽은 수
+) {
+    public ChatMissedMessageDto withUnreadCount(int unreadCount) {
+        return new ChatMissedMessageDto(roomId, messageId, senderAccountEmail, message, createdAt, unreadCount);
+    }
+}
@@ -0,0 +1,11 @@
+package com.talktrip.talktrip.domain.chat.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+
+public record ChatReadMarkerDto(
+        String roomId,
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSSSS")
+        LocalDateTime lastReadAt
+) {}
@@ -0,0 +1,8 @@
+package com.talktrip.talktrip.domain.chat.dto.response;
+
+import java.time.LocalDateTime;
+
+public record ChatRoomActivityScalar(
+        String roomId,
+        LocalDateTime updatedAt
+) {}
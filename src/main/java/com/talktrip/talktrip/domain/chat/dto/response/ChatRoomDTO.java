@@ -39,4 +39,8 @@ public class ChatRoomDTO {
         this.notReadMessageCount = notReadMessageCount;
         this.roomType = roomType;  // 값 초기화
     }
+
+    public void updateNotReadMessageCount(long notReadMessageCount) {
+        this.notReadMessageCount = notReadMessageCount;
+    }
 }
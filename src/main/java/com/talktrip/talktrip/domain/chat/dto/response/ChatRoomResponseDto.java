@@ -2,12 +2,11 @@ package com.talktrip.talktrip.domain.chat.dto.response;
 
 import com.talktrip.talktrip.domain.chat.entity.ChatRoom;
 import com.talktrip.talktrip.global.entity.BaseEntity;
+import com.talktrip.talktrip.global.util.SortableIdGenerator;
 import jakarta.persistence.Id;
 import lombok.Builder;
 import lombok.Getter;
 
-import java.util.UUID;
-
 @Getter
 @Builder
 public class ChatRoomResponseDto extends BaseEntity {
@@ -23,7 +22,7 @@ public class ChatRoomResponseDto extends BaseEntity {
                 .build();
     }
     public static ChatRoomResponseDto createNew() {
-        String newRoomId = "ROOM_" + UUID.randomUUID().toString().replace("-", "").substring(0, 10);
+        String newRoomId = SortableIdGenerator.nextId(SortableIdGenerator.ROOM_PREFIX);
         return ChatRoomResponseDto.builder()
                 .roomId(newRoomId)
                 .build();
@@ -0,0 +1,19 @@
+package com.talktrip.talktrip.domain.chat.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅 검색 결과 한 건.
+ * contextCursor 를 /api/chat/me/chatRooms/{roomId}/messages?cursor= 에 넘기면 이 메시지부터 과거 방향으로 이어 읽는다.
+ */
+public record ChatSearchHitDto(
+        String roomId,
+        String messageId,
+        String accountEmail,
+        String message,
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        LocalDateTime createdAt,
+        String contextCursor
+) {}
@@ -0,0 +1,25 @@
+package com.talktrip.talktrip.domain.chat.dto.response;
+
+import com.talktrip.talktrip.domain.chat.entity.ChatMessage;
+
+/**
+ * 전송 영수증 (/user/queue/chat/ack)
+ * 클라이언트는 clientMessageKey 로 보낸 메시지를 찾아 서버 messageId/createdAt 으로 바꾼다.
+ * duplicate=true 면 이미 저장된 메시지에 대한 재전송이었다는 뜻이다 (새로 저장/발행하지 않음).
+ */
+public record ChatSendAck(
+        String clientMessageKey,
+        String messageId,
+        String roomId,
+        String createdAt,
+        boolean duplicate
+) {
+    public static ChatSendAck of(ChatMessage message) {
+        return new ChatSendAck(message.getClientMessageKey(), message.getMessageId(), message.getRoomId(),
+                String.valueOf(message.getCreatedAt()), false);
+    }
+
+    public ChatSendAck asDuplicate() {
+        return new ChatSendAck(clientMessageKey, messageId, roomId, createdAt, true);
+    }
+}
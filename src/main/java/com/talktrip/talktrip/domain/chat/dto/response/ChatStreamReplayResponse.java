@@ -0,0 +1,14 @@
+package com.talktrip.talktrip.domain.chat.dto.response;
+
+import java.util.List;
+
+/**
+ * 재연결 시 last-stream-id 이후 놓친 방 메시지 (오래된 순).
+ * complete 가 false 면 스트림이 이미 잘렸거나 replayLimit 를 넘었으므로 클라이언트는 히스토리 API 로 보충한다.
+ */
+public record ChatStreamReplayResponse(
+        String roomId,
+        List<ChatMessagePush> messages,
+        boolean complete
+) {
+}
@@ -0,0 +1,26 @@
+package com.talktrip.talktrip.domain.chat.dto.response;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재연결 동기화 응답.
+ * reset=true 면 토큰이 없거나 너무 오래돼 rooms 에 전체 방 목록만 담긴다 (메시지는 방 메시지 API 로 다시 읽는다).
+ */
+public record ChatSyncResponse(
+        String syncToken,                        // 다음 동기화에 그대로 넘길 불투명 토큰
+        boolean reset,
+        List<ChatRoomDTO> rooms,                 // 토큰 이후 바뀐 방 요약 (최신 활동순)
+        List<RoomMessages> messages,             // 방별 새 메시지 (오래된 순, 방마다 최대 N개)
+        List<ChatReadMarkerDto> readMarkers,     // 토큰 이후 바뀐 내 읽음 위치 (다른 기기에서 읽은 방)
+        Map<String, Integer> unreadByRoom        // 내 모든 방의 안 읽은 수
+) {
+    /**
+     * truncated=true 면 더 오래된 새 메시지가 남아 있다 (첫 메시지의 커서로 방 메시지 API 를 이어 읽는다).
+     */
+    public record RoomMessages(
+            String roomId,
+            List<ChatMemberRoomWithMessageDto> items,
+            boolean truncated
+    ) {}
+}
@@ -1,20 +1,54 @@
 package com.talktrip.talktrip.domain.chat.entity;
 
-import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.Id;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
+/**
+ * 사용자 알림.
+ * 같은 대상(groupKey)의 안 읽은 알림은 한 행으로 합쳐진다 (eventCount 증가, 내용은 최신 것으로 교체).
+ * openKey = "{accountEmail}|{groupKey}" 는 안 읽은 동안에만 채워지는 유니크 키로, 읽으면 NULL 이 되어
+ * 다음 이벤트가 새 행을 만든다.
+ */
 @Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "alarm",
+        indexes = {
+                @Index(name = "idx_alarm_account_id", columnList = "account_email, id")
+        },
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_alarm_open_key", columnNames = "open_key")
+        }
+)
 public class Alarm {
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Column(name = "account_email", nullable = false)
     private String accountEmail;         // 알림 받는 사용자
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", length = 20)
+    private AlarmType type;
+
+    @Column(name = "group_key")
+    private String groupKey;       // 합치기 단위 (예: chat:{roomId}, order:{orderId})
+
+    @Column(name = "open_key")
+    private String openKey;
+
     private String message;        // 알림 내용
     private String link;           // 클릭 시 이동할 URI
+
+    @Column(name = "event_count", nullable = false)
+    private int eventCount;        // 합쳐진 이벤트 수
+
     private Boolean isRead;
     private LocalDateTime createdAt;
 }
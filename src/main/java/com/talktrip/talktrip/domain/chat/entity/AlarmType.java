@@ -0,0 +1,7 @@
+package com.talktrip.talktrip.domain.chat.entity;
+
+public enum AlarmType {
+    CHAT,     // 오프라인 중 받은 채팅
+    ORDER,    // 결제 완료
+    REVIEW    // 내 상품에 리뷰 작성
+}
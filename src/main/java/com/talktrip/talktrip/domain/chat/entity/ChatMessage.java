@@ -16,6 +16,18 @@ import java.time.LocalDateTime;
                 @Index(
                         name = "idx_msg_room_created_id_desc",
                         columnList = "room_id, created_at, message_id"
+                ),
+                // 아카이브 이동 배치 (created_at < cutoff ORDER BY created_at, message_id LIMIT n) 를 범위 스캔으로
+                @Index(
+                        name = "idx_msg_created_id",
+                        columnList = "created_at, message_id"
+                )
+        },
+        uniqueConstraints = {
+                // 같은 발신자의 같은 clientMessageKey 는 한 번만 저장 (Redis 중복 제거 창이 비었을 때의 최종 방어선)
+                @UniqueConstraint(
+                        name = "uk_msg_sender_client_key",
+                        columnNames = {"account_email", "client_message_key"}
                 )
         }
 )
@@ -37,6 +49,10 @@ public class ChatMessage {
     @Column(name = "message", nullable = false)
     private String message;
 
+    // 클라이언트가 만든 전송 멱등 키 (없으면 null, 재전송 시 같은 값)
+    @Column(name = "client_message_key", length = 64)
+    private String clientMessageKey;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,35 @@
+package com.talktrip.talktrip.domain.chat.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 방별 아카이브 범위.
+ * 아카이브로 옮겨진 메시지가 있는 방만 행이 있으므로, 히스토리 조회는 이 행이 있을 때만
+ * 월별 아카이브 테이블(oldest ~ newest 가 걸친 달)을 이어서 읽는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "chatting_message_archive_room_tab")
+public class ChatMessageArchiveRoom {
+
+    @Id
+    @Column(name = "room_id", nullable = false)
+    private String roomId;
+
+    @Column(name = "oldest_created_at", nullable = false)
+    private LocalDateTime oldestCreatedAt;
+
+    @Column(name = "newest_created_at", nullable = false)
+    private LocalDateTime newestCreatedAt;
+
+    @Column(name = "message_count", nullable = false)
+    private long messageCount;
+}
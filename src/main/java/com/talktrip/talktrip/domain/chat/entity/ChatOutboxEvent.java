@@ -0,0 +1,46 @@
+package com.talktrip.talktrip.domain.chat.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅 팬아웃 outbox.
+ * 메시지 저장과 같은 트랜잭션에 기록하고, ChatOutboxRelay 가 Redis 로 발행한 뒤 지운다.
+ * 행은 JDBC 로 쓰고 읽으며, 엔티티는 테이블 정의용이다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "chatting_outbox_tab")
+public class ChatOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "kind", nullable = false, length = 16)
+    private Kind kind;
+
+    // PUBLISH: Redis 채널, STREAM: roomId
+    @Column(name = "destination", nullable = false)
+    private String destination;
+
+    // PUBLISH: RedisPayloadCodec 으로 인코딩한 바이트, STREAM: JSON (UTF-8)
+    @Lob
+    @Column(name = "payload", nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] payload;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime createdAt;
+
+    public enum Kind {
+        PUBLISH, // Pub/Sub 채널로 PUBLISH
+        STREAM   // chat.transport.mode=STREAM 의 방 메시지 (샤드 스트림에 XADD)
+    }
+}
@@ -28,4 +28,9 @@ public class ChatRoom extends BaseEntity {
     @Enumerated(EnumType.STRING)
     @Column(name = "room_type", nullable = false)
     private RoomType roomType;
+
+    // 단체방 메시지 순번 (Redis chat:group:seq:{roomId} 를 주기적으로 반영, 안 읽은 수 = 순번 - 멤버의 읽은 순번)
+    @Builder.Default
+    @Column(name = "message_seq", nullable = false)
+    private long messageSeq = 0L;
 }
@@ -2,12 +2,12 @@ package com.talktrip.talktrip.domain.chat.entity;
 
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.talktrip.talktrip.global.util.SortableIdGenerator;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 @Entity
 @Getter
@@ -34,6 +34,10 @@ public class ChatRoomAccount {
     @Column(name = "is_del")
     private int isDel;
 
+    // 단체방에서 마지막으로 읽은 메시지 순번 (ChatRoom.messageSeq 기준)
+    @Column(name = "last_read_seq", nullable = false)
+    private long lastReadSeq;
+
     @Builder
     public ChatRoomAccount(String roomAccountId,String accountEmail, String roomId) {
         this.roomAccountId = roomAccountId;
@@ -46,11 +50,18 @@ public class ChatRoomAccount {
     }
 
     public static ChatRoomAccount create(String roomId, String accountEmail) {
-        String roomAccountId = "RA_" + UUID.randomUUID().toString().replace("-", "").substring(0, 10);
+        String roomAccountId = SortableIdGenerator.nextId(SortableIdGenerator.ROOM_ACCOUNT_PREFIX);
         return ChatRoomAccount.builder()
                 .roomAccountId(roomAccountId)
                 .roomId(roomId)
                 .accountEmail(accountEmail)
                 .build();
     }
+
+    // 단체방 가입: 가입 시점의 방 순번까지 읽은 것으로 시작
+    public static ChatRoomAccount create(String roomId, String accountEmail, long lastReadSeq) {
+        ChatRoomAccount account = create(roomId, accountEmail);
+        account.lastReadSeq = lastReadSeq;
+        return account;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.talktrip.talktrip.domain.chat.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅방 목록용 요약 read model.
+ * 방마다 마지막 메시지와 누적 메시지 수를 들고 있어서
+ * 목록 조회 시 메시지 테이블을 MAX/COUNT 서브쿼리로 훑지 않아도 된다.
+ * 메시지 저장 경로(saveAndSend / write-behind flush)에서 같이 갱신된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "chatting_room_summary_tab")
+public class ChatRoomSummary {
+
+    @Id
+    @Column(name = "room_id", nullable = false)
+    private String roomId;
+
+    @Column(name = "last_message_id")
+    private String lastMessageId;
+
+    @Column(name = "last_message", columnDefinition = "TEXT")
+    private String lastMessage;
+
+    @Column(name = "last_sender_email")
+    private String lastSenderEmail;
+
+    @Column(name = "last_message_at")
+    private LocalDateTime lastMessageAt;
+
+    @Column(name = "message_count", nullable = false)
+    private long messageCount;
+}
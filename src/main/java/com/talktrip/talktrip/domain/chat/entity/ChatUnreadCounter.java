@@ -0,0 +1,36 @@
+package com.talktrip.talktrip.domain.chat.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * (방, 사용자)별 안 읽은 메시지 수.
+ * Redis 카운터(chat:unread:{email})의 DB 백업본으로, Redis 가 비었거나 장애일 때 사용한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@IdClass(ChatUnreadCounterId.class)
+@Table(
+        name = "chatting_unread_counter_tab",
+        indexes = {
+                @Index(name = "idx_unread_account", columnList = "account_email")
+        }
+)
+public class ChatUnreadCounter {
+
+    @Id
+    @Column(name = "room_id", nullable = false)
+    private String roomId;
+
+    @Id
+    @Column(name = "account_email", nullable = false)
+    private String accountEmail;
+
+    @Column(name = "unread_count", nullable = false)
+    private int unreadCount;
+}
@@ -0,0 +1,17 @@
+package com.talktrip.talktrip.domain.chat.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ChatUnreadCounterId implements Serializable {
+    private String roomId;
+    private String accountEmail;
+}
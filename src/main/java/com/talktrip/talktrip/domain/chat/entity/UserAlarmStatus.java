@@ -1,12 +1,25 @@
 package com.talktrip.talktrip.domain.chat.entity;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
 
+/**
+ * 사용자별 안 읽은 알림 수. 알림 행을 세지 않고 새 행이 생길 때 +1, 읽을 때 -1 로 유지한다.
+ */
 @Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "user_alarm_status")
 public class UserAlarmStatus {
     @Id
+    @Column(name = "account_email")
     private String accountEmail;
 
+    @Column(name = "unread_alarm_count", nullable = false)
     private int unreadAlarmCount;
 }
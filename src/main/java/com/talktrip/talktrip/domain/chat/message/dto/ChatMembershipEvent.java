@@ -0,0 +1,24 @@
+package com.talktrip.talktrip.domain.chat.message.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+/**
+ * 사용자가 새 방의 멤버가 되었음을 알리는 이벤트 (chat:membership:{email})
+ * 그 사용자의 세션을 가진 서버가 해당 방의 사이드바 채널을 구독하도록 한다.
+ */
+@Getter
+public class ChatMembershipEvent {
+    private final String roomId;
+    private final String accountEmail;
+
+    @JsonCreator //redis -  Jackson에게 역직렬화에 사용할 생성자 지정
+    public ChatMembershipEvent(
+            @JsonProperty("roomId") String roomId,
+            @JsonProperty("accountEmail") String accountEmail
+    ) {
+        this.roomId = roomId;
+        this.accountEmail = accountEmail;
+    }
+}
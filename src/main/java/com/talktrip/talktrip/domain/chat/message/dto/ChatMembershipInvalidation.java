@@ -0,0 +1,26 @@
+package com.talktrip.talktrip.domain.chat.message.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 방 멤버십이 바뀌었으니 로컬 멤버십 캐시를 비우라는 이벤트 (chat:membership-cache:invalidate)
+ * 모든 노드가 받아 roomId 의 멤버 집합과 accountEmails 의 방 집합을 지운다.
+ */
+@Getter
+public class ChatMembershipInvalidation {
+    private final String roomId;
+    private final List<String> accountEmails;
+
+    @JsonCreator
+    public ChatMembershipInvalidation(
+            @JsonProperty("roomId") String roomId,
+            @JsonProperty("accountEmails") List<String> accountEmails
+    ) {
+        this.roomId = roomId;
+        this.accountEmails = accountEmails == null ? List.of() : accountEmails;
+    }
+}
@@ -0,0 +1,75 @@
+package com.talktrip.talktrip.domain.chat.message.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 방 단위 사이드바 이벤트 (chat:sidebar:{roomId} 로 한 번만 발행)
+ * 메시지 본문은 한 번만 싣고, 멤버별로 다른 값(안 읽은 수)만 맵으로 보낸다.
+ * 각 서버는 자기에게 세션이 있는 멤버에 대해서만 ChatRoomUpdateMessage 로 풀어 전달한다.
+ * 단체방은 unreadByMember 없이 seq(방 메시지 순번)만 싣고, 받는 서버가 멤버의 읽은 순번으로 안 읽은 수를 계산한다.
+ */
+@Getter
+@Builder
+public class ChatRoomSidebarEvent {
+    private final String roomId;
+    private final String messageId;
+    private final String message;
+    private final String senderAccountEmail;
+    private final LocalDateTime createdAt;
+    private final Timestamp updatedAt;
+    private final Map<String, Integer> unreadByMember; // 멤버 이메일 → 안 읽은 수 (발신자 포함, 0)
+    private final Long seq;                            // 단체방일 때만: 이 메시지의 방 순번
+
+    @JsonCreator //redis -  Jackson에게 역직렬화에 사용할 생성자 지정
+    public ChatRoomSidebarEvent(
+            @JsonProperty("roomId") String roomId,
+            @JsonProperty("messageId") String messageId,
+            @JsonProperty("message") String message,
+            @JsonProperty("senderAccountEmail") String senderAccountEmail,
+            @JsonProperty("createdAt") LocalDateTime createdAt,
+            @JsonProperty("updatedAt") Timestamp updatedAt,
+            @JsonProperty("unreadByMember") Map<String, Integer> unreadByMember,
+            @JsonProperty("seq") Long seq
+    ) {
+        this.roomId = roomId;
+        this.messageId = messageId;
+        this.message = message;
+        this.senderAccountEmail = senderAccountEmail;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.unreadByMember = unreadByMember;
+        this.seq = seq;
+    }
+
+    @JsonIgnore
+    public boolean isGroup() {
+        return seq != null;
+    }
+
+    /**
+     * 특정 멤버에게 보낼 기존 형식의 사이드바 메시지
+     */
+    public ChatRoomUpdateMessage toUpdateMessage(String memberEmail) {
+        return toUpdateMessage(memberEmail, unreadByMember.getOrDefault(memberEmail, 0));
+    }
+
+    public ChatRoomUpdateMessage toUpdateMessage(String memberEmail, int unreadCount) {
+        return ChatRoomUpdateMessage.builder()
+                .roomId(roomId)
+                .messageId(messageId)
+                .message(message)
+                .senderAccountEmail(senderAccountEmail)
+                .createdAt(createdAt)
+                .unreadCountForReceiver(unreadCount)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
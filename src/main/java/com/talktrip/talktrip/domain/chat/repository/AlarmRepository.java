@@ -0,0 +1,44 @@
+package com.talktrip.talktrip.domain.chat.repository;
+
+import com.talktrip.talktrip.domain.chat.entity.Alarm;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AlarmRepository extends JpaRepository<Alarm, Long> {
+
+    // 최신순, cursorId 보다 오래된 알림 (idx_alarm_account_id 사용)
+    @Query("""
+        select a
+        from Alarm a
+        where a.accountEmail = :email
+          and (:cursorId is null or a.id < :cursorId)
+        order by a.id desc
+    """)
+    List<Alarm> findPageBefore(@Param("email") String email,
+                               @Param("cursorId") Long cursorId,
+                               Pageable pageable);
+
+    // 읽으면 openKey 를 비워 같은 대상의 다음 이벤트가 새 알림이 되게 한다
+    @Modifying
+    @Query("""
+        UPDATE Alarm a
+        SET a.isRead = true, a.openKey = null
+        WHERE a.id = :id AND a.accountEmail = :email AND a.isRead = false
+    """)
+    int markRead(@Param("id") Long id, @Param("email") String email);
+
+    @Modifying
+    @Query("""
+        UPDATE Alarm a
+        SET a.isRead = true, a.openKey = null
+        WHERE a.accountEmail = :email AND a.isRead = false
+    """)
+    int markAllRead(@Param("email") String email);
+}
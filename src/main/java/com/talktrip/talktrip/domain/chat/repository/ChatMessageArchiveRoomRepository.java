@@ -0,0 +1,9 @@
+package com.talktrip.talktrip.domain.chat.repository;
+
+import com.talktrip.talktrip.domain.chat.entity.ChatMessageArchiveRoom;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ChatMessageArchiveRoomRepository extends JpaRepository<ChatMessageArchiveRoom, String> {
+}
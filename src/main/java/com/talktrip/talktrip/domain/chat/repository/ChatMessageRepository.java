@@ -10,6 +10,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, String> {
@@ -134,4 +135,7 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, String
             @Param("cursorMessageId") String cursorMessageId, // ✅ String으로 변경
             PageRequest pageable
     );
+
+    // 전송 중복 제거: Redis 창이 비었을 때 uk_msg_sender_client_key 로 원래 메시지를 찾는다
+    Optional<ChatMessage> findByAccountEmailAndClientMessageKey(String accountEmail, String clientMessageKey);
 }
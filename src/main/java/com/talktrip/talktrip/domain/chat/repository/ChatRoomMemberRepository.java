@@ -1,5 +1,6 @@
 package com.talktrip.talktrip.domain.chat.repository;
 
+import com.talktrip.talktrip.domain.chat.dto.response.ChatReadMarkerDto;
 import com.talktrip.talktrip.domain.chat.entity.ChatRoomAccount;
 import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -74,6 +76,27 @@ public interface ChatRoomMemberRepository extends JpaRepository<ChatRoomAccount,
     """)
     List<String> findParticipantEmails(@Param("roomId") String roomId);
 
+    // 나간 방(is_del=1)도 새 메시지가 오면 다시 보이므로 전체 멤버십 기준
+    @Query("""
+        select m.roomId
+        from ChatRoomAccount m
+        where m.accountEmail = :accountEmail
+    """)
+    List<String> findRoomIdsByAccountEmail(@Param("accountEmail") String accountEmail);
+
+    // 재연결 동기화: 토큰 시각 이후 바뀐 내 읽음 위치
+    @Query("""
+        select new com.talktrip.talktrip.domain.chat.dto.response.ChatReadMarkerDto(m.roomId, m.lastMemberReadTime)
+        from ChatRoomAccount m
+        where m.accountEmail = :accountEmail
+          and m.isDel = 0
+          and m.lastMemberReadTime > :since
+    """)
+    List<ChatReadMarkerDto> findReadMarkersAfter(@Param("accountEmail") String accountEmail,
+                                                 @Param("since") LocalDateTime since);
+
+    boolean existsByRoomIdAndAccountEmail(String roomId, String accountEmail);
+
 
     List<ChatRoomAccount> findAllAccountEmailsByRoomId(String roomId);
 }
@@ -1,5 +1,6 @@
 package com.talktrip.talktrip.domain.chat.repository;
 
+import com.talktrip.talktrip.domain.chat.dto.response.ChatRoomActivityScalar;
 import com.talktrip.talktrip.domain.chat.dto.response.ChatRoomDTO;
 import com.talktrip.talktrip.domain.chat.dto.response.ChatRoomDetailScalar;
 import com.talktrip.talktrip.domain.chat.entity.ChatRoom;
@@ -9,12 +10,15 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, String> {
 
-    @Query("""
+    // 사이드바 방 목록 공통 조회. 마지막 메시지는 방 요약 테이블(PK 조인)에서, 안 읽은 수는 ChatUnreadCounterService 에서 채운다.
+    // 아래 쿼리들은 이 뒤에 조건만 덧붙인다.
+    String ROOM_LIST_QUERY = """
         SELECT NEW com.talktrip.talktrip.domain.chat.dto.response.ChatRoomDTO(
             crmt.roomId,
             crmt.roomAccountId,
@@ -24,38 +28,52 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, String> {
                     NULLIF(crt.title, ''),
                     CONCAT(COALESCE(p.productName, ''), '_', crt.roomId)
                 ) as title,
-            COALESCE((
-                SELECT cm1.message
-                FROM ChatMessage cm1
-                WHERE cm1.roomId = crt.roomId
-                  AND cm1.createdAt = (
-                      SELECT MAX(cm1b.createdAt)
-                      FROM ChatMessage cm1b
-                      WHERE cm1b.roomId = crt.roomId
-                  )
-            ), '') AS lastMessage,
-        (
-            SELECT COUNT(cm2)
-            FROM ChatMessage cm2
-            WHERE cm2.roomId = crt.roomId
-              AND cm2.createdAt > COALESCE(crmt.lastMemberReadTime, '1970-01-01 00:00:00')
-              AND cm2.accountEmail <> :memberId
-        ) AS notReadMessageCount,
-        crt.roomType
+            COALESCE(s.lastMessage, '') AS lastMessage,
+            0L AS notReadMessageCount,
+            crt.roomType
     )
     FROM ChatRoomAccount crmt
     JOIN ChatRoom crt ON crt.roomId = crmt.roomId
-    LEFT JOIN Member m
-           ON m.accountEmail = crmt.accountEmail
+    LEFT JOIN ChatRoomSummary s
+           ON s.roomId = crt.roomId
     LEFT JOIN Product p
            ON p.id = crt.productId
     WHERE crmt.accountEmail = :memberId
       AND crmt.isDel = 0
-    """)
+    """;
+
+    @Query(ROOM_LIST_QUERY)
     List<ChatRoomDTO> findRoomsWithLastMessageByMemberId(
             @Param("memberId") String memberId
     );
 
+    // 사이드바 페이지: Redis 인덱스가 고른 방들만 하이드레이션
+    @Query(ROOM_LIST_QUERY + " AND crmt.roomId IN :roomIds")
+    List<ChatRoomDTO> findRoomsWithLastMessageByMemberIdAndRoomIds(
+            @Param("memberId") String memberId,
+            @Param("roomIds") Collection<String> roomIds
+    );
+
+    // 재연결 동기화: 토큰 시각 이후 활동이 있는 방만
+    @Query(ROOM_LIST_QUERY + " AND crt.updatedAt > :since")
+    List<ChatRoomDTO> findRoomsWithLastMessageByMemberIdUpdatedAfter(
+            @Param("memberId") String memberId,
+            @Param("since") LocalDateTime since
+    );
+
+    // Redis 방 인덱스 재구성용 (방 ID + 마지막 활동 시각만)
+    @Query("""
+        SELECT NEW com.talktrip.talktrip.domain.chat.dto.response.ChatRoomActivityScalar(
+            crt.roomId,
+            crt.updatedAt
+        )
+        FROM ChatRoomAccount crmt
+        JOIN ChatRoom crt ON crt.roomId = crmt.roomId
+        WHERE crmt.accountEmail = :memberId
+          AND crmt.isDel = 0
+    """)
+    List<ChatRoomActivityScalar> findRoomActivityByMemberId(@Param("memberId") String memberId);
+
 
     @Query("""
         select r
@@ -64,6 +82,15 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, String> {
     """)
     Optional<ChatRoom> findRoom(@Param("roomId") String roomId);
 
+    // 단체방 모드 판별용 (방 종류는 바뀌지 않으므로 호출 측이 캐시)
+    @Query("""
+        select r.roomId
+        from ChatRoom r
+        where r.roomId in :roomIds
+          and r.roomType = com.talktrip.talktrip.domain.chat.entity.RoomType.GROUP
+    """)
+    List<String> findGroupRoomIds(@Param("roomIds") Collection<String> roomIds);
+
 
     // (선택) 필요하면 DTO 바로 뽑는 방식도 가능
     @Query("""
@@ -0,0 +1,60 @@
+package com.talktrip.talktrip.domain.chat.repository;
+
+import com.talktrip.talktrip.domain.chat.entity.ChatRoomSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ChatRoomSummaryRepository extends JpaRepository<ChatRoomSummary, String> {
+
+    // 마지막 메시지는 더 최신일 때만 교체 (write-behind flush 가 늦게 도착해도 역전되지 않도록)
+    // MySQL 은 ON DUPLICATE KEY UPDATE 를 왼쪽부터 평가하므로 last_message_at 을 마지막에 갱신한다.
+    @Modifying
+    @Query(value = """
+        INSERT INTO chatting_room_summary_tab
+            (room_id, last_message_id, last_message, last_sender_email, last_message_at, message_count)
+        VALUES (:roomId, :messageId, :message, :sender, :createdAt, :delta)
+        ON DUPLICATE KEY UPDATE
+            last_message_id   = IF(last_message_at IS NULL OR VALUES(last_message_at) >= last_message_at,
+                                   VALUES(last_message_id), last_message_id),
+            last_message      = IF(last_message_at IS NULL OR VALUES(last_message_at) >= last_message_at,
+                                   VALUES(last_message), last_message),
+            last_sender_email = IF(last_message_at IS NULL OR VALUES(last_message_at) >= last_message_at,
+                                   VALUES(last_sender_email), last_sender_email),
+            message_count     = message_count + VALUES(message_count),
+            last_message_at   = GREATEST(COALESCE(last_message_at, VALUES(last_message_at)), VALUES(last_message_at))
+    """, nativeQuery = true)
+    int upsertLastMessage(@Param("roomId") String roomId,
+                          @Param("messageId") String messageId,
+                          @Param("message") String message,
+                          @Param("sender") String sender,
+                          @Param("createdAt") LocalDateTime createdAt,
+                          @Param("delta") long delta);
+
+    // 기존 방 전체 백필: 방별 최신 메시지 1건 + 메시지 수
+    @Modifying
+    @Query(value = """
+        INSERT INTO chatting_room_summary_tab
+            (room_id, last_message_id, last_message, last_sender_email, last_message_at, message_count)
+        SELECT ranked.room_id, ranked.message_id, ranked.message, ranked.account_email, ranked.created_at, ranked.cnt
+        FROM (
+            SELECT msg.room_id, msg.message_id, msg.message, msg.account_email, msg.created_at,
+                   ROW_NUMBER() OVER (PARTITION BY msg.room_id ORDER BY msg.created_at DESC, msg.message_id DESC) AS rn,
+                   COUNT(*) OVER (PARTITION BY msg.room_id) AS cnt
+            FROM chatting_message_history_tab msg
+        ) ranked
+        WHERE ranked.rn = 1
+        ON DUPLICATE KEY UPDATE
+            last_message_id   = VALUES(last_message_id),
+            last_message      = VALUES(last_message),
+            last_sender_email = VALUES(last_sender_email),
+            last_message_at   = VALUES(last_message_at),
+            message_count     = VALUES(message_count)
+    """, nativeQuery = true)
+    int backfillAll();
+}
@@ -0,0 +1,47 @@
+package com.talktrip.talktrip.domain.chat.repository;
+
+import com.talktrip.talktrip.domain.chat.entity.ChatUnreadCounter;
+import com.talktrip.talktrip.domain.chat.entity.ChatUnreadCounterId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ChatUnreadCounterRepository extends JpaRepository<ChatUnreadCounter, ChatUnreadCounterId> {
+
+    // 방의 발신자를 제외한 모든 멤버 카운터를 한 문장으로 +delta
+    @Modifying
+    @Query(value = """
+        INSERT INTO chatting_unread_counter_tab (room_id, account_email, unread_count)
+        SELECT crat.room_id, crat.account_email, :delta
+        FROM chatting_room_account_tab crat
+        WHERE crat.room_id = :roomId
+          AND crat.account_email <> :sender
+        ON DUPLICATE KEY UPDATE unread_count = unread_count + :delta
+    """, nativeQuery = true)
+    int incrementForRoom(@Param("roomId") String roomId,
+                         @Param("sender") String sender,
+                         @Param("delta") int delta);
+
+    @Modifying
+    @Query("""
+        UPDATE ChatUnreadCounter c
+        SET c.unreadCount = 0
+        WHERE c.roomId = :roomId AND c.accountEmail = :email
+    """)
+    int reset(@Param("roomId") String roomId, @Param("email") String email);
+
+    @Query("""
+        select c.unreadCount
+        from ChatUnreadCounter c
+        where c.roomId = :roomId and c.accountEmail = :email
+    """)
+    Optional<Integer> findUnreadCount(@Param("roomId") String roomId, @Param("email") String email);
+
+    List<ChatUnreadCounter> findAllByAccountEmail(String accountEmail);
+}
@@ -0,0 +1,37 @@
+package com.talktrip.talktrip.domain.chat.repository;
+
+import com.talktrip.talktrip.domain.chat.entity.UserAlarmStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface UserAlarmStatusRepository extends JpaRepository<UserAlarmStatus, String> {
+
+    @Query("""
+        select s.unreadAlarmCount
+        from UserAlarmStatus s
+        where s.accountEmail = :email
+    """)
+    Optional<Integer> findUnreadCount(@Param("email") String email);
+
+    @Modifying
+    @Query("""
+        UPDATE UserAlarmStatus s
+        SET s.unreadAlarmCount = CASE WHEN s.unreadAlarmCount > :delta THEN s.unreadAlarmCount - :delta ELSE 0 END
+        WHERE s.accountEmail = :email
+    """)
+    int decrement(@Param("email") String email, @Param("delta") int delta);
+
+    @Modifying
+    @Query("""
+        UPDATE UserAlarmStatus s
+        SET s.unreadAlarmCount = 0
+        WHERE s.accountEmail = :email
+    """)
+    int reset(@Param("email") String email);
+}
@@ -0,0 +1,216 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import com.talktrip.talktrip.domain.chat.dto.response.AlarmDto;
+import com.talktrip.talktrip.domain.chat.dto.response.AlarmPush;
+import com.talktrip.talktrip.domain.chat.entity.AlarmType;
+import com.talktrip.talktrip.global.config.AlarmProperties;
+import com.talktrip.talktrip.global.redis.RedisPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 알림 쓰기 버퍼.
+ * 이벤트마다 INSERT 하지 않고 (사용자, groupKey)별로 메모리에서 합쳤다가 주기적으로
+ * 1) 이미 열려 있는(안 읽은) 알림 조회 → 2) 알림 batch upsert → 3) 새로 생긴 알림 수만큼 user_alarm_status batch +N
+ * 을 한 트랜잭션으로 반영하고, 사용자마다 한 번 chat:alarm:{email} 로 발행해 /user/queue/alarm 으로 전달한다.
+ * 안 읽은 알림이 있는 대상의 이벤트는 새 행 없이 그 행의 eventCount 만 늘린다.
+ * 여러 노드가 같은 순간 같은 대상의 새 알림을 만들면 카운트가 실제보다 커질 수 있으나, 모두 읽음 처리 시 0 으로 맞춰진다.
+ */
+@Slf4j
+@Component
+public class AlarmBuffer {
+
+    static final String CHANNEL_PREFIX = "chat:alarm:";
+    private static final int IN_CHUNK = 500;
+
+    private static final String UPSERT_ALARM_SQL = """
+            INSERT INTO alarm (account_email, type, group_key, open_key, message, link, event_count, is_read, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, false, ?)
+            ON DUPLICATE KEY UPDATE
+                type = VALUES(type),
+                message = VALUES(message),
+                link = VALUES(link),
+                event_count = event_count + VALUES(event_count),
+                created_at = VALUES(created_at)
+            """;
+    private static final String INCREMENT_STATUS_SQL = """
+            INSERT INTO user_alarm_status (account_email, unread_alarm_count)
+            VALUES (?, ?)
+            ON DUPLICATE KEY UPDATE unread_alarm_count = unread_alarm_count + VALUES(unread_alarm_count)
+            """;
+
+    private final AlarmProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisPublisher redisPublisher;
+    private final Map<AlarmKey, PendingAlarm> pending = new ConcurrentHashMap<>();
+
+    private final Counter received;
+    private final DistributionSummary flushSize;
+
+    public AlarmBuffer(AlarmProperties properties,
+                       JdbcTemplate jdbcTemplate,
+                       PlatformTransactionManager transactionManager,
+                       RedisPublisher redisPublisher,
+                       MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.redisPublisher = redisPublisher;
+
+        Gauge.builder("alarm.pending", pending, Map::size)
+                .description("DB 반영을 기다리는 (사용자, 대상) 알림 수")
+                .register(meterRegistry);
+        this.received = Counter.builder("alarm.events")
+                .description("알림 이벤트 수 (합쳐지기 전)")
+                .register(meterRegistry);
+        this.flushSize = DistributionSummary.builder("alarm.flush.size")
+                .description("flush 한 번에 upsert 한 알림 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 알림 이벤트를 쌓는다. 같은 (사용자, groupKey)는 다음 flush 까지 한 건으로 합쳐진다.
+     */
+    public void add(String accountEmail, AlarmType type, String groupKey, String message, String link) {
+        if (!properties.isEnabled() || accountEmail == null) return;
+        received.increment();
+        pending.merge(new AlarmKey(accountEmail, groupKey),
+                new PendingAlarm(type, message, link, 1, LocalDateTime.now()),
+                PendingAlarm::merge);
+        if (pending.size() > properties.getMaxPending()) {
+            flush();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "#{@alarmProperties.flushIntervalMs}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) return;
+
+        Map<AlarmKey, PendingAlarm> taken = new LinkedHashMap<>();
+        for (Map.Entry<AlarmKey, PendingAlarm> entry : pending.entrySet()) {
+            // 읽은 뒤에 합쳐진 이벤트가 있으면 그대로 남겨 다음 flush 에 반영
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                taken.put(entry.getKey(), entry.getValue());
+            }
+        }
+        if (taken.isEmpty()) return;
+
+        Map<String, Integer> unreadByUser;
+        try {
+            unreadByUser = transactionTemplate.execute(status -> write(taken));
+            flushSize.record(taken.size());
+        } catch (Exception e) {
+            log.warn("[Alarm] 알림 반영 실패, 다음 주기에 재시도 (size={}): {}", taken.size(), e.getMessage());
+            taken.forEach((key, alarm) -> pending.merge(key, alarm, (current, failed) -> PendingAlarm.merge(failed, current)));
+            return;
+        }
+        deliver(taken, unreadByUser);
+    }
+
+    @PreDestroy
+    void stop() {
+        flush();
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    private Map<String, Integer> write(Map<AlarmKey, PendingAlarm> batch) {
+        Set<String> open = findOpenKeys(batch.keySet().stream().map(AlarmKey::openKey).toList());
+
+        List<Object[]> alarmRows = new ArrayList<>(batch.size());
+        Map<String, Integer> newAlarmsByUser = new HashMap<>();
+        batch.forEach((key, alarm) -> {
+            alarmRows.add(new Object[]{
+                    key.accountEmail(), alarm.type().name(), key.groupKey(), key.openKey(),
+                    alarm.message(), alarm.link(), alarm.count(), Timestamp.valueOf(alarm.createdAt())
+            });
+            if (!open.contains(key.openKey())) {
+                newAlarmsByUser.merge(key.accountEmail(), 1, Integer::sum);
+            }
+        });
+        jdbcTemplate.batchUpdate(UPSERT_ALARM_SQL, alarmRows);
+
+        if (!newAlarmsByUser.isEmpty()) {
+            List<Object[]> statusRows = new ArrayList<>(newAlarmsByUser.size());
+            newAlarmsByUser.forEach((email, delta) -> statusRows.add(new Object[]{email, delta}));
+            jdbcTemplate.batchUpdate(INCREMENT_STATUS_SQL, statusRows);
+        }
+        return findUnreadCounts(batch.keySet().stream().map(AlarmKey::accountEmail).distinct().toList());
+    }
+
+    private Set<String> findOpenKeys(List<String> openKeys) {
+        Set<String> open = new HashSet<>();
+        for (List<String> chunk : chunks(openKeys)) {
+            String sql = "SELECT open_key FROM alarm WHERE open_key IN (" + placeholders(chunk.size()) + ")";
+            open.addAll(jdbcTemplate.queryForList(sql, String.class, chunk.toArray()));
+        }
+        return open;
+    }
+
+    private Map<String, Integer> findUnreadCounts(List<String> emails) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (List<String> chunk : chunks(emails)) {
+            String sql = "SELECT account_email, unread_alarm_count FROM user_alarm_status WHERE account_email IN ("
+                    + placeholders(chunk.size()) + ")";
+            jdbcTemplate.query(sql, (RowCallbackHandler) rs -> counts.put(rs.getString(1), rs.getInt(2)), chunk.toArray());
+        }
+        return counts;
+    }
+
+    // 사용자마다 1회 발행 (알림이 여러 건이어도)
+    private void deliver(Map<AlarmKey, PendingAlarm> batch, Map<String, Integer> unreadByUser) {
+        Map<String, List<AlarmDto>> byUser = new HashMap<>();
+        batch.forEach((key, alarm) -> byUser.computeIfAbsent(key.accountEmail(), k -> new ArrayList<>())
+                .add(new AlarmDto(null, alarm.type(), alarm.message(), alarm.link(), alarm.count(), false, alarm.createdAt())));
+
+        byUser.forEach((email, alarms) -> redisPublisher.publish(channel(email),
+                new AlarmPush(unreadByUser.getOrDefault(email, 0), alarms)));
+    }
+
+    public static String channel(String email) {
+        return CHANNEL_PREFIX + email;
+    }
+
+    private static List<List<String>> chunks(List<String> values) {
+        List<List<String>> chunks = new ArrayList<>();
+        for (int i = 0; i < values.size(); i += IN_CHUNK) {
+            chunks.add(values.subList(i, Math.min(values.size(), i + IN_CHUNK)));
+        }
+        return chunks;
+    }
+
+    private static String placeholders(int n) {
+        return String.join(",", Collections.nCopies(n, "?"));
+    }
+
+    record AlarmKey(String accountEmail, String groupKey) {
+        String openKey() {
+            return accountEmail + "|" + groupKey;
+        }
+    }
+
+    record PendingAlarm(AlarmType type, String message, String link, int count, LocalDateTime createdAt) {
+        // 내용은 나중 이벤트로, 이벤트 수는 합산
+        static PendingAlarm merge(PendingAlarm older, PendingAlarm newer) {
+            return new PendingAlarm(newer.type, newer.message, newer.link, older.count + newer.count, newer.createdAt);
+        }
+    }
+}
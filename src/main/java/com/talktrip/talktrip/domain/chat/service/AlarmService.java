@@ -0,0 +1,126 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import com.talktrip.talktrip.domain.chat.dto.response.AlarmDto;
+import com.talktrip.talktrip.domain.chat.entity.AlarmType;
+import com.talktrip.talktrip.domain.chat.entity.ChatMessage;
+import com.talktrip.talktrip.domain.chat.repository.AlarmRepository;
+import com.talktrip.talktrip.domain.chat.repository.UserAlarmStatusRepository;
+import com.talktrip.talktrip.domain.order.entity.Order;
+import com.talktrip.talktrip.domain.review.entity.Review;
+import com.talktrip.talktrip.global.config.AlarmProperties;
+import com.talktrip.talktrip.global.dto.SliceResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 채팅/주문/리뷰 이벤트를 알림으로 바꿔 AlarmBuffer 에 넘기고, 알림 목록/읽음 API 를 제공한다.
+ * 이벤트는 호출한 트랜잭션이 커밋된 뒤에만 쌓인다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AlarmService {
+
+    private static final int PREVIEW_LENGTH = 50;
+
+    private final AlarmBuffer alarmBuffer;
+    private final AlarmRepository alarmRepository;
+    private final UserAlarmStatusRepository userAlarmStatusRepository;
+    private final AlarmProperties properties;
+
+    /**
+     * 오프라인 수신자에게 채팅 알림. 방 단위로 합쳐지므로 바쁜 방도 안 읽은 동안 알림 1건이다.
+     */
+    public void notifyChat(ChatMessage message, Collection<String> recipients) {
+        if (recipients.isEmpty()) return;
+        String sender = message.getAccountEmail().split("@")[0];
+        String text = sender + ": " + preview(message.getMessage());
+        String link = "/chat/" + message.getRoomId();
+        for (String email : recipients) {
+            alarmBuffer.add(email, AlarmType.CHAT, "chat:" + message.getRoomId(), text, link);
+        }
+    }
+
+    public void notifyOrderPaid(Order order) {
+        String email = order.getMember().getAccountEmail();
+        String text = "주문(" + order.getOrderCode() + ") 결제가 완료되었습니다.";
+        afterCommit(() -> alarmBuffer.add(email, AlarmType.ORDER, "order:" + order.getId(), text, "/orders/" + order.getId()));
+    }
+
+    /**
+     * 판매자에게 리뷰 알림. 같은 상품의 리뷰는 읽기 전까지 한 건으로 합쳐진다.
+     */
+    public void notifyReviewCreated(Review review) {
+        String email = review.getProduct().getMember().getAccountEmail();
+        Long productId = review.getProduct().getId();
+        String text = "'" + review.getProduct().getProductName() + "' 상품에 새 리뷰가 등록되었습니다.";
+        afterCommit(() -> alarmBuffer.add(email, AlarmType.REVIEW, "review:product:" + productId, text, "/products/" + productId));
+    }
+
+    @Transactional(readOnly = true)
+    public SliceResponse<AlarmDto> getAlarms(String accountEmail, Integer limit, String cursor) {
+        int size = (limit == null || limit <= 0) ? properties.getDefaultPageSize()
+                : Math.min(limit, properties.getMaxPageSize());
+        Long cursorId = parseCursor(cursor);
+
+        List<AlarmDto> rows = alarmRepository.findPageBefore(accountEmail, cursorId, PageRequest.of(0, size + 1))
+                .stream().map(AlarmDto::from).toList();
+        boolean hasNext = rows.size() > size;
+        List<AlarmDto> items = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? String.valueOf(items.get(items.size() - 1).id()) : null;
+        return SliceResponse.of(items, nextCursor, hasNext);
+    }
+
+    private static Long parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            return Long.valueOf(cursor);
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid alarm cursor: " + cursor, e);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public int getUnreadCount(String accountEmail) {
+        return userAlarmStatusRepository.findUnreadCount(accountEmail).orElse(0);
+    }
+
+    @Transactional
+    public void markRead(String accountEmail, Long alarmId) {
+        // 이미 읽은 알림이면 카운트를 건드리지 않는다
+        if (alarmRepository.markRead(alarmId, accountEmail) > 0) {
+            userAlarmStatusRepository.decrement(accountEmail, 1);
+        }
+    }
+
+    @Transactional
+    public void markAllRead(String accountEmail) {
+        alarmRepository.markAllRead(accountEmail);
+        userAlarmStatusRepository.reset(accountEmail);
+    }
+
+    private static String preview(String message) {
+        if (message == null || message.length() <= PREVIEW_LENGTH) return message;
+        return message.substring(0, PREVIEW_LENGTH);
+    }
+
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override public void afterCommit() { task.run(); }
+            });
+        } else {
+            task.run();
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import com.talktrip.talktrip.domain.chat.repository.ChatRoomRepository;
+import com.talktrip.talktrip.global.config.ChatGroupProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * 단체방(RoomType.GROUP) 모드의 메시지 순번과 지연 계산 안 읽은 수.
+ * 메시지마다 멤버 수만큼 카운터를 올리지 않고 방 순번 하나만 올린다.
+ * 안 읽은 수는 조회할 때 (방 순번 - 멤버의 읽은 순번)으로 계산한다.
+ * - Redis: chat:group:seq:{roomId} (방 순번), chat:group:read:{roomId} 해시 (field = email, value = 읽은 순번)
+ *   두 키는 해시 태그로 같은 슬롯에 둔다.
+ * - DB: chatting_room_tab.message_seq (사이드바 주기마다 반영), chatting_room_account_tab.last_read_seq (읽을 때 반영)
+ *   Redis 가 비었을 때의 시작값이다. message_seq 는 최대 한 주기만큼 늦을 수 있다.
+ */
+@Slf4j
+@Service
+public class ChatGroupRoomService {
+
+    static final String SEQ_PREFIX = "chat:group:seq:";
+    static final String READ_PREFIX = "chat:group:read:";
+
+    // KEYS[1] = 방 순번, KEYS[2] = 읽은 순번 해시, ARGV[1] = 발신자, ARGV[2] = 키가 없을 때 시작값 ('' 이면 -1 반환)
+    // 순번을 올리고 발신자는 자기 메시지까지 읽은 것으로 둔다
+    private static final DefaultRedisScript<Long> NEXT_SEQ_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                if ARGV[2] == '' then return -1 end
+                redis.call('SET', KEYS[1], ARGV[2])
+            end
+            local seq = redis.call('INCR', KEYS[1])
+            redis.call('HSET', KEYS[2], ARGV[1], seq)
+            return seq
+            """, Long.class);
+
+    // KEYS/ARGV 는 위와 같다. 현재 순번까지 읽은 것으로 두고 그 순번을 돌려준다
+    private static final DefaultRedisScript<Long> MARK_READ_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                if ARGV[2] == '' then return -1 end
+                redis.call('SET', KEYS[1], ARGV[2])
+            end
+            local seq = redis.call('GET', KEYS[1])
+            redis.call('HSET', KEYS[2], ARGV[1], seq)
+            return tonumber(seq)
+            """, Long.class);
+
+    private static final String UPDATE_LAST_READ_SEQ_SQL = """
+            UPDATE chatting_room_account_tab
+            SET last_read_seq = GREATEST(last_read_seq, ?)
+            WHERE room_id = ? AND account_email = ?
+            """;
+    private static final String UPDATE_MESSAGE_SEQ_SQL =
+            "UPDATE chatting_room_tab SET message_seq = GREATEST(message_seq, ?) WHERE room_id = ?";
+    private static final String SELECT_LAST_READ_SQL =
+            "SELECT account_email, last_read_seq FROM chatting_room_account_tab WHERE room_id = ? AND account_email IN (%s)";
+    private static final String SELECT_UNREAD_SQL = """
+            SELECT crat.room_id, crt.message_seq, crat.last_read_seq
+            FROM chatting_room_account_tab crat
+            JOIN chatting_room_tab crt ON crt.room_id = crat.room_id
+            WHERE crat.account_email = ?
+              AND crt.room_type = 'GROUP'
+            """;
+
+    private final ChatGroupProperties properties;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatMembershipCache membershipCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, Boolean> groupByRoom;
+
+    public ChatGroupRoomService(ChatGroupProperties properties,
+                                StringRedisTemplate stringRedisTemplate,
+                                ChatRoomRepository chatRoomRepository,
+                                ChatMembershipCache membershipCache,
+                                JdbcTemplate jdbcTemplate) {
+        this.properties = properties;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.chatRoomRepository = chatRoomRepository;
+        this.membershipCache = membershipCache;
+        this.jdbcTemplate = jdbcTemplate;
+        int max = properties.getMaxCachedRooms();
+        this.groupByRoom = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > max;
+            }
+        };
+    }
+
+    public boolean isGroupRoom(String roomId) {
+        return !groupRooms(List.of(roomId)).isEmpty();
+    }
+
+    /**
+     * 주어진 방 중 단체방만 (캐시에 없는 방은 한 번의 쿼리로 채운다).
+     */
+    public List<String> groupRooms(Collection<String> roomIds) {
+        if (!properties.isEnabled() || roomIds.isEmpty()) return List.of();
+        List<String> misses = new ArrayList<>();
+        List<String> result = new ArrayList<>();
+        synchronized (groupByRoom) {
+            for (String roomId : roomIds) {
+                Boolean group = groupByRoom.get(roomId);
+                if (group == null) misses.add(roomId);
+                else if (group) result.add(roomId);
+            }
+        }
+        if (misses.isEmpty()) return result;
+
+        Set<String> loaded = new HashSet<>(chatRoomRepository.findGroupRoomIds(misses));
+        synchronized (groupByRoom) {
+            misses.forEach(roomId -> groupByRoom.put(roomId, loaded.contains(roomId)));
+        }
+        result.addAll(loaded);
+        return result;
+    }
+
+    /**
+     * 방 순번을 하나 올리고 돌려준다. 발신자의 읽은 순번도 같이 옮긴다.
+     */
+    public long nextSeq(String roomId, String sender) {
+        List<String> keys = List.of(seqKey(roomId), readKey(roomId));
+        Long seq = stringRedisTemplate.execute(NEXT_SEQ_SCRIPT, keys, sender, "");
+        if (seq == null || seq < 0) {
+            seq = stringRedisTemplate.execute(NEXT_SEQ_SCRIPT, keys, sender, String.valueOf(dbSeq(roomId)));
+        }
+        return seq;
+    }
+
+    /**
+     * 멤버를 단체방에 넣을 때 호출한다. 지금 방 순번까지 읽은 것으로 두고 그 순번을 돌려준다
+     * (새 멤버 행의 last_read_seq 시작값, 들어오기 전 메시지가 안 읽은 수로 잡히지 않게).
+     */
+    public long joinSeq(String roomId, String email) {
+        try {
+            return currentSeqAsRead(roomId, email);
+        } catch (Exception e) {
+            log.warn("[GroupRoom] 가입 순번 기록 실패, DB 순번 사용 (roomId={}, email={}): {}", roomId, email, e.getMessage());
+            return dbSeq(roomId);
+        }
+    }
+
+    /**
+     * 현재 순번까지 읽음 처리 (ChatUnreadCounterService.reset 대신).
+     */
+    public void markRead(String roomId, String email) {
+        try {
+            long seq = currentSeqAsRead(roomId, email);
+            jdbcTemplate.update(UPDATE_LAST_READ_SEQ_SQL, seq, roomId, email);
+        } catch (Exception e) {
+            log.warn("[GroupRoom] 읽음 순번 갱신 실패 (roomId={}, email={}): {}", roomId, email, e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자의 단체방별 안 읽은 수. Redis 에 순번이 없는 방이 있으면 DB 값으로 계산한다.
+     */
+    public Map<String, Integer> unreadByRoom(String email) {
+        List<String> rooms = groupRooms(membershipCache.rooms(email));
+        if (rooms.isEmpty()) return Map.of();
+        try {
+            List<Object> replies = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection src = (StringRedisConnection) connection;
+                for (String roomId : rooms) {
+                    src.get(seqKey(roomId));
+                    src.hGet(readKey(roomId), email);
+                }
+                return null;
+            });
+            Map<String, Integer> result = new HashMap<>();
+            for (int i = 0; i < rooms.size(); i++) {
+                Object seq = replies.get(i * 2);
+                Object readSeq = replies.get(i * 2 + 1);
+                // 읽은 순번이 없으면 0(전부 안 읽음)으로 보지 않고 DB 의 last_read_seq 를 쓴다
+                if (seq == null || readSeq == null) return unreadFromDb(email);
+                result.put(rooms.get(i), unread(parse(seq), parse(readSeq)));
+            }
+            return result;
+        } catch (Exception e) {
+            log.warn("[GroupRoom] Redis 조회 실패, DB 순번 사용 (email={}): {}", email, e.getMessage());
+            return unreadFromDb(email);
+        }
+    }
+
+    /**
+     * 사이드바 이벤트를 받은 노드가 자기 세션이 있는 멤버만 계산한다 (HMGET 한 번).
+     */
+    public Map<String, Integer> unreadFor(String roomId, long seq, List<String> emails) {
+        if (emails.isEmpty()) return Map.of();
+        List<Object> reads = stringRedisTemplate.opsForHash().multiGet(readKey(roomId), new ArrayList<>(emails));
+        Map<String, Integer> result = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (int i = 0; i < emails.size(); i++) {
+            if (reads.get(i) == null) missing.add(emails.get(i));
+            else result.put(emails.get(i), unread(seq, parse(reads.get(i))));
+        }
+        // 해시에 없는 멤버는 DB 의 last_read_seq 로 계산한다 (가입 시 시드되므로 Redis 가 비었을 때만)
+        if (!missing.isEmpty()) {
+            lastReadFromDb(roomId, missing).forEach((email, readSeq) -> result.put(email, unread(seq, readSeq)));
+        }
+        return result;
+    }
+
+    /**
+     * 사이드바 주기마다 방 순번을 DB 에 반영한다.
+     */
+    public void persistSeq(Map<String, Long> seqByRoom) {
+        if (seqByRoom.isEmpty()) return;
+        List<Object[]> rows = new ArrayList<>(seqByRoom.size());
+        seqByRoom.forEach((roomId, seq) -> rows.add(new Object[]{seq, roomId}));
+        jdbcTemplate.batchUpdate(UPDATE_MESSAGE_SEQ_SQL, rows);
+    }
+
+    private Map<String, Integer> unreadFromDb(String email) {
+        Map<String, Integer> result = new HashMap<>();
+        jdbcTemplate.query(SELECT_UNREAD_SQL, (RowCallbackHandler) rs -> {
+            result.put(rs.getString("room_id"), unread(rs.getLong("message_seq"), rs.getLong("last_read_seq")));
+        }, email);
+        return result;
+    }
+
+    private Map<String, Long> lastReadFromDb(String roomId, List<String> emails) {
+        Map<String, Long> result = new HashMap<>();
+        String placeholders = String.join(",", Collections.nCopies(emails.size(), "?"));
+        List<Object> args = new ArrayList<>(emails.size() + 1);
+        args.add(roomId);
+        args.addAll(emails);
+        jdbcTemplate.query(SELECT_LAST_READ_SQL.formatted(placeholders), (RowCallbackHandler) rs -> {
+            result.put(rs.getString("account_email"), rs.getLong("last_read_seq"));
+        }, args.toArray());
+        return result;
+    }
+
+    private long currentSeqAsRead(String roomId, String email) {
+        List<String> keys = List.of(seqKey(roomId), readKey(roomId));
+        Long seq = stringRedisTemplate.execute(MARK_READ_SCRIPT, keys, email, "");
+        if (seq == null || seq < 0) {
+            seq = stringRedisTemplate.execute(MARK_READ_SCRIPT, keys, email, String.valueOf(dbSeq(roomId)));
+        }
+        return seq;
+    }
+
+    private long dbSeq(String roomId) {
+        return chatRoomRepository.findRoom(roomId).map(room -> room.getMessageSeq()).orElse(0L);
+    }
+
+    private static int unread(long seq, long readSeq) {
+        return (int) Math.max(0, seq - readSeq);
+    }
+
+    private static long parse(Object value) {
+        return value == null ? 0L : Long.parseLong(String.valueOf(value));
+    }
+
+    static String seqKey(String roomId) {
+        return SEQ_PREFIX + "{" + roomId + "}";
+    }
+
+    static String readKey(String roomId) {
+        return READ_PREFIX + "{" + roomId + "}";
+    }
+}
@@ -0,0 +1,163 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import com.talktrip.talktrip.domain.chat.message.dto.ChatRoomSidebarEvent;
+import com.talktrip.talktrip.global.config.ChatGroupProperties;
+import com.talktrip.talktrip.global.redis.RedisPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 단체방 사이드바를 메시지마다가 아니라 정해진 주기로 보낸다.
+ * 발신 경로는 방마다 최신 이벤트만 남기고, 주기마다 방 단위 이벤트 1건을 chat:sidebar:{roomId} 로 발행한다.
+ * chat:group:sidebar-gate:{roomId} (SET NX PX 주기) 로 여러 노드가 같은 방을 한 주기에 두 번 보내지 않게 하고,
+ * 게이트를 못 잡은 방은 남겨 두었다가 다음 주기에 최신 상태로 보낸다.
+ * chat:group:sidebar-seq:{roomId} 에 마지막으로 보낸 순번을 두어, 노드마다 따로 모은 이벤트 중
+ * 이미 보낸 순번보다 오래된 것은 버린다.
+ * 멤버 수에 비례하는 작업(방 인덱스 갱신, 나간 멤버 복귀, 방 순번 DB 반영)도 이 주기에 방마다 한 번만 한다.
+ */
+@Slf4j
+@Component
+public class ChatGroupSidebarTicker {
+
+    static final String GATE_PREFIX = "chat:group:sidebar-gate:";
+    static final String PUBLISHED_SEQ_PREFIX = "chat:group:sidebar-seq:";
+
+    private static final Duration PUBLISHED_SEQ_TTL = Duration.ofDays(1);
+
+    // KEYS[1] = 게이트, KEYS[2] = 마지막 발행 순번, ARGV[1] = 보낼 순번, ARGV[2] = 주기(ms), ARGV[3] = 순번 TTL(s)
+    // -1: 다른 노드가 더 새 순번을 이미 보냄 (버림), 0: 이번 주기 게이트를 다른 노드가 잡음, 1: 보냄
+    private static final DefaultRedisScript<Long> GATE_SCRIPT = new DefaultRedisScript<>("""
+            local last = tonumber(redis.call('GET', KEYS[2]) or '0')
+            if tonumber(ARGV[1]) <= last then return -1 end
+            if not redis.call('SET', KEYS[1], '1', 'NX', 'PX', ARGV[2]) then return 0 end
+            redis.call('SET', KEYS[2], ARGV[1], 'EX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    private static final String RESET_IS_DEL_SQL =
+            "UPDATE chatting_room_account_tab SET is_del = 0 WHERE room_id = ? AND is_del <> 0";
+
+    private final ChatGroupProperties properties;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisPublisher redisPublisher;
+    private final ChatGroupRoomService groupRoomService;
+    private final ChatRoomIndexService roomIndexService;
+    private final ChatMembershipCache membershipCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, ChatRoomSidebarEvent> latestByRoom = new ConcurrentHashMap<>();
+
+    private final Counter coalesced;
+    private final Counter published;
+    private final Counter staleDropped;
+
+    public ChatGroupSidebarTicker(ChatGroupProperties properties,
+                                  StringRedisTemplate stringRedisTemplate,
+                                  RedisPublisher redisPublisher,
+                                  ChatGroupRoomService groupRoomService,
+                                  ChatRoomIndexService roomIndexService,
+                                  ChatMembershipCache membershipCache,
+                                  JdbcTemplate jdbcTemplate,
+                                  MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisPublisher = redisPublisher;
+        this.groupRoomService = groupRoomService;
+        this.roomIndexService = roomIndexService;
+        this.membershipCache = membershipCache;
+        this.jdbcTemplate = jdbcTemplate;
+
+        Gauge.builder("chat.group.sidebar.pending_rooms", latestByRoom, Map::size)
+                .description("다음 주기에 사이드바를 보낼 단체방 수")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("chat.group.sidebar.coalesced")
+                .description("주기 안에서 더 새 이벤트로 덮인 단체방 사이드바 이벤트 수")
+                .register(meterRegistry);
+        this.published = Counter.builder("chat.group.sidebar.published")
+                .description("발행한 단체방 사이드바 이벤트 수")
+                .register(meterRegistry);
+        this.staleDropped = Counter.builder("chat.group.sidebar.stale_dropped")
+                .description("다른 노드가 더 새 순번을 보내 버린 단체방 사이드바 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 발신 경로에서 호출한다 (순번이 더 큰 이벤트만 남긴다).
+     */
+    public void record(ChatRoomSidebarEvent event) {
+        latestByRoom.merge(event.getRoomId(), event, (current, next) -> {
+            coalesced.increment();
+            return next.getSeq() >= current.getSeq() ? next : current;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "#{@chatGroupProperties.sidebarIntervalMs}")
+    public void tick() {
+        if (latestByRoom.isEmpty()) return;
+
+        Map<String, Long> seqByRoom = new HashMap<>();
+        List<Object[]> reopenRows = new ArrayList<>();
+        for (Map.Entry<String, ChatRoomSidebarEvent> entry : List.copyOf(latestByRoom.entrySet())) {
+            String roomId = entry.getKey();
+            ChatRoomSidebarEvent event = entry.getValue();
+            try {
+                long gate = acquireGate(roomId, event.getSeq());
+                if (gate == 0) continue; // 다른 노드가 이번 주기에 이미 보냄 → 다음 주기에
+                // 읽은 뒤에 더 새 이벤트가 들어왔으면 남겨 다음 주기에 보낸다
+                latestByRoom.remove(roomId, event);
+                if (gate < 0) {
+                    // 다른 노드가 더 새 순번을 이미 보냄 → 오래된 사이드바로 되돌리지 않게 버린다
+                    staleDropped.increment();
+                    continue;
+                }
+
+                redisPublisher.publish("chat:sidebar:" + roomId, event);
+                published.increment();
+                roomIndexService.touch(roomId, List.copyOf(membershipCache.members(roomId)), event.getCreatedAt());
+                seqByRoom.put(roomId, event.getSeq());
+                reopenRows.add(new Object[]{roomId});
+            } catch (Exception e) {
+                log.warn("[GroupSidebar] 사이드바 발행 실패 (roomId={}): {}", roomId, e.getMessage());
+            }
+        }
+
+        try {
+            groupRoomService.persistSeq(seqByRoom);
+            if (!reopenRows.isEmpty()) {
+                jdbcTemplate.batchUpdate(RESET_IS_DEL_SQL, reopenRows);
+            }
+        } catch (Exception e) {
+            log.warn("[GroupSidebar] 방 순번/복귀 DB 반영 실패 (rooms={}): {}", seqByRoom.size(), e.getMessage());
+        }
+    }
+
+    int pendingCount() {
+        return latestByRoom.size();
+    }
+
+    private long acquireGate(String roomId, long seq) {
+        Long result = stringRedisTemplate.execute(GATE_SCRIPT, List.of(gateKey(roomId), publishedSeqKey(roomId)),
+                String.valueOf(seq), String.valueOf(properties.getSidebarIntervalMs()),
+                String.valueOf(PUBLISHED_SEQ_TTL.toSeconds()));
+        return result == null ? 0 : result;
+    }
+
+    // 두 키는 해시 태그로 같은 슬롯에 둔다
+    static String gateKey(String roomId) {
+        return GATE_PREFIX + "{" + roomId + "}";
+    }
+
+    static String publishedSeqKey(String roomId) {
+        return PUBLISHED_SEQ_PREFIX + "{" + roomId + "}";
+    }
+}
@@ -0,0 +1,246 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import com.talktrip.talktrip.domain.chat.message.dto.ChatMembershipInvalidation;
+import com.talktrip.talktrip.domain.chat.repository.ChatRoomMemberRepository;
+import com.talktrip.talktrip.global.config.ChatMembershipProperties;
+import com.talktrip.talktrip.global.redis.RedisHealthMonitor;
+import com.talktrip.talktrip.global.redis.RedisPayloadCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 방 멤버십 로컬 캐시 (방 → 멤버 집합, 사용자 → 방 집합).
+ * - STOMP SUBSCRIBE(/topic/chat/room/{id}) 와 SEND 권한을 프레임마다 DB 없이 O(1) 로 확인한다.
+ * - 발신 팬아웃의 수신자 목록도 여기서 읽는다 (메시지 INSERT 이후는 메모리 작업만).
+ * - 비어 있으면 ChatRoomMemberRepository 에서 한 번 채우고, 방 생성/나가기/재입장 때 무효화한다.
+ *   무효화는 커밋 후 chat:membership-cache:invalidate 로 발행되어 모든 노드의 캐시를 비운다.
+ * - 나간 방(is_del=1)도 새 메시지가 오면 다시 보이므로 멤버십은 행 존재 기준이다.
+ * 채우는 도중 무효화가 일어나면(세대 번호 변경) 읽은 값을 버려 오래된 집합이 남지 않게 한다.
+ */
+@Slf4j
+@Component
+public class ChatMembershipCache implements MessageListener {
+
+    static final String INVALIDATE_CHANNEL = "chat:membership-cache:invalidate";
+
+    private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final ChatMembershipProperties properties;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisPayloadCodec codec;
+    private final RedisHealthMonitor redisHealthMonitor;
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainer;
+
+    private final Map<String, Entry> membersByRoom;
+    private final Map<String, Entry> roomsByUser;
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter loads;
+    private final Counter remoteInvalidations;
+
+    // 리스너 컨테이너는 STOMP 설정(SimpMessagingTemplate)에 의존하고, 이 캐시는 STOMP 인터셉터가 쓰므로 지연 조회한다
+    public ChatMembershipCache(ChatRoomMemberRepository chatRoomMemberRepository,
+                               ChatMembershipProperties properties,
+                               StringRedisTemplate stringRedisTemplate,
+                               RedisPayloadCodec codec,
+                               RedisHealthMonitor redisHealthMonitor,
+                               ObjectProvider<RedisMessageListenerContainer> listenerContainer,
+                               MeterRegistry meterRegistry) {
+        this.chatRoomMemberRepository = chatRoomMemberRepository;
+        this.properties = properties;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.codec = codec;
+        this.redisHealthMonitor = redisHealthMonitor;
+        this.listenerContainer = listenerContainer;
+        this.membersByRoom = lru(properties.getMaxRooms());
+        this.roomsByUser = lru(properties.getMaxUsers());
+
+        this.hits = Counter.builder("chat.membership_cache.hit")
+                .description("로컬 캐시로 처리한 멤버십 확인 수")
+                .register(meterRegistry);
+        this.loads = Counter.builder("chat.membership_cache.load")
+                .description("DB 에서 멤버십 집합을 채운 수")
+                .register(meterRegistry);
+        this.remoteInvalidations = Counter.builder("chat.membership_cache.invalidation")
+                .tag("source", "redis")
+                .description("다른 노드(또는 자신)가 발행한 무효화 수신 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribeInvalidations() {
+        RedisMessageListenerContainer container = listenerContainer.getIfAvailable();
+        if (container == null) return;
+        container.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    /**
+     * 사용자가 방의 멤버인지. 둘 중 이미 채워진 쪽 집합으로 확인하고, 없으면 방 → 멤버 집합을 채운다.
+     */
+    public boolean isMember(String roomId, String accountEmail) {
+        if (roomId == null || accountEmail == null) return false;
+        if (!properties.isEnabled()) {
+            return chatRoomMemberRepository.existsByRoomIdAndAccountEmail(roomId, accountEmail);
+        }
+
+        Set<String> members = cached(membersByRoom, roomId);
+        if (members != null) {
+            hits.increment();
+            return members.contains(accountEmail);
+        }
+        Set<String> rooms = cached(roomsByUser, accountEmail);
+        if (rooms != null) {
+            hits.increment();
+            return rooms.contains(roomId);
+        }
+        return members(roomId).contains(accountEmail);
+    }
+
+    /**
+     * 방의 멤버 이메일 집합
+     */
+    public Set<String> members(String roomId) {
+        if (!properties.isEnabled()) {
+            return Set.copyOf(chatRoomMemberRepository.findParticipantEmails(roomId));
+        }
+        Set<String> members = cached(membersByRoom, roomId);
+        if (members != null) {
+            hits.increment();
+            return members;
+        }
+        long gen = generation.get();
+        members = Set.copyOf(chatRoomMemberRepository.findParticipantEmails(roomId));
+        loads.increment();
+        store(membersByRoom, roomId, members, gen);
+        return members;
+    }
+
+    /**
+     * 사용자가 속한 방 ID 집합
+     */
+    public Set<String> rooms(String accountEmail) {
+        if (!properties.isEnabled()) {
+            return Set.copyOf(chatRoomMemberRepository.findRoomIdsByAccountEmail(accountEmail));
+        }
+        Set<String> rooms = cached(roomsByUser, accountEmail);
+        if (rooms != null) {
+            hits.increment();
+            return rooms;
+        }
+        long gen = generation.get();
+        rooms = Set.copyOf(chatRoomMemberRepository.findRoomIdsByAccountEmail(accountEmail));
+        loads.increment();
+        store(roomsByUser, accountEmail, rooms, gen);
+        return rooms;
+    }
+
+    /**
+     * 방과 그 방 사용자들의 항목을 지우고, 커밋 후 다른 노드에도 알린다.
+     * 트랜잭션 안이면 커밋 후에 한 번 더 지운다 (커밋 전에 다른 스레드가 옛 DB 값을 다시 채울 수 있으므로).
+     */
+    public void invalidate(String roomId, List<String> accountEmails) {
+        evict(roomId, accountEmails);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override public void afterCommit() {
+                    evict(roomId, accountEmails);
+                    broadcast(roomId, accountEmails);
+                }
+            });
+        } else {
+            broadcast(roomId, accountEmails);
+        }
+    }
+
+    /**
+     * chat:membership-cache:invalidate 수신 → 로컬 항목 삭제
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            ChatMembershipInvalidation event = codec.read(codec.decode(message.getBody()), ChatMembershipInvalidation.class);
+            evict(event.getRoomId(), event.getAccountEmails());
+            remoteInvalidations.increment();
+        } catch (Exception e) {
+            log.error("[Membership] 무효화 이벤트 처리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    // 실패해도 다른 노드는 TTL 이 지나면 다시 읽는다
+    private void broadcast(String roomId, List<String> accountEmails) {
+        if (!redisHealthMonitor.isAvailable()) return;
+        try {
+            byte[] body = codec.encode(new ChatMembershipInvalidation(roomId, accountEmails));
+            stringRedisTemplate.execute((RedisCallback<Long>) connection ->
+                    connection.publish(INVALIDATE_CHANNEL.getBytes(StandardCharsets.UTF_8), body));
+        } catch (Exception e) {
+            log.warn("[Membership] 무효화 발행 실패 (roomId={}): {}", roomId, e.getMessage());
+        }
+    }
+
+    void evict(String roomId, List<String> accountEmails) {
+        generation.incrementAndGet();
+        synchronized (membersByRoom) {
+            membersByRoom.remove(roomId);
+        }
+        synchronized (roomsByUser) {
+            for (String email : accountEmails) {
+                roomsByUser.remove(email);
+            }
+        }
+    }
+
+    private Set<String> cached(Map<String, Entry> map, String key) {
+        Entry entry;
+        synchronized (map) {
+            entry = map.get(key);
+        }
+        if (entry == null) return null;
+        if (System.currentTimeMillis() - entry.loadedAt() > properties.getTtlSeconds() * 1000) {
+            synchronized (map) {
+                map.remove(key, entry);
+            }
+            return null;
+        }
+        return entry.values();
+    }
+
+    private void store(Map<String, Entry> map, String key, Set<String> values, long gen) {
+        synchronized (map) {
+            // 읽는 동안 무효화가 있었으면 버린다 (다음 조회에서 다시 채움)
+            if (generation.get() != gen) return;
+            map.put(key, new Entry(values, System.currentTimeMillis()));
+        }
+    }
+
+    private static Map<String, Entry> lru(int max) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > max;
+            }
+        };
+    }
+
+    private record Entry(Set<String> values, long loadedAt) {}
+}
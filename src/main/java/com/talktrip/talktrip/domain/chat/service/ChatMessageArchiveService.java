@@ -0,0 +1,329 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import com.talktrip.talktrip.domain.chat.entity.ChatMessage;
+import com.talktrip.talktrip.domain.chat.entity.ChatMessageArchiveRoom;
+import com.talktrip.talktrip.domain.chat.repository.ChatMessageArchiveRoomRepository;
+import com.talktrip.talktrip.global.config.ChatArchiveProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅 이력 콜드 티어.
+ * - 이동: hotRetentionDays 보다 오래된 메시지를 오래된 순으로 배치 단위로 월별 아카이브 테이블
+ *   chatting_message_archive_{yyyyMM} 에 INSERT 하고 핫 테이블에서 DELETE 한다 (한 트랜잭션).
+ *   핫 테이블은 보관 기간만큼만 남아 INSERT/인덱스 유지 비용과 COUNT 범위가 더 이상 자라지 않는다.
+ * - 읽기: 핫 테이블이 페이지를 다 못 채우면 커서 이전을 아카이브 달 순서(최신→과거)로 이어 읽는다.
+ *   달마다 테이블이 나뉘어 있어 이어 붙이기만 해도 (createdAt, messageId) 내림차순이 유지된다.
+ * 이동은 Redis 락을 잡은 한 노드만 실행한다.
+ */
+@Slf4j
+@Service
+public class ChatMessageArchiveService {
+
+    static final String TABLE_PREFIX = "chatting_message_archive_";
+    private static final String LOCK_KEY = "chat:archive:lock";
+    private static final DateTimeFormatter MONTH_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final long TABLE_RELOAD_INTERVAL_MS = 60_000;
+
+    // 잠근 노드의 토큰일 때만 지운다 (TTL 이 지나 다른 노드가 잡은 락을 지우지 않게). 다른 배치 락도 같이 쓴다.
+    static final DefaultRedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    // idx_msg_created_id (created_at, message_id) 로 정렬된 범위를 읽는다 (전체 스캔/filesort 없이 배치 크기만큼)
+    private static final String SELECT_OLD_SQL = """
+            SELECT message_id, room_id, account_email, message, client_message_key, created_at
+            FROM chatting_message_history_tab
+            WHERE created_at < ?
+            ORDER BY created_at, message_id
+            LIMIT ?
+            """;
+    private static final String DELETE_HOT_SQL =
+            "DELETE FROM chatting_message_history_tab WHERE message_id = ?";
+    private static final String UPSERT_ROOM_SQL = """
+            INSERT INTO chatting_message_archive_room_tab (room_id, oldest_created_at, newest_created_at, message_count)
+            VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                oldest_created_at = LEAST(oldest_created_at, VALUES(oldest_created_at)),
+                newest_created_at = GREATEST(newest_created_at, VALUES(newest_created_at)),
+                message_count = message_count + VALUES(message_count)
+            """;
+    private static final String LIST_TABLES_SQL = """
+            SELECT table_name
+            FROM information_schema.tables
+            WHERE table_schema = DATABASE() AND table_name LIKE 'chatting\\_message\\_archive\\_%'
+            """;
+    private static final String COUNT_CLIENT_KEY_COLUMN_SQL = """
+            SELECT COUNT(*)
+            FROM information_schema.columns
+            WHERE table_schema = DATABASE() AND table_name = ? AND column_name = 'client_message_key'
+            """;
+
+    private static final RowMapper<ChatMessage> ROW_MAPPER = (rs, rowNum) -> new ChatMessage(
+            rs.getString("message_id"),
+            rs.getString("room_id"),
+            rs.getString("account_email"),
+            rs.getString("message"),
+            rs.getTimestamp("created_at").toLocalDateTime()
+    );
+
+    // 이동할 핫 테이블 행 (전송 멱등 키까지 옮긴다)
+    private static final RowMapper<ChatMessage> HOT_ROW_MAPPER = (rs, rowNum) -> {
+        ChatMessage m = ROW_MAPPER.mapRow(rs, rowNum);
+        m.setClientMessageKey(rs.getString("client_message_key"));
+        return m;
+    };
+
+    private final ChatArchiveProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ChatMessageArchiveRoomRepository archiveRoomRepository;
+    private final ChatSearchIndexService searchIndexService;
+
+    private final Set<YearMonth> knownMonths = ConcurrentHashMap.newKeySet();
+    private final Set<YearMonth> writableMonths = ConcurrentHashMap.newKeySet();
+    private final Map<String, CachedRange> archivedRanges;
+    private volatile long tablesLoadedAt;
+
+    public ChatMessageArchiveService(ChatArchiveProperties properties,
+                                     JdbcTemplate jdbcTemplate,
+                                     PlatformTransactionManager transactionManager,
+                                     StringRedisTemplate stringRedisTemplate,
+                                     ChatMessageArchiveRoomRepository archiveRoomRepository,
+                                     ChatSearchIndexService searchIndexService) {
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.archiveRoomRepository = archiveRoomRepository;
+        this.searchIndexService = searchIndexService;
+        int maxRooms = properties.getRangeCacheRooms();
+        this.archivedRanges = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedRange> eldest) {
+                return size() > maxRooms;
+            }
+        };
+    }
+
+    /**
+     * 커서 이전(더 과거) 메시지를 아카이브에서 최대 limit 개. cursorCreatedAt 이 null 이면 가장 최근 아카이브부터.
+     */
+    public List<ChatMessage> findSliceBefore(String roomId, LocalDateTime cursorCreatedAt, String cursorMessageId, int limit) {
+        if (limit <= 0) return List.of();
+        // 짧은 페이지마다 DB 를 보지 않게: 아카이브 테이블이 없으면 바로, 방 범위는 캐시에서 (없는 방도 캐시)
+        if (!hasAnyArchive()) return List.of();
+        Optional<ChatMessageArchiveRoom> range = archivedRange(roomId);
+        if (range.isEmpty()) return List.of();
+
+        YearMonth oldest = YearMonth.from(range.get().getOldestCreatedAt());
+        YearMonth from = YearMonth.from(range.get().getNewestCreatedAt());
+        if (cursorCreatedAt != null && YearMonth.from(cursorCreatedAt).isBefore(from)) {
+            from = YearMonth.from(cursorCreatedAt);
+        }
+
+        List<ChatMessage> out = new ArrayList<>(limit);
+        for (YearMonth month = from; !month.isBefore(oldest) && out.size() < limit; month = month.minusMonths(1)) {
+            if (!tableExists(month)) continue;
+            out.addAll(querySlice(month, roomId, cursorCreatedAt, cursorMessageId, limit - out.size()));
+        }
+        return out;
+    }
+
+    @Scheduled(cron = "${chat.archive.cron:0 0 5 * * *}")
+    public void scheduledArchive() {
+        if (properties.isEnabled()) {
+            archive();
+        }
+    }
+
+    public void archive() {
+        String token = UUID.randomUUID().toString();
+        Boolean locked = stringRedisTemplate.opsForValue()
+                .setIfAbsent(LOCK_KEY, token, Duration.ofSeconds(properties.getLockSeconds()));
+        if (!Boolean.TRUE.equals(locked)) {
+            log.info("[Archive] 다른 노드에서 아카이브 중이라 건너뜁니다.");
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        // 락 TTL 안에 끝나도록 실행 시간으로 자른다 (나머지는 다음 실행으로)
+        long deadline = start + Duration.ofSeconds(
+                Math.min(properties.getMaxRunSeconds(), properties.getLockSeconds())).toMillis();
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(properties.getHotRetentionDays());
+        int moved = 0;
+        try {
+            for (int i = 0; i < properties.getMaxBatchesPerRun(); i++) {
+                if (System.currentTimeMillis() >= deadline) {
+                    log.info("[Archive] 실행 시간 한도 도달, 나머지는 다음 실행으로 ({}건 이동)", moved);
+                    break;
+                }
+                List<ChatMessage> batch = jdbcTemplate.query(SELECT_OLD_SQL, HOT_ROW_MAPPER,
+                        Timestamp.valueOf(cutoff), properties.getBatchSize());
+                if (batch.isEmpty()) break;
+                moveBatch(batch);
+                moved += batch.size();
+                if (batch.size() < properties.getBatchSize()) break;
+            }
+            log.info("[Archive] 아카이브 완료: {}건, cutoff={}, {}ms", moved, cutoff, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("[Archive] 아카이브 실패 ({}건 이동 후): {}", moved, e.getMessage(), e);
+        } finally {
+            stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(LOCK_KEY), token);
+        }
+    }
+
+    void moveBatch(List<ChatMessage> batch) {
+        Map<YearMonth, List<Object[]>> rowsByMonth = new TreeMap<>();
+        Map<String, RoomRange> rangeByRoom = new HashMap<>();
+        List<Object[]> deletes = new ArrayList<>(batch.size());
+        for (ChatMessage m : batch) {
+            rowsByMonth.computeIfAbsent(YearMonth.from(m.getCreatedAt()), k -> new ArrayList<>())
+                    .add(new Object[]{m.getMessageId(), m.getRoomId(), m.getAccountEmail(), m.getMessage(),
+                            m.getClientMessageKey(), Timestamp.valueOf(m.getCreatedAt())});
+            rangeByRoom.merge(m.getRoomId(), new RoomRange(m.getCreatedAt(), m.getCreatedAt(), 1), RoomRange::merge);
+            deletes.add(new Object[]{m.getMessageId()});
+        }
+
+        // CREATE TABLE 은 MySQL 에서 암묵적 커밋을 일으키므로 트랜잭션 밖에서 먼저 만든다
+        rowsByMonth.keySet().forEach(this::ensureTable);
+
+        List<Object[]> roomRows = new ArrayList<>(rangeByRoom.size());
+        rangeByRoom.forEach((roomId, r) -> roomRows.add(new Object[]{
+                roomId, Timestamp.valueOf(r.oldest()), Timestamp.valueOf(r.newest()), r.count()}));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            rowsByMonth.forEach((month, rows) -> jdbcTemplate.batchUpdate(
+                    "INSERT IGNORE INTO " + tableName(month)
+                            + " (message_id, room_id, account_email, message, client_message_key, created_at)"
+                            + " VALUES (?, ?, ?, ?, ?, ?)",
+                    rows));
+            jdbcTemplate.batchUpdate(UPSERT_ROOM_SQL, roomRows);
+            jdbcTemplate.batchUpdate(DELETE_HOT_SQL, deletes);
+        });
+        // 범위가 바뀐 방은 캐시를 비워 다음 조회가 새 범위를 읽게 한다
+        synchronized (archivedRanges) {
+            rangeByRoom.keySet().forEach(archivedRanges::remove);
+        }
+        // 검색 범위는 핫 테이블까지
+        searchIndexService.remove(batch);
+    }
+
+    private List<ChatMessage> querySlice(YearMonth month, String roomId,
+                                         LocalDateTime cursorCreatedAt, String cursorMessageId, int limit) {
+        if (cursorCreatedAt == null) {
+            return jdbcTemplate.query("""
+                    SELECT message_id, room_id, account_email, message, created_at
+                    FROM %s
+                    WHERE room_id = ?
+                    ORDER BY created_at DESC, message_id DESC
+                    LIMIT ?
+                    """.formatted(tableName(month)), ROW_MAPPER, roomId, limit);
+        }
+        Timestamp at = Timestamp.valueOf(cursorCreatedAt);
+        return jdbcTemplate.query("""
+                SELECT message_id, room_id, account_email, message, created_at
+                FROM %s
+                WHERE room_id = ?
+                  AND (created_at < ? OR (created_at = ? AND message_id < ?))
+                ORDER BY created_at DESC, message_id DESC
+                LIMIT ?
+                """.formatted(tableName(month)), ROW_MAPPER, roomId, at, at, cursorMessageId, limit);
+    }
+
+    private void ensureTable(YearMonth month) {
+        if (writableMonths.contains(month)) return;
+        String table = tableName(month);
+        // 컬럼과 (room_id, created_at, message_id) 인덱스를 핫 테이블과 똑같이 가져간다
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + table + " LIKE chatting_message_history_tab");
+        // client_message_key 도입 전에 만든 달 테이블에는 컬럼을 더한다
+        Integer keyColumns = jdbcTemplate.queryForObject(COUNT_CLIENT_KEY_COLUMN_SQL, Integer.class, table);
+        if (keyColumns == null || keyColumns == 0) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ADD COLUMN client_message_key VARCHAR(64) NULL");
+        }
+        if (properties.isCompress()) {
+            try {
+                jdbcTemplate.execute("ALTER TABLE " + table + " ROW_FORMAT=COMPRESSED");
+            } catch (Exception e) {
+                log.warn("[Archive] {} 압축 설정 실패, 비압축으로 유지: {}", table, e.getMessage());
+            }
+        }
+        knownMonths.add(month);
+        writableMonths.add(month);
+    }
+
+    private boolean hasAnyArchive() {
+        if (!knownMonths.isEmpty()) return true;
+        reloadTables();
+        return !knownMonths.isEmpty();
+    }
+
+    private Optional<ChatMessageArchiveRoom> archivedRange(String roomId) {
+        long now = System.currentTimeMillis();
+        synchronized (archivedRanges) {
+            CachedRange cached = archivedRanges.get(roomId);
+            if (cached != null && now - cached.loadedAt() < properties.getRangeCacheTtlSeconds() * 1000L) {
+                return Optional.ofNullable(cached.range());
+            }
+        }
+        Optional<ChatMessageArchiveRoom> range = archiveRoomRepository.findById(roomId);
+        synchronized (archivedRanges) {
+            archivedRanges.put(roomId, new CachedRange(range.orElse(null), now));
+        }
+        return range;
+    }
+
+    private boolean tableExists(YearMonth month) {
+        if (knownMonths.contains(month)) return true;
+        reloadTables();
+        return knownMonths.contains(month);
+    }
+
+    // 다른 노드가 새로 만든 달일 수 있으니 가끔 다시 읽는다
+    private void reloadTables() {
+        long now = System.currentTimeMillis();
+        if (now - tablesLoadedAt < TABLE_RELOAD_INTERVAL_MS) return;
+        tablesLoadedAt = now;
+        for (String table : jdbcTemplate.queryForList(LIST_TABLES_SQL, String.class)) {
+            String suffix = table.substring(TABLE_PREFIX.length());
+            if (suffix.length() == 6 && suffix.chars().allMatch(Character::isDigit)) {
+                knownMonths.add(YearMonth.parse(suffix, MONTH_SUFFIX));
+            }
+        }
+    }
+
+    static String tableName(YearMonth month) {
+        return TABLE_PREFIX + month.format(MONTH_SUFFIX);
+    }
+
+    // 방 아카이브 범위 캐시 항목 (range == null 이면 아카이브된 메시지가 없는 방)
+    private record CachedRange(ChatMessageArchiveRoom range, long loadedAt) {}
+
+    private record RoomRange(LocalDateTime oldest, LocalDateTime newest, long count) {
+        static RoomRange merge(RoomRange a, RoomRange b) {
+            return new RoomRange(
+                    a.oldest.isBefore(b.oldest) ? a.oldest : b.oldest,
+                    a.newest.isAfter(b.newest) ? a.newest : b.newest,
+                    a.count + b.count);
+        }
+    }
+}
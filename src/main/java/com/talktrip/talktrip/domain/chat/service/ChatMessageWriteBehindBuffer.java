@@ -0,0 +1,245 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import com.talktrip.talktrip.domain.chat.entity.ChatMessage;
+import com.talktrip.talktrip.domain.chat.repository.ChatUnreadCounterRepository;
+import com.talktrip.talktrip.global.config.ChatWriteBehindProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 write-behind 버퍼.
+ * SEND 스레드는 메시지를 큐에 넣기만 하고, 전용 writer 스레드가 큐를 비우며
+ * chatting_message_history_tab 에 JDBC batch insert 한다.
+ * 방별 updated_at / is_del / 요약 갱신은 flush 당 방마다 한 번으로 합친다.
+ */
+@Slf4j
+@Component
+public class ChatMessageWriteBehindBuffer {
+
+    private static final String INSERT_MESSAGE_SQL = """
+            INSERT INTO chatting_message_history_tab (message_id, room_id, account_email, message, created_at, client_message_key)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+    private static final String UPDATE_ROOM_UPDATED_AT_SQL =
+            "UPDATE chatting_room_tab SET updated_at = ? WHERE room_id = ?";
+    private static final String RESET_IS_DEL_SQL =
+            "UPDATE chatting_room_account_tab SET is_del = 0 WHERE room_id = ?";
+
+    private final ChatWriteBehindProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final ChatUnreadCounterRepository unreadCounterRepository;
+    private final ChatRoomSummaryService roomSummaryService;
+    private final ChatGroupRoomService groupRoomService;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingMessage> queue;
+
+    private final Timer flushTimer;
+    private final DistributionSummary flushSize;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public ChatMessageWriteBehindBuffer(ChatWriteBehindProperties properties,
+                                        JdbcTemplate jdbcTemplate,
+                                        ChatUnreadCounterRepository unreadCounterRepository,
+                                        ChatRoomSummaryService roomSummaryService,
+                                        ChatGroupRoomService groupRoomService,
+                                        PlatformTransactionManager transactionManager,
+                                        MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.unreadCounterRepository = unreadCounterRepository;
+        this.roomSummaryService = roomSummaryService;
+        this.groupRoomService = groupRoomService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity()));
+
+        Gauge.builder("chat.write_behind.queue.depth", queue, BlockingQueue::size)
+                .description("flush 대기 중인 채팅 메시지 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("chat.write_behind.flush.latency")
+                .description("write-behind 배치 flush 소요 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.flushSize = DistributionSummary.builder("chat.write_behind.flush.size")
+                .description("flush 한 번에 저장된 메시지 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("chat.write_behind.failed")
+                .description("저장에 실패한 메시지 수")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public boolean isGroupCommit() {
+        return properties.getDurability() == ChatWriteBehindProperties.Durability.GROUP_COMMIT;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.isEnabled()) return;
+        running = true;
+        writer = new Thread(this::runWriter, "chat-write-behind");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("[WriteBehind] writer 시작 (capacity={}, flushSize={}, interval={}ms, durability={})",
+                properties.getQueueCapacity(), properties.getFlushSize(),
+                properties.getFlushIntervalMs(), properties.getDurability());
+    }
+
+    /**
+     * 메시지를 flush 대기열에 넣는다. 반환된 future 는 메시지가 커밋되면 완료된다.
+     *
+     * @throws IllegalStateException 큐가 가득 찬 경우
+     */
+    public CompletableFuture<Void> enqueue(ChatMessage message) {
+        if (!running) {
+            throw new IllegalStateException("write-behind writer 가 동작 중이 아닙니다.");
+        }
+        PendingMessage pending = new PendingMessage(message, new CompletableFuture<>());
+        if (!queue.offer(pending)) {
+            throw new IllegalStateException("메시지 저장 대기열이 가득 찼습니다.");
+        }
+        return pending.persisted();
+    }
+
+    /**
+     * GROUP_COMMIT 모드에서 호출 스레드가 flush 완료를 기다린다.
+     */
+    public void awaitPersisted(CompletableFuture<Void> persisted) {
+        try {
+            persisted.get(properties.getGroupCommitTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("메시지 저장 대기 중 인터럽트 발생", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("메시지 저장 확인 실패: " + e.getMessage(), e);
+        }
+    }
+
+    public int depth() {
+        return queue.size();
+    }
+
+    private void runWriter() {
+        List<PendingMessage> batch = new ArrayList<>(properties.getFlushSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingMessage first = queue.poll(properties.getFlushIntervalMs(), TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                queue.drainTo(batch, properties.getFlushSize() - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                if (!running) break;
+            } catch (Exception e) {
+                log.error("[WriteBehind] writer 루프 오류: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    void flush(List<PendingMessage> batch) {
+        long start = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status -> writeBatch(batch));
+            batch.forEach(p -> p.persisted().complete(null));
+        } catch (Exception e) {
+            log.warn("[WriteBehind] 배치 저장 실패, 단건 저장으로 재시도 (size={}): {}", batch.size(), e.getMessage());
+            // 문제 있는 메시지 하나 때문에 배치 전체가 유실되지 않도록 단건으로 분리
+            for (PendingMessage p : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> writeBatch(List.of(p)));
+                    p.persisted().complete(null);
+                } catch (Exception single) {
+                    failedCounter.increment();
+                    log.error("[WriteBehind] 메시지 저장 실패 (messageId={}): {}",
+                            p.message().getMessageId(), single.getMessage());
+                    p.persisted().completeExceptionally(single);
+                }
+            }
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            flushSize.record(batch.size());
+        }
+    }
+
+    private void writeBatch(List<PendingMessage> batch) {
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        Map<String, ChatMessage> latestByRoom = new HashMap<>();
+        Map<String, Integer> countByRoom = new HashMap<>();
+        Map<String, Map<String, Integer>> sentByRoomAndSender = new HashMap<>();
+        for (PendingMessage p : batch) {
+            ChatMessage m = p.message();
+            rows.add(new Object[]{
+                    m.getMessageId(), m.getRoomId(), m.getAccountEmail(), m.getMessage(),
+                    Timestamp.valueOf(m.getCreatedAt()), m.getClientMessageKey()
+            });
+            latestByRoom.merge(m.getRoomId(), m, (a, b) -> a.getCreatedAt().isAfter(b.getCreatedAt()) ? a : b);
+            countByRoom.merge(m.getRoomId(), 1, Integer::sum);
+            sentByRoomAndSender.computeIfAbsent(m.getRoomId(), k -> new HashMap<>())
+                    .merge(m.getAccountEmail(), 1, Integer::sum);
+        }
+        jdbcTemplate.batchUpdate(INSERT_MESSAGE_SQL, rows);
+
+        List<Object[]> roomRows = new ArrayList<>(latestByRoom.size());
+        List<Object[]> resetRows = new ArrayList<>(latestByRoom.size());
+        latestByRoom.forEach((roomId, latest) -> {
+            roomRows.add(new Object[]{Timestamp.valueOf(latest.getCreatedAt()), roomId});
+            resetRows.add(new Object[]{roomId});
+        });
+        jdbcTemplate.batchUpdate(UPDATE_ROOM_UPDATED_AT_SQL, roomRows);
+        jdbcTemplate.batchUpdate(RESET_IS_DEL_SQL, resetRows);
+
+        // 방 요약은 방마다 최신 메시지 1건 + 건수로 한 번만 갱신
+        latestByRoom.forEach((roomId, latest) -> roomSummaryService.record(latest, countByRoom.get(roomId)));
+
+        // DB 안 읽은 카운터는 (방, 발신자)마다 한 번에 +n (단체방은 방 순번으로 계산하므로 건너뜀)
+        List<String> groupRooms = groupRoomService.groupRooms(sentByRoomAndSender.keySet());
+        sentByRoomAndSender.forEach((roomId, bySender) -> {
+            if (groupRooms.contains(roomId)) return;
+            bySender.forEach((sender, count) -> unreadCounterRepository.incrementForRoom(roomId, sender, count));
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        if (writer == null) return;
+        running = false;
+        try {
+            // running=false 이후에도 writer 는 큐가 빌 때까지 flush 를 계속한다
+            writer.join(properties.getShutdownTimeoutMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.error("[WriteBehind] 종료 시점에 저장되지 않은 메시지 {}건이 남았습니다.", queue.size());
+        }
+    }
+
+    record PendingMessage(ChatMessage message, CompletableFuture<Void> persisted) {}
+}
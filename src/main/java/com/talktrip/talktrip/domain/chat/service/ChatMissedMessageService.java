@@ -0,0 +1,131 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talktrip.talktrip.domain.chat.dto.response.ChatMissedMessageDto;
+import com.talktrip.talktrip.domain.chat.entity.ChatMessage;
+import com.talktrip.talktrip.global.config.ChatPresenceProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 오프라인 수신자용 지연 알림 경로.
+ * 실시간 사이드바 푸시 대신 chat:missed:{email} 해시(field = roomId)에 방마다 마지막 메시지 요약만 덮어쓴다.
+ * 사용자가 다시 접속해 /user/queue/chat/missed 를 구독하면 한 번에 꺼내 보내고 지운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatMissedMessageService {
+
+    static final String KEY_PREFIX = "chat:missed:";
+    static final String DESTINATION = "/queue/chat/missed";
+    private static final int PREVIEW_LENGTH = 100;
+
+    // 꺼내는 사이에 들어온 요약을 지우지 않도록 읽기와 삭제를 한 번에 한다
+    private static final DefaultRedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>("""
+            local fields = redis.call('HGETALL', KEYS[1])
+            redis.call('DEL', KEYS[1])
+            return fields
+            """, List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatUnreadCounterService unreadCounterService;
+    private final ChatPresenceProperties properties;
+
+    /**
+     * 오프라인 수신자마다 방 요약을 최신 메시지로 덮어쓴다 (방당 1필드이므로 메시지가 몰려도 크기는 방 수로 제한).
+     */
+    public void defer(ChatMessage message, Collection<String> offlineRecipients) {
+        if (offlineRecipients.isEmpty()) return;
+        try {
+            String json = objectMapper.writeValueAsString(new ChatMissedMessageDto(
+                    message.getRoomId(), message.getMessageId(), message.getAccountEmail(),
+                    preview(message.getMessage()), message.getCreatedAt(), 0));
+            long ttlSeconds = Duration.ofHours(properties.getMissedTtlHours()).toSeconds();
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection src = (StringRedisConnection) connection;
+                for (String email : offlineRecipients) {
+                    src.hSet(key(email), message.getRoomId(), json);
+                    src.expire(key(email), ttlSeconds);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("[Missed] 놓친 메시지 기록 실패 (roomId={}): {}", message.getRoomId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 쌓인 요약을 꺼내 지우고 최신순으로 돌려준다. 안 읽은 수는 꺼내는 시점 값으로 채운다.
+     */
+    @SuppressWarnings("unchecked")
+    public List<ChatMissedMessageDto> drain(String email) {
+        List<Object> flat = stringRedisTemplate.execute(DRAIN_SCRIPT, List.of(key(email)));
+        if (flat == null || flat.isEmpty()) return List.of();
+
+        Map<String, Integer> unreadByRoom = unreadCounterService.getUnreadByRoom(email);
+        List<ChatMissedMessageDto> items = new ArrayList<>(flat.size() / 2);
+        for (int i = 1; i < flat.size(); i += 2) {
+            try {
+                ChatMissedMessageDto item = objectMapper.readValue(String.valueOf(flat.get(i)), ChatMissedMessageDto.class);
+                items.add(item.withUnreadCount(unreadByRoom.getOrDefault(item.roomId(), 0)));
+            } catch (Exception e) {
+                log.warn("[Missed] 요약 파싱 실패 (email={}): {}", email, e.getMessage());
+            }
+        }
+        items.sort(Comparator.comparing(ChatMissedMessageDto::createdAt, Comparator.nullsLast(Comparator.reverseOrder())));
+        return items;
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        if (event.getUser() == null) return;
+        StompHeaderAccessor acc = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = acc.getDestination();
+        if (destination == null || !destination.endsWith(DESTINATION) || !destination.startsWith("/user")) return;
+
+        String email = event.getUser().getName();
+        try {
+            List<ChatMissedMessageDto> items = drain(email);
+            if (items.isEmpty()) return;
+
+            // 방금 구독한 세션에만 보낸다
+            SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            headers.setSessionId(acc.getSessionId());
+            headers.setLeaveMutable(true);
+            messagingTemplate.convertAndSendToUser(email, DESTINATION, items, headers.getMessageHeaders());
+            log.info("[Missed] 놓친 메시지 요약 전달 email={}, rooms={}", email, items.size());
+        } catch (Exception e) {
+            log.warn("[Missed] 놓친 메시지 전달 실패 (email={}): {}", email, e.getMessage());
+        }
+    }
+
+    private static String preview(String message) {
+        if (message == null || message.length() <= PREVIEW_LENGTH) return message;
+        return message.substring(0, PREVIEW_LENGTH);
+    }
+
+    static String key(String email) {
+        return KEY_PREFIX + email;
+    }
+}
@@ -0,0 +1,313 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talktrip.talktrip.domain.chat.dto.response.ChatMessagePush;
+import com.talktrip.talktrip.domain.chat.entity.ChatOutboxEvent;
+import com.talktrip.talktrip.global.config.ChatOutboxProperties;
+import com.talktrip.talktrip.global.redis.RedisHealthMonitor;
+import com.talktrip.talktrip.global.redis.RedisPayloadCodec;
+import com.talktrip.talktrip.global.redis.RedisStreamTransport;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채팅 팬아웃 transactional outbox.
+ * SEND 트랜잭션이 메시지와 함께 방 브로드캐스트/사이드바 이벤트를 chatting_outbox_tab 에 쓰고,
+ * 노드마다 하나인 relay 스레드가 커밋된 행을 FOR UPDATE SKIP LOCKED 로 배치 단위로 가져와
+ * 파이프라인 PUBLISH 로 발행한 뒤 같은 트랜잭션에서 지운다.
+ * - 발행이 실패하면 트랜잭션을 롤백해 행이 남고 다음 차례에 다시 보낸다 (at-least-once, 구독 쪽은 messageId 로 중복 제거)
+ * - SEND 스레드는 커밋 후 relay 를 깨우기만 한다 (Redis 왕복 없음)
+ * - 여러 노드의 relay 는 SKIP LOCKED 로 서로 다른 행을 나눠 가진다
+ */
+@Slf4j
+@Component
+public class ChatOutboxRelay {
+
+    private static final String ROOM_CHANNEL_PREFIX = "chat:room:";
+
+    private static final String INSERT_SQL = """
+            INSERT INTO chatting_outbox_tab (kind, destination, payload, created_at)
+            VALUES (?, ?, ?, ?)
+            """;
+    private static final String CLAIM_SQL = """
+            SELECT id, kind, destination, payload, created_at
+            FROM chatting_outbox_tab
+            ORDER BY id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+    private static final String DELETE_SQL = "DELETE FROM chatting_outbox_tab WHERE id IN (%s)";
+    private static final String BACKLOG_SQL = "SELECT COUNT(*) AS backlog, MIN(created_at) AS oldest FROM chatting_outbox_tab";
+
+    private static final RowMapper<OutboxRow> ROW_MAPPER = (rs, rowNum) -> new OutboxRow(
+            rs.getLong("id"),
+            ChatOutboxEvent.Kind.valueOf(rs.getString("kind")),
+            rs.getString("destination"),
+            rs.getBytes("payload"),
+            rs.getTimestamp("created_at").toLocalDateTime()
+    );
+
+    private final ChatOutboxProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisPayloadCodec codec;
+    private final RedisStreamTransport streamTransport;
+    private final RedisHealthMonitor healthMonitor;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Semaphore wakeUps = new Semaphore(0);
+
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong lagMs = new AtomicLong();
+    private final Timer relayDelay;
+    private final Counter published;
+    private final Counter failedBatches;
+
+    private volatile boolean running;
+    private Thread relay;
+
+    /**
+     * outbox 에 기록할 발행 한 건
+     */
+    public record Event(ChatOutboxEvent.Kind kind, String destination, Object payload) {}
+
+    record OutboxRow(long id, ChatOutboxEvent.Kind kind, String destination, byte[] payload, LocalDateTime createdAt) {}
+
+    public ChatOutboxRelay(ChatOutboxProperties properties,
+                           JdbcTemplate jdbcTemplate,
+                           StringRedisTemplate stringRedisTemplate,
+                           RedisPayloadCodec codec,
+                           RedisStreamTransport streamTransport,
+                           RedisHealthMonitor healthMonitor,
+                           ObjectMapper objectMapper,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.codec = codec;
+        this.streamTransport = streamTransport;
+        this.healthMonitor = healthMonitor;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        Gauge.builder("chat.outbox.backlog", backlog, AtomicLong::get)
+                .description("발행 대기 중인 outbox 행 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.outbox.lag", lagMs, AtomicLong::get)
+                .description("가장 오래된 미발행 outbox 행의 대기 시간 (ms)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        this.relayDelay = Timer.builder("chat.outbox.relay.delay")
+                .description("outbox 기록부터 Redis 발행까지 걸린 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.published = Counter.builder("chat.outbox.published")
+                .description("relay 가 발행한 outbox 행 수")
+                .register(meterRegistry);
+        this.failedBatches = Counter.builder("chat.outbox.failed")
+                .description("발행에 실패해 다시 시도할 outbox 배치 수")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 방 브로드캐스트 (chat.transport.mode 에 따라 Pub/Sub 또는 Redis Stream)
+     */
+    public Event room(String roomId, Object payload) {
+        return streamTransport.isEnabled()
+                ? new Event(ChatOutboxEvent.Kind.STREAM, roomId, payload)
+                : new Event(ChatOutboxEvent.Kind.PUBLISH, ROOM_CHANNEL_PREFIX + roomId, payload);
+    }
+
+    public static Event channel(String channel, Object payload) {
+        return new Event(ChatOutboxEvent.Kind.PUBLISH, channel, payload);
+    }
+
+    /**
+     * 호출자의 트랜잭션 안에서 outbox 행을 쓴다 (배치 insert 한 번).
+     */
+    public void save(List<Event> events) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(events.size());
+        try {
+            for (Event event : events) {
+                byte[] payload = event.kind() == ChatOutboxEvent.Kind.STREAM
+                        ? objectMapper.writeValueAsBytes(event.payload())
+                        : codec.encode(event.payload());
+                rows.add(new Object[]{event.kind().name(), event.destination(), payload, now});
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("outbox payload 직렬화 실패", e);
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    /**
+     * 커밋 후 SEND 스레드가 호출한다. relay 를 바로 깨우기만 하고 기다리지 않는다.
+     */
+    public void wakeUp() {
+        if (wakeUps.availablePermits() == 0) wakeUps.release();
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.isEnabled()) return;
+        running = true;
+        relay = new Thread(this::runRelay, "chat-outbox-relay");
+        relay.setDaemon(true);
+        relay.start();
+        log.info("[Outbox] relay 시작 (batchSize={}, pollInterval={}ms)",
+                properties.getBatchSize(), properties.getPollIntervalMs());
+    }
+
+    private void runRelay() {
+        while (running) {
+            try {
+                int relayed = relayOnce();
+                // 배치를 가득 채웠으면 남은 행이 더 있을 수 있으므로 바로 다음 배치
+                if (relayed < properties.getBatchSize()) {
+                    wakeUps.tryAcquire(properties.getPollIntervalMs(), TimeUnit.MILLISECONDS);
+                    wakeUps.drainPermits();
+                }
+            } catch (InterruptedException e) {
+                if (!running) break;
+            } catch (Exception e) {
+                failedBatches.increment();
+                log.warn("[Outbox] 발행 실패, {}ms 후 재시도: {}", properties.getRetryBackoffMs(), e.getMessage());
+                try {
+                    Thread.sleep(properties.getRetryBackoffMs());
+                } catch (InterruptedException ie) {
+                    if (!running) break;
+                }
+            }
+        }
+    }
+
+    /**
+     * 커밋된 outbox 행을 한 배치 가져와 발행하고 지운다. 발행이 실패하면 예외로 롤백해 행을 남긴다.
+     *
+     * @return 발행한 행 수
+     */
+    int relayOnce() {
+        if (!healthMonitor.isAvailable()) return 0;
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<OutboxRow> rows = jdbcTemplate.query(CLAIM_SQL, ROW_MAPPER, properties.getBatchSize());
+            if (rows.isEmpty()) return 0;
+
+            publish(rows);
+
+            List<Object> ids = new ArrayList<>(rows.size());
+            rows.forEach(row -> ids.add(row.id()));
+            jdbcTemplate.update(DELETE_SQL.formatted(String.join(",", Collections.nCopies(ids.size(), "?"))),
+                    ids.toArray());
+            return rows.size();
+        });
+        return relayed == null ? 0 : relayed;
+    }
+
+    private void publish(List<OutboxRow> rows) {
+        List<OutboxRow> pubSub = rows.stream().filter(row -> row.kind() == ChatOutboxEvent.Kind.PUBLISH).toList();
+        try {
+            if (!pubSub.isEmpty()) {
+                List<byte[]> payloads = pubSub.stream().map(this::stampPublished).toList();
+                // 배치의 PUBLISH 를 한 번의 왕복으로
+                stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    for (int i = 0; i < pubSub.size(); i++) {
+                        connection.publish(pubSub.get(i).destination().getBytes(StandardCharsets.UTF_8), payloads.get(i));
+                    }
+                    return null;
+                });
+            }
+            for (OutboxRow row : rows) {
+                if (row.kind() == ChatOutboxEvent.Kind.STREAM) {
+                    streamTransport.append(row.destination(), new String(stampPublished(row), StandardCharsets.UTF_8));
+                }
+            }
+            healthMonitor.recordSuccess();
+        } catch (RuntimeException e) {
+            healthMonitor.recordFailure(e);
+            throw e;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        rows.forEach(row -> relayDelay.record(Duration.between(row.createdAt(), now)));
+        published.increment(rows.size());
+    }
+
+    /**
+     * 방 메시지는 발행 직전에 trace.publishedAt 을 찍어 다시 인코딩한다.
+     * outbox 에 쓸 때 찍으면 relay 대기 시간이 발행→수신 구간으로 잡힌다. 다시 못 읽으면 원래 payload 를 보낸다.
+     */
+    private byte[] stampPublished(OutboxRow row) {
+        boolean stream = row.kind() == ChatOutboxEvent.Kind.STREAM;
+        if (!stream && !row.destination().startsWith(ROOM_CHANNEL_PREFIX)) return row.payload();
+        try {
+            ChatMessagePush push = stream
+                    ? objectMapper.readValue(row.payload(), ChatMessagePush.class)
+                    : codec.read(codec.decode(row.payload()), ChatMessagePush.class);
+            if (push.getTrace() == null) return row.payload();
+            push.markPublished();
+            return stream ? objectMapper.writeValueAsBytes(push) : codec.encode(push);
+        } catch (IOException | RuntimeException e) {
+            log.debug("[Outbox] 발행 시각 기록 실패, 원래 payload 로 발행 (id={}): {}", row.id(), e.getMessage());
+            return row.payload();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "#{@chatOutboxProperties.metricsIntervalMs}")
+    public void refreshBacklog() {
+        if (!properties.isEnabled()) return;
+        try {
+            jdbcTemplate.query(BACKLOG_SQL, (RowCallbackHandler) rs -> {
+                backlog.set(rs.getLong("backlog"));
+                Timestamp oldest = rs.getTimestamp("oldest");
+                lagMs.set(oldest == null ? 0L
+                        : Math.max(0L, Duration.between(oldest.toLocalDateTime(), LocalDateTime.now()).toMillis()));
+            });
+        } catch (Exception e) {
+            log.warn("[Outbox] backlog 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (relay == null) return;
+        running = false;
+        wakeUps.release(); // 대기 중이면 바로 깨워 종료 (행은 DB 에 남아 있으므로 진행 중 배치만 마무리)
+        try {
+            relay.join(properties.getShutdownTimeoutMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import com.talktrip.talktrip.global.config.ChatPresenceProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 클러스터 전체 접속 상태.
+ * - Redis: chat:presence:{email} 해시 (field = 인스턴스, value = 그 인스턴스의 세션 수)
+ * - Redis: chat:presence:nodes ZSET (member = 인스턴스, score = 마지막 하트비트 시각)
+ * 각 노드는 하트비트마다 자기 세션 수를 다시 쓰고, 하트비트가 끊긴 노드의 세션은 조회 시 무시한다.
+ * 팬아웃 경로는 onlineUsers 로 오프라인 수신자를 걸러 사이드바 푸시 대신 놓친 메시지 요약으로 보낸다.
+ */
+@Slf4j
+@Service
+public class ChatPresenceService {
+
+    static final String KEY_PREFIX = "chat:presence:";
+    static final String NODES_KEY = "chat:presence:nodes";
+
+    private final ChatPresenceProperties properties;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String instanceId;
+
+    private final Map<String, Integer> localSessionsByUser = new ConcurrentHashMap<>();
+    private final Map<String, String> userBySession = new ConcurrentHashMap<>();
+    private volatile Set<String> liveNodes = Set.of();
+
+    private final Counter offlineRecipients;
+
+    public ChatPresenceService(ChatPresenceProperties properties,
+                               StringRedisTemplate stringRedisTemplate,
+                               MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.instanceId = resolveInstanceId(properties);
+
+        Gauge.builder("chat.presence.local_users", localSessionsByUser, Map::size)
+                .description("이 노드에 세션이 있는 사용자 수")
+                .register(meterRegistry);
+        this.offlineRecipients = Counter.builder("chat.presence.offline_recipients")
+                .description("오프라인이라 실시간 푸시를 건너뛴 수신자 수")
+                .register(meterRegistry);
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        if (!properties.isEnabled() || event.getUser() == null) return;
+        String sessionId = StompHeaderAccessor.wrap(event.getMessage()).getSessionId();
+        if (sessionId == null) return;
+
+        String email = event.getUser().getName();
+        userBySession.put(sessionId, email);
+        write(email, localSessionsByUser.merge(email, 1, Integer::sum));
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        if (!properties.isEnabled()) return;
+        String email = userBySession.remove(event.getSessionId());
+        if (email == null) return;
+
+        Integer remaining = localSessionsByUser.computeIfPresent(email, (k, v) -> v > 1 ? v - 1 : null);
+        if (remaining == null) {
+            remove(email);
+        } else {
+            write(email, remaining);
+        }
+    }
+
+    /**
+     * 주어진 사용자 중 어느 노드에든 세션이 있는 사용자.
+     * Redis 조회에 실패하면 전원을 온라인으로 본다 (푸시를 놓치는 것보다 낫다).
+     */
+    public Set<String> onlineUsers(Collection<String> emails) {
+        if (!properties.isEnabled() || emails.isEmpty()) return new HashSet<>(emails);
+
+        Set<String> online = new HashSet<>();
+        List<String> remote = emails.stream().filter(email -> {
+            if (localSessionsByUser.containsKey(email)) {
+                online.add(email);
+                return false;
+            }
+            return true;
+        }).toList();
+        if (remote.isEmpty()) return online;
+
+        try {
+            List<Object> replies = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection src = (StringRedisConnection) connection;
+                remote.forEach(email -> src.hGetAll(key(email)));
+                return null;
+            });
+            Set<String> live = liveNodes;
+            for (int i = 0; i < remote.size(); i++) {
+                if (replies.get(i) instanceof Map<?, ?> sessions && hasLiveSession(sessions, live)) {
+                    online.add(remote.get(i));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("[Presence] 접속 상태 조회 실패, 전원 온라인으로 처리: {}", e.getMessage());
+            return new HashSet<>(emails);
+        }
+        offlineRecipients.increment(emails.size() - online.size());
+        return online;
+    }
+
+    public boolean isOnline(String email) {
+        return onlineUsers(List.of(email)).contains(email);
+    }
+
+    @Scheduled(fixedDelayString = "#{@chatPresenceProperties.heartbeatIntervalMs}")
+    public void heartbeat() {
+        if (!properties.isEnabled()) return;
+        long now = System.currentTimeMillis();
+        long ttlMs = properties.getTtlSeconds() * 1000;
+        Map<String, Integer> snapshot = Map.copyOf(localSessionsByUser);
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection src = (StringRedisConnection) connection;
+                src.zAdd(NODES_KEY, now, instanceId);
+                snapshot.forEach((email, count) -> {
+                    src.hSet(key(email), instanceId, String.valueOf(count));
+                    src.expire(key(email), properties.getTtlSeconds());
+                });
+                return null;
+            });
+            stringRedisTemplate.opsForZSet().removeRangeByScore(NODES_KEY, 0, now - ttlMs);
+            Set<String> nodes = stringRedisTemplate.opsForZSet().rangeByScore(NODES_KEY, now - ttlMs, Double.MAX_VALUE);
+            liveNodes = nodes == null ? Set.of() : Set.copyOf(nodes);
+        } catch (Exception e) {
+            log.warn("[Presence] 하트비트 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (!properties.isEnabled()) return;
+        try {
+            Set<String> users = Set.copyOf(localSessionsByUser.keySet());
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection src = (StringRedisConnection) connection;
+                users.forEach(email -> src.hDel(key(email), instanceId));
+                src.zRem(NODES_KEY, instanceId);
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("[Presence] 종료 시 접속 정보 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private boolean hasLiveSession(Map<?, ?> sessions, Set<String> live) {
+        for (Map.Entry<?, ?> entry : sessions.entrySet()) {
+            String node = String.valueOf(entry.getKey());
+            // 아직 노드 목록을 못 읽었으면 키 TTL 만 믿는다 (오프라인 오판보다 중복 푸시가 낫다)
+            boolean alive = live.isEmpty() || live.contains(node);
+            if (alive && Integer.parseInt(String.valueOf(entry.getValue())) > 0) return true;
+        }
+        return false;
+    }
+
+    private void write(String email, int count) {
+        try {
+            stringRedisTemplate.opsForHash().put(key(email), instanceId, String.valueOf(count));
+            stringRedisTemplate.expire(key(email), Duration.ofSeconds(properties.getTtlSeconds()));
+        } catch (Exception e) {
+            log.warn("[Presence] 접속 정보 기록 실패 (email={}): {}", email, e.getMessage());
+        }
+    }
+
+    private void remove(String email) {
+        try {
+            stringRedisTemplate.opsForHash().delete(key(email), instanceId);
+        } catch (Exception e) {
+            log.warn("[Presence] 접속 정보 삭제 실패 (email={}): {}", email, e.getMessage());
+        }
+    }
+
+    static String key(String email) {
+        return KEY_PREFIX + email;
+    }
+
+    // 프로세스마다 다른 값 (server.port=0 이거나 같은 호스트에 여러 인스턴스가 떠도 겹치지 않게)
+    private static String resolveInstanceId(ChatPresenceProperties properties) {
+        if (properties.getInstanceId() != null && !properties.getInstanceId().isBlank()) {
+            return properties.getInstanceId();
+        }
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        try {
+            return InetAddress.getLocalHost().getHostName() + "-" + suffix;
+        } catch (Exception e) {
+            return "node-" + suffix;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import com.talktrip.talktrip.domain.chat.repository.ChatRoomMemberRepository;
+import com.talktrip.talktrip.global.config.ChatReadMarkerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * 읽음 위치(last_member_read_time) 쓰기 버퍼.
+ * 히스토리 조회마다 UPDATE 하지 않고 (방, 사용자)별 최신 읽은 시각만 메모리에 남겨 두었다가
+ * 주기적으로, 또는 사용자의 WebSocket 세션이 끊길 때 batch UPDATE 로 반영한다.
+ * 같은 (방, 사용자)를 여러 노드가 반영해도 GREATEST 로 더 늦은 시각만 남는다.
+ * 안 읽은 카운터(Redis)는 읽는 즉시 0 으로 바뀌므로 사이드바는 flush 를 기다리지 않는다.
+ */
+@Slf4j
+@Component
+public class ChatReadMarkerBuffer {
+
+    private static final String UPDATE_SQL = """
+            UPDATE chatting_room_account_tab
+            SET last_member_read_time = GREATEST(COALESCE(last_member_read_time, ?), ?)
+            WHERE room_id = ? AND account_email = ?
+            """;
+
+    private final ChatReadMarkerProperties properties;
+    private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<MarkerKey, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    private final Counter marked;
+    private final DistributionSummary flushSize;
+
+    public ChatReadMarkerBuffer(ChatReadMarkerProperties properties,
+                                ChatRoomMemberRepository chatRoomMemberRepository,
+                                JdbcTemplate jdbcTemplate,
+                                MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.chatRoomMemberRepository = chatRoomMemberRepository;
+        this.jdbcTemplate = jdbcTemplate;
+
+        Gauge.builder("chat.read_marker.pending", pending, Map::size)
+                .description("DB 반영을 기다리는 읽음 위치 수")
+                .register(meterRegistry);
+        this.marked = Counter.builder("chat.read_marker.marked")
+                .description("읽음 처리 요청 수 (flush 로 합쳐지기 전)")
+                .register(meterRegistry);
+        this.flushSize = DistributionSummary.builder("chat.read_marker.flush.size")
+                .description("flush 한 번에 UPDATE 한 (방, 사용자) 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 지금 시각으로 읽음 처리한다.
+     */
+    public void mark(String roomId, String accountEmail) {
+        if (!properties.isEnabled()) {
+            chatRoomMemberRepository.updateLastReadTime(roomId, accountEmail);
+            return;
+        }
+        marked.increment();
+        pending.merge(new MarkerKey(roomId, accountEmail), LocalDateTime.now(),
+                (a, b) -> a.isAfter(b) ? a : b);
+        if (pending.size() > properties.getMaxPending()) {
+            flush();
+        }
+    }
+
+    /**
+     * 아직 반영되지 않은 값을 우선한 내 마지막 읽은 시각.
+     */
+    public LocalDateTime findLastReadAt(String roomId, String accountEmail) {
+        LocalDateTime buffered = pending.get(new MarkerKey(roomId, accountEmail));
+        if (buffered != null) return buffered;
+        return chatRoomMemberRepository.findMyLastReadAt(roomId, accountEmail).orElse(null);
+    }
+
+    @Scheduled(fixedDelayString = "#{@chatReadMarkerProperties.flushIntervalMs}")
+    public void flush() {
+        flush(key -> true);
+    }
+
+    /**
+     * 마지막 세션이 끊긴 사용자 것은 주기를 기다리지 않고 바로 반영한다.
+     */
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        if (event.getUser() == null) return;
+        String email = event.getUser().getName();
+        flush(key -> key.accountEmail().equals(email));
+    }
+
+    @PreDestroy
+    void stop() {
+        flush();
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    private synchronized void flush(Predicate<MarkerKey> filter) {
+        if (pending.isEmpty()) return;
+
+        List<Map.Entry<MarkerKey, LocalDateTime>> taken = new ArrayList<>();
+        for (Map.Entry<MarkerKey, LocalDateTime> entry : pending.entrySet()) {
+            if (!filter.test(entry.getKey())) continue;
+            // 읽은 뒤에 더 늦은 값이 들어왔으면 그대로 남겨 다음 flush 에 반영
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                taken.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+        if (taken.isEmpty()) return;
+
+        List<Object[]> rows = new ArrayList<>(taken.size());
+        for (Map.Entry<MarkerKey, LocalDateTime> entry : taken) {
+            Timestamp at = Timestamp.valueOf(entry.getValue());
+            rows.add(new Object[]{at, at, entry.getKey().roomId(), entry.getKey().accountEmail()});
+        }
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, rows);
+            flushSize.record(rows.size());
+        } catch (Exception e) {
+            log.warn("[ReadMarker] 읽음 위치 반영 실패, 다음 주기에 재시도 (size={}): {}", rows.size(), e.getMessage());
+            taken.forEach(entry -> pending.merge(entry.getKey(), entry.getValue(), (a, b) -> a.isAfter(b) ? a : b));
+        }
+    }
+
+    record MarkerKey(String roomId, String accountEmail) {}
+}
@@ -0,0 +1,305 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talktrip.talktrip.domain.chat.dto.response.ChatMemberRoomWithMessageDto;
+import com.talktrip.talktrip.domain.chat.entity.ChatMessage;
+import com.talktrip.talktrip.domain.member.entity.Member;
+import com.talktrip.talktrip.domain.member.repository.MemberRepository;
+import com.talktrip.talktrip.global.config.ChatRecentCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 방별 최근 메시지 캐시. 커서 없는 첫 페이지 조회를 MySQL 대신 여기서 처리한다.
+ * - Redis: chat:recent:{roomId} 리스트 (최신이 앞, capacity 개로 자름)
+ * - 로컬: (옵션) 방 단위 LRU, localTtlMs 동안만 유효
+ * 리스트는 첫 조회 때 DB 첫 페이지로 채우고, 이후에는 발신 시 앞에 붙인다.
+ * 리스트 길이가 capacity 보다 짧으면 그 방의 전체 메시지라는 뜻이다.
+ */
+@Slf4j
+@Component
+public class ChatRecentMessageCache {
+
+    static final String KEY_PREFIX = "chat:recent:";
+    static final String VERSION_KEY_PREFIX = "chat:recent:ver:";
+
+    // 버전은 항상 올리고, 리스트는 이미 채워진 경우에만 붙인다 (빈 키에 붙이면 중간이 빠진 리스트가 된다)
+    private static final DefaultRedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[3])
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+              redis.call('LPUSH', KEYS[1], ARGV[1])
+              redis.call('LTRIM', KEYS[1], 0, tonumber(ARGV[2]) - 1)
+              redis.call('EXPIRE', KEYS[1], ARGV[3])
+              return 1
+            end
+            return 0
+            """, Long.class);
+
+    // DB 조회 이후 새 메시지가 들어왔으면(버전 변경) 채우지 않는다
+    private static final DefaultRedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[2]) or '0'
+            if current ~= ARGV[1] or redis.call('EXISTS', KEYS[1]) == 1 then
+              return 0
+            end
+            for i = 3, #ARGV do
+              redis.call('RPUSH', KEYS[1], ARGV[i])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final ChatRecentCacheProperties properties;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MemberRepository memberRepository;
+    private final Map<String, LocalEntry> local;
+    private final Map<String, NameEntry> senderNames;
+
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter misses;
+
+    public ChatRecentMessageCache(ChatRecentCacheProperties properties,
+                                  StringRedisTemplate stringRedisTemplate,
+                                  ObjectMapper objectMapper,
+                                  MemberRepository memberRepository,
+                                  MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.memberRepository = memberRepository;
+        this.local = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LocalEntry> eldest) {
+                return size() > properties.getLocalMaxRooms();
+            }
+        };
+        this.senderNames = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, NameEntry> eldest) {
+                return size() > properties.getSenderNameCacheSize();
+            }
+        };
+
+        this.localHits = Counter.builder("chat.recent_cache.hit")
+                .tag("layer", "local")
+                .description("로컬 LRU 에서 처리한 첫 페이지 조회 수")
+                .register(meterRegistry);
+        this.redisHits = Counter.builder("chat.recent_cache.hit")
+                .tag("layer", "redis")
+                .description("Redis 최근 메시지 리스트에서 처리한 첫 페이지 조회 수")
+                .register(meterRegistry);
+        this.misses = Counter.builder("chat.recent_cache.miss")
+                .description("DB 로 내려간 첫 페이지 조회 수")
+                .register(meterRegistry);
+    }
+
+    public int capacity() {
+        return properties.isEnabled() ? properties.getCapacity() : 0;
+    }
+
+    /**
+     * 최신순 첫 페이지를 캐시에서 꺼낸다. 캐시가 비었거나 페이지를 다 채울 수 없으면 empty.
+     */
+    public Optional<List<ChatMemberRoomWithMessageDto>> firstPage(String roomId, int size) {
+        if (!properties.isEnabled() || size > properties.getCapacity()) {
+            misses.increment();
+            return Optional.empty();
+        }
+
+        if (properties.isLocalEnabled()) {
+            LocalEntry entry;
+            synchronized (local) {
+                entry = local.get(roomId);
+            }
+            if (entry != null && entry.isFresh(properties.getLocalTtlMs()) && entry.covers(size)) {
+                localHits.increment();
+                return Optional.of(entry.head(size));
+            }
+        }
+
+        try {
+            List<String> raw = stringRedisTemplate.opsForList().range(key(roomId), 0, properties.getCapacity() - 1);
+            if (raw == null || raw.isEmpty()) {
+                misses.increment();
+                return Optional.empty();
+            }
+            List<ChatMemberRoomWithMessageDto> items = new ArrayList<>(raw.size());
+            for (String json : raw) {
+                items.add(objectMapper.readValue(json, CachedMessage.class).toDto());
+            }
+            items = fillSenderNames(items);
+
+            LocalEntry entry = new LocalEntry(items, items.size() < properties.getCapacity(), System.currentTimeMillis());
+            if (properties.isLocalEnabled()) {
+                synchronized (local) {
+                    local.put(roomId, entry);
+                }
+            }
+            if (!entry.covers(size)) {
+                misses.increment();
+                return Optional.empty();
+            }
+            redisHits.increment();
+            return Optional.of(entry.head(size));
+        } catch (Exception e) {
+            log.warn("[RecentCache] 최근 메시지 조회 실패 (roomId={}): {}", roomId, e.getMessage());
+            misses.increment();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * DB 조회 전에 읽어 두고 seed 에 넘기는 값.
+     */
+    public String version(String roomId) {
+        try {
+            String v = stringRedisTemplate.opsForValue().get(versionKey(roomId));
+            return v == null ? "0" : v;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * DB 첫 페이지(최신순, capacity 개)로 빈 리스트를 채운다.
+     */
+    public void seed(String roomId, String version, List<ChatMessage> newestFirst) {
+        if (!properties.isEnabled() || version == null || newestFirst.isEmpty()) return;
+        try {
+            List<String> args = new ArrayList<>(newestFirst.size() + 2);
+            args.add(version);
+            args.add(String.valueOf(ttl().toSeconds()));
+            int limit = Math.min(newestFirst.size(), properties.getCapacity());
+            for (int i = 0; i < limit; i++) {
+                ChatMessage m = newestFirst.get(i);
+                String senderName = m.getSenderRef() != null ? m.getSenderRef().getName() : null;
+                args.add(objectMapper.writeValueAsString(CachedMessage.of(m, senderName)));
+            }
+            stringRedisTemplate.execute(SEED_SCRIPT, List.of(key(roomId), versionKey(roomId)), args.toArray());
+        } catch (Exception e) {
+            log.warn("[RecentCache] 최근 메시지 채우기 실패 (roomId={}): {}", roomId, e.getMessage());
+        }
+    }
+
+    /**
+     * 발신 직후 호출. 채워진 리스트에만 붙는다.
+     */
+    public void append(ChatMessage message) {
+        if (!properties.isEnabled()) return;
+        if (properties.isLocalEnabled()) {
+            synchronized (local) {
+                local.remove(message.getRoomId());
+            }
+        }
+        try {
+            String json = objectMapper.writeValueAsString(
+                    CachedMessage.of(message, senderName(message.getAccountEmail())));
+            stringRedisTemplate.execute(APPEND_SCRIPT,
+                    List.of(key(message.getRoomId()), versionKey(message.getRoomId())),
+                    json, String.valueOf(properties.getCapacity()), String.valueOf(ttl().toSeconds()));
+        } catch (Exception e) {
+            log.warn("[RecentCache] 최근 메시지 추가 실패 (roomId={}): {}", message.getRoomId(), e.getMessage());
+        }
+    }
+
+    // 이름 없이 들어간 항목(배포 전 append, 조회 실패)은 같은 리스트의 다른 메시지에서 채우고, 없으면 이름 캐시로 찾는다
+    private List<ChatMemberRoomWithMessageDto> fillSenderNames(List<ChatMemberRoomWithMessageDto> items) {
+        Map<String, String> names = new HashMap<>();
+        for (ChatMemberRoomWithMessageDto item : items) {
+            if (item.senderName() != null) names.putIfAbsent(item.accountEmail(), item.senderName());
+        }
+        List<ChatMemberRoomWithMessageDto> filled = new ArrayList<>(items.size());
+        for (ChatMemberRoomWithMessageDto item : items) {
+            if (item.senderName() != null) {
+                filled.add(item);
+                continue;
+            }
+            String name = names.computeIfAbsent(item.accountEmail(), this::senderName);
+            filled.add(new ChatMemberRoomWithMessageDto(item.messageId(), item.roomId(), item.accountEmail(),
+                    item.message(), item.createdAt(), name));
+        }
+        return filled;
+    }
+
+    // 없는 회원(null)도 캐시해 조회마다 회원 테이블로 내려가지 않게 한다
+    private String senderName(String email) {
+        if (email == null) return null;
+        long now = System.currentTimeMillis();
+        synchronized (senderNames) {
+            NameEntry entry = senderNames.get(email);
+            if (entry != null && now - entry.loadedAt() < properties.getSenderNameTtlMs()) {
+                return entry.name();
+            }
+        }
+        String name;
+        try {
+            name = memberRepository.findByAccountEmail(email).map(Member::getName).orElse(null);
+        } catch (Exception e) {
+            log.warn("[RecentCache] 발신자 이름 조회 실패 (email={}): {}", email, e.getMessage());
+            return null;
+        }
+        synchronized (senderNames) {
+            senderNames.put(email, new NameEntry(name, now));
+        }
+        return name;
+    }
+
+    private Duration ttl() {
+        return Duration.ofHours(properties.getTtlHours());
+    }
+
+    static String key(String roomId) {
+        return KEY_PREFIX + roomId;
+    }
+
+    static String versionKey(String roomId) {
+        return VERSION_KEY_PREFIX + roomId;
+    }
+
+    // ChatMemberRoomWithMessageDto 는 createdAt 을 초 단위로 직렬화하므로 커서용 정밀도를 위해 따로 둔다
+    record CachedMessage(String messageId, String roomId, String accountEmail, String message,
+                         LocalDateTime createdAt, String senderName) {
+
+        static CachedMessage of(ChatMessage m, String senderName) {
+            return new CachedMessage(m.getMessageId(), m.getRoomId(), m.getAccountEmail(), m.getMessage(),
+                    m.getCreatedAt(), senderName);
+        }
+
+        ChatMemberRoomWithMessageDto toDto() {
+            return new ChatMemberRoomWithMessageDto(messageId, roomId, accountEmail, message, createdAt, senderName);
+        }
+    }
+
+    private record NameEntry(String name, long loadedAt) {
+    }
+
+    private record LocalEntry(List<ChatMemberRoomWithMessageDto> items, boolean complete, long loadedAt) {
+
+        boolean isFresh(long ttlMs) {
+            return System.currentTimeMillis() - loadedAt < ttlMs;
+        }
+
+        boolean covers(int size) {
+            return items.size() >= size || complete;
+        }
+
+        List<ChatMemberRoomWithMessageDto> head(int size) {
+            return List.copyOf(items.subList(0, Math.min(size, items.size())));
+        }
+    }
+}
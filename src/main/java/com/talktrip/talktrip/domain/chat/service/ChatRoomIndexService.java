@@ -0,0 +1,204 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import com.talktrip.talktrip.domain.chat.dto.response.ChatRoomActivityScalar;
+import com.talktrip.talktrip.domain.chat.repository.ChatRoomRepository;
+import com.talktrip.talktrip.global.config.ChatRoomIndexProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사용자별 채팅방 정렬 인덱스 (Redis ZSET, chat:rooms:{email}, score = 마지막 활동 epoch millis).
+ * 사이드바는 이 인덱스에서 한 페이지 분량의 방 ID 만 고른 뒤 그 방들만 MySQL 에서 하이드레이션한다.
+ * 인덱스가 없는(콜드) 사용자는 첫 조회 때 DB 에서 한 번 재구성한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatRoomIndexService {
+
+    static final String KEY_PREFIX = "chat:rooms:";
+
+    // 이미 인덱스가 있는 사용자에게만 반영한다 (콜드 키에 일부만 들어가면 목록이 비어 보이므로)
+    // GT: write-behind flush 등으로 늦게 온 갱신이 순서를 되돌리지 않도록
+    // 멤버 키는 클러스터에서 슬롯이 제각각이므로 키 하나씩 호출한다 (멀티 키면 CROSSSLOT)
+    private static final String TOUCH_SCRIPT = """
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+              redis.call('ZADD', KEYS[1], 'GT', ARGV[2], ARGV[1])
+              redis.call('EXPIRE', KEYS[1], ARGV[3])
+              return 1
+            end
+            return 0
+            """;
+
+    // KEYS[1] = 인덱스, ARGV[1] = 커서 score ('+inf' 면 처음부터), ARGV[2] = 커서 roomId ('' 이면 그 score 미만), ARGV[3] = count
+    // (score, roomId) 내림차순으로 커서 다음부터. 커서 방이 그대로면 순위로 바로 이어 읽고,
+    // 그 사이 활동으로 옮겨졌으면 같은 score 묶음에서 roomId 로 걸러 동점을 건너뛰지 않는다.
+    private static final DefaultRedisScript<List> PAGE_SCRIPT = new DefaultRedisScript<>("""
+            local count = tonumber(ARGV[3])
+            if ARGV[1] == '+inf' then
+              return redis.call('ZREVRANGE', KEYS[1], 0, count - 1, 'WITHSCORES')
+            end
+            local current = redis.call('ZSCORE', KEYS[1], ARGV[2])
+            if current and tonumber(current) == tonumber(ARGV[1]) then
+              local rank = redis.call('ZREVRANK', KEYS[1], ARGV[2])
+              return redis.call('ZREVRANGE', KEYS[1], rank + 1, rank + count, 'WITHSCORES')
+            end
+            local out = {}
+            local ties = redis.call('ZREVRANGEBYSCORE', KEYS[1], ARGV[1], ARGV[1], 'WITHSCORES')
+            for i = 1, #ties, 2 do
+              if #out >= count * 2 then return out end
+              if ties[i] < ARGV[2] then
+                out[#out + 1] = ties[i]
+                out[#out + 1] = ties[i + 1]
+              end
+            end
+            local rest = redis.call('ZREVRANGEBYSCORE', KEYS[1], '(' .. ARGV[1], '-inf', 'WITHSCORES',
+                'LIMIT', 0, count - #out / 2)
+            for i = 1, #rest do
+              out[#out + 1] = rest[i]
+            end
+            return out
+            """, List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatRoomIndexProperties properties;
+
+    /**
+     * 방 활동(새 메시지, 방 생성)을 멤버들의 인덱스에 반영한다. 멤버마다 단일 키 스크립트를 한 파이프라인으로 보낸다.
+     */
+    public void touch(String roomId, List<String> memberEmails, LocalDateTime activityAt) {
+        if (memberEmails.isEmpty()) return;
+        String score = String.valueOf(toScore(activityAt));
+        String ttlSeconds = String.valueOf(ttl().toSeconds());
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection src = (StringRedisConnection) connection;
+                for (String email : memberEmails) {
+                    src.eval(TOUCH_SCRIPT, ReturnType.INTEGER, 1, key(email), roomId, score, ttlSeconds);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("[RoomIndex] 인덱스 갱신 실패 (roomId={}): {}", roomId, e.getMessage());
+        }
+    }
+
+    /**
+     * 방 나가기 시 해당 사용자 인덱스에서 제거한다.
+     */
+    public void remove(String roomId, String email) {
+        try {
+            stringRedisTemplate.opsForZSet().remove(key(email), roomId);
+        } catch (Exception e) {
+            log.warn("[RoomIndex] 인덱스 제거 실패 (roomId={}, email={}): {}", roomId, email, e.getMessage());
+        }
+    }
+
+    /**
+     * 최신순으로 before 다음(null 이면 처음부터) 방을 최대 count 개 돌려준다.
+     */
+    @SuppressWarnings("unchecked")
+    public List<ZSetOperations.TypedTuple<String>> page(String email, int count, RoomCursor before) {
+        String key = key(email);
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) {
+            rebuild(email);
+        }
+        List<Object> flat = stringRedisTemplate.execute(PAGE_SCRIPT, List.of(key),
+                before == null ? "+inf" : String.valueOf(before.score()),
+                before == null ? "" : before.roomId(),
+                String.valueOf(count));
+        if (flat == null) return List.of();
+        List<ZSetOperations.TypedTuple<String>> tuples = new ArrayList<>(flat.size() / 2);
+        for (int i = 0; i + 1 < flat.size(); i += 2) {
+            tuples.add(ZSetOperations.TypedTuple.of(String.valueOf(flat.get(i)),
+                    Double.parseDouble(String.valueOf(flat.get(i + 1)))));
+        }
+        return tuples;
+    }
+
+    void rebuild(String email) {
+        List<ChatRoomActivityScalar> rooms = chatRoomRepository.findRoomActivityByMemberId(email);
+        if (rooms.isEmpty()) return;
+
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>(rooms.size());
+        for (ChatRoomActivityScalar room : rooms) {
+            tuples.add(ZSetOperations.TypedTuple.of(room.roomId(), (double) toScore(room.updatedAt())));
+        }
+        String key = key(email);
+        stringRedisTemplate.opsForZSet().add(key, tuples);
+        stringRedisTemplate.expire(key, ttl());
+        log.debug("[RoomIndex] 인덱스 재구성 (email={}, rooms={})", email, rooms.size());
+    }
+
+    static long toScore(LocalDateTime at) {
+        if (at == null) return 0L;
+        return at.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private Duration ttl() {
+        return Duration.ofHours(properties.getTtlHours());
+    }
+
+    static String key(String email) {
+        return KEY_PREFIX + email;
+    }
+
+    /**
+     * 방 목록 커서 ("마지막 활동 ms:roomId"). 인덱스의 동점 순서(roomId 역순)와 같은 순서로 비교한다.
+     * 활동 시각이 없는 방은 모두 0 이므로 score 만으로는 페이지 경계에서 방이 빠진다.
+     * roomId 가 빈 값이면 그 시각 미만 전부 (이전 형식 "ms" 커서).
+     */
+    public record RoomCursor(long score, String roomId) {
+
+        public static final Comparator<RoomCursor> NEWEST_FIRST = Comparator.comparingLong(RoomCursor::score)
+                .thenComparing(RoomCursor::roomId)
+                .reversed();
+
+        public static RoomCursor of(String roomId, LocalDateTime activityAt) {
+            return new RoomCursor(toScore(activityAt), roomId);
+        }
+
+        /**
+         * 이 커서 다음(더 과거)에 오는 위치인지
+         */
+        public boolean precedes(RoomCursor other) {
+            return NEWEST_FIRST.compare(this, other) < 0;
+        }
+
+        public String encode() {
+            return score + ":" + roomId;
+        }
+
+        public static RoomCursor parse(String cursor) {
+            if (cursor == null || cursor.isBlank()) return null;
+            int sep = cursor.indexOf(':');
+            try {
+                if (sep < 0) return new RoomCursor(Long.parseLong(cursor), "");
+                String roomId = cursor.substring(sep + 1);
+                if (roomId.isEmpty()) throw new IllegalArgumentException("empty roomId");
+                return new RoomCursor(Long.parseLong(cursor.substring(0, sep)), roomId);
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid room cursor: " + cursor, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기존 방의 요약 테이블을 채우는 일회성 백필.
+ * 배포 시 한 번만 --chat.room-summary.backfill-on-startup=true 로 기동한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.room-summary.backfill-on-startup", havingValue = "true")
+public class ChatRoomSummaryBackfillRunner implements ApplicationRunner {
+
+    private final ChatRoomSummaryService summaryService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        summaryService.backfill();
+    }
+}
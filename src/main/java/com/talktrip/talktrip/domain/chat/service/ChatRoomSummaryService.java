@@ -0,0 +1,48 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import com.talktrip.talktrip.domain.chat.entity.ChatMessage;
+import com.talktrip.talktrip.domain.chat.repository.ChatRoomSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 채팅방 요약(chatting_room_summary_tab) 갱신.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatRoomSummaryService {
+
+    private final ChatRoomSummaryRepository summaryRepository;
+
+    /**
+     * 메시지 1건 반영. 호출 측 트랜잭션에 참여한다.
+     */
+    public void record(ChatMessage message) {
+        record(message, 1);
+    }
+
+    /**
+     * 같은 방의 메시지 count 건을 한 번에 반영한다. latest 는 그중 가장 최신 메시지.
+     */
+    public void record(ChatMessage latest, long count) {
+        summaryRepository.upsertLastMessage(
+                latest.getRoomId(),
+                latest.getMessageId(),
+                latest.getMessage(),
+                latest.getAccountEmail(),
+                latest.getCreatedAt(),
+                count
+        );
+    }
+
+    @Transactional
+    public int backfill() {
+        long start = System.currentTimeMillis();
+        int rows = summaryRepository.backfillAll();
+        log.info("[RoomSummary] 백필 완료: {}개 방, {}ms", rows, System.currentTimeMillis() - start);
+        return rows;
+    }
+}
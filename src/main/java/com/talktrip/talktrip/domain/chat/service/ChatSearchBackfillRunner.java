@@ -0,0 +1,24 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 색인 도입 전 메시지를 색인하는 일회성 백필.
+ * 배포 시 한 번만 --chat.search.backfill-on-startup=true 로 기동한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.search.backfill-on-startup", havingValue = "true")
+public class ChatSearchBackfillRunner implements ApplicationRunner {
+
+    private final ChatSearchIndexService searchIndexService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        searchIndexService.backfill();
+    }
+}
@@ -0,0 +1,394 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import com.talktrip.talktrip.domain.chat.dto.response.ChatSearchHitDto;
+import com.talktrip.talktrip.domain.chat.entity.ChatMessage;
+import com.talktrip.talktrip.domain.chat.repository.ChatMessageRepository;
+import com.talktrip.talktrip.domain.chat.repository.ChatRoomMemberRepository;
+import com.talktrip.talktrip.global.config.ChatSearchProperties;
+import com.talktrip.talktrip.global.dto.SliceResponse;
+import com.talktrip.talktrip.global.util.CursorUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅 검색 역색인 (Redis).
+ * - chat:search:{roomId}:{token} ZSET (member = messageId, score = 생성 시각 epoch ms)
+ *   방 ID 를 해시 태그로 묶어 한 방의 토큰 키는 같은 슬롯에 있다 (Lua 교집합 가능).
+ * - 발신 경로에서 커밋 후 색인하고, 아카이브로 옮겨진 메시지는 색인에서 뺀다 (검색 범위 = 핫 테이블).
+ *   retentionDays 보다 오래된 항목은 색인할 때 잘라내고, 토큰 키도 그 기간 동안 쓰이지 않으면 만료된다.
+ * - 검색은 사용자가 멤버인 방의 키만 읽으므로 멤버십 밖의 메시지는 후보가 되지 않는다.
+ * - 교집합 스캔은 호출마다 훑는 수를 제한하고, 다 못 훑었으면 그 위치를 다음 커서로 돌려준다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatSearchIndexService {
+
+    static final String KEY_PREFIX = "chat:search:";
+
+    // KEYS[1] = 가장 작은 토큰 집합, 나머지 = 다른 토큰 집합.
+    // 작은 집합을 (score, messageId) 내림차순으로 훑으며 나머지에 모두 있는 것만 모은다.
+    // ARGV[1] = 시작 score ("+inf" 또는 ms), ARGV[2] = 시작 messageId ('' 이면 그 score 미만부터, 아니면 같은 score 의 더 작은 id 부터)
+    // ARGV[3] = limit, ARGV[4] = 한 번에 읽는 수, ARGV[5] = 이번 호출에서 훑을 최대 수, ARGV[6] = 최소 score (보존 기간)
+    // 반환: {이어 읽을 messageId, score, hit1, score1, ...}. 앞 두 값은 예산을 다 써서 멈췄을 때만 있고 아니면 ''.
+    private static final DefaultRedisScript<List> INTERSECT_SCRIPT = new DefaultRedisScript<>("""
+            local out = {'', ''}
+            local limit = tonumber(ARGV[3])
+            local chunk = tonumber(ARGV[4])
+            local budget = tonumber(ARGV[5])
+            local score, afterId = ARGV[1], ARGV[2]
+            local lastId, lastScore = '', ''
+            local scanned = 0
+            while true do
+                local page
+                local ranged = afterId == ''
+                if ranged then
+                    local max = score == '+inf' and score or '(' .. score
+                    page = redis.call('ZREVRANGEBYSCORE', KEYS[1], max, ARGV[6], 'WITHSCORES', 'LIMIT', 0, chunk)
+                else
+                    -- 같은 score 묶음에서 afterId 보다 작은 것 (동점을 건너뛰지 않게)
+                    page = {}
+                    local ties = redis.call('ZREVRANGEBYSCORE', KEYS[1], score, score, 'WITHSCORES')
+                    for i = 1, #ties, 2 do
+                        if ties[i] < afterId then
+                            page[#page + 1] = ties[i]
+                            page[#page + 1] = ties[i + 1]
+                        end
+                    end
+                    afterId = ''
+                end
+                for i = 1, #page, 2 do
+                    if scanned >= budget then
+                        out[1], out[2] = lastId, lastScore
+                        return out
+                    end
+                    scanned = scanned + 1
+                    lastId, lastScore = page[i], page[i + 1]
+                    local hit = true
+                    for k = 2, #KEYS do
+                        if not redis.call('ZSCORE', KEYS[k], page[i]) then
+                            hit = false
+                            break
+                        end
+                    end
+                    if hit then
+                        out[#out + 1] = page[i]
+                        out[#out + 1] = page[i + 1]
+                        if #out - 2 >= limit * 2 then return out end
+                    end
+                end
+                if ranged then
+                    if #page < chunk * 2 then return out end
+                    -- 마지막 score 의 남은 동점부터 이어 읽는다
+                    score, afterId = lastScore, lastId
+                end
+            end
+            """, List.class);
+
+    private static final String SELECT_BACKFILL_SQL = """
+            SELECT message_id, room_id, account_email, message, created_at
+            FROM chatting_message_history_tab
+            WHERE message_id > ? AND created_at >= ?
+            ORDER BY message_id
+            LIMIT ?
+            """;
+
+    private static final RowMapper<ChatMessage> ROW_MAPPER = (rs, rowNum) -> new ChatMessage(
+            rs.getString("message_id"),
+            rs.getString("room_id"),
+            rs.getString("account_email"),
+            rs.getString("message"),
+            rs.getTimestamp("created_at").toLocalDateTime()
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final ChatSearchProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 메시지 하나를 색인한다 (토큰마다 ZADD, 한 번의 파이프라인).
+     */
+    public void index(ChatMessage message) {
+        if (!properties.isEnabled()) return;
+        try {
+            indexAll(List.of(message));
+        } catch (Exception e) {
+            log.warn("[Search] 색인 실패 (messageId={}): {}", message.getMessageId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 보존 기간 안의 핫 테이블 메시지를 messageId 순으로 훑어 색인한다 (색인 도입 전 메시지, 일회성).
+     */
+    public int backfill() {
+        long start = System.currentTimeMillis();
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusDays(properties.getRetentionDays()));
+        String after = "";
+        int total = 0;
+        while (true) {
+            List<ChatMessage> batch = jdbcTemplate.query(SELECT_BACKFILL_SQL, ROW_MAPPER,
+                    after, cutoff, properties.getBackfillBatchSize());
+            if (batch.isEmpty()) break;
+            indexAll(batch);
+            total += batch.size();
+            after = batch.get(batch.size() - 1).getMessageId();
+        }
+        log.info("[Search] 백필 완료: {}건, {}ms", total, System.currentTimeMillis() - start);
+        return total;
+    }
+
+    /**
+     * 색인에서 뺀다 (아카이브로 옮긴 메시지 등).
+     */
+    public void remove(Collection<ChatMessage> messages) {
+        if (messages.isEmpty()) return;
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection src = (StringRedisConnection) connection;
+                for (ChatMessage m : messages) {
+                    ChatSearchTokenizer.tokenize(m.getMessage(), properties.getMaxTokensPerMessage())
+                            .forEach(token -> src.zRem(key(m.getRoomId(), token), m.getMessageId()));
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("[Search] 색인 삭제 실패 (size={}): {}", messages.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 최신순 검색. roomId 가 있으면 그 방만 (멤버여야 함), 없으면 내가 속한 모든 방.
+     * cursor = 이전 페이지 nextCursor ("생성 시각 ms:messageId", 그 위치 다음부터)
+     */
+    public SliceResponse<ChatSearchHitDto> search(String accountEmail, String roomId, String query,
+                                                  Integer limit, String cursor) {
+        int size = (limit == null || limit <= 0) ? properties.getDefaultPageSize()
+                : Math.min(limit, properties.getMaxPageSize());
+        Position from = Position.parse(cursor);
+        Set<String> tokens = ChatSearchTokenizer.tokenize(query, properties.getMaxTokensPerMessage());
+        if (tokens.isEmpty()) {
+            return SliceResponse.of(List.of(), null, false);
+        }
+
+        List<String> roomIds;
+        if (roomId != null && !roomId.isBlank()) {
+            if (!chatRoomMemberRepository.existsByRoomIdAndAccountEmail(roomId, accountEmail)) {
+                throw new AccessDeniedException("채팅방 멤버만 검색할 수 있습니다.");
+            }
+            roomIds = List.of(roomId);
+        } else {
+            roomIds = chatRoomMemberRepository.findRoomIdsByAccountEmail(accountEmail).stream()
+                    .limit(properties.getMaxRoomsPerQuery())
+                    .toList();
+        }
+        if (roomIds.isEmpty()) {
+            return SliceResponse.of(List.of(), null, false);
+        }
+
+        // 예산을 다 써서 멈춘 방 중 가장 앞 위치. 그보다 뒤의 후보는 그 방을 다 훑지 못했으므로 다음 페이지로 미룬다.
+        List<Candidate> candidates = new ArrayList<>();
+        Position frontier = null;
+        for (Map.Entry<String, List<String>> entry : candidateKeys(roomIds, List.copyOf(tokens)).entrySet()) {
+            RoomScan scan = intersect(entry.getKey(), entry.getValue(), from, size + 1);
+            candidates.addAll(scan.hits());
+            if (scan.resume() != null && (frontier == null || frontier.isAfter(scan.resume()))) {
+                frontier = scan.resume();
+            }
+        }
+        if (frontier != null) {
+            Position stop = frontier;
+            candidates.removeIf(c -> c.position().isAfter(stop));
+        }
+        candidates.sort(Comparator.comparing(Candidate::position, Position.NEWEST_FIRST));
+
+        List<Candidate> page;
+        Position next;
+        if (candidates.size() > size) {
+            page = candidates.subList(0, size);
+            next = page.get(size - 1).position();
+        } else {
+            page = candidates;
+            next = frontier;
+        }
+        if (page.isEmpty()) {
+            return SliceResponse.of(List.of(), next == null ? null : next.encode(), next != null);
+        }
+
+        Map<String, ChatMessage> byId = chatMessageRepository
+                .findAllById(page.stream().map(Candidate::messageId).toList()).stream()
+                .collect(Collectors.toMap(ChatMessage::getMessageId, Function.identity()));
+
+        // 2-gram 은 순서를 보지 않으므로 원문에 질의어가 실제로 있는지 한 번 더 확인 (토크나이저와 같은 정규화)
+        List<String> terms = Arrays.stream(ChatSearchTokenizer.normalize(query).split("[^\\p{L}\\p{N}]+"))
+                .filter(t -> !t.isEmpty()).toList();
+        List<ChatSearchHitDto> items = new ArrayList<>(page.size());
+        for (Candidate c : page) {
+            ChatMessage m = byId.get(c.messageId());
+            if (m == null || !containsAll(m.getMessage(), terms)) continue;
+            items.add(new ChatSearchHitDto(m.getRoomId(), m.getMessageId(), m.getAccountEmail(), m.getMessage(),
+                    m.getCreatedAt(), CursorUtil.encodeInclusive(m.getCreatedAt())));
+        }
+        return SliceResponse.of(items, next == null ? null : next.encode(), next != null);
+    }
+
+    // 토큰마다 ZADD 하고, 보존 기간보다 오래된 항목은 잘라내며 키 만료를 늘린다 (한 번의 파이프라인)
+    private void indexAll(List<ChatMessage> messages) {
+        long retentionSeconds = Duration.ofDays(properties.getRetentionDays()).toSeconds();
+        double cutoff = minScore();
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection src = (StringRedisConnection) connection;
+            for (ChatMessage m : messages) {
+                double score = toScore(m);
+                if (score < cutoff) continue;
+                for (String token : ChatSearchTokenizer.tokenize(m.getMessage(), properties.getMaxTokensPerMessage())) {
+                    String key = key(m.getRoomId(), token);
+                    src.zAdd(key, score, m.getMessageId());
+                    src.zRemRangeByScore(key, Double.NEGATIVE_INFINITY, cutoff);
+                    src.expire(key, retentionSeconds);
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 방마다 모든 토큰 키가 비어 있지 않은 경우만, 작은 집합 순으로 정렬한 키 목록 (ZCARD 한 번의 파이프라인).
+     */
+    private Map<String, List<String>> candidateKeys(List<String> roomIds, List<String> tokens) {
+        List<Object> cards = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection src = (StringRedisConnection) connection;
+            for (String room : roomIds) {
+                tokens.forEach(token -> src.zCard(key(room, token)));
+            }
+            return null;
+        });
+
+        Map<String, List<String>> result = new LinkedHashMap<>();
+        for (int r = 0; r < roomIds.size(); r++) {
+            String room = roomIds.get(r);
+            Map<String, Long> cardByKey = new HashMap<>();
+            boolean all = true;
+            for (int t = 0; t < tokens.size(); t++) {
+                Object card = cards.get(r * tokens.size() + t);
+                long n = card instanceof Number number ? number.longValue() : 0L;
+                if (n == 0) {
+                    all = false;
+                    break;
+                }
+                cardByKey.put(key(room, tokens.get(t)), n);
+            }
+            if (!all) continue;
+            List<String> keys = new ArrayList<>(cardByKey.keySet());
+            keys.sort(Comparator.comparingLong(cardByKey::get));
+            result.put(room, keys);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private RoomScan intersect(String roomId, List<String> keys, Position from, int limit) {
+        List<Object> flat = stringRedisTemplate.execute(INTERSECT_SCRIPT, keys,
+                from == null ? "+inf" : String.valueOf(from.scoreMs()),
+                from == null ? "" : from.messageId(),
+                String.valueOf(limit),
+                String.valueOf(properties.getScanChunk()),
+                String.valueOf(Math.max(1, properties.getMaxScanPerRoom())),
+                String.valueOf((long) minScore()));
+        if (flat == null || flat.size() < 2) return new RoomScan(List.of(), null);
+
+        String resumeId = String.valueOf(flat.get(0));
+        Position resume = resumeId.isEmpty() ? null
+                : new Position(toMs(flat.get(1)), resumeId);
+        List<Candidate> hits = new ArrayList<>((flat.size() - 2) / 2);
+        for (int i = 2; i + 1 < flat.size(); i += 2) {
+            hits.add(new Candidate(roomId, new Position(toMs(flat.get(i + 1)), String.valueOf(flat.get(i)))));
+        }
+        return new RoomScan(hits, resume);
+    }
+
+    private double minScore() {
+        return LocalDateTime.now().minusDays(properties.getRetentionDays())
+                .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static boolean containsAll(String message, List<String> terms) {
+        if (message == null) return false;
+        String normalized = ChatSearchTokenizer.normalize(message);
+        for (String term : terms) {
+            if (!normalized.contains(term)) return false;
+        }
+        return true;
+    }
+
+    private static double toScore(ChatMessage message) {
+        return message.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static long toMs(Object score) {
+        return (long) Double.parseDouble(String.valueOf(score));
+    }
+
+    static String key(String roomId, String token) {
+        return KEY_PREFIX + "{" + roomId + "}:" + token;
+    }
+
+    /**
+     * 검색 커서 위치 (생성 시각 ms, messageId). ZSET 의 동점 순서(messageId 역순)와 같은 순서로 비교한다.
+     * messageId 가 빈 값이면 그 시각 미만 전부 (이전 형식 "ms" 커서).
+     */
+    record Position(long scoreMs, String messageId) {
+
+        static final Comparator<Position> NEWEST_FIRST = Comparator.comparingLong(Position::scoreMs)
+                .thenComparing(Position::messageId)
+                .reversed();
+
+        boolean isAfter(Position other) {
+            return NEWEST_FIRST.compare(this, other) > 0;
+        }
+
+        String encode() {
+            return scoreMs + ":" + messageId;
+        }
+
+        static Position parse(String cursor) {
+            if (cursor == null || cursor.isBlank()) return null;
+            int sep = cursor.indexOf(':');
+            try {
+                if (sep < 0) return new Position(Long.parseLong(cursor), "");
+                String messageId = cursor.substring(sep + 1);
+                if (messageId.isEmpty()) throw new IllegalArgumentException("empty messageId");
+                return new Position(Long.parseLong(cursor.substring(0, sep)), messageId);
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid search cursor: " + cursor, e);
+            }
+        }
+    }
+
+    record Candidate(String roomId, Position position) {
+        String messageId() {
+            return position.messageId();
+        }
+    }
+
+    private record RoomScan(List<Candidate> hits, Position resume) {}
+}
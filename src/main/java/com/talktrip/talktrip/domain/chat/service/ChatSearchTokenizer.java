@@ -0,0 +1,69 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 채팅 검색용 토크나이저.
+ * - 한글 음절 연속 구간 → 2-gram (한 글자 구간은 그대로). 형태소 분석 없이 조사/어미가 붙어도 부분 일치한다.
+ * - 영문/숫자 연속 구간 → 소문자 단어 (2자 이상)
+ * - 그 외 문자는 구분자
+ * 색인과 질의가 같은 규칙을 쓰므로 질의 토큰이 모두 들어 있는 메시지가 후보가 된다.
+ */
+public final class ChatSearchTokenizer {
+
+    private ChatSearchTokenizer() {}
+
+    public static Set<String> tokenize(String text, int maxTokens) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null || text.isBlank()) return tokens;
+
+        String normalized = normalize(text);
+        StringBuilder run = new StringBuilder();
+        boolean hangulRun = false;
+        for (int i = 0; i < normalized.length() && tokens.size() < maxTokens; i++) {
+            char ch = normalized.charAt(i);
+            boolean hangul = isHangulSyllable(ch);
+            boolean word = !hangul && Character.isLetterOrDigit(ch);
+            if (!hangul && !word) {
+                flush(run, hangulRun, tokens, maxTokens);
+                continue;
+            }
+            if (run.length() > 0 && hangul != hangulRun) {
+                flush(run, hangulRun, tokens, maxTokens);
+            }
+            hangulRun = hangul;
+            run.append(ch);
+        }
+        flush(run, hangulRun, tokens, maxTokens);
+        return tokens;
+    }
+
+    /**
+     * 색인/질의/원문 확인이 같이 쓰는 정규화 (NFKC + 소문자). 전각·호환 문자도 같은 글자로 맞춘다.
+     */
+    public static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    private static void flush(StringBuilder run, boolean hangul, Set<String> tokens, int maxTokens) {
+        if (run.length() == 0) return;
+        if (hangul) {
+            if (run.length() == 1) {
+                tokens.add(run.toString());
+            }
+            for (int i = 0; i + 1 < run.length() && tokens.size() < maxTokens; i++) {
+                tokens.add(run.substring(i, i + 2));
+            }
+        } else if (run.length() >= 2 && tokens.size() < maxTokens) {
+            tokens.add(run.toString());
+        }
+        run.setLength(0);
+    }
+
+    private static boolean isHangulSyllable(char ch) {
+        return ch >= '가' && ch <= '힣';
+    }
+}
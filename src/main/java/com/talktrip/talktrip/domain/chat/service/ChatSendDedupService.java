@@ -0,0 +1,111 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talktrip.talktrip.domain.chat.dto.response.ChatSendAck;
+import com.talktrip.talktrip.domain.chat.repository.ChatMessageRepository;
+import com.talktrip.talktrip.global.config.ChatSendDedupProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * clientMessageKey 기반 전송 중복 제거.
+ * 재연결 중 재전송된 SEND 가 두 번 저장/발행되지 않도록 (발신자, 키) 마다 한 번만 처리한다.
+ * - chat:send-dedup:{email}:{key} = PENDING (SET NX, pendingTtlSeconds) → 저장 성공 시 영수증 JSON (windowSeconds)
+ * - 영수증이 있으면 재전송에 원래 messageId/createdAt 만 돌려주고, PENDING 이면 원래 요청이 영수증을 보낸다
+ * - Redis 오류 시 DB (uk_msg_sender_client_key) 로 원래 메시지를 찾는다. 동시 재전송은 유니크 제약이 막는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatSendDedupService {
+
+    static final String KEY_PREFIX = "chat:send-dedup:";
+    static final String ACK_CHANNEL_PREFIX = "chat:ack:";
+    static final String PENDING = "PENDING";
+
+    private final ChatSendDedupProperties properties;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ObjectMapper objectMapper;
+
+    public enum Status { CLAIMED, IN_FLIGHT, DUPLICATE }
+
+    /**
+     * 처리 권한 확인 결과. DUPLICATE 일 때만 receipt 가 있다.
+     */
+    public record Claim(Status status, ChatSendAck receipt) {
+        public boolean claimed() {
+            return status == Status.CLAIMED;
+        }
+    }
+
+    public Claim claim(String sender, String clientMessageKey) {
+        validate(clientMessageKey);
+        String key = key(sender, clientMessageKey);
+        try {
+            Boolean acquired = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(key, PENDING, Duration.ofSeconds(properties.getPendingTtlSeconds()));
+            if (Boolean.TRUE.equals(acquired)) return new Claim(Status.CLAIMED, null);
+
+            String value = stringRedisTemplate.opsForValue().get(key);
+            if (value == null) return claim(sender, clientMessageKey); // 그 사이 만료 → 다시 시도
+            if (PENDING.equals(value)) return new Claim(Status.IN_FLIGHT, null);
+            return new Claim(Status.DUPLICATE, objectMapper.readValue(value, ChatSendAck.class).asDuplicate());
+        } catch (Exception e) {
+            log.warn("[SendDedup] Redis 확인 실패, DB 로 확인 (sender={}, key={}): {}", sender, clientMessageKey, e.getMessage());
+            return findPersisted(sender, clientMessageKey)
+                    .map(receipt -> new Claim(Status.DUPLICATE, receipt))
+                    .orElseGet(() -> new Claim(Status.CLAIMED, null));
+        }
+    }
+
+    /**
+     * 저장 성공 → 중복 제거 창 동안 영수증을 기억한다.
+     */
+    public void complete(String sender, ChatSendAck receipt) {
+        try {
+            stringRedisTemplate.opsForValue().set(key(sender, receipt.clientMessageKey()),
+                    objectMapper.writeValueAsString(receipt), Duration.ofSeconds(properties.getWindowSeconds()));
+        } catch (Exception e) {
+            log.warn("[SendDedup] 영수증 저장 실패 (sender={}, key={}): {}", sender, receipt.clientMessageKey(), e.getMessage());
+        }
+    }
+
+    /**
+     * 저장 실패 → 같은 키로 다시 보낼 수 있게 처리 중 표시를 지운다.
+     */
+    public void release(String sender, String clientMessageKey) {
+        try {
+            stringRedisTemplate.delete(key(sender, clientMessageKey));
+        } catch (Exception e) {
+            log.warn("[SendDedup] 처리 중 표시 해제 실패 (sender={}, key={}): {}", sender, clientMessageKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 이미 저장된 메시지의 영수증 (유니크 제약 위반 시 재전송 응답용)
+     */
+    public Optional<ChatSendAck> findPersisted(String sender, String clientMessageKey) {
+        return chatMessageRepository.findByAccountEmailAndClientMessageKey(sender, clientMessageKey)
+                .map(message -> ChatSendAck.of(message).asDuplicate());
+    }
+
+    private void validate(String clientMessageKey) {
+        if (clientMessageKey.isBlank() || clientMessageKey.length() > properties.getMaxKeyLength()) {
+            throw new IllegalArgumentException("clientMessageKey 는 1~" + properties.getMaxKeyLength() + "자여야 합니다.");
+        }
+    }
+
+    static String key(String sender, String clientMessageKey) {
+        return KEY_PREFIX + sender + ":" + clientMessageKey;
+    }
+
+    public static String ackChannel(String email) {
+        return ACK_CHANNEL_PREFIX + email;
+    }
+}
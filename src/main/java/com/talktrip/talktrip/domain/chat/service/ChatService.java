@@ -7,32 +7,43 @@ import com.talktrip.talktrip.domain.chat.dto.response.ChatMessagePush;
 import com.talktrip.talktrip.domain.chat.entity.ChatMessage;
 import com.talktrip.talktrip.domain.chat.entity.ChatRoom;
 import com.talktrip.talktrip.domain.chat.entity.ChatRoomAccount;
-import com.talktrip.talktrip.domain.chat.message.dto.ChatRoomUpdateMessage;
+import com.talktrip.talktrip.domain.chat.message.dto.ChatMembershipEvent;
+import com.talktrip.talktrip.domain.chat.message.dto.ChatRoomSidebarEvent;
 import com.talktrip.talktrip.domain.chat.message.dto.ChatUpdateMessage;
 import com.talktrip.talktrip.domain.chat.repository.ChatMessageRepository;
 import com.talktrip.talktrip.domain.chat.repository.ChatRoomMemberRepository;
 import com.talktrip.talktrip.domain.chat.repository.ChatRoomRepository;
 import com.talktrip.talktrip.global.dto.SliceResponse;
+import com.talktrip.talktrip.global.redis.RedisHealthMonitor;
 import com.talktrip.talktrip.global.redis.RedisPublisher;
+import com.talktrip.talktrip.global.redis.RedisSubscriptionManager;
 import com.talktrip.talktrip.global.util.CursorUtil;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.security.Principal;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -46,12 +57,43 @@ public class ChatService {
     private final ChannelTopic roomUpdateTopic;
     private final RedisPublisher redisPublisher;
     private final org.springframework.data.redis.core.StringRedisTemplate stringRedisTemplate;
+    private final ChatMessageWriteBehindBuffer writeBehindBuffer;
+    private final ChatUnreadCounterService unreadCounterService;
+    private final ChatReadMarkerBuffer readMarkerBuffer;
+    private final ChatPresenceService presenceService;
+    private final ChatMissedMessageService missedMessageService;
+    private final AlarmService alarmService;
+    private final ChatRoomSummaryService roomSummaryService;
+    private final ChatRoomIndexService roomIndexService;
+    private final ChatRecentMessageCache recentMessageCache;
+    private final ChatMessageArchiveService archiveService;
+    private final ChatSearchIndexService searchIndexService;
+    private final ChatMembershipCache membershipCache;
+    private final ChatGroupRoomService groupRoomService;
+    private final ChatGroupSidebarTicker groupSidebarTicker;
+    private final ChatSendDedupService sendDedupService;
+    private final ChatOutboxRelay outboxRelay;
+    private final RedisHealthMonitor redisHealthMonitor;
+    private final TransactionTemplate transactionTemplate;
 
 
-    @Transactional
+    /**
+     * write-behind 모드는 요청 스레드가 DB 를 쓰지 않으므로 트랜잭션 없이 처리한다.
+     * GROUP_COMMIT 대기 중에 트랜잭션(풀 커넥션)을 쥐고 있으면 flusher 가 커넥션을 얻지 못해 서로 막힌다.
+     */
     public void saveAndSend(ChatMessageRequestDto dto, Principal principal) {
+        if (writeBehindBuffer.isEnabled()) {
+            send(dto, principal);
+        } else {
+            transactionTemplate.executeWithoutResult(status -> send(dto, principal));
+        }
+    }
+
+    private void send(ChatMessageRequestDto dto, Principal principal) {
+        // 전달 단계별 시각 (수락 → 저장 → 발행), 각 수신 노드가 지연으로 기록
+        final ChatDeliveryTrace trace = ChatDeliveryTrace.accepted(ChatDeliveryTrace.nowMicros());
         try {
-            // Redis 연결 상태 미리 확인 (메시지 저장 전에 체크)
+            // Redis 연결 상태 미리 확인 (메시지 저장 전에 체크, 서킷이 열려 있으면 바로 실패)
             if (!isRedisAvailable()) {
                 log.error("Redis 연결이 불가능합니다.");
                 throw new RuntimeException("Redis 서버에 연결할 수 없습니다.");
@@ -63,16 +105,63 @@ public class ChatService {
                 throw new RuntimeException("테스트용 에러: 메시지에 '테스트에러'가 포함되어 있습니다.");
             }
 
-            // (선택) 권한 체크
-            // if (!chatRoomMemberRepository.existsByRoomIdAndAccountEmail(dto.getRoomId(), sender)) {
-            //     throw new AccessDeniedException("Not a member of this room");
-            // }
+            // 권한 체크 (멤버십 캐시, 프레임마다 DB 조회 없음)
+            if (!membershipCache.isMember(dto.getRoomId(), sender)) {
+                throw new AccessDeniedException("Not a member of this room");
+            }
 
-            // 1) DB 저장
-            ChatMessage entity = chatMessageRepository.save(dto.toEntity(sender));
-            
-            // 2) ChatRoom의 updatedAt 업데이트 (최신 메시지 시간으로)
-            chatRoomRepository.updateUpdatedAt(dto.getRoomId(), entity.getCreatedAt());
+            // 0) 전송 멱등 키: (발신자, 키)마다 한 번만 저장/발행, 재전송이면 원래 영수증만 다시 보낸다
+            final String clientKey = dto.getClientMessageKey();
+            if (clientKey != null) {
+                ChatSendDedupService.Claim claim = sendDedupService.claim(sender, clientKey);
+                if (!claim.claimed()) {
+                    // 처리 중(IN_FLIGHT)이면 원래 요청이 저장 후 영수증을 보낸다
+                    if (claim.receipt() != null) publishAck(sender, claim.receipt());
+                    return;
+                }
+            }
+
+            // 1) DB 저장 (write-behind 모드면 큐에 적재 후 writer 스레드가 배치로 저장)
+            final boolean writeBehind = writeBehindBuffer.isEnabled();
+            ChatMessage entity;
+            try {
+                if (writeBehind) {
+                    entity = dto.toEntity(sender);
+                    CompletableFuture<Void> persisted = writeBehindBuffer.enqueue(entity);
+                    persisted.whenComplete((ignored, ex) -> {
+                        if (ex == null) {
+                            // 행이 저장된 뒤에 붙인다: 먼저 붙이면 그 사이 빈 캐시를 DB 첫 페이지로 채우는 조회가
+                            // 버전을 이미 올라간 값으로 읽고 이 메시지가 빠진 리스트로 덮어쓴다
+                            recentMessageCache.append(entity);
+                            if (clientKey != null) completeSend(sender, entity);
+                        } else if (clientKey != null) {
+                            sendDedupService.release(sender, clientKey);
+                        }
+                    });
+                    if (writeBehindBuffer.isGroupCommit()) {
+                        writeBehindBuffer.awaitPersisted(persisted);
+                    }
+                } else {
+                    entity = chatMessageRepository.save(dto.toEntity(sender));
+
+                    // 2) ChatRoom의 updatedAt 업데이트 (최신 메시지 시간으로)
+                    chatRoomRepository.updateUpdatedAt(dto.getRoomId(), entity.getCreatedAt());
+                    roomSummaryService.record(entity);
+                    if (clientKey != null) {
+                        // 커밋되면 영수증, 롤백(유니크 제약 위반 포함)되면 재전송할 수 있게 키 해제
+                        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                            @Override public void afterCompletion(int status) {
+                                if (status == STATUS_COMMITTED) completeSend(sender, entity);
+                                else sendDedupService.release(sender, clientKey);
+                            }
+                        });
+                    }
+                }
+            } catch (RuntimeException e) {
+                if (clientKey != null) sendDedupService.release(sender, clientKey);
+                throw e;
+            }
+            trace.markPersisted();
 
             // 2) 방 브로드캐스트 payload
             ChatMessagePush push = ChatMessagePush.builder()
@@ -82,37 +171,92 @@ public class ChatService {
                     .senderName(sender.split("@")[0])
                     .message(entity.getMessage())
                     .createdAt(String.valueOf(entity.getCreatedAt()))
+                    .trace(trace)
+                    .build();
+
+            // 2-1) 단체방: 멤버 수와 무관하게 방 순번 하나 올리고 방 토픽에 한 번 발행
+            //      (수신자 카운터/접속 상태/멤버별 사이드바 없음, 사이드바는 ChatGroupSidebarTicker 가 주기적으로)
+            if (groupRoomService.isGroupRoom(dto.getRoomId())) {
+                if (writeBehind) {
+                    fanOutGroup(entity, push);
+                } else {
+                    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override public void afterCommit() {
+                            recentMessageCache.append(entity);
+                            fanOutGroup(entity, push);
+                        }
+                    });
+                }
+                return;
+            }
+
+            // 3) 개인 사이드바 payload들 미리 계산 (멤버 목록은 멤버십 캐시, DB 조회 없음)
+            List<String> memberEmails = List.copyOf(membershipCache.members(dto.getRoomId()));
+
+            // 수신자 카운터 증가 (write-behind 모드의 DB 카운터는 writer 가 flush 때 반영)
+            List<String> recipients = memberEmails.stream().filter(email -> !email.equals(sender)).toList();
+            Map<String, Integer> unreadByRecipient =
+                    unreadCounterService.increment(dto.getRoomId(), sender, recipients, !writeBehind);
+
+            // 접속 중인 수신자만 실시간 사이드바 대상, 나머지는 놓친 메시지 요약으로 지연 전달
+            Set<String> onlineRecipients = presenceService.onlineUsers(recipients);
+            List<String> offlineRecipients = recipients.stream()
+                    .filter(email -> !onlineRecipients.contains(email)).toList();
+
+            // 방 단위 사이드바 이벤트 1건 (발신자 + 온라인 수신자의 안 읽은 수만 맵으로)
+            Map<String, Integer> unreadByMember = new HashMap<>(onlineRecipients.size() + 1);
+            unreadByMember.put(sender, 0);
+            for (String email : onlineRecipients) {
+                unreadByMember.put(email, unreadByRecipient.getOrDefault(email, 0));
+            }
+            ChatRoomSidebarEvent sidebar = ChatRoomSidebarEvent.builder()
+                    .roomId(dto.getRoomId())
+                    .messageId(entity.getMessageId())
+                    .message(entity.getMessage())
+                    .senderAccountEmail(sender)
+                    .createdAt(entity.getCreatedAt())
+                    .updatedAt(Timestamp.valueOf(LocalDateTime.now()))
+                    .unreadByMember(unreadByMember)
                     .build();
 
-            // 3) 개인 사이드바 payload들 미리 계산 (트랜잭션 안에서 조회 OK)
-            List<String> memberEmails = chatRoomMemberRepository
-                    .findAllAccountEmailsByRoomId(dto.getRoomId())
-                    .stream().map(ChatRoomAccount::getAccountEmail).toList();
-
-            List<ChatRoomUpdateMessage> sidebars = new ArrayList<>(memberEmails.size());
-            for (String email : memberEmails) {
-                int unreadForThisUser = email.equals(sender)
-                        ? 0
-                        : chatMessageRepository.countUnreadMessagesByRoomIdAndMemberId(dto.getRoomId(), email);
-
-                sidebars.add(ChatRoomUpdateMessage.builder()
-                        .roomId(dto.getRoomId())
-                        .messageId(entity.getMessageId())
-                        .message(entity.getMessage())
-                        .senderAccountEmail(sender)
-                        .createdAt(entity.getCreatedAt())
-                        .unreadCountForReceiver(unreadForThisUser)
-                        .updatedAt(Timestamp.valueOf(LocalDateTime.now()))
-                        .build());
+            // 4) write-behind 모드는 저장 트랜잭션이 따로 없으므로 바로 팬아웃
+            //    (is_del 초기화도 writer 가 flush 시 방 단위로 처리)
+            if (writeBehind) {
+                roomIndexService.touch(dto.getRoomId(), memberEmails, entity.getCreatedAt());
+                publishToRedis(dto, push, sidebar);
+                missedMessageService.defer(entity, offlineRecipients);
+                alarmService.notifyChat(entity, offlineRecipients);
+                searchIndexService.index(entity);
+                return;
+            }
+
+            // 4) outbox 모드: 방 브로드캐스트/사이드바를 메시지와 같은 트랜잭션에 기록하고 커밋 후 relay 가 발행
+            //    (커밋 직후 Redis 순단이 있어도 유실되지 않음, at-least-once)
+            final boolean viaOutbox = outboxRelay.isEnabled();
+            if (viaOutbox) {
+                // publishedAt 은 relay 가 발행 직전에 찍는다
+                outboxRelay.save(List.of(
+                        outboxRelay.room(dto.getRoomId(), push),
+                        ChatOutboxRelay.channel("chat:sidebar:" + dto.getRoomId(), sidebar)));
             }
 
             // 4) ❗ DB 커밋이 "성공한 뒤에만" Redis로 팬아웃
             TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
                 @Override public void afterCommit() {
-                    publishToRedis(dto, push, memberEmails, sidebars);
+                    recentMessageCache.append(entity);
+                    roomIndexService.touch(dto.getRoomId(), memberEmails, entity.getCreatedAt());
+                    if (viaOutbox) outboxRelay.wakeUp();
+                    else publishToRedis(dto, push, sidebar);
+                    missedMessageService.defer(entity, offlineRecipients);
+                    alarmService.notifyChat(entity, offlineRecipients);
+                    searchIndexService.index(entity);
                 }
             });
 
+        } catch (DataIntegrityViolationException e) {
+            // 같은 clientMessageKey 재전송이 uk_msg_sender_client_key 에 걸림 (Redis 중복 제거 창이 비었던 경우)
+            // → 감싸지 않고 던져 트랜잭션을 롤백하고, 컨트롤러가 resendAck 로 원래 영수증을 보낸다
+            throw e;
         } catch (AccessDeniedException e) {
             log.error("채팅방 접근 권한 없음: {}", e.getMessage(), e);
             throw new RuntimeException("채팅방에 접근할 권한이 없습니다.");
@@ -128,18 +272,41 @@ public class ChatService {
         chatRoomMemberRepository.resetIsDelByRoomId(dto.getRoomId());
     }
 
+    /**
+     * 단체방 팬아웃 (최근 메시지 캐시는 호출 측이 저장 확인 후 붙인다): 방 순번 +1 (발신자는 읽은 것으로), 방 토픽 발행 1건, 사이드바는 주기 발행 대기열에 최신값만.
+     */
+    private void fanOutGroup(ChatMessage entity, ChatMessagePush push) {
+        try {
+            long seq = groupRoomService.nextSeq(entity.getRoomId(), entity.getAccountEmail());
+            push.markPublished();
+            redisPublisher.publishRoom(entity.getRoomId(), push);
+            groupSidebarTicker.record(ChatRoomSidebarEvent.builder()
+                    .roomId(entity.getRoomId())
+                    .messageId(entity.getMessageId())
+                    .message(entity.getMessage())
+                    .senderAccountEmail(entity.getAccountEmail())
+                    .createdAt(entity.getCreatedAt())
+                    .updatedAt(Timestamp.valueOf(LocalDateTime.now()))
+                    .seq(seq)
+                    .build());
+            searchIndexService.index(entity);
+        } catch (Exception e) {
+            log.error("단체방 발행 실패: {}", e.getMessage(), e);
+        }
+    }
+
     /**
      * Redis로 채팅 메시지와 사이드바 업데이트를 발행합니다.
      * DB 커밋 후 실행되므로 예외가 발생해도 트랜잭션에 영향을 주지 않습니다.
      */
-    private void publishToRedis(ChatMessageRequestDto dto, ChatMessagePush push, 
-                               List<String> memberEmails, List<ChatRoomUpdateMessage> sidebars) {
+    private void publishToRedis(ChatMessageRequestDto dto, ChatMessagePush push, ChatRoomSidebarEvent sidebar) {
         try {
-            // 방 전체 브로드캐스트 → 모든 WS 서버가 이 채널을 구독 중
-            redisPublisher.publish("chat:room:" + dto.getRoomId(), push);
+            // 방 전체 브로드캐스트 → Pub/Sub 또는 Redis Stream (chat.transport.mode)
+            push.markPublished();
+            redisPublisher.publishRoom(dto.getRoomId(), push);
 
-            // 개인별 사이드바 업데이트 → 각 사용자 채널로 발행
-            publishSidebarUpdates(memberEmails, sidebars);
+            // 사이드바 업데이트 → 방 단위로 한 번만 발행 (각 서버가 자기 세션 사용자에게 풀어서 전달)
+            publishSidebarUpdate(sidebar);
             
         } catch (Exception e) {
             log.error("Redis 발행 실패: {}", e.getMessage(), e);
@@ -150,29 +317,42 @@ public class ChatService {
     }
 
     /**
-     * 각 사용자별로 사이드바 업데이트 메시지를 Redis에 발행합니다.
+     * 같은 clientMessageKey 의 동시 재전송이 유니크 제약(uk_msg_sender_client_key)에 걸렸을 때
+     * 먼저 저장된 메시지의 영수증을 다시 보낸다. 저장된 메시지가 없으면 false.
      */
-    private void publishSidebarUpdates(List<String> memberEmails, List<ChatRoomUpdateMessage> sidebars) {
-        for (int i = 0; i < memberEmails.size(); i++) {
-            String email = memberEmails.get(i);
-            ChatRoomUpdateMessage sidebar = sidebars.get(i);
-            redisPublisher.publish("chat:user:" + email, sidebar);
-        }
+    public boolean resendAck(ChatMessageRequestDto dto, Principal principal) {
+        String sender = principal.getName();
+        Optional<ChatSendAck> ack = sendDedupService.findPersisted(sender, dto.getClientMessageKey());
+        ack.ifPresent(receipt -> {
+            sendDedupService.complete(sender, receipt);
+            publishAck(sender, receipt);
+        });
+        return ack.isPresent();
+    }
+
+    private void completeSend(String sender, ChatMessage entity) {
+        ChatSendAck ack = ChatSendAck.of(entity);
+        sendDedupService.complete(sender, ack);
+        publishAck(sender, ack);
+    }
+
+    // 영수증은 발신자의 어느 노드 세션이든 받도록 chat:ack:{email} 로 발행 (재연결로 노드가 바뀌었을 수 있음)
+    private void publishAck(String sender, ChatSendAck ack) {
+        redisPublisher.publish(ChatSendDedupService.ackChannel(sender), ack);
+    }
+
+    /**
+     * 방 단위 사이드바 이벤트를 Redis에 발행합니다.
+     */
+    private void publishSidebarUpdate(ChatRoomSidebarEvent sidebar) {
+        redisPublisher.publish("chat:sidebar:" + sidebar.getRoomId(), sidebar);
     }
 
     /**
-     * Redis 연결 상태 확인
+     * Redis 연결 상태 확인 (RedisHealthMonitor 서킷 상태, Redis 왕복 없음)
      */
     private boolean isRedisAvailable() {
-        try {
-            // Redis 연결 상태를 간단한 명령으로 확인
-            // 연결이 안되면 예외 발생
-            stringRedisTemplate.opsForValue().get("health_check");
-            return true;
-        } catch (Exception e) {
-            log.warn("Redis 연결 확인 실패: {}", e.getMessage());
-            return false;
-        }
+        return redisHealthMonitor.isAvailable();
     }
     public String createRoom(String userA, String userB) {
         // 기존 방 있으면 재사용, 없으면 새로 생성
@@ -182,20 +362,88 @@ public class ChatService {
     public List<ChatRoomDTO> getRooms(String accountEmail) {
         //redis 추가
         List<ChatRoomDTO> rooms = chatRoomRepository.findRoomsWithLastMessageByMemberId(accountEmail);
+        Map<String, Integer> unreadByRoom = unreadCounterService.getUnreadByRoom(accountEmail);
+        rooms.forEach(room -> room.updateNotReadMessageCount(unreadByRoom.getOrDefault(room.getRoomId(), 0)));
         
         // updatedAt 내림차순으로 정렬 (최신 메시지 순)
         rooms.sort((a, b) -> b.getUpdatedAt().compareTo(a.getUpdatedAt()));
         
         return rooms;
     }
+
+    /**
+     * 사이드바 방 목록 페이지 조회.
+     * 정렬/페이지 경계는 사용자별 Redis 방 인덱스에서 정하고, 보이는 방만 DB 에서 채운다.
+     * cursor 는 이전 페이지 마지막 방의 활동 시각(epoch millis)이다.
+     */
+    public SliceResponse<ChatRoomDTO> getRoomPage(String accountEmail, Integer limit, String cursor) {
+        final int size = (limit == null || limit <= 0 || limit > 100) ? 20 : limit;
+        ChatRoomIndexService.RoomCursor before = ChatRoomIndexService.RoomCursor.parse(cursor);
+
+        List<ZSetOperations.TypedTuple<String>> indexed;
+        try {
+            // 한 건 더 읽어 다음 페이지 존재 여부를 판단
+            indexed = roomIndexService.page(accountEmail, size + 1, before);
+        } catch (Exception e) {
+            log.warn("방 인덱스 조회 실패, DB 목록으로 대체: {}", e.getMessage());
+            return getRoomPageFromDb(accountEmail, size, before);
+        }
+
+        boolean hasNext = indexed.size() > size;
+        List<ZSetOperations.TypedTuple<String>> visible = hasNext ? indexed.subList(0, size) : indexed;
+        if (visible.isEmpty()) {
+            return SliceResponse.of(List.of(), null, false);
+        }
+
+        List<String> roomIds = visible.stream().map(ZSetOperations.TypedTuple::getValue).toList();
+        Map<String, ChatRoomDTO> byId = new HashMap<>();
+        chatRoomRepository.findRoomsWithLastMessageByMemberIdAndRoomIds(accountEmail, roomIds)
+                .forEach(room -> byId.put(room.getRoomId(), room));
+
+        Map<String, Integer> unreadByRoom = unreadCounterService.getUnreadByRoom(accountEmail);
+        List<ChatRoomDTO> items = new ArrayList<>(roomIds.size());
+        for (String roomId : roomIds) {
+            ChatRoomDTO room = byId.get(roomId);
+            if (room == null) continue; // 인덱스에는 남아 있지만 나간 방
+            room.updateNotReadMessageCount(unreadByRoom.getOrDefault(roomId, 0));
+            items.add(room);
+        }
+
+        ZSetOperations.TypedTuple<String> last = visible.get(visible.size() - 1);
+        String nextCursor = (hasNext && last.getScore() != null)
+                ? new ChatRoomIndexService.RoomCursor(last.getScore().longValue(), last.getValue()).encode()
+                : null;
+        return SliceResponse.of(items, nextCursor, hasNext);
+    }
+
+    private SliceResponse<ChatRoomDTO> getRoomPageFromDb(String accountEmail, int size,
+                                                         ChatRoomIndexService.RoomCursor before) {
+        // 인덱스와 같은 (마지막 활동, roomId) 순서로 맞춰 커서를 섞어 써도 어긋나지 않게 한다
+        Comparator<ChatRoomDTO> order = Comparator.comparing(
+                room -> ChatRoomIndexService.RoomCursor.of(room.getRoomId(), room.getUpdatedAt()),
+                ChatRoomIndexService.RoomCursor.NEWEST_FIRST);
+        List<ChatRoomDTO> rooms = getRooms(accountEmail).stream()
+                .filter(room -> before == null
+                        || before.precedes(ChatRoomIndexService.RoomCursor.of(room.getRoomId(), room.getUpdatedAt())))
+                .sorted(order)
+                .toList();
+        boolean hasNext = rooms.size() > size;
+        List<ChatRoomDTO> items = hasNext ? rooms.subList(0, size) : rooms;
+        ChatRoomDTO last = items.isEmpty() ? null : items.get(items.size() - 1);
+        String nextCursor = hasNext
+                ? ChatRoomIndexService.RoomCursor.of(last.getRoomId(), last.getUpdatedAt()).encode()
+                : null;
+        return SliceResponse.of(items, nextCursor, hasNext);
+    }
+
     public int getCountALLUnreadMessagesRooms(String accountEmail) {
-        return chatMessageRepository.countUnreadMessagesRooms( accountEmail);
+        return unreadCounterService.getUnreadRoomCount(accountEmail);
     }
     public int getCountAllUnreadMessages(String accountEmail) {
-        return chatMessageRepository.countUnreadMessages(accountEmail);
+        return unreadCounterService.getTotalUnread(accountEmail);
     }
     public  int getCountUnreadMessagesByRoomId(String roomId,String accountEmail) {
-        return chatMessageRepository.countUnreadMessagesByRoomId(roomId,accountEmail);
+        return unreadCounterService.getUnread(roomId, accountEmail);
     }
 
 
@@ -214,39 +462,72 @@ public class ChatService {
         var pageable = PageRequest.of(0, size, sort);
 
         // 3) 메시지 조회 (첫 진입 vs 커서 이전)
-        List<ChatMessage> entities;
+        List<ChatMemberRoomWithMessageDto> items;
+        CursorUtil.Cursor decoded = null;
         if (cursor == null || cursor.isBlank()) {
-            // 첫 페이지
-            entities = chatMessageRepository.findFirstPage(roomId, pageable);
+            // 첫 페이지: 최근 메시지 캐시 → 없으면 DB 에서 읽고 캐시를 채운다
+            items = recentMessageCache.firstPage(roomId, size).orElseGet(() -> {
+                String version = recentMessageCache.version(roomId);
+                int fetchSize = Math.max(size, recentMessageCache.capacity());
+                List<ChatMessage> recent = chatMessageRepository.findFirstPage(
+                        roomId, PageRequest.of(0, fetchSize, sort));
+                recentMessageCache.seed(roomId, version, recent);
+                return recent.stream()
+                        .limit(size)
+                        .map(ChatMemberRoomWithMessageDto::from)
+                        .toList();
+            });
         } else {
             // 커서 이전 페이지
-            var c = CursorUtil.decode(cursor); // createdAt + messageId(String)
-            entities = chatMessageRepository.findSliceBefore(
-                    roomId, c.createdAt(), c.messageId(), pageable
-            );
+            decoded = CursorUtil.decode(cursor); // createdAt + messageId(String)
+            items = chatMessageRepository.findSliceBefore(
+                    roomId, decoded.createdAt(), decoded.messageId(), pageable
+            ).stream().map(ChatMemberRoomWithMessageDto::from).toList(); // ChatMessage -> ChatMemberRoomWithMessageDto 매핑
         }
 
-        // 4) 읽음 처리 (내 lastReadAt 갱신)
-        chatRoomMemberRepository.updateLastReadTime(roomId, accountEmail);
-
-        // 5) DTO 매핑
-        var items = entities.stream()
-                .map(ChatMemberRoomWithMessageDto::from) // ChatMessage -> ChatMemberRoomWithMessageDto 매핑
-                .toList();
+        // 3-1) 핫 테이블이 페이지를 다 못 채우면 (보관 기간을 지난 구간) 아카이브에서 이어 읽는다
+        if (items.size() < size) {
+            items = appendArchived(roomId, items, decoded, size);
+        }
 
+        // 4) 읽음 처리 (내 lastReadAt 은 버퍼에 모았다가 batch UPDATE, 카운터는 즉시 0, 단체방은 읽은 순번을 방 순번으로)
+        readMarkerBuffer.mark(roomId, accountEmail);
+        if (groupRoomService.isGroupRoom(roomId)) {
+            groupRoomService.markRead(roomId, accountEmail);
+        } else {
+            unreadCounterService.reset(roomId, accountEmail);
+        }
 
-        // 6) nextCursor/hasNext 계산
+        // 5) nextCursor/hasNext 계산
         String nextCursor = null;
         boolean hasNext = false;
-        if (!entities.isEmpty()) {
-            var last = entities.get(entities.size() - 1);
-            nextCursor = CursorUtil.encode(last.getCreatedAt(), last.getMessageId());
-            hasNext = (entities.size() == size); // 꽉 찼으면 더 있음으로 간주
+        if (!items.isEmpty()) {
+            var last = items.get(items.size() - 1);
+            nextCursor = CursorUtil.encode(last.createdAt(), last.messageId());
+            hasNext = (items.size() == size); // 꽉 찼으면 더 있음으로 간주
         }
 
         return SliceResponse.of(items, hasNext ? nextCursor : null, hasNext);
     }
 
+    private List<ChatMemberRoomWithMessageDto> appendArchived(
+            String roomId, List<ChatMemberRoomWithMessageDto> items, CursorUtil.Cursor cursor, int size
+    ) {
+        LocalDateTime beforeAt = cursor != null ? cursor.createdAt() : null;
+        String beforeId = cursor != null ? cursor.messageId() : null;
+        if (!items.isEmpty()) {
+            var last = items.get(items.size() - 1);
+            beforeAt = last.createdAt();
+            beforeId = last.messageId();
+        }
+        List<ChatMessage> archived = archiveService.findSliceBefore(roomId, beforeAt, beforeId, size - items.size());
+        if (archived.isEmpty()) return items;
+
+        List<ChatMemberRoomWithMessageDto> merged = new ArrayList<>(items);
+        archived.forEach(m -> merged.add(ChatMemberRoomWithMessageDto.from(m)));
+        return merged;
+    }
+
     // 기존 시그니처 유지용(호출부 점진 교체)
 //    @Transactional
 //    public SliceResponse<ChatMemberRoomWithMessageDto> getRoomChattingHistoryAndMarkAsRead(
@@ -269,6 +550,8 @@ public class ChatService {
         Optional<String> existingRoom = chatRoomMemberRepository.findRoomIdByBuyerIdAndSellerId(accountEmail, sellerAccountEmail);
 
         if (existingRoom.isPresent()) {
+            // 나갔던 방에 다시 들어오는 경우
+            membershipCache.invalidate(existingRoom.get(), List.of(accountEmail, sellerAccountEmail));
             return existingRoom.get();
         }
         ChatRoomResponseDto newRoomDto = ChatRoomResponseDto.createNew();
@@ -285,19 +568,51 @@ public class ChatService {
 
         chatRoomMemberRepository.save(buyerMember);
         chatRoomMemberRepository.save(sellerMember);
+        membershipCache.invalidate(newRoomId, List.of(accountEmail, sellerAccountEmail));
+
+        roomIndexService.touch(newRoomId, List.of(accountEmail, sellerAccountEmail), LocalDateTime.now());
+
+        // 두 사용자의 세션을 가진 노드가 새 방의 사이드바 채널을 구독하도록 알림 (커밋 후)
+        for (String email : List.of(accountEmail, sellerAccountEmail)) {
+            redisPublisher.publishAfterCommit(
+                    new ChannelTopic(RedisSubscriptionManager.membershipChannel(email)),
+                    new ChatMembershipEvent(newRoomId, email));
+        }
 
         return newRoomId;
     }
+    /**
+     * 단체방에 멤버를 넣는다. 지금 방 순번까지 읽은 것으로 시작해 들어오기 전 메시지가 안 읽은 수로 잡히지 않는다.
+     */
+    @Transactional
+    public void addGroupMember(String roomId, String accountEmail) {
+        if (!groupRoomService.isGroupRoom(roomId)) {
+            throw new IllegalArgumentException("group room not found: " + roomId);
+        }
+        if (membershipCache.isMember(roomId, accountEmail)) return;
+
+        long joinSeq = groupRoomService.joinSeq(roomId, accountEmail);
+        chatRoomMemberRepository.save(ChatRoomAccount.create(roomId, accountEmail, joinSeq));
+        membershipCache.invalidate(roomId, List.of(accountEmail));
+        roomIndexService.touch(roomId, List.of(accountEmail), LocalDateTime.now());
+
+        redisPublisher.publishAfterCommit(
+                new ChannelTopic(RedisSubscriptionManager.membershipChannel(accountEmail)),
+                new ChatMembershipEvent(roomId, accountEmail));
+    }
+
     @Transactional
     public void markChatRoomAsDeleted(String accountEmail, String roomId) {
         chatRoomMemberRepository.updateIsDelByMemberIdAndRoomId(accountEmail, roomId, 1);
+        roomIndexService.remove(roomId, accountEmail);
+        membershipCache.invalidate(roomId, List.of(accountEmail));
     }
     public ChatRoomDetailDto getRoomDetail(String roomId, String email) {
         var s = chatRoomRepository.findRoomScalar(roomId)
                 .orElseThrow(() -> new IllegalArgumentException("room not found: " + roomId));
 
         // 추가 메타가 필요하면 다른 리포지토리에서 가져와 합쳐주세요.
-        var roomUpdatedAt = chatRoomRepository.findChatRoomUpdateAtByRoomId(roomId);
+        var myLastReadAt = readMarkerBuffer.findLastReadAt(roomId, email); // 아직 flush 안 된 읽음 위치 우선
         var memberCount  = chatRoomMemberRepository.countMembers(roomId);
         var participants = chatRoomMemberRepository.findParticipantEmails(roomId);
 
@@ -306,7 +621,7 @@ public class ChatService {
                 s.title(),
                 s.productId(),
                 null,            // ownerEmail 필요시 r.roomAccountId도 JPQL에 추가하세요
-                roomUpdatedAt,
+                myLastReadAt,
                 memberCount,
                 participants
         );
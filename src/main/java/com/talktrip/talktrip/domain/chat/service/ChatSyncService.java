@@ -0,0 +1,146 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import com.talktrip.talktrip.domain.chat.dto.response.ChatMemberRoomWithMessageDto;
+import com.talktrip.talktrip.domain.chat.dto.response.ChatReadMarkerDto;
+import com.talktrip.talktrip.domain.chat.dto.response.ChatRoomDTO;
+import com.talktrip.talktrip.domain.chat.dto.response.ChatSyncResponse;
+import com.talktrip.talktrip.domain.chat.entity.ChatMessage;
+import com.talktrip.talktrip.domain.chat.repository.ChatRoomMemberRepository;
+import com.talktrip.talktrip.domain.chat.repository.ChatRoomRepository;
+import com.talktrip.talktrip.global.config.ChatSyncProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * 재연결 동기화 ("토큰 이후 바뀐 것만").
+ * 방 목록 + 안 읽은 수 + 방마다 메시지 API 를 따로 부르는 대신, 한 번의 요청에서 집합 단위 쿼리로
+ * 바뀐 방 요약, 방별 새 메시지 (방마다 최대 N개), 바뀐 읽음 위치를 돌려준다.
+ * - 토큰 = 스냅샷 시각 - overlapMs (Base64, 클라이언트는 내용을 해석하지 않는다)
+ *   write-behind/읽음 위치 flush 가 늦게 반영한 행도 다음 동기화에서 잡히도록 겹쳐 읽는다.
+ * - 토큰이 없거나 오래됐거나 바뀐 방이 너무 많으면 reset (전체 방 목록만)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatSyncService {
+
+    private static final String TOKEN_PREFIX = "s1|";
+    private static final DateTimeFormatter FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSSSS");
+
+    // 방별 최신 N개 + 방별 새 메시지 총수 (idx_msg_room_created_id_desc 범위 스캔)
+    private static final String NEW_MESSAGES_SQL = """
+            SELECT message_id, room_id, account_email, message, created_at, total
+            FROM (
+                SELECT m.message_id, m.room_id, m.account_email, m.message, m.created_at,
+                       ROW_NUMBER() OVER (PARTITION BY m.room_id ORDER BY m.created_at DESC, m.message_id DESC) AS rn,
+                       COUNT(*) OVER (PARTITION BY m.room_id) AS total
+                FROM chatting_message_history_tab m
+                WHERE m.room_id IN (%s)
+                  AND m.created_at > ?
+            ) t
+            WHERE t.rn <= ?
+            ORDER BY t.room_id, t.created_at, t.message_id
+            """;
+
+    private final ChatSyncProperties properties;
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final ChatUnreadCounterService unreadCounterService;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 읽기 전용 트랜잭션 하나로 묶어 (REPEATABLE READ) 방 요약/메시지/읽음 위치가 같은 스냅샷을 본다
+    @Transactional(readOnly = true)
+    public ChatSyncResponse sync(String accountEmail, String token) {
+        LocalDateTime now = LocalDateTime.now();
+        String nextToken = encodeToken(now.minus(properties.getOverlapMs(), ChronoUnit.MILLIS));
+        Map<String, Integer> unreadByRoom = unreadCounterService.getUnreadByRoom(accountEmail);
+
+        LocalDateTime since = decodeToken(token);
+        if (since == null || since.isBefore(now.minusHours(properties.getMaxTokenAgeHours()))) {
+            return reset(accountEmail, unreadByRoom, nextToken);
+        }
+
+        List<ChatRoomDTO> rooms = new ArrayList<>(
+                chatRoomRepository.findRoomsWithLastMessageByMemberIdUpdatedAfter(accountEmail, since));
+        if (rooms.size() > properties.getMaxRooms()) {
+            return reset(accountEmail, unreadByRoom, nextToken);
+        }
+        rooms.forEach(room -> room.updateNotReadMessageCount(unreadByRoom.getOrDefault(room.getRoomId(), 0)));
+        rooms.sort((a, b) -> b.getUpdatedAt().compareTo(a.getUpdatedAt()));
+
+        List<ChatSyncResponse.RoomMessages> messages =
+                newMessages(rooms.stream().map(ChatRoomDTO::getRoomId).toList(), since);
+        List<ChatReadMarkerDto> readMarkers = chatRoomMemberRepository.findReadMarkersAfter(accountEmail, since);
+
+        return new ChatSyncResponse(nextToken, false, rooms, messages, readMarkers, unreadByRoom);
+    }
+
+    private ChatSyncResponse reset(String accountEmail, Map<String, Integer> unreadByRoom, String nextToken) {
+        List<ChatRoomDTO> rooms = new ArrayList<>(chatRoomRepository.findRoomsWithLastMessageByMemberId(accountEmail));
+        rooms.forEach(room -> room.updateNotReadMessageCount(unreadByRoom.getOrDefault(room.getRoomId(), 0)));
+        rooms.sort((a, b) -> b.getUpdatedAt().compareTo(a.getUpdatedAt()));
+        return new ChatSyncResponse(nextToken, true, rooms, List.of(), List.of(), unreadByRoom);
+    }
+
+    private List<ChatSyncResponse.RoomMessages> newMessages(List<String> roomIds, LocalDateTime since) {
+        if (roomIds.isEmpty()) return List.of();
+
+        int cap = properties.getMaxMessagesPerRoom();
+        Object[] args = new Object[roomIds.size() + 2];
+        for (int i = 0; i < roomIds.size(); i++) args[i] = roomIds.get(i);
+        args[roomIds.size()] = Timestamp.valueOf(since);
+        args[roomIds.size() + 1] = cap;
+
+        Map<String, List<ChatMemberRoomWithMessageDto>> byRoom = new LinkedHashMap<>();
+        Map<String, Long> totalByRoom = new HashMap<>();
+        String sql = NEW_MESSAGES_SQL.formatted(String.join(",", Collections.nCopies(roomIds.size(), "?")));
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> {
+            ChatMessage message = new ChatMessage(
+                    rs.getString("message_id"),
+                    rs.getString("room_id"),
+                    rs.getString("account_email"),
+                    rs.getString("message"),
+                    rs.getTimestamp("created_at").toLocalDateTime());
+            byRoom.computeIfAbsent(message.getRoomId(), k -> new ArrayList<>())
+                    .add(ChatMemberRoomWithMessageDto.from(message));
+            totalByRoom.put(message.getRoomId(), rs.getLong("total"));
+        }, args);
+
+        List<ChatSyncResponse.RoomMessages> result = new ArrayList<>(byRoom.size());
+        byRoom.forEach((roomId, items) ->
+                result.add(new ChatSyncResponse.RoomMessages(roomId, items, totalByRoom.get(roomId) > cap)));
+        return result;
+    }
+
+    static String encodeToken(LocalDateTime at) {
+        String raw = TOKEN_PREFIX + at.format(FORMATTER);
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 없거나 알아볼 수 없는 토큰은 null (→ reset)
+    static LocalDateTime decodeToken(String token) {
+        if (token == null || token.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (!raw.startsWith(TOKEN_PREFIX)) return null;
+            return LocalDateTime.parse(raw.substring(TOKEN_PREFIX.length()), FORMATTER);
+        } catch (Exception e) {
+            log.debug("[Sync] 잘못된 동기화 토큰: {}", e.getMessage());
+            return null;
+        }
+    }
+}
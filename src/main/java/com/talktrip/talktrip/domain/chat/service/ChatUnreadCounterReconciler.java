@@ -0,0 +1,129 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import com.talktrip.talktrip.global.config.ChatUnreadProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 메시지 테이블을 기준으로 안 읽은 메시지 카운터를 다시 계산한다.
+ * 노드 크래시나 Redis 유실로 카운터가 어긋났을 때를 위한 복구 작업이며,
+ * 여러 노드 중 Redis 락을 잡은 한 노드만 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatUnreadCounterReconciler {
+
+    private static final String LOCK_KEY = "chat:unread:reconcile:lock";
+
+    // 멤버십마다 (상대가 보낸, 마지막 읽은 시각 이후) 메시지 수. 사용자 순으로 정렬해 스트리밍한다.
+    // MySQL 드라이버는 기본으로 결과 전체를 메모리에 올리므로 fetch size 를 Integer.MIN_VALUE 로 줘서 한 행씩 받는다.
+    private static final String RECOMPUTE_SQL = """
+            SELECT crat.room_id, crat.account_email, COUNT(msg.message_id) AS unread_count
+            FROM chatting_room_account_tab crat
+            LEFT JOIN chatting_message_history_tab msg
+                   ON msg.room_id = crat.room_id
+                  AND msg.account_email <> crat.account_email
+                  AND msg.created_at > COALESCE(crat.last_member_read_time, '1970-01-01 00:00:00')
+            GROUP BY crat.room_id, crat.account_email
+            ORDER BY crat.account_email
+            """;
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO chatting_unread_counter_tab (room_id, account_email, unread_count)
+            VALUES (?, ?, ?)
+            ON DUPLICATE KEY UPDATE unread_count = VALUES(unread_count)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ChatUnreadCounterService counterService;
+    private final ChatUnreadProperties properties;
+    private final ChatReadMarkerBuffer readMarkerBuffer;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        if (properties.isReconcileOnStartup()) {
+            reconcile();
+        }
+    }
+
+    @Scheduled(cron = "#{@chatUnreadProperties.reconcileCron}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    public void reconcile() {
+        String token = UUID.randomUUID().toString();
+        Boolean locked = stringRedisTemplate.opsForValue()
+                .setIfAbsent(LOCK_KEY, token, Duration.ofSeconds(properties.getReconcileLockSeconds()));
+        if (!Boolean.TRUE.equals(locked)) {
+            log.info("[UnreadCounter] 다른 노드에서 재계산 중이라 건너뜁니다.");
+            return;
+        }
+
+        // 재계산은 last_member_read_time 기준이므로 이 노드에 모인 읽음 위치부터 반영 (다른 노드 것은 flush 주기 이내로 늦음)
+        readMarkerBuffer.flush();
+
+        long start = System.currentTimeMillis();
+        int[] rows = {0};
+        try {
+            List<Object[]> pending = new ArrayList<>(properties.getReconcileBatchSize());
+            String[] currentUser = {null};
+            Map<String, Integer> currentCounts = new HashMap<>();
+
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(RECOMPUTE_SQL,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(Integer.MIN_VALUE);
+                return ps;
+            }, (RowCallbackHandler) rs -> {
+                String roomId = rs.getString("room_id");
+                String email = rs.getString("account_email");
+                int unread = rs.getInt("unread_count");
+
+                if (currentUser[0] != null && !currentUser[0].equals(email)) {
+                    counterService.overwrite(currentUser[0], currentCounts);
+                    currentCounts.clear();
+                }
+                currentUser[0] = email;
+                currentCounts.put(roomId, unread);
+
+                pending.add(new Object[]{roomId, email, unread});
+                if (pending.size() >= properties.getReconcileBatchSize()) {
+                    jdbcTemplate.batchUpdate(UPSERT_SQL, pending);
+                    pending.clear();
+                }
+                rows[0]++;
+            });
+
+            if (currentUser[0] != null) {
+                counterService.overwrite(currentUser[0], currentCounts);
+            }
+            if (!pending.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, pending);
+            }
+            log.info("[UnreadCounter] 재계산 완료: {}건, {}ms", rows[0], System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("[UnreadCounter] 재계산 실패: {}", e.getMessage(), e);
+        } finally {
+            stringRedisTemplate.execute(ChatMessageArchiveService.RELEASE_LOCK_SCRIPT, List.of(LOCK_KEY), token);
+        }
+    }
+}
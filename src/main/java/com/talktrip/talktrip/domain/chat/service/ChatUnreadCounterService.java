@@ -0,0 +1,186 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import com.talktrip.talktrip.domain.chat.entity.ChatUnreadCounter;
+import com.talktrip.talktrip.domain.chat.repository.ChatUnreadCounterRepository;
+import com.talktrip.talktrip.global.config.ChatUnreadProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * (방, 사용자)별 안 읽은 메시지 카운터.
+ * - Redis: 사용자마다 해시 하나 (chat:unread:{email}, field = roomId)
+ * - DB: chatting_unread_counter_tab (Redis 가 비었거나 장애일 때의 원본)
+ * 발신 시 증가, 읽음 처리 시 0 으로 초기화하므로 조회는 COUNT 없이 O(1)이다.
+ * 단체방은 카운터를 쓰지 않고 ChatGroupRoomService 가 방 순번으로 계산한 값을 조회 때 덮어쓴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatUnreadCounterService {
+
+    static final String KEY_PREFIX = "chat:unread:";
+    // 해시가 DB 값으로 채워졌음을 표시하는 필드. 없으면 콜드 상태로 보고 DB 에서 다시 읽는다.
+    static final String WARM_FIELD = "_warm";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ChatUnreadCounterRepository counterRepository;
+    private final ChatUnreadProperties properties;
+    private final ChatGroupRoomService groupRoomService;
+
+    /**
+     * 새 메시지 1건에 대해 수신자 카운터를 올리고, 수신자별 최신 값을 돌려준다.
+     *
+     * @param persistToDb false 면 DB 카운터는 호출 측(write-behind writer)이 따로 반영한다
+     */
+    public Map<String, Integer> increment(String roomId, String sender, List<String> recipients, boolean persistToDb) {
+        if (persistToDb) {
+            counterRepository.incrementForRoom(roomId, sender, 1);
+        }
+
+        Map<String, Integer> result = new LinkedHashMap<>();
+        if (recipients.isEmpty()) return result;
+
+        try {
+            long ttlSeconds = ttl().toSeconds();
+            List<Object> replies = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection src = (StringRedisConnection) connection;
+                for (String email : recipients) {
+                    String key = key(email);
+                    src.hIncrBy(key, roomId, 1);
+                    src.hGet(key, WARM_FIELD);
+                    src.expire(key, ttlSeconds);
+                }
+                return null;
+            });
+
+            for (int i = 0; i < recipients.size(); i++) {
+                String email = recipients.get(i);
+                Object count = replies.get(i * 3);
+                Object warm = replies.get(i * 3 + 1);
+                if (warm != null && count instanceof Long c) {
+                    result.put(email, c.intValue());
+                } else {
+                    // 콜드 해시: 다음 조회 때 DB 값으로 다시 채워지므로 이번 값만 DB 기준으로 계산
+                    result.put(email, dbCount(roomId, email) + (persistToDb ? 0 : 1));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("[UnreadCounter] Redis 카운터 증가 실패, DB 값 사용 (roomId={}): {}", roomId, e.getMessage());
+            for (String email : recipients) {
+                result.put(email, dbCount(roomId, email) + (persistToDb ? 0 : 1));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 읽음 처리: ChatRoomMemberRepository.updateLastReadTime 과 같은 시점에 호출한다.
+     */
+    public void reset(String roomId, String email) {
+        counterRepository.reset(roomId, email);
+        try {
+            stringRedisTemplate.opsForHash().put(key(email), roomId, "0");
+        } catch (Exception e) {
+            log.warn("[UnreadCounter] Redis 카운터 초기화 실패 (roomId={}, email={}): {}", roomId, email, e.getMessage());
+        }
+    }
+
+    public int getUnread(String roomId, String email) {
+        return loadWithGroupRooms(email).getOrDefault(roomId, 0);
+    }
+
+    public int getTotalUnread(String email) {
+        return loadWithGroupRooms(email).values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    public int getUnreadRoomCount(String email) {
+        return (int) loadWithGroupRooms(email).values().stream().filter(c -> c > 0).count();
+    }
+
+    public Map<String, Integer> getUnreadByRoom(String email) {
+        return loadWithGroupRooms(email);
+    }
+
+    /**
+     * 재계산 작업이 만든 값으로 사용자 해시를 통째로 교체한다.
+     */
+    public void overwrite(String email, Map<String, Integer> countsByRoom) {
+        Map<String, String> fields = new HashMap<>();
+        countsByRoom.forEach((roomId, count) -> fields.put(roomId, String.valueOf(count)));
+        fields.put(WARM_FIELD, "1");
+        String key = key(email);
+        long ttlSeconds = ttl().toSeconds();
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection src = (StringRedisConnection) connection;
+            src.del(key);
+            src.hMSet(key, fields);
+            src.expire(key, ttlSeconds);
+            return null;
+        });
+    }
+
+    private Map<String, Integer> loadWithGroupRooms(String email) {
+        Map<String, Integer> counts = load(email);
+        Map<String, Integer> groupCounts = groupRoomService.unreadByRoom(email);
+        if (groupCounts.isEmpty()) return counts;
+        Map<String, Integer> merged = new HashMap<>(counts);
+        merged.putAll(groupCounts);
+        return merged;
+    }
+
+    private Map<String, Integer> load(String email) {
+        try {
+            Map<Object, Object> raw = stringRedisTemplate.opsForHash().entries(key(email));
+            if (raw.containsKey(WARM_FIELD)) {
+                Map<String, Integer> counts = new HashMap<>();
+                raw.forEach((field, value) -> {
+                    if (!WARM_FIELD.equals(field)) {
+                        counts.put((String) field, Integer.parseInt((String) value));
+                    }
+                });
+                return counts;
+            }
+        } catch (Exception e) {
+            log.warn("[UnreadCounter] Redis 조회 실패, DB 카운터 사용 (email={}): {}", email, e.getMessage());
+            return loadFromDb(email);
+        }
+
+        Map<String, Integer> counts = loadFromDb(email);
+        try {
+            overwrite(email, counts);
+        } catch (Exception e) {
+            log.warn("[UnreadCounter] Redis 워밍 실패 (email={}): {}", email, e.getMessage());
+        }
+        return counts;
+    }
+
+    private Map<String, Integer> loadFromDb(String email) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (ChatUnreadCounter c : counterRepository.findAllByAccountEmail(email)) {
+            counts.put(c.getRoomId(), c.getUnreadCount());
+        }
+        return counts;
+    }
+
+    private int dbCount(String roomId, String email) {
+        return counterRepository.findUnreadCount(roomId, email).orElse(0);
+    }
+
+    private Duration ttl() {
+        return Duration.ofHours(properties.getKeyTtlHours());
+    }
+
+    static String key(String email) {
+        return KEY_PREFIX + email;
+    }
+}
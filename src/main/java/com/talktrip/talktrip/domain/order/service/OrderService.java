@@ -1,5 +1,6 @@
 package com.talktrip.talktrip.domain.order.service;
 
+import com.talktrip.talktrip.domain.chat.service.AlarmService;
 import com.talktrip.talktrip.domain.member.entity.Member;
 import com.talktrip.talktrip.domain.member.repository.MemberRepository;
 import com.talktrip.talktrip.domain.order.dto.request.OrderRequestDTO;
@@ -47,6 +48,7 @@ public class OrderService {
     private final OrderRepository orderRepository;
     private final PaymentRepository paymentRepository;
     private final CardPaymentRepository cardPaymentRepository;
+    private final AlarmService alarmService;
 
     public OrderResponseDTO createOrder(Long productId, OrderRequestDTO orderRequest, Long memberId) {
 
@@ -236,6 +238,9 @@ public class OrderService {
         // (스냅샷 패턴에서는 주문 생성 시점에 재고를 차감하고, 취소 시에만 복원)
 
         orderRepository.save(order);
+
+        // 8. 결제 완료 알림 (커밋 후)
+        alarmService.notifyOrderPaid(order);
     }
 
     private PaymentMethod mapToPaymentMethod(String methodStr) {
@@ -1,5 +1,6 @@
 package com.talktrip.talktrip.domain.review.service;
 
+import com.talktrip.talktrip.domain.chat.service.AlarmService;
 import com.talktrip.talktrip.domain.member.entity.Member;
 import com.talktrip.talktrip.domain.member.repository.MemberRepository;
 import com.talktrip.talktrip.domain.order.entity.Order;
@@ -35,6 +36,7 @@ public class ReviewService {
     private final ProductRepository productRepository;
     private final MemberRepository memberRepository;
     private final OrderRepository orderRepository;
+    private final AlarmService alarmService;
 
     @Transactional
     public void createReview(Long orderId, Long memberId, ReviewRequest request) {
@@ -68,6 +70,7 @@ public class ReviewService {
                 .build();
 
         reviewRepository.save(review);
+        alarmService.notifyReviewCreated(review);
     }
 
     @Transactional
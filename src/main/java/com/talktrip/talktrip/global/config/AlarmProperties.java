@@ -0,0 +1,28 @@
+package com.talktrip.talktrip.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 알림(Alarm) 쓰기 버퍼 설정 (alarm.*)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "alarm")
+public class AlarmProperties {
+
+    private boolean enabled = true;
+
+    // 모아 둔 알림을 DB 에 반영하고 전달하는 주기. 이 구간 안의 같은 대상 이벤트는 한 건으로 합쳐진다
+    private long flushIntervalMs = 2000;
+
+    // 대기 중인 (사용자, 대상) 수가 이 값을 넘으면 주기를 기다리지 않고 바로 반영
+    private int maxPending = 20000;
+
+    // 알림 목록 기본/최대 페이지 크기
+    private int defaultPageSize = 20;
+    private int maxPageSize = 100;
+}
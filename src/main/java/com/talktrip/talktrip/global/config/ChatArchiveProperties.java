@@ -0,0 +1,42 @@
+package com.talktrip.talktrip.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 채팅 이력 아카이브 설정 (chat.archive.*)
+ * hotRetentionDays 보다 오래된 메시지를 월별 아카이브 테이블(chatting_message_archive_{yyyyMM})로 옮긴다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "chat.archive")
+public class ChatArchiveProperties {
+
+    // 이동 작업 실행 여부 (읽기 경로의 아카이브 이어 읽기는 항상 동작)
+    private boolean enabled = false;
+
+    // 핫 테이블에 남겨 둘 기간
+    private int hotRetentionDays = 180;
+
+    // 한 트랜잭션에서 옮기는 메시지 수
+    private int batchSize = 2000;
+
+    // 한 번 실행에서 처리할 최대 배치 수 (나머지는 다음 실행으로)
+    private int maxBatchesPerRun = 500;
+
+    // 한 번 실행의 최대 시간. 락 TTL(lockSeconds) 보다 짧게 잘라 락이 풀린 뒤 다른 노드와 겹치지 않게 한다
+    private long maxRunSeconds = 3000;
+
+    private long lockSeconds = 3600;
+
+    // 방별 아카이브 범위 캐시 (짧은 페이지마다 DB 를 보지 않게, 아카이브가 없는 방도 캐시)
+    private int rangeCacheRooms = 10000;
+
+    private long rangeCacheTtlSeconds = 300;
+
+    // 새 아카이브 테이블을 ROW_FORMAT=COMPRESSED 로 만든다 (innodb_file_per_table 필요)
+    private boolean compress = true;
+}
@@ -0,0 +1,22 @@
+package com.talktrip.talktrip.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Redis Pub/Sub 페이로드 인코딩 설정 (chat.codec.*)
+ * 수신 측은 두 형식을 모두 읽으므로, 모든 노드를 배포한 뒤 TAGGED_JSON 으로 바꾸면 된다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "chat.codec")
+public class ChatCodecProperties {
+
+    public enum Format { JSON, TAGGED_JSON }
+
+    // JSON: 기존 JSON 문자열 / TAGGED_JSON: 3바이트 헤더(매직, 버전, 타입) + 클라이언트용 JSON 바이트
+    private Format format = Format.JSON;
+}
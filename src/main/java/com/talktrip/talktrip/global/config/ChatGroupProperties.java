@@ -0,0 +1,25 @@
+package com.talktrip.talktrip.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 단체방 모드 설정 (chat.group.*)
+ * enabled=false 면 GROUP 방도 1:1 방과 같은 경로(수신자별 카운터, 메시지마다 사이드바)로 보낸다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "chat.group")
+public class ChatGroupProperties {
+
+    private boolean enabled = true;
+
+    // 단체방 사이드바를 묶어서 보내는 주기 (클러스터 전체에서 방마다 이 주기에 최대 한 번)
+    private long sidebarIntervalMs = 1000;
+
+    // 방 ID → 단체방 여부 로컬 캐시 크기 (방 종류는 바뀌지 않으므로 무효화 없음)
+    private int maxCachedRooms = 50000;
+}
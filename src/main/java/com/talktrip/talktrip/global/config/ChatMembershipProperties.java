@@ -0,0 +1,28 @@
+package com.talktrip.talktrip.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 방 멤버십 캐시 설정 (chat.membership.*)
+ * STOMP SUBSCRIBE / SEND 권한 확인에 쓰인다. enabled=false 이면 매번 DB 로 확인한다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "chat.membership")
+public class ChatMembershipProperties {
+
+    private boolean enabled = true;
+
+    // 로컬에 담는 방(방 → 멤버) 수
+    private int maxRooms = 20_000;
+
+    // 로컬에 담는 사용자(사용자 → 방) 수
+    private int maxUsers = 20_000;
+
+    // 무효화를 놓쳤을 때를 대비한 최대 보관 시간
+    private long ttlSeconds = 600;
+}
@@ -0,0 +1,34 @@
+package com.talktrip.talktrip.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 채팅 팬아웃 outbox 설정 (chat.outbox.*)
+ * enabled=false 면 기존처럼 커밋 후 afterCommit 에서 바로 Redis 로 발행한다 (실패 시 로그만 남음).
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "chat.outbox")
+public class ChatOutboxProperties {
+
+    private boolean enabled = true;
+
+    // relay 가 한 번에 가져와 발행할 최대 행 수 (FOR UPDATE SKIP LOCKED)
+    private int batchSize = 500;
+
+    // 깨우는 신호가 없을 때 relay 가 outbox 를 다시 확인하는 주기
+    private long pollIntervalMs = 200;
+
+    // 발행 실패(Redis 장애) 후 다시 시도하기 전 대기 시간
+    private long retryBackoffMs = 1000;
+
+    // backlog / lag 지표를 갱신하는 주기 (COUNT 쿼리)
+    private long metricsIntervalMs = 5000;
+
+    // 종료 시 relay 스레드를 기다리는 시간
+    private long shutdownTimeoutMs = 5000;
+}
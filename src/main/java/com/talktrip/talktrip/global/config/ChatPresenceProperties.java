@@ -0,0 +1,31 @@
+package com.talktrip.talktrip.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 접속 상태(presence) 설정 (chat.presence.*)
+ * enabled=false 이면 모든 수신자를 온라인으로 보고 기존처럼 전원에게 사이드바를 보낸다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "chat.presence")
+public class ChatPresenceProperties {
+
+    private boolean enabled = true;
+
+    // 노드가 자기 세션 정보를 Redis 에 다시 쓰는 주기 (ChatPresenceService.heartbeat 가 직접 읽는다)
+    private long heartbeatIntervalMs = 10_000;
+
+    // 이 시간 동안 하트비트가 없는 노드의 세션은 오프라인으로 본다 (heartbeatIntervalMs 의 2~3배)
+    private long ttlSeconds = 30;
+
+    // 세션 수를 기록할 인스턴스 식별자 (비우면 호스트명-프로세스마다 새 난수)
+    private String instanceId;
+
+    // 오프라인 사용자의 놓친 메시지 요약 보관 시간
+    private long missedTtlHours = 72;
+}
@@ -0,0 +1,30 @@
+package com.talktrip.talktrip.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * STOMP SEND 속도 제한 설정 (chat.rate-limit.*)
+ * 토큰 버킷: capacity 만큼 몰아서 보낼 수 있고, 이후에는 초당 refillPerSecond 개씩 다시 채워진다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "chat.rate-limit")
+public class ChatRateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 세션 버킷 (노드 메모리). 한 연결이 폭주하는 것을 막는다.
+    private int sessionCapacity = 20;
+    private double sessionRefillPerSecond = 5;
+
+    // 사용자 버킷 (Redis, 클러스터 공용). 여러 탭/노드로 나눠 보내도 합산된다.
+    private int userCapacity = 40;
+    private double userRefillPerSecond = 10;
+
+    // Redis 를 쓸 수 없을 때 사용자 버킷을 건너뛸지 (false 면 거절)
+    private boolean failOpen = true;
+}
@@ -0,0 +1,25 @@
+package com.talktrip.talktrip.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 읽음 위치(last_member_read_time) 쓰기 버퍼 설정 (chat.read-marker.*)
+ * enabled=false 이면 기존처럼 히스토리 조회마다 바로 UPDATE 한다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "chat.read-marker")
+public class ChatReadMarkerProperties {
+
+    private boolean enabled = true;
+
+    // 모아 둔 읽음 위치를 DB 에 반영하는 주기
+    private long flushIntervalMs = 1000;
+
+    // 대기 중인 (방, 사용자) 수가 이 값을 넘으면 주기를 기다리지 않고 바로 반영
+    private int maxPending = 50000;
+}
@@ -0,0 +1,39 @@
+package com.talktrip.talktrip.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 방별 최근 메시지 캐시 설정 (chat.recent-cache.*)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "chat.recent-cache")
+public class ChatRecentCacheProperties {
+
+    private boolean enabled = true;
+
+    // 방마다 보관하는 최근 메시지 수 (첫 페이지 기본 크기와 맞춘다)
+    private int capacity = 50;
+
+    // 대화가 없는 방의 리스트가 Redis 에서 빠지는 시간
+    private long ttlHours = 24;
+
+    // Redis 앞단의 JVM 로컬 LRU 사용 여부
+    private boolean localEnabled = false;
+
+    // 로컬 LRU 에 담는 방 수
+    private int localMaxRooms = 1000;
+
+    // 다른 노드에서 보낸 메시지가 늦게 보일 수 있는 최대 시간
+    private long localTtlMs = 2000;
+
+    // 발신자 이름 캐시에 담는 회원 수
+    private int senderNameCacheSize = 10000;
+
+    // 발신자 이름(없는 회원 포함)을 다시 조회하기까지의 시간
+    private long senderNameTtlMs = 300000;
+}
@@ -0,0 +1,19 @@
+package com.talktrip.talktrip.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 사용자별 채팅방 정렬 인덱스 설정 (chat.room-index.*)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "chat.room-index")
+public class ChatRoomIndexProperties {
+
+    // 활동이 없는 사용자의 인덱스가 Redis 에서 빠지는 시간 (다음 조회 때 DB 에서 재구성)
+    private long ttlHours = 168;
+}
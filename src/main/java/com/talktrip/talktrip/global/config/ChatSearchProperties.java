@@ -0,0 +1,40 @@
+package com.talktrip.talktrip.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 채팅 검색 역색인 설정 (chat.search.*)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "chat.search")
+public class ChatSearchProperties {
+
+    // false 면 발신 경로에서 색인하지 않는다 (검색은 이미 쌓인 색인으로만 동작)
+    private boolean enabled = true;
+
+    // 메시지 하나에서 색인할 최대 토큰 수 (긴 메시지가 키를 과도하게 늘리지 않도록)
+    private int maxTokensPerMessage = 64;
+
+    private int defaultPageSize = 20;
+    private int maxPageSize = 50;
+
+    // 전체 검색 시 훑을 최대 방 수
+    private int maxRoomsPerQuery = 300;
+
+    // 가장 작은 토큰 집합을 한 번에 읽는 개수 (Lua 교집합 스캔 단위)
+    private int scanChunk = 200;
+
+    // 검색 한 번에 방마다 훑는 최대 항목 수. 넘으면 멈춘 위치를 다음 커서로 돌려준다 (Redis 를 오래 잡지 않게)
+    private int maxScanPerRoom = 2000;
+
+    // 색인 보존 기간. 기본값은 아카이브 전 핫 테이블 보존 기간(chat.archive.hot-retention-days)과 같다
+    private int retentionDays = 180;
+
+    // 기존 메시지 백필(chat.search.backfill-on-startup=true)에서 한 번에 읽는 수
+    private int backfillBatchSize = 1000;
+}
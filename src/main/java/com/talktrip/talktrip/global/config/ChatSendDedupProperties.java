@@ -0,0 +1,26 @@
+package com.talktrip.talktrip.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 메시지 전송 중복 제거 설정 (chat.dedup.*)
+ * SEND 프레임의 clientMessageKey 로 같은 메시지가 두 번 저장/발행되지 않게 한다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "chat.dedup")
+public class ChatSendDedupProperties {
+
+    // 저장이 끝난 키를 기억하는 시간 (이 안에 같은 키로 다시 보내면 원래 영수증만 돌려준다)
+    private long windowSeconds = 600;
+
+    // 처리 중 표시의 유효 시간 (처리하던 노드가 죽어도 이 시간이 지나면 재전송을 받아들인다)
+    private long pendingTtlSeconds = 30;
+
+    // clientMessageKey 최대 길이 (DB 컬럼 길이와 같게)
+    private int maxKeyLength = 64;
+}
@@ -0,0 +1,20 @@
+package com.talktrip.talktrip.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 노드별 Redis 채널 구독 방식 설정 (chat.subscription.*)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "chat.subscription")
+public class ChatSubscriptionProperties {
+
+    // true: 로컬 세션이 있는 방/사용자 채널만 정확히 구독
+    // false: 기존처럼 chat:room:* / chat:user:* / chat:sidebar:* 패턴 전체 구독
+    private boolean interestBased = true;
+}
@@ -0,0 +1,29 @@
+package com.talktrip.talktrip.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 재연결 동기화 API 설정 (chat.sync.*)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "chat.sync")
+public class ChatSyncProperties {
+
+    // 방마다 돌려줄 최대 새 메시지 수 (넘으면 truncated, 나머지는 방 메시지 API 로)
+    private int maxMessagesPerRoom = 50;
+
+    // 바뀐 방이 이보다 많으면 델타 대신 전체 목록(reset)을 돌려준다
+    private int maxRooms = 200;
+
+    // 새 토큰을 지금보다 이만큼 앞선 시각으로 잡는다
+    // (write-behind/읽음 위치 flush 지연, 노드 간 시계 차이 흡수. 겹친 구간의 메시지는 messageId 로 중복 제거)
+    private long overlapMs = 5000;
+
+    // 이보다 오래된 토큰은 델타 대신 전체 목록(reset)
+    private long maxTokenAgeHours = 72;
+}
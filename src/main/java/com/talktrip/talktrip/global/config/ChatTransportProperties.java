@@ -0,0 +1,44 @@
+package com.talktrip.talktrip.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 방 메시지 팬아웃 전송 방식 설정 (chat.transport.*)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "chat.transport")
+public class ChatTransportProperties {
+
+    public enum Mode { PUBSUB, STREAM }
+
+    // PUBSUB: 기존 chat:room:{roomId} Pub/Sub (유실 가능)
+    // STREAM: chat:stream:{shard} Redis Stream + 노드별 컨슈머 그룹 (재연결 시 재전송 가능)
+    private Mode mode = Mode.PUBSUB;
+
+    // 방은 roomId 해시로 샤드 스트림에 나뉜다. 운영 중 바꾸면 기존 last-stream-id 가 무효가 된다
+    private int streamShards = 16;
+
+    // 샤드별 보관 개수 (XADD MAXLEN ~)
+    private long streamMaxLen = 10_000;
+
+    // 재연결 재전송 시 최대 메시지 수
+    private int replayLimit = 200;
+
+    private long pollTimeoutMs = 2_000;
+
+    // 컨슈머 그룹 이름에 쓰이는 노드 이름 (비우면 프로세스마다 새로 정해지는 인스턴스 ID)
+    private String nodeName;
+
+    // 로컬 구독이 없어진 샤드의 읽기를 멈추는 점검 주기
+    private long localShardRefreshMs = 30_000;
+
+    // 모든 컨슈머가 이 시간 이상 읽지 않은 다른 노드의 그룹은 죽은 인스턴스로 보고 지운다 (pollTimeoutMs 보다 충분히 길게)
+    private long groupIdleMs = 3_600_000;
+
+    private long groupCleanupIntervalMs = 600_000;
+}
@@ -0,0 +1,31 @@
+package com.talktrip.talktrip.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 안 읽은 메시지 카운터 설정 (chat.unread.*)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "chat.unread")
+public class ChatUnreadProperties {
+
+    // 사용자별 Redis 해시 TTL. 만료되면 다음 조회 때 DB 카운터로 다시 채운다.
+    private long keyTtlHours = 168;
+
+    // 메시지 테이블 기준으로 카운터를 재계산하는 주기 (ChatUnreadCounterReconciler 의 @Scheduled 가 읽는다)
+    private String reconcileCron = "0 30 4 * * *";
+
+    // 기동 시 한 번 재계산 (크래시 후 재기동 용)
+    private boolean reconcileOnStartup = false;
+
+    // 재계산 작업 분산 락 유지 시간
+    private long reconcileLockSeconds = 600;
+
+    // 재계산 시 한 번에 쓰는 행 수
+    private int reconcileBatchSize = 1000;
+}
@@ -0,0 +1,41 @@
+package com.talktrip.talktrip.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 채팅 메시지 write-behind 저장 설정 (chat.write-behind.*)
+ * enabled=false 이면 기존처럼 SEND 마다 JPA 트랜잭션 안에서 바로 저장한다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "chat.write-behind")
+public class ChatWriteBehindProperties {
+
+    private boolean enabled = false;
+
+    // 메모리 큐 최대 크기 (가득 차면 SEND 를 거절)
+    private int queueCapacity = 10000;
+
+    // 한 번의 flush 에 묶을 최대 메시지 수
+    private int flushSize = 500;
+
+    // 큐가 비어 있을 때 writer 가 대기하는 최대 시간
+    private long flushIntervalMs = 50;
+
+    private Durability durability = Durability.ASYNC;
+
+    // GROUP_COMMIT 모드에서 호출 스레드가 flush 완료를 기다리는 최대 시간
+    private long groupCommitTimeoutMs = 2000;
+
+    // 종료 시 남은 큐를 비우는 데 허용하는 시간
+    private long shutdownTimeoutMs = 10000;
+
+    public enum Durability {
+        ASYNC,        // 큐 적재 즉시 팬아웃 (노드 장애 시 flush 전 메시지 유실 가능)
+        GROUP_COMMIT  // 메시지가 포함된 배치가 커밋된 뒤 팬아웃
+    }
+}
@@ -0,0 +1,25 @@
+package com.talktrip.talktrip.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Redis 연결 상태 서킷 설정 (redis.health.*)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "redis.health")
+public class RedisHealthProperties {
+
+    // 연속 실패가 이 횟수에 닿으면 서킷을 연다
+    private int failureThreshold = 3;
+
+    // 서킷을 연 뒤 HALF_OPEN 으로 넘어가기까지 기다리는 시간
+    private long openDurationMs = 5000;
+
+    // 백그라운드 PING 주기
+    private long probeIntervalMs = 1000;
+}
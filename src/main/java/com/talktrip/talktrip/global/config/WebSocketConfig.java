@@ -1,6 +1,7 @@
 package com.talktrip.talktrip.global.config;
 
 import com.talktrip.talktrip.global.interceptor.JwtStompChannelInterceptor;
+import com.talktrip.talktrip.global.interceptor.StompRateLimitInterceptor;
 import com.talktrip.talktrip.global.interceptor.WebSocketHandshakeInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,6 +19,7 @@ import org.springframework.web.socket.config.annotation.WebSocketTransportRegist
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final WebSocketHandshakeInterceptor handshakeInterceptor;
+    private final StompRateLimitInterceptor rateLimitInterceptor;
     
     // JwtStompChannelInterceptor를 선택적 의존성으로 변경
     @Autowired(required = false)
@@ -29,6 +31,8 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         if (jwtStompChannelInterceptor != null) {
             registration.interceptors(jwtStompChannelInterceptor);
         }
+        // 인증(Principal 복구) 뒤에 속도 제한
+        registration.interceptors(rateLimitInterceptor);
     }
     
     @Override
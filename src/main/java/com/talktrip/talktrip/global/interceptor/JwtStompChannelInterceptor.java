@@ -1,5 +1,6 @@
 package com.talktrip.talktrip.global.interceptor;
 
+import com.talktrip.talktrip.domain.chat.service.ChatMembershipCache;
 import com.talktrip.talktrip.domain.member.entity.Member;
 import com.talktrip.talktrip.domain.member.repository.MemberRepository;
 import com.talktrip.talktrip.global.util.JWTUtil;
@@ -25,8 +26,11 @@ import java.util.Map;
 @ConditionalOnProperty(name = "spring.profiles.active", havingValue = "!test", matchIfMissing = true)
 public class JwtStompChannelInterceptor implements ChannelInterceptor {
 
+    private static final String ROOM_TOPIC_PREFIX = "/topic/chat/room/";
+
     private final JWTUtil jwtProvider;
     private final MemberRepository memberRepository;
+    private final ChatMembershipCache membershipCache;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -36,7 +40,7 @@ public class JwtStompChannelInterceptor implements ChannelInterceptor {
         StompCommand cmd = acc.getCommand();
         if (cmd == null) return message;
         //simpDestination -> /topic/chat/room/ROOM_0f7871a736 이렇게 config에 지정된 topic 만 subscribe
-        // CONNECT 또는 STOMP에서만 토큰을 강제, ***SUBSCRIBE도 추가 해줘야함...!!!
+        // CONNECT 또는 STOMP에서만 토큰을 강제, SUBSCRIBE 는 방 멤버십으로 확인
         if (StompCommand.CONNECT.equals(cmd) || StompCommand.STOMP.equals(cmd)) {
             String auth = firstNativeHeaderIgnoreCase(acc, "Authorization");
             if (auth == null || !auth.startsWith("Bearer ")) {
@@ -81,29 +85,49 @@ public class JwtStompChannelInterceptor implements ChannelInterceptor {
 
         // 메시지 전송(SEND) 시에는 STOMP 세션에서만 복구/확인
         if (StompCommand.SEND.equals(cmd)) {
-            Principal principal = acc.getUser();
-
-            if (principal == null) {
-                Map<String, Object> sessionAttributes = acc.getSessionAttributes();
-                if (sessionAttributes != null) {
-                    Object saved = sessionAttributes.get("wsPrincipal");
-                    if (saved instanceof Principal) {
-                        principal = (Principal) saved;
-                    }
-                }
-            }
+            Principal principal = restorePrincipal(acc);
 
             if (principal == null) {
                 throw new AccessDeniedException("Unauthenticated WebSocket session");
             }
 
-            // 이후 핸들러에서 Principal 주입 보장
+            // 이후 핸들러에서 Principal 주입 보장 (방 멤버십은 payload 의 roomId 로 ChatService 에서 확인)
             acc.setUser(principal);
         }
 
+        // 방 토픽 구독은 그 방 멤버만 (멤버십 캐시, DB 조회 없음)
+        if (StompCommand.SUBSCRIBE.equals(cmd)) {
+            String destination = acc.getDestination();
+            if (destination != null && destination.startsWith(ROOM_TOPIC_PREFIX)) {
+                Principal principal = restorePrincipal(acc);
+                if (principal == null) {
+                    throw new AccessDeniedException("Unauthenticated WebSocket session");
+                }
+                String roomId = destination.substring(ROOM_TOPIC_PREFIX.length());
+                if (!membershipCache.isMember(roomId, principal.getName())) {
+                    throw new AccessDeniedException("Not a member of this room");
+                }
+                acc.setUser(principal);
+            }
+        }
+
         return message;
     }
 
+    private Principal restorePrincipal(StompHeaderAccessor acc) {
+        Principal principal = acc.getUser();
+        if (principal == null) {
+            Map<String, Object> sessionAttributes = acc.getSessionAttributes();
+            if (sessionAttributes != null) {
+                Object saved = sessionAttributes.get("wsPrincipal");
+                if (saved instanceof Principal) {
+                    principal = (Principal) saved;
+                }
+            }
+        }
+        return principal;
+    }
+
     private String firstNativeHeaderIgnoreCase(StompHeaderAccessor acc, String key) {
         if (acc == null || key == null) return null;
         List<String> exact = acc.getNativeHeader(key);
@@ -0,0 +1,218 @@
+package com.talktrip.talktrip.global.interceptor;
+
+import com.talktrip.talktrip.global.config.ChatRateLimitProperties;
+import com.talktrip.talktrip.global.redis.RedisHealthMonitor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * STOMP SEND 토큰 버킷 속도 제한.
+ * - 세션 버킷: 노드 메모리 (세션은 한 노드에만 있다)
+ * - 사용자 버킷: Redis Lua (클러스터 공용, Redis TIME 기준이라 노드 시계 차이와 무관)
+ * 초과한 프레임은 컨트롤러(=DB 트랜잭션)까지 가지 않고 버려지며, 보낸 사용자에게 /queue/errors 로 알린다.
+ * JwtStompChannelInterceptor 뒤에 등록되어 SEND 의 Principal 이 복구된 상태에서 동작한다.
+ */
+@Slf4j
+@Component
+public class StompRateLimitInterceptor implements ChannelInterceptor {
+
+    static final String USER_KEY_PREFIX = "chat:ratelimit:user:";
+    static final String ERROR_CODE = "RATE_LIMITED";
+
+    // KEYS[1] = 버킷 해시 (tokens, ts), ARGV[1] = capacity, ARGV[2] = 초당 충전량
+    // 반환: {허용 여부(1/0), 다음 토큰까지 남은 ms}
+    private static final DefaultRedisScript<List> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local t = redis.call('TIME')
+            local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1]) or capacity
+            local ts = tonumber(bucket[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate / 1000)
+            local allowed = 0
+            local wait = 0
+            if tokens >= 1 then
+                tokens = tokens - 1
+                allowed = 1
+            else
+                wait = math.ceil((1 - tokens) * 1000 / rate)
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity * 1000 / rate) + 1000)
+            return {allowed, wait}
+            """, List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisHealthMonitor redisHealthMonitor;
+    private final ObjectProvider<SimpMessagingTemplate> messagingTemplate;
+    private final ChatRateLimitProperties properties;
+
+    private final Map<String, LocalBucket> sessionBuckets = new ConcurrentHashMap<>();
+    private final Counter sessionRejected;
+    private final Counter userRejected;
+    private final Counter redisSkipped;
+
+    // SimpMessagingTemplate 은 이 인터셉터가 등록되는 인바운드 채널 설정에 의존하므로 지연 조회한다
+    public StompRateLimitInterceptor(StringRedisTemplate stringRedisTemplate,
+                                     RedisHealthMonitor redisHealthMonitor,
+                                     ObjectProvider<SimpMessagingTemplate> messagingTemplate,
+                                     ChatRateLimitProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisHealthMonitor = redisHealthMonitor;
+        this.messagingTemplate = messagingTemplate;
+        this.properties = properties;
+
+        this.sessionRejected = Counter.builder("chat.ratelimit.rejected")
+                .description("속도 제한으로 버린 STOMP SEND 수")
+                .tag("scope", "session")
+                .register(meterRegistry);
+        this.userRejected = Counter.builder("chat.ratelimit.rejected")
+                .description("속도 제한으로 버린 STOMP SEND 수")
+                .tag("scope", "user")
+                .register(meterRegistry);
+        this.redisSkipped = Counter.builder("chat.ratelimit.redis.skipped")
+                .description("Redis 를 쓸 수 없어 사용자 버킷을 건너뛴 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.ratelimit.session.buckets", sessionBuckets, Map::size)
+                .description("세션 버킷 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor acc = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (acc == null || acc.getCommand() == null) return message;
+
+        if (StompCommand.DISCONNECT.equals(acc.getCommand())) {
+            // 비정상 종료도 StompSubProtocolHandler 가 DISCONNECT 를 인바운드 채널로 보낸다
+            if (acc.getSessionId() != null) sessionBuckets.remove(acc.getSessionId());
+            return message;
+        }
+        if (!properties.isEnabled() || !StompCommand.SEND.equals(acc.getCommand())) return message;
+
+        String sessionId = acc.getSessionId();
+        if (sessionId != null) {
+            LocalBucket bucket = sessionBuckets.computeIfAbsent(sessionId, id ->
+                    new LocalBucket(properties.getSessionCapacity(), properties.getSessionRefillPerSecond()));
+            long waitMs = bucket.tryAcquire(System.nanoTime());
+            if (waitMs > 0) {
+                sessionRejected.increment();
+                reject(acc, "session", waitMs);
+                return null;
+            }
+        }
+
+        Principal principal = acc.getUser();
+        if (principal != null) {
+            long waitMs = acquireUser(principal.getName());
+            if (waitMs > 0) {
+                userRejected.increment();
+                reject(acc, "user", waitMs);
+                return null;
+            }
+        }
+        return message;
+    }
+
+    /**
+     * @return 0 이면 허용, 아니면 다음 토큰까지 남은 ms
+     */
+    private long acquireUser(String accountEmail) {
+        if (!redisHealthMonitor.isAvailable()) {
+            return skipUserBucket();
+        }
+        try {
+            List<?> result = stringRedisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(USER_KEY_PREFIX + accountEmail),
+                    String.valueOf(properties.getUserCapacity()), String.valueOf(properties.getUserRefillPerSecond()));
+            redisHealthMonitor.recordSuccess();
+            if (result == null || result.size() < 2) return 0;
+            return toLong(result.get(0)) == 1 ? 0 : Math.max(1, toLong(result.get(1)));
+        } catch (Exception e) {
+            redisHealthMonitor.recordFailure(e);
+            log.debug("[RateLimit] 사용자 버킷 확인 실패 ({}): {}", accountEmail, e.getMessage());
+            return skipUserBucket();
+        }
+    }
+
+    private long skipUserBucket() {
+        redisSkipped.increment();
+        return properties.isFailOpen() ? 0 : 1000;
+    }
+
+    private void reject(StompHeaderAccessor acc, String scope, long retryAfterMs) {
+        Principal principal = acc.getUser();
+        log.debug("[RateLimit] SEND 거절 scope={} session={} user={}", scope, acc.getSessionId(),
+                principal != null ? principal.getName() : null);
+        if (principal == null) return;
+
+        Map<String, Object> error = new LinkedHashMap<>();
+        error.put("errorCode", ERROR_CODE);
+        error.put("scope", scope);
+        error.put("destination", acc.getDestination());
+        error.put("retryAfterMs", retryAfterMs);
+        error.put("details", "메시지를 너무 빠르게 보내고 있습니다. 잠시 후 다시 시도해 주세요.");
+        error.put("failedAt", LocalDateTime.now().toString());
+        try {
+            messagingTemplate.getObject().convertAndSendToUser(principal.getName(), "/queue/errors", error);
+        } catch (Exception e) {
+            log.debug("[RateLimit] 거절 알림 실패: {}", e.getMessage());
+        }
+    }
+
+    int sessionBucketCount() {
+        return sessionBuckets.size();
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number n ? n.longValue() : Long.parseLong(String.valueOf(value));
+    }
+
+    /**
+     * 세션 하나의 토큰 버킷 (같은 세션의 프레임은 거의 순차적이라 synchronized 로 충분)
+     */
+    static final class LocalBucket {
+        private final double capacity;
+        private final double refillPerNano;
+        private double tokens;
+        private long lastNanos;
+
+        LocalBucket(int capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerNano = refillPerSecond / 1_000_000_000d;
+            this.tokens = capacity;
+            this.lastNanos = System.nanoTime();
+        }
+
+        synchronized long tryAcquire(long nowNanos) {
+            tokens = Math.min(capacity, tokens + Math.max(0, nowNanos - lastNanos) * refillPerNano);
+            lastNanos = nowNanos;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((1 - tokens) / refillPerNano / 1_000_000d));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.talktrip.talktrip.global.logger;
 
+import com.talktrip.talktrip.domain.chat.service.ChatPresenceService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
@@ -13,23 +14,23 @@ import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 @RequiredArgsConstructor
 public class WebSocketEventsLogger {
 
-    private final String instanceId;
+    private final ChatPresenceService presenceService; // 인스턴스 식별자
 
     @EventListener
     public void onConnect(SessionConnectEvent e) {
         StompHeaderAccessor acc = StompHeaderAccessor.wrap(e.getMessage());
-        log.info("[{}][WS] CONNECT sessionId={}, user={}", instanceId, acc.getSessionId(), acc.getUser());
+        log.info("[{}][WS] CONNECT sessionId={}, user={}", presenceService.getInstanceId(), acc.getSessionId(), acc.getUser());
     }
 
     @EventListener
     public void onDisconnect(SessionDisconnectEvent e) {
         StompHeaderAccessor acc = StompHeaderAccessor.wrap(e.getMessage());
-        log.info("[{}][WS] DISCONNECT sessionId={}, closeStatus={}", instanceId, acc.getSessionId(), e.getCloseStatus());
+        log.info("[{}][WS] DISCONNECT sessionId={}, closeStatus={}", presenceService.getInstanceId(), acc.getSessionId(), e.getCloseStatus());
     }
 
     @EventListener
     public void onMessage(StompHeaderAccessor acc) {
-        log.info("[{}][WS] MESSAGE sessionId={}, user={}", instanceId, acc.getSessionId(), acc.getUser());
+        log.info("[{}][WS] MESSAGE sessionId={}, user={}", presenceService.getInstanceId(), acc.getSessionId(), acc.getUser());
     }
 //    - 인스턴스 ID 태깅: 각 WAS가 자신만의 instanceId(예: hostname:port 또는 랜덤 UUID)를 가지게 하고, 주요 지점(시작, Redis 수신, WebSocket 전송, STOMP 연결/해제 이벤트)에 로그에 찍기.
 //- Actuator info 노출: /actuator/info에 instanceId를 노출해 각 포트(8081/8082/8083)에서 서로 다른 값이 보이는지 확인.
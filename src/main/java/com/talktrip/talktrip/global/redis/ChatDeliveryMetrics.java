@@ -0,0 +1,154 @@
+package com.talktrip.talktrip.global.redis;
+
+import com.talktrip.talktrip.domain.chat.dto.response.ChatDeliveryTrace;
+import com.talktrip.talktrip.domain.chat.service.ChatPresenceService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 방 메시지 전달 지연 (노드별).
+ * 메시지를 로컬 구독자에게 넘긴 노드가 ChatMessagePush.trace 와 자기 수신/브로커 전달 시각으로 단계별 Timer 를 기록한다.
+ * - chat.delivery.stage{stage=persist|publish|transit|broker, instance}
+ *   persist = 수락→저장, publish = 저장→발행 (커밋 대기 포함), transit = 발행→수신, broker = 수신→브로커 전달
+ * - chat.delivery.latency{instance} : 수락→브로커 전달 (end-to-end)
+ * transit 과 end-to-end 는 노드 간 시계 차이가 섞인다. 음수가 나오면 0 으로 기록하고 chat.delivery.clock_skew 를 센다.
+ * 백분위 히스토그램을 내보내므로 /actuator/metrics, /actuator/prometheus 에서 노드별로 볼 수 있다.
+ */
+@Component
+public class ChatDeliveryMetrics {
+
+    private static final byte[] TRACE_FIELD = "\"trace\":{".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ACCEPTED_FIELD = "\"acceptedAt\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] PERSISTED_FIELD = "\"persistedAt\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] PUBLISHED_FIELD = "\"publishedAt\":".getBytes(StandardCharsets.UTF_8);
+
+    private final String instanceId;
+    private final Timer persistTimer;
+    private final Timer publishTimer;
+    private final Timer transitTimer;
+    private final Timer brokerTimer;
+    private final Timer endToEndTimer;
+    private final Counter clockSkew;
+
+    public ChatDeliveryMetrics(ChatPresenceService presenceService, MeterRegistry meterRegistry) {
+        this.instanceId = presenceService.getInstanceId();
+        this.persistTimer = stageTimer(meterRegistry, "persist");
+        this.publishTimer = stageTimer(meterRegistry, "publish");
+        this.transitTimer = stageTimer(meterRegistry, "transit");
+        this.brokerTimer = stageTimer(meterRegistry, "broker");
+        this.endToEndTimer = histogram(Timer.builder("chat.delivery.latency"))
+                .tag("instance", instanceId)
+                .description("방 메시지 수락부터 브로커 전달까지 지연")
+                .register(meterRegistry);
+        this.clockSkew = Counter.builder("chat.delivery.clock_skew")
+                .tag("instance", instanceId)
+                .description("노드 간 시계 차이로 음수가 나와 0 으로 기록한 단계 수")
+                .register(meterRegistry);
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    /**
+     * receivedAt = 이 노드가 Redis 에서 받은 시각, handedAt = 브로커에 넘긴 시각 (epoch µs).
+     */
+    public void record(ChatDeliveryTrace trace, long receivedAt, long handedAt) {
+        if (trace == null || trace.getAcceptedAt() == 0) return;
+        stage(persistTimer, trace.getAcceptedAt(), trace.getPersistedAt());
+        stage(publishTimer, trace.getPersistedAt(), trace.getPublishedAt());
+        stage(transitTimer, trace.getPublishedAt(), receivedAt);
+        stage(brokerTimer, receivedAt, handedAt);
+        stage(endToEndTimer, trace.getAcceptedAt(), handedAt);
+    }
+
+    private void stage(Timer timer, long from, long to) {
+        if (from == 0 || to == 0) return;
+        long micros = to - from;
+        if (micros < 0) {
+            clockSkew.increment();
+            micros = 0;
+        }
+        timer.record(micros, TimeUnit.MICROSECONDS);
+    }
+
+    /**
+     * 방 메시지 JSON 바이트에서 trace 만 읽는다 (Pub/Sub 경로는 본문을 파싱하지 않고 그대로 넘기므로).
+     * trace 는 ChatMessagePush 의 마지막 필드라 뒤에서부터 찾는다. 문자열 값 안의 따옴표는 이스케이프되어 있어 오인하지 않는다.
+     */
+    static ChatDeliveryTrace extract(byte[] json) {
+        int start = lastIndexOf(json, TRACE_FIELD);
+        if (start < 0) return null;
+        int from = start + TRACE_FIELD.length;
+        int end = from;
+        while (end < json.length && json[end] != '}') end++;
+        return new ChatDeliveryTrace(readLong(json, from, end, ACCEPTED_FIELD),
+                readLong(json, from, end, PERSISTED_FIELD), readLong(json, from, end, PUBLISHED_FIELD));
+    }
+
+    /**
+     * 클라이언트로 넘길 JSON 바이트에서 trace 필드를 잘라 낸다 (마지막 필드이므로 ,"trace":{...} 를 닫는 괄호로 바꾼다).
+     * trace 가 없으면 그대로 돌려준다.
+     */
+    static byte[] withoutTrace(byte[] json) {
+        int start = lastIndexOf(json, TRACE_FIELD);
+        if (start <= 0 || json[start - 1] != ',') return json;
+        byte[] out = Arrays.copyOf(json, start);
+        out[start - 1] = '}';
+        return out;
+    }
+
+    private static long readLong(byte[] json, int from, int end, byte[] field) {
+        int at = indexOf(json, field, from, end);
+        if (at < 0) return 0L;
+        long value = 0;
+        for (int i = at + field.length; i < end && json[i] >= '0' && json[i] <= '9'; i++) {
+            value = value * 10 + (json[i] - '0');
+        }
+        return value;
+    }
+
+    private static int indexOf(byte[] json, byte[] pattern, int from, int end) {
+        for (int i = from; i <= end - pattern.length; i++) {
+            if (matches(json, pattern, i)) return i;
+        }
+        return -1;
+    }
+
+    private static int lastIndexOf(byte[] json, byte[] pattern) {
+        for (int i = json.length - pattern.length; i >= 0; i--) {
+            if (matches(json, pattern, i)) return i;
+        }
+        return -1;
+    }
+
+    private static boolean matches(byte[] json, byte[] pattern, int at) {
+        for (int k = 0; k < pattern.length; k++) {
+            if (json[at + k] != pattern[k]) return false;
+        }
+        return true;
+    }
+
+    private Timer stageTimer(MeterRegistry meterRegistry, String stage) {
+        return histogram(Timer.builder("chat.delivery.stage"))
+                .tag("stage", stage)
+                .tag("instance", instanceId)
+                .description("방 메시지 전달 단계별 지연")
+                .register(meterRegistry);
+    }
+
+    private static Timer.Builder histogram(Timer.Builder builder) {
+        return builder
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(100_000))
+                .maximumExpectedValue(Duration.ofSeconds(10));
+    }
+}
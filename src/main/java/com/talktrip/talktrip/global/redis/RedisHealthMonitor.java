@@ -0,0 +1,107 @@
+package com.talktrip.talktrip.global.redis;
+
+import com.talktrip.talktrip.global.config.RedisHealthProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Redis 연결 상태 서킷 브레이커.
+ * 메시지마다 Redis 에 GET 을 보내는 대신 아래 신호로 상태를 유지하고, 호출부는 isAvailable() 만 본다.
+ * - 명령 실패/성공 보고 (연속 실패 failureThreshold 회 → OPEN)
+ * - 백그라운드 PING (OPEN 이 openDurationMs 지나면 HALF_OPEN 에서 확인 후 CLOSED)
+ * Lettuce 연결 이벤트는 쓰지 않는다. 파이프라인/전용/Pub/Sub 연결은 평소에도 닫히므로 장애 신호가 아니다.
+ */
+@Slf4j
+@Component
+public class RedisHealthMonitor {
+
+    public enum State { CLOSED, HALF_OPEN, OPEN }
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisHealthProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAt;
+
+    public RedisHealthMonitor(StringRedisTemplate stringRedisTemplate,
+                              RedisHealthProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("redis.circuit.state", state, s -> s.get().ordinal())
+                .description("Redis 서킷 상태 (0=CLOSED, 1=HALF_OPEN, 2=OPEN)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * O(1) 확인. HALF_OPEN 에서는 요청을 흘려보내고 그 결과로 닫거나 다시 연다.
+     */
+    public boolean isAvailable() {
+        return state.get() != State.OPEN;
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    public void recordSuccess() {
+        consecutiveFailures.set(0);
+        if (state.get() == State.HALF_OPEN) {
+            transition(State.HALF_OPEN, State.CLOSED);
+        }
+    }
+
+    public void recordFailure(Throwable cause) {
+        if (state.get() == State.HALF_OPEN
+                || consecutiveFailures.incrementAndGet() >= properties.getFailureThreshold()) {
+            open(cause.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "#{@redisHealthProperties.probeIntervalMs}")
+    public void probe() {
+        State current = state.get();
+        if (current == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt < properties.getOpenDurationMs()) return;
+            transition(State.OPEN, State.HALF_OPEN);
+        }
+        try {
+            stringRedisTemplate.execute(RedisConnection::ping, true);
+            recordSuccess();
+        } catch (Exception e) {
+            recordFailure(e);
+        }
+    }
+
+    private void open(String reason) {
+        State previous = state.getAndSet(State.OPEN);
+        openedAt = System.currentTimeMillis();
+        if (previous != State.OPEN) {
+            log.warn("[RedisHealth] 서킷 OPEN ({} → OPEN): {}", previous, reason);
+            countTransition(previous, State.OPEN);
+        }
+    }
+
+    private void transition(State from, State to) {
+        if (state.compareAndSet(from, to)) {
+            log.info("[RedisHealth] 서킷 상태 변경 {} → {}", from, to);
+            countTransition(from, to);
+        }
+    }
+
+    private void countTransition(State from, State to) {
+        meterRegistry.counter("redis.circuit.transitions", "from", from.name(), "to", to.name()).increment();
+    }
+}
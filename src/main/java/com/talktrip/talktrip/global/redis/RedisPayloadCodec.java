@@ -0,0 +1,101 @@
+package com.talktrip.talktrip.global.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talktrip.talktrip.domain.chat.dto.response.ChatMessagePush;
+import com.talktrip.talktrip.domain.chat.message.dto.ChatMembershipEvent;
+import com.talktrip.talktrip.domain.chat.message.dto.ChatMembershipInvalidation;
+import com.talktrip.talktrip.domain.chat.message.dto.ChatRoomSidebarEvent;
+import com.talktrip.talktrip.domain.chat.message.dto.ChatRoomUpdateMessage;
+import com.talktrip.talktrip.global.config.ChatCodecProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Redis Pub/Sub 페이로드 코덱.
+ * TAGGED_JSON 형식: [0]=매직(0xC7) [1]=버전 [2]=타입 코드 [3..]=클라이언트에 그대로 보낼 JSON 바이트
+ * 본문을 클라이언트용 JSON 으로 두기 때문에 수신 측은 DTO 로 파싱/재직렬화하지 않고 바이트를 브로커로 넘길 수 있다.
+ * 헤더가 없으면 기존 JSON 문자열(이중 인코딩 포함)로 보고 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisPayloadCodec {
+
+    static final byte MAGIC = (byte) 0xC7;
+    static final byte VERSION = 1;
+    static final int HEADER_LENGTH = 3;
+
+    private final ObjectMapper objectMapper;
+    private final ChatCodecProperties properties;
+
+    public enum PayloadType {
+        UNKNOWN((byte) 0, null),
+        ROOM_MESSAGE((byte) 1, ChatMessagePush.class),
+        ROOM_UPDATE((byte) 2, ChatRoomUpdateMessage.class),
+        ROOM_SIDEBAR((byte) 3, ChatRoomSidebarEvent.class),
+        MEMBERSHIP((byte) 4, ChatMembershipEvent.class),
+        MEMBERSHIP_INVALIDATION((byte) 5, ChatMembershipInvalidation.class);
+
+        private final byte code;
+        private final Class<?> type;
+
+        PayloadType(byte code, Class<?> type) {
+            this.code = code;
+            this.type = type;
+        }
+
+        static PayloadType of(Object payload) {
+            for (PayloadType t : values()) {
+                if (t.type != null && t.type.isInstance(payload)) return t;
+            }
+            return UNKNOWN;
+        }
+
+        static PayloadType fromCode(byte code) {
+            for (PayloadType t : values()) {
+                if (t.code == code) return t;
+            }
+            return UNKNOWN;
+        }
+    }
+
+    /**
+     * 디코딩 결과. json 은 클라이언트/DTO 용 JSON 바이트 (헤더 제외).
+     */
+    public record Decoded(PayloadType type, byte[] json) {}
+
+    public byte[] encode(Object payload) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(payload);
+        if (properties.getFormat() == ChatCodecProperties.Format.JSON) {
+            return json;
+        }
+        byte[] out = new byte[HEADER_LENGTH + json.length];
+        out[0] = MAGIC;
+        out[1] = VERSION;
+        out[2] = PayloadType.of(payload).code;
+        System.arraycopy(json, 0, out, HEADER_LENGTH, json.length);
+        return out;
+    }
+
+    public Decoded decode(byte[] body) throws IOException {
+        if (body.length >= HEADER_LENGTH && body[0] == MAGIC) {
+            if (body[1] != VERSION) {
+                throw new IllegalArgumentException("지원하지 않는 페이로드 버전입니다: " + body[1]);
+            }
+            return new Decoded(PayloadType.fromCode(body[2]), Arrays.copyOfRange(body, HEADER_LENGTH, body.length));
+        }
+        // 기존 형식: JSON 문자열. 이중 직렬화된 문자열이면 한 번 벗긴다
+        if (body.length > 0 && body[0] == '"') {
+            String unwrapped = objectMapper.readValue(body, String.class);
+            return new Decoded(PayloadType.UNKNOWN, unwrapped.getBytes(StandardCharsets.UTF_8));
+        }
+        return new Decoded(PayloadType.UNKNOWN, body);
+    }
+
+    public <T> T read(Decoded decoded, Class<T> type) throws IOException {
+        return objectMapper.readValue(decoded.json(), type);
+    }
+}
@@ -1,6 +1,7 @@
 package com.talktrip.talktrip.global.redis;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talktrip.talktrip.global.config.ChatSubscriptionProperties;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
@@ -31,14 +32,21 @@ public class RedisPubSubConfig {
     @Bean
     public RedisMessageListenerContainer redisMessageListenerContainer(
             RedisConnectionFactory connectionFactory,
-            @Qualifier("redisSubscriber") MessageListener subscriber // MessageListener 주입
+            @Qualifier("redisSubscriber") MessageListener subscriber, // MessageListener 주입
+            ChatSubscriptionProperties subscriptionProperties
     ) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
 
-        // 패턴 기반 메시지 리스너 추가
-        container.addMessageListener(subscriber, new PatternTopic("chat:room:*"));
-        container.addMessageListener(subscriber, new PatternTopic("chat:user:*"));
+        // 관심 기반 구독이면 채널은 RedisSubscriptionManager 가 세션 이벤트에 맞춰 동적으로 추가/제거
+        if (!subscriptionProperties.isInterestBased()) {
+            // 패턴 기반 메시지 리스너 추가
+            container.addMessageListener(subscriber, new PatternTopic("chat:room:*"));
+            container.addMessageListener(subscriber, new PatternTopic("chat:user:*"));
+            container.addMessageListener(subscriber, new PatternTopic("chat:sidebar:*"));
+            container.addMessageListener(subscriber, new PatternTopic("chat:alarm:*"));
+            container.addMessageListener(subscriber, new PatternTopic("chat:ack:*"));
+        }
 
         return container;
     }
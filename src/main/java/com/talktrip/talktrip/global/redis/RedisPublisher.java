@@ -5,11 +5,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.talktrip.talktrip.domain.chat.dto.response.ChatMessageDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+
 @RequiredArgsConstructor
 @Component
 @Log4j2
@@ -19,17 +22,56 @@ public class RedisPublisher {
     private final RedisTemplate<String, Object> redisTemplate;
     private final ObjectMapper objectMapper;
     private final RedisPublisherWithRetry publisherWithRetry; // ← 여기서 사용
+    private final RedisHealthMonitor healthMonitor;
+    private final RedisStreamTransport streamTransport;
+    private final RedisPayloadCodec codec;
 
     public void publish(String channel, Object payload) {
+        if (!healthMonitor.isAvailable()) {
+            log.warn("[RedisPublisher] Redis 서킷 OPEN, 발행 생략 (Channel: {})", channel);
+            return;
+        }
         try {
-            String message = objectMapper.writeValueAsString(payload);
-            redis.convertAndSend(channel, message);
-            log.info("[RedisPublisher] Redis로 메시지 발행 (Channel: {}, Message: {})", channel, message);
+            byte[] body = codec.encode(payload);
+            try {
+                send(channel, body);
+                healthMonitor.recordSuccess();
+            } catch (Exception e) {
+                healthMonitor.recordFailure(e);
+                throw e;
+            }
+            log.info("[RedisPublisher] Redis로 메시지 발행 (Channel: {}, bytes: {})", channel, body.length);
         } catch (Exception e) {
             log.error("[RedisPublisher] Redis 메시지 발행 중 오류 발생: {}", e.getMessage(), e);
         }
     }
 
+    /**
+     * 방 메시지 발행. chat.transport.mode=STREAM 이면 Redis Stream 에 추가하고, 아니면 chat:room:{roomId} 로 Pub/Sub.
+     */
+    public void publishRoom(String roomId, Object payload) {
+        if (!streamTransport.isEnabled()) {
+            publish("chat:room:" + roomId, payload);
+            return;
+        }
+        if (!healthMonitor.isAvailable()) {
+            log.warn("[RedisPublisher] Redis 서킷 OPEN, 스트림 추가 생략 (roomId: {})", roomId);
+            return;
+        }
+        try {
+            String message = objectMapper.writeValueAsString(payload);
+            try {
+                streamTransport.append(roomId, message);
+                healthMonitor.recordSuccess();
+            } catch (Exception e) {
+                healthMonitor.recordFailure(e);
+                throw e;
+            }
+        } catch (Exception e) {
+            log.error("[RedisPublisher] Redis 스트림 추가 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
     public void publishAfterCommit(ChannelTopic topic, Object dto) {
         runAfterCommit(() -> doPublish(topic, dto)); // 커밋 후 발행 (재시도 X)
     }
@@ -55,13 +97,20 @@ public class RedisPublisher {
 
 
     private void doPublish(ChannelTopic topic, Object dto) {
+        byte[] body;
         try {
-            String json = objectMapper.writeValueAsString(dto);
-            log.info("🚀 Redis에 발행할 JSON: {}", json);
-            redisTemplate.convertAndSend(topic.getTopic(), json);
-        } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
+            body = codec.encode(dto);
+        } catch (java.io.IOException e) {
             throw new RuntimeException("메시지 직렬화 실패", e);
         }
+        log.info("🚀 Redis에 발행 (Channel: {}, bytes: {})", topic.getTopic(), body.length);
+        send(topic.getTopic(), body);
+    }
+
+    // 코덱이 만든 바이트를 그대로 PUBLISH (문자열 변환 없음)
+    private void send(String channel, byte[] body) {
+        redis.execute((RedisCallback<Long>) connection ->
+                connection.publish(channel.getBytes(StandardCharsets.UTF_8), body));
     }
 
     private void runAfterCommit(Runnable task) {
@@ -0,0 +1,385 @@
+package com.talktrip.talktrip.global.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talktrip.talktrip.domain.chat.dto.response.ChatMessagePush;
+import com.talktrip.talktrip.domain.chat.dto.response.ChatStreamReplayResponse;
+import com.talktrip.talktrip.global.config.ChatTransportProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoConsumers;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoGroup;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoGroups;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamMessageListenerContainerOptions;
+import org.springframework.data.redis.stream.Subscription;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.simp.user.SimpSubscription;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Redis Stream 기반 방 메시지 팬아웃 (chat.transport.mode=STREAM).
+ * - 발행: roomId 해시로 고른 chat:stream:{shard} 에 XADD (MAXLEN ~ 로 상한 유지)
+ * - 수신: 노드마다 자기 컨슈머 그룹(chat-node:{nodeName})으로, 이 노드에 구독자가 있는 방의 샤드만 읽어
+ *   로컬 구독자에게 전달 후 XACK. 샤드는 첫 방 구독 때 최신 위치부터 읽기 시작하고, 로컬 구독이 사라지면 멈춘다.
+ * - 정리: 다른 노드의 그룹 중 모든 컨슈머가 groupIdleMs 이상 쉬고 있는 그룹(죽은 인스턴스)을 지운다.
+ * - 재전송: 클라이언트가 /topic/chat/room/{roomId} SUBSCRIBE 시 last-stream-id 헤더를 보내면
+ *   그 이후 메시지를 /user/queue/chat/replay 로 해당 세션에만 보낸다.
+ * 클라이언트는 streamId 가 마지막으로 본 값 이하인 메시지는 무시한다 (재전송/그룹 재개가 겹칠 수 있음).
+ */
+@Slf4j
+@Component
+public class RedisStreamTransport {
+
+    static final String STREAM_KEY_PREFIX = "chat:stream:";
+    static final String GROUP_PREFIX = "chat-node:";
+    static final String LAST_STREAM_ID_HEADER = "last-stream-id";
+    static final String REPLAY_DESTINATION = "/queue/chat/replay";
+    private static final String ROOM_DESTINATION_PREFIX = "/topic/chat/room/";
+    private static final int REPLAY_BATCH = 500;
+    private static final int PENDING_BATCH = 100;
+
+    private final ChatTransportProperties properties;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisConnectionFactory connectionFactory;
+    private final RedisSubscriber redisSubscriber;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SimpUserRegistry simpUserRegistry;
+    private final ChatDeliveryMetrics deliveryMetrics;
+    private final ObjectMapper objectMapper;
+
+    private final Counter appended;
+    private final Counter delivered;
+    private final Counter replayComplete;
+    private final Counter replayGap;
+    private final Counter groupsDestroyed;
+
+    // 지금 읽고 있는 샤드 → (컨테이너 구독, 읽기 시작 시각)
+    private final Map<Integer, ActiveShard> activeShards = new ConcurrentHashMap<>();
+
+    private volatile StreamMessageListenerContainer<String, MapRecord<String, String, String>> container;
+
+    public RedisStreamTransport(ChatTransportProperties properties,
+                                StringRedisTemplate stringRedisTemplate,
+                                RedisConnectionFactory connectionFactory,
+                                RedisSubscriber redisSubscriber,
+                                SimpMessagingTemplate messagingTemplate,
+                                SimpUserRegistry simpUserRegistry,
+                                ChatDeliveryMetrics deliveryMetrics,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.connectionFactory = connectionFactory;
+        this.redisSubscriber = redisSubscriber;
+        this.messagingTemplate = messagingTemplate;
+        this.simpUserRegistry = simpUserRegistry;
+        this.deliveryMetrics = deliveryMetrics;
+        this.objectMapper = objectMapper;
+
+        this.appended = Counter.builder("chat.stream.appended")
+                .description("Redis Stream 에 추가한 방 메시지 수")
+                .register(meterRegistry);
+        this.delivered = Counter.builder("chat.stream.delivered")
+                .description("컨슈머 그룹으로 읽어 로컬에 전달한 방 메시지 수")
+                .register(meterRegistry);
+        this.replayComplete = Counter.builder("chat.stream.replay")
+                .tag("result", "complete")
+                .description("재연결 재전송 요청 수")
+                .register(meterRegistry);
+        this.replayGap = Counter.builder("chat.stream.replay")
+                .tag("result", "gap")
+                .description("재연결 재전송 요청 수")
+                .register(meterRegistry);
+        this.groupsDestroyed = Counter.builder("chat.stream.groups_destroyed")
+                .description("죽은 인스턴스의 유휴 컨슈머 그룹을 지운 수")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.getMode() == ChatTransportProperties.Mode.STREAM;
+    }
+
+    /**
+     * 방 메시지를 샤드 스트림에 추가한다. 예외는 호출자(RedisPublisher)가 서킷에 기록한다.
+     */
+    public RecordId append(String roomId, String json) {
+        MapRecord<String, String, String> record = StreamRecords.newRecord()
+                .in(streamKey(shardOf(roomId)))
+                .ofMap(Map.of("roomId", roomId, "payload", json));
+        RecordId id = streams().add(record, XAddOptions.maxlen(properties.getStreamMaxLen()).approximateTrimming(true));
+        appended.increment();
+        return id;
+    }
+
+    /**
+     * lastStreamId 이후의 해당 방 메시지를 오래된 순으로 최대 limit 개 돌려준다.
+     */
+    public ChatStreamReplayResponse replay(String roomId, String lastStreamId, int limit) throws Exception {
+        String key = streamKey(shardOf(roomId));
+        RecordId last = RecordId.of(lastStreamId);
+        StreamOperations<String, String, String> ops = streams();
+
+        // 마지막으로 본 ID 가 스트림의 가장 오래된 항목보다 앞이면 중간이 잘렸을 수 있다
+        List<MapRecord<String, String, String>> oldest = ops.range(key, Range.unbounded(), Limit.limit().count(1));
+        boolean complete = oldest == null || oldest.isEmpty() || !isBefore(last, oldest.get(0).getId());
+
+        // 샤드 스트림에는 다른 방 메시지도 섞여 있으므로 배치 단위로 훑으며 거른다
+        List<ChatMessagePush> messages = new ArrayList<>();
+        RecordId cursor = last;
+        boolean truncated = false;
+        while (!truncated) {
+            List<MapRecord<String, String, String>> batch = ops.range(key,
+                    Range.of(Range.Bound.exclusive(cursor.getValue()), Range.Bound.unbounded()),
+                    Limit.limit().count(REPLAY_BATCH));
+            if (batch == null || batch.isEmpty()) break;
+            for (MapRecord<String, String, String> record : batch) {
+                if (!roomId.equals(record.getValue().get("roomId"))) continue;
+                if (messages.size() >= limit) {
+                    truncated = true;
+                    break;
+                }
+                messages.add(toPush(record).forClient());
+            }
+            if (batch.size() < REPLAY_BATCH) break;
+            cursor = batch.get(batch.size() - 1).getId();
+        }
+        complete = complete && !truncated;
+
+        (complete ? replayComplete : replayGap).increment();
+        return new ChatStreamReplayResponse(roomId, messages, complete);
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        if (!isEnabled() || event.getUser() == null) return;
+        StompHeaderAccessor acc = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = acc.getDestination();
+        if (destination == null || !destination.startsWith(ROOM_DESTINATION_PREFIX)) return;
+
+        String roomId = destination.substring(ROOM_DESTINATION_PREFIX.length());
+        // 재전송보다 먼저 읽기 시작해야 그 사이 메시지가 빠지지 않는다
+        activate(shardOf(roomId));
+
+        String lastStreamId = acc.getFirstNativeHeader(LAST_STREAM_ID_HEADER);
+        if (lastStreamId == null) return;
+        try {
+            ChatStreamReplayResponse response = replay(roomId, lastStreamId, properties.getReplayLimit());
+
+            SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            headers.setSessionId(acc.getSessionId());
+            headers.setLeaveMutable(true);
+            messagingTemplate.convertAndSendToUser(event.getUser().getName(), REPLAY_DESTINATION, response,
+                    headers.getMessageHeaders());
+            log.info("[StreamTransport] 재전송 room={}, from={}, count={}, complete={}",
+                    roomId, lastStreamId, response.messages().size(), response.complete());
+        } catch (Exception e) {
+            log.warn("[StreamTransport] 재전송 실패 room={}, from={}: {}", roomId, lastStreamId, e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!isEnabled()) return;
+        container = StreamMessageListenerContainer.create(connectionFactory,
+                StreamMessageListenerContainerOptions.builder()
+                        .pollTimeout(Duration.ofMillis(properties.getPollTimeoutMs()))
+                        .batchSize(100)
+                        .errorHandler(e -> log.warn("[StreamTransport] 스트림 읽기 오류: {}", e.getMessage()))
+                        .build());
+        container.start();
+        // 기동 전에 이미 붙은 세션이 있을 수 있다 (보통은 비어 있고 첫 SUBSCRIBE 때 샤드를 연다)
+        localShards().forEach(this::activate);
+        log.info("[StreamTransport] 시작 group={}, shards={}", groupName(), properties.getStreamShards());
+    }
+
+    /**
+     * 로컬 구독이 없어진 샤드는 읽기를 멈추고, 이벤트를 놓쳐 열리지 않은 샤드는 연다.
+     * 방금 연 샤드는 구독 레지스트리 반영 전일 수 있으니 한 주기 동안은 닫지 않는다.
+     */
+    @Scheduled(fixedDelayString = "#{@chatTransportProperties.localShardRefreshMs}")
+    public void refreshLocalShards() {
+        if (!isEnabled() || container == null) return;
+        Set<Integer> wanted = localShards();
+        long now = System.currentTimeMillis();
+        activeShards.forEach((shard, active) -> {
+            if (!wanted.contains(shard) && now - active.since() >= properties.getLocalShardRefreshMs()
+                    && activeShards.remove(shard, active)) {
+                container.remove(active.subscription());
+                log.info("[StreamTransport] 로컬 구독이 없어 샤드 읽기 중지 shard={}", shard);
+            }
+        });
+        wanted.forEach(this::activate);
+    }
+
+    /**
+     * 모든 컨슈머가 groupIdleMs 이상 읽지 않은 다른 노드의 그룹을 지운다.
+     * 살아 있는 노드가 쉬고 있던 샤드 그룹이 지워져도 다음 activate 에서 다시 만든다.
+     */
+    @Scheduled(fixedDelayString = "#{@chatTransportProperties.groupCleanupIntervalMs}")
+    public void cleanupIdleGroups() {
+        if (!isEnabled()) return;
+        String own = groupName();
+        for (int shard = 0; shard < properties.getStreamShards(); shard++) {
+            String key = streamKey(shard);
+            try {
+                XInfoGroups groups = streams().groups(key);
+                for (XInfoGroup group : groups.stream().toList()) {
+                    String name = group.groupName();
+                    if (!name.startsWith(GROUP_PREFIX) || name.equals(own)) continue;
+                    XInfoConsumers consumers = streams().consumers(key, name);
+                    boolean idle = consumers.size() > 0 && consumers.stream()
+                            .allMatch(c -> c.idleTimeMs() >= properties.getGroupIdleMs());
+                    if (idle && Boolean.TRUE.equals(streams().destroyGroup(key, name))) {
+                        groupsDestroyed.increment();
+                        log.info("[StreamTransport] 유휴 컨슈머 그룹 삭제 stream={}, group={}", key, name);
+                    }
+                }
+            } catch (Exception e) {
+                log.warn("[StreamTransport] 유휴 그룹 정리 실패 stream={}: {}", key, e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (container != null) container.stop();
+    }
+
+    void onRecord(MapRecord<String, String, String> record) {
+        try {
+            redisSubscriber.forwardRoomMessage(toPush(record));
+            delivered.increment();
+        } catch (Exception e) {
+            log.error("[StreamTransport] 스트림 메시지 처리 실패 id={}: {}", record.getId(), e.getMessage(), e);
+        } finally {
+            // 전달 실패도 다시 읽지 않는다 (클라이언트는 재연결 재전송으로 보충)
+            streams().acknowledge(record.getStream(), groupName(), record.getId());
+        }
+    }
+
+    private ChatMessagePush toPush(MapRecord<String, String, String> record) throws Exception {
+        ChatMessagePush push = objectMapper.readValue(record.getValue().get("payload"), ChatMessagePush.class);
+        return push.withStreamId(record.getId().getValue());
+    }
+
+    // 샤드를 최신 위치부터 읽기 시작한다. 그 이전 메시지는 클라이언트가 last-stream-id 재전송으로 받는다
+    private synchronized void activate(int shard) {
+        if (container == null || activeShards.containsKey(shard)) return;
+        String key = streamKey(shard);
+        Consumer consumer = Consumer.from(groupName(), nodeName());
+        try {
+            if (!createGroupIfAbsent(key, consumer.getGroup())) {
+                // 쉬는 동안 쌓인 다른 방 메시지를 몰아서 읽지 않도록 그룹 위치를 끝으로 옮긴다
+                stringRedisTemplate.execute((RedisCallback<Object>) connection -> connection.execute("XGROUP",
+                        bytes("SETID"), bytes(key), bytes(consumer.getGroup()), bytes("$")));
+                ackPending(key, consumer);
+            }
+            Subscription subscription = container.receive(consumer,
+                    StreamOffset.create(key, ReadOffset.lastConsumed()), this::onRecord);
+            activeShards.put(shard, new ActiveShard(subscription, System.currentTimeMillis()));
+            log.info("[StreamTransport] 샤드 읽기 시작 shard={}, group={}", shard, consumer.getGroup());
+        } catch (Exception e) {
+            log.warn("[StreamTransport] 샤드 읽기 시작 실패 shard={}: {}", shard, e.getMessage());
+        }
+    }
+
+    // 이 노드에 로컬 구독자가 있는 방들의 샤드
+    Set<Integer> localShards() {
+        return simpUserRegistry.findSubscriptions(sub -> sub.getDestination() != null
+                        && sub.getDestination().startsWith(ROOM_DESTINATION_PREFIX)).stream()
+                .map(SimpSubscription::getDestination)
+                .map(destination -> shardOf(destination.substring(ROOM_DESTINATION_PREFIX.length())))
+                .collect(Collectors.toSet());
+    }
+
+    // 새로 만들었으면 true, 이미 있었으면(BUSYGROUP) false
+    private boolean createGroupIfAbsent(String key, String group) {
+        try {
+            stringRedisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands()
+                    .xGroupCreate(bytes(key), group, ReadOffset.latest(), true));
+            return true;
+        } catch (Exception e) {
+            if (!String.valueOf(e.getMessage()).contains("BUSYGROUP")) throw e;
+            return false;
+        }
+    }
+
+    // 이전에 읽고 ACK 하지 못한 항목. 그 세션들은 이미 끊겼으므로 전달하지 않고 정리만 한다
+    private void ackPending(String key, Consumer consumer) {
+        while (true) {
+            List<MapRecord<String, String, String>> pending = streams().read(consumer,
+                    StreamReadOptions.empty().count(PENDING_BATCH), StreamOffset.create(key, ReadOffset.from("0")));
+            if (pending == null || pending.isEmpty()) return;
+            streams().acknowledge(key, consumer.getGroup(),
+                    pending.stream().map(MapRecord::getId).toArray(RecordId[]::new));
+        }
+    }
+
+    private StreamOperations<String, String, String> streams() {
+        return stringRedisTemplate.opsForStream();
+    }
+
+    int shardOf(String roomId) {
+        return Math.floorMod(roomId.hashCode(), properties.getStreamShards());
+    }
+
+    static String streamKey(int shard) {
+        return STREAM_KEY_PREFIX + shard;
+    }
+
+    String groupName() {
+        return GROUP_PREFIX + nodeName();
+    }
+
+    // 지정하지 않으면 프로세스마다 다른 인스턴스 ID (server.port=0 이나 한 호스트 여러 인스턴스에서도 겹치지 않게)
+    private String nodeName() {
+        if (properties.getNodeName() != null && !properties.getNodeName().isBlank()) {
+            return properties.getNodeName();
+        }
+        return deliveryMetrics.getInstanceId();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static boolean isBefore(RecordId a, RecordId b) {
+        if (a.getTimestamp() != b.getTimestamp()) return a.getTimestamp() < b.getTimestamp();
+        return a.getSequence() < b.getSequence();
+    }
+
+    private record ActiveShard(Subscription subscription, long since) {}
+}
@@ -1,59 +1,109 @@
 package com.talktrip.talktrip.global.redis;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.talktrip.talktrip.domain.chat.dto.request.ChatMessageRequestDto;
-import com.talktrip.talktrip.domain.chat.dto.response.ChatMessageDto;
+import com.talktrip.talktrip.domain.chat.dto.response.ChatDeliveryTrace;
 import com.talktrip.talktrip.domain.chat.dto.response.ChatMessagePush;
-import com.talktrip.talktrip.domain.chat.message.dto.ChatRoomUpdateMessage;
-import com.talktrip.talktrip.domain.chat.message.dto.ChatUpdateMessage;
+import com.talktrip.talktrip.domain.chat.message.dto.ChatRoomSidebarEvent;
+import com.talktrip.talktrip.domain.chat.service.ChatGroupRoomService;
+import com.talktrip.talktrip.domain.chat.service.ChatMembershipCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Component("redisSubscriber") // ✅ 이 이름으로 MessageListener 빈이 딱 1개 존재하게 유지
 @RequiredArgsConstructor
 public class RedisSubscriber implements MessageListener {
 
-    private final ObjectMapper objectMapper;
-    private final SimpMessagingTemplate messagingTemplate;
-    private final String instanceId; // websocket 인스턴스 식별자 주입
+    private static final int RECENT_MESSAGE_IDS = 10_000;
+    private static final byte[] MESSAGE_ID_PREFIX = "{\"messageId\":\"".getBytes(StandardCharsets.UTF_8);
 
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SimpUserRegistry simpUserRegistry;
+    private final RedisPayloadCodec codec;
+    private final ChatDeliveryMetrics deliveryMetrics; // 전달 지연 기록 + 인스턴스 식별자
+    private final ChatMembershipCache membershipCache;
+    private final ChatGroupRoomService groupRoomService;
+
+    // 최근 전달한 방 메시지 ID (발행 재시도로 같은 메시지가 두 번 와도 구독자에게는 한 번만)
+    private final Map<String, Boolean> recentMessageIds = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > RECENT_MESSAGE_IDS;
+        }
+    };
 
     @Override
     public void onMessage(org.springframework.data.redis.connection.Message message, byte[] pattern) {
         try {
+            long receivedAt = ChatDeliveryTrace.nowMicros();
             String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
-            String payload = new String(message.getBody(), StandardCharsets.UTF_8);
-            log.info("[{}][RedisSubscriber] received channel={}, bytes={}", instanceId, channel, payload.length());
-
-
-            if (payload.startsWith("\"") && payload.endsWith("\"")) {
-                // 이중 직렬화된 문자열을 먼저 일반 JSON 문자열로 변환
-                payload = objectMapper.readValue(payload, String.class);
-            }
+            RedisPayloadCodec.Decoded payload = codec.decode(message.getBody());
+            log.debug("[{}][RedisSubscriber] received channel={}, type={}, bytes={}",
+                    deliveryMetrics.getInstanceId(), channel, payload.type(), payload.json().length);
 
             if (channel.startsWith("chat:room:")) {
-                // 방 브로드캐스트
-                ChatMessagePush dto = objectMapper.readValue(payload, ChatMessagePush.class);
-                String dest = "/topic/chat/room/" + dto.getRoomId();    // 프론트 구독 경로
-                messagingTemplate.convertAndSend(dest, dto);
-                log.info("[{}][RedisSubscriber] forwarded -> dest={}, msgId={}", instanceId, dest, dto.getMessageId());
-
-
+                // 방 브로드캐스트 → 클라이언트용 JSON 바이트를 파싱 없이 그대로 전달
+                String roomId = channel.substring("chat:room:".length());
+                String messageId = extractMessageId(payload.json());
+                if (messageId == null) {
+                    // 필드 순서가 깨지면 중복 제거가 조용히 꺼지므로 남겨 둔다
+                    log.warn("[{}][RedisSubscriber] messageId 를 읽지 못해 중복 제거 없이 전달 -> room={}", deliveryMetrics.getInstanceId(), roomId);
+                }
+                if (!firstDelivery(messageId)) {
+                    log.debug("[{}][RedisSubscriber] duplicate skipped -> room={}", deliveryMetrics.getInstanceId(), roomId);
+                    return;
+                }
+                sendJson("/topic/chat/room/" + roomId, ChatDeliveryMetrics.withoutTrace(payload.json()));    // 프론트 구독 경로 (trace 제외)
+                deliveryMetrics.record(ChatDeliveryMetrics.extract(payload.json()), receivedAt, ChatDeliveryTrace.nowMicros());
+                log.info("[{}][RedisSubscriber] forwarded -> room={}, bytes={}", deliveryMetrics.getInstanceId(), roomId, payload.json().length);
+
+            } else if (channel.startsWith("chat:sidebar:")) {
+                // 방 단위 사이드바 이벤트 → 이 서버에 세션이 있는 멤버에게만 풀어서 전달
+                ChatRoomSidebarEvent event = codec.read(payload, ChatRoomSidebarEvent.class);
+                if (event.isGroup()) {
+                    forwardGroupSidebar(event);
+                    return;
+                }
+                int delivered = 0;
+                for (String memberEmail : event.getUnreadByMember().keySet()) {
+                    if (simpUserRegistry.getUser(memberEmail) == null) continue;
+                    messagingTemplate.convertAndSendToUser(memberEmail, "/queue/chat/rooms", event.toUpdateMessage(memberEmail));
+                    delivered++;
+                }
+                log.info("[{}][RedisSubscriber] sidebar expanded -> room={}, localUsers={}/{}",
+                        deliveryMetrics.getInstanceId(), event.getRoomId(), delivered, event.getUnreadByMember().size());
 
             } else if (channel.startsWith("chat:user:")) {
-                // 개인 사이드바 업데이트 (convertAndSendToUser)
-                ChatRoomUpdateMessage dto = objectMapper.readValue(payload, ChatRoomUpdateMessage.class);
+                // 개인 사이드바 업데이트 → 파싱 없이 사용자 목적지로 전달
                 String userEmail = channel.substring("chat:user:".length());
-                messagingTemplate.convertAndSendToUser(userEmail, "/queue/chat/rooms", dto);
-                log.info("[{}][RedisSubscriber] forwarded -> user={}, dest=/queue/chat/rooms", instanceId, userEmail);
+                sendJson(messagingTemplate.getUserDestinationPrefix() + userEmail + "/queue/chat/rooms", payload.json());
+                log.info("[{}][RedisSubscriber] forwarded -> user={}, dest=/queue/chat/rooms", deliveryMetrics.getInstanceId(), userEmail);
+
+            } else if (channel.startsWith("chat:alarm:")) {
+                // 알림 묶음 → 파싱 없이 사용자 알림 목적지로 전달
+                String userEmail = channel.substring("chat:alarm:".length());
+                sendJson(messagingTemplate.getUserDestinationPrefix() + userEmail + "/queue/alarm", payload.json());
+                log.info("[{}][RedisSubscriber] forwarded -> user={}, dest=/queue/alarm", deliveryMetrics.getInstanceId(), userEmail);
 
+            } else if (channel.startsWith("chat:ack:")) {
+                // 전송 영수증 → 발신자 세션이 있는 노드에서 /queue/chat/ack 로 전달
+                String userEmail = channel.substring("chat:ack:".length());
+                if (simpUserRegistry.getUser(userEmail) == null) return;
+                sendJson(messagingTemplate.getUserDestinationPrefix() + userEmail + "/queue/chat/ack", payload.json());
 
             } else {
                 log.warn("처리되지 않은 채널: {}", channel);
@@ -63,33 +113,54 @@ public class RedisSubscriber implements MessageListener {
         }
     }
 
-    private <T> void handleMessage(String payload, Class<T> type, String prefix, String... suffix) {
-        try {
-            T dto = objectMapper.readValue(payload, type);
+    // 단체방: 이 서버에 세션이 있는 멤버만 골라 (방 순번 - 읽은 순번)으로 안 읽은 수를 계산해 전달
+    private void forwardGroupSidebar(ChatRoomSidebarEvent event) {
+        List<String> localMembers = membershipCache.members(event.getRoomId()).stream()
+                .filter(email -> simpUserRegistry.getUser(email) != null)
+                .toList();
+        Map<String, Integer> unreadByMember = groupRoomService.unreadFor(event.getRoomId(), event.getSeq(), localMembers);
+        for (String memberEmail : localMembers) {
+            messagingTemplate.convertAndSendToUser(memberEmail, "/queue/chat/rooms",
+                    event.toUpdateMessage(memberEmail, unreadByMember.getOrDefault(memberEmail, 0)));
+        }
+        log.info("[{}][RedisSubscriber] group sidebar expanded -> room={}, seq={}, localUsers={}",
+                deliveryMetrics.getInstanceId(), event.getRoomId(), event.getSeq(), localMembers.size());
+    }
 
-            String roomId = null;
-            if (dto instanceof ChatRoomUpdateMessage m) roomId = m.getRoomId();
-            if (roomId == null || roomId.isBlank()) {
-                log.warn("roomId가 비어있어 메시지를 전송하지 않습니다. payload={}", payload);
-                return;
-            }
+    // 이미 JSON 으로 인코딩된 바이트를 메시지 변환 없이 브로커로 보낸다
+    private void sendJson(String destination, byte[] json) {
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        headers.setLeaveMutable(true);
+        messagingTemplate.send(destination, MessageBuilder.createMessage(json, headers.getMessageHeaders()));
+    }
 
-            String dest = prefix + roomId + (suffix != null ? String.join("", suffix) : "");
-            messagingTemplate.convertAndSend(dest, dto);
-        } catch (Exception e) {
-            log.error("Redis payload 처리 실패: {}", e.getMessage(), e);
-        }
+    /**
+     * 방 메시지를 로컬 구독자에게 전달한다. Pub/Sub 과 Redis Stream 전송이 같이 사용한다.
+     */
+    public void forwardRoomMessage(ChatMessagePush dto) {
+        if (!firstDelivery(dto.getMessageId())) return;
+        long receivedAt = ChatDeliveryTrace.nowMicros();
+        String dest = "/topic/chat/room/" + dto.getRoomId();    // 프론트 구독 경로
+        messagingTemplate.convertAndSend(dest, dto.forClient());
+        deliveryMetrics.record(dto.getTrace(), receivedAt, ChatDeliveryTrace.nowMicros());
+        log.info("[{}][RedisSubscriber] forwarded -> dest={}, msgId={}", deliveryMetrics.getInstanceId(), dest, dto.getMessageId());
     }
 
-    private <T> void handleMessage(String payload, Class<T> type, String prefix) {
-        handleMessage(payload, type, prefix, "");
+    private boolean firstDelivery(String messageId) {
+        if (messageId == null) return true;
+        synchronized (recentMessageIds) {
+            return recentMessageIds.put(messageId, Boolean.TRUE) == null;
+        }
     }
 
-    private String getRoomId(Object message) {
-        if (message instanceof ChatMessageRequestDto m) return m.getRoomId();
-        if (message instanceof ChatUpdateMessage m) return m.getRoomId();
-        if (message instanceof ChatRoomUpdateMessage m) return m.getRoomId();
-        throw new IllegalArgumentException("지원하지 않는 메시지 타입입니다");
+    // ChatMessagePush 는 messageId 를 첫 필드로 직렬화하므로 앞부분만 보고 꺼낸다 (그 외 형식이면 null)
+    static String extractMessageId(byte[] json) {
+        int from = MESSAGE_ID_PREFIX.length;
+        if (json.length < from || !Arrays.equals(json, 0, from, MESSAGE_ID_PREFIX, 0, from)) return null;
+        int end = from;
+        while (end < json.length && json[end] != '"') end++;
+        return new String(json, from, end - from, StandardCharsets.UTF_8);
     }
 }
 
@@ -0,0 +1,245 @@
+package com.talktrip.talktrip.global.redis;
+
+import com.talktrip.talktrip.domain.chat.message.dto.ChatMembershipEvent;
+import com.talktrip.talktrip.domain.chat.service.AlarmBuffer;
+import com.talktrip.talktrip.domain.chat.service.ChatSendDedupService;
+import com.talktrip.talktrip.domain.chat.repository.ChatRoomMemberRepository;
+import com.talktrip.talktrip.global.config.ChatSubscriptionProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로컬 STOMP 세션 기준으로 Redis 채널을 정확히(SUBSCRIBE) 구독/해제한다.
+ * 노드가 받는 메시지 양이 클러스터 전체 트래픽이 아니라 이 노드에 붙은 사용자/방 수에 비례하도록 한다.
+ * - /topic/chat/room/{roomId} 구독 → chat:room:{roomId} (구독 ID 단위 참조 카운트)
+ * - 사용자 첫 세션 연결 → chat:user:{email}, chat:alarm:{email}, chat:ack:{email}, chat:membership:{email}, 그 사용자의 모든 방 chat:sidebar:{roomId}
+ * - 마지막 참조가 사라지면 UNSUBSCRIBE
+ * 참조 수 변경은 채널/사용자 키 단위로 원자적이고, 블로킹되는 컨테이너 호출은 그 밖에서 한다.
+ */
+@Slf4j
+@Component
+public class RedisSubscriptionManager implements MessageListener {
+
+    static final String ROOM_DESTINATION_PREFIX = "/topic/chat/room/";
+    static final String MEMBERSHIP_CHANNEL_PREFIX = "chat:membership:";
+    private static final int SYNC_LOCK_STRIPES = 64;
+
+    private final RedisMessageListenerContainer container;
+    private final MessageListener subscriber;
+    private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final RedisPayloadCodec codec;
+    private final ChatSubscriptionProperties properties;
+
+    // 참조 수는 채널 단위로 원자적으로 바꾸고, 컨테이너 구독/해제(블로킹)는 맵 잠금 밖에서 반영한다
+    private final Map<String, Integer> refCounts = new ConcurrentHashMap<>();                      // channel → 참조 수
+    private final Set<String> subscribed = ConcurrentHashMap.newKeySet();                           // 컨테이너에 실제 반영된 채널
+    private final Map<String, Map<String, String>> roomSubsBySession = new ConcurrentHashMap<>();   // session → (구독 ID → channel)
+    private final Map<String, String> userBySession = new ConcurrentHashMap<>();
+    // 사용자 단위 상태(sidebarRoomsByUser)는 sessionCountByUser.compute 안에서만 바꾼다
+    private final Map<String, Integer> sessionCountByUser = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> sidebarRoomsByUser = new ConcurrentHashMap<>();
+    private final Object[] syncLocks = new Object[SYNC_LOCK_STRIPES];
+
+    public RedisSubscriptionManager(RedisMessageListenerContainer container,
+                                    @Qualifier("redisSubscriber") MessageListener subscriber,
+                                    ChatRoomMemberRepository chatRoomMemberRepository,
+                                    RedisPayloadCodec codec,
+                                    ChatSubscriptionProperties properties,
+                                    MeterRegistry meterRegistry) {
+        this.container = container;
+        this.subscriber = subscriber;
+        this.chatRoomMemberRepository = chatRoomMemberRepository;
+        this.codec = codec;
+        this.properties = properties;
+        for (int i = 0; i < syncLocks.length; i++) {
+            syncLocks[i] = new Object();
+        }
+
+        Gauge.builder("chat.redis.subscriptions", this, m -> m.channelCount())
+                .description("이 노드가 구독 중인 Redis 채널 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        if (!properties.isInterestBased()) return;
+        Principal user = event.getUser();
+        String sessionId = StompHeaderAccessor.wrap(event.getMessage()).getSessionId();
+        if (user == null || sessionId == null) return;
+        String email = user.getName();
+
+        userBySession.put(sessionId, email);
+        List<String> changed = new ArrayList<>();
+        Set<String> rooms = new HashSet<>();
+        Integer sessions = sessionCountByUser.compute(email, (k, count) -> {
+            if (count != null) return count + 1;
+            sidebarRoomsByUser.put(email, rooms);
+            userChannels(email).forEach(channel -> acquire(channel, changed));
+            return 1;
+        });
+        sync(changed);
+        if (sessions > 1) return;
+
+        // 첫 세션일 때만 DB 조회 (잠금 밖에서). 그 사이 사용자가 모두 끊겼다가 다시 붙었으면 새 세션이 직접 조회한다
+        List<String> roomIds = chatRoomMemberRepository.findRoomIdsByAccountEmail(email);
+        List<String> sidebars = new ArrayList<>();
+        sessionCountByUser.computeIfPresent(email, (k, count) -> {
+            if (sidebarRoomsByUser.get(email) == rooms) {
+                roomIds.forEach(roomId -> {
+                    if (rooms.add(roomId)) acquire(sidebarChannel(roomId), sidebars);
+                });
+            }
+            return count;
+        });
+        sync(sidebars);
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        if (!properties.isInterestBased()) return;
+        StompHeaderAccessor acc = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = acc.getDestination();
+        if (destination == null || !destination.startsWith(ROOM_DESTINATION_PREFIX)) return;
+
+        String channel = "chat:room:" + destination.substring(ROOM_DESTINATION_PREFIX.length());
+        List<String> changed = new ArrayList<>();
+        roomSubsBySession.compute(acc.getSessionId(), (k, subs) -> {
+            Map<String, String> current = subs != null ? subs : new HashMap<>();
+            acquire(channel, changed);
+            String previous = current.put(acc.getSubscriptionId(), channel);
+            if (previous != null) release(previous, changed);
+            return current;
+        });
+        sync(changed);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        if (!properties.isInterestBased()) return;
+        StompHeaderAccessor acc = StompHeaderAccessor.wrap(event.getMessage());
+        List<String> changed = new ArrayList<>();
+        roomSubsBySession.computeIfPresent(acc.getSessionId(), (k, subs) -> {
+            String channel = subs.remove(acc.getSubscriptionId());
+            if (channel != null) release(channel, changed);
+            return subs;
+        });
+        sync(changed);
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        if (!properties.isInterestBased()) return;
+        String sessionId = event.getSessionId();
+        List<String> changed = new ArrayList<>();
+        Map<String, String> subs = roomSubsBySession.remove(sessionId);
+        if (subs != null) subs.values().forEach(channel -> release(channel, changed));
+
+        String email = userBySession.remove(sessionId);
+        if (email != null) {
+            sessionCountByUser.computeIfPresent(email, (k, count) -> {
+                if (count > 1) return count - 1;
+                userChannels(email).forEach(channel -> release(channel, changed));
+                Set<String> rooms = sidebarRoomsByUser.remove(email);
+                if (rooms != null) rooms.forEach(roomId -> release(sidebarChannel(roomId), changed));
+                return null;
+            });
+        }
+        sync(changed);
+    }
+
+    /**
+     * chat:membership:{email} 수신 → 새로 들어간 방의 사이드바 채널 구독
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            ChatMembershipEvent event = codec.read(codec.decode(message.getBody()), ChatMembershipEvent.class);
+            List<String> changed = new ArrayList<>();
+            sessionCountByUser.computeIfPresent(event.getAccountEmail(), (k, count) -> {
+                Set<String> rooms = sidebarRoomsByUser.get(event.getAccountEmail());
+                if (rooms != null && rooms.add(event.getRoomId())) {
+                    acquire(sidebarChannel(event.getRoomId()), changed);
+                }
+                return count;
+            });
+            sync(changed);
+        } catch (Exception e) {
+            log.error("[Subscription] 멤버십 이벤트 처리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    public static String membershipChannel(String email) {
+        return MEMBERSHIP_CHANNEL_PREFIX + email;
+    }
+
+    int channelCount() {
+        return refCounts.size();
+    }
+
+    boolean isSubscribed(String channel) {
+        return refCounts.containsKey(channel);
+    }
+
+    private void acquire(String channel, List<String> changed) {
+        if (refCounts.merge(channel, 1, Integer::sum) == 1) changed.add(channel);
+    }
+
+    private void release(String channel, List<String> changed) {
+        if (refCounts.computeIfPresent(channel, (k, v) -> v > 1 ? v - 1 : null) == null) changed.add(channel);
+    }
+
+    /**
+     * 참조 수가 바뀐 채널을 컨테이너에 반영한다.
+     * 채널별 잠금 안에서 "지금" 참조 수와 반영 상태를 비교하므로, 구독/해제 요청이 엇갈려 도착해도 마지막 상태로 수렴한다.
+     */
+    private void sync(List<String> channels) {
+        for (String channel : channels) {
+            synchronized (syncLocks[Math.floorMod(channel.hashCode(), syncLocks.length)]) {
+                boolean wanted = refCounts.containsKey(channel);
+                if (wanted == subscribed.contains(channel)) continue;
+                MessageListener listener = channel.startsWith(MEMBERSHIP_CHANNEL_PREFIX) ? this : subscriber;
+                if (wanted) {
+                    container.addMessageListener(listener, new ChannelTopic(channel));
+                    subscribed.add(channel);
+                    log.debug("[Subscription] SUBSCRIBE {}", channel);
+                } else {
+                    container.removeMessageListener(listener, new ChannelTopic(channel));
+                    subscribed.remove(channel);
+                    log.debug("[Subscription] UNSUBSCRIBE {}", channel);
+                }
+            }
+        }
+    }
+
+    // 사용자 첫 세션에 구독하고 마지막 세션에 해제하는 채널 (멤버십 채널은 이 매니저가 직접 듣는다)
+    private static List<String> userChannels(String email) {
+        return List.of("chat:user:" + email, AlarmBuffer.channel(email),
+                ChatSendDedupService.ackChannel(email), membershipChannel(email));
+    }
+
+    private static String sidebarChannel(String roomId) {
+        return "chat:sidebar:" + roomId;
+    }
+}
@@ -7,7 +7,8 @@ import java.util.Base64;
 
 /**
  * 무한 스크롤 커서 인코딩/디코딩 유틸 (String messageId 버전)
- * createdAt + messageId 를 Base64 URL-safe로 인코딩/디코딩
+ * - 정렬 가능한 메시지 ID(SortableIdGenerator)는 ID 자체가 커서다 (생성 시각을 ID 에서 복원)
+ * - 기존 랜덤 ID 는 createdAt + messageId 를 Base64 URL-safe로 인코딩/디코딩
  */
 public class CursorUtil {
 
@@ -23,12 +24,26 @@ public class CursorUtil {
      * @return Base64 URL-safe 커서
      */
     public static String encode(LocalDateTime createdAt, String messageId) {
+        if (SortableIdGenerator.isSortableId(messageId, SortableIdGenerator.MESSAGE_PREFIX)) {
+            return messageId;
+        }
         String raw = createdAt.format(FORMATTER) + "|" + messageId;
         return Base64.getUrlEncoder()
                 .withoutPadding()
                 .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
     }
 
+    /**
+     * 주어진 메시지를 포함해 그 이전(더 과거)을 읽는 커서. 검색 결과에서 문맥으로 이동할 때 사용한다.
+     * createdAt 을 1µs 뒤로 두고 messageId 를 비워 같은 시각의 메시지까지 포함한다.
+     */
+    public static String encodeInclusive(LocalDateTime createdAt) {
+        String raw = createdAt.plusNanos(1_000).format(FORMATTER) + "|";
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
     /**
      * 커서 디코딩
      *
@@ -36,6 +51,9 @@ public class CursorUtil {
      * @return Cursor(createdAt, messageId)
      */
     public static Cursor decode(String cursor) {
+        if (SortableIdGenerator.isSortableId(cursor, SortableIdGenerator.MESSAGE_PREFIX)) {
+            return new Cursor(SortableIdGenerator.createdAtOf(cursor, SortableIdGenerator.MESSAGE_PREFIX), cursor);
+        }
         String raw = new String(
                 Base64.getUrlDecoder().decode(cursor),
                 StandardCharsets.UTF_8
@@ -0,0 +1,122 @@
+package com.talktrip.talktrip.global.util;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 시간순 정렬 가능한 ID 생성기 (Snowflake 방식, 문자열은 고정 길이 Crockford Base32)
+ * 63bit = 41bit 밀리초(2024-01-01 기준) | 10bit 노드 | 12bit 같은 밀리초 내 순번
+ * 같은 prefix 끼리는 문자열 비교 순서가 생성 순서와 같으므로 PK 삽입이 뒤쪽에 몰리고,
+ * ID 하나만으로 생성 시각을 알 수 있다.
+ * 노드 번호는 -Dtalktrip.node-id 또는 TALKTRIP_NODE_ID 로 인스턴스마다 다르게 지정한다.
+ */
+public class SortableIdGenerator {
+
+    public static final String MESSAGE_PREFIX = "msg"; // 기존 "mgs" ID 보다 항상 뒤에 정렬된다
+    public static final String ROOM_PREFIX = "ROOM_";
+    public static final String ROOM_ACCOUNT_PREFIX = "RA_";
+
+    static final int BODY_LENGTH = 13;
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final long EPOCH = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+    private static final long NODE_ID = resolveNodeId();
+
+    private static long lastMillis = -1L;
+    private static long sequence = 0L;
+
+    private SortableIdGenerator() {}
+
+    /**
+     * 새 ID 와 그 ID 에 담긴 시각. 메시지 createdAt 은 이 시각을 그대로 써야 ID 순서와 어긋나지 않는다.
+     */
+    public record SortableId(String value, long epochMillis) {
+        public LocalDateTime createdAt() {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+        }
+    }
+
+    public static SortableId next(String prefix) {
+        long millis;
+        long seq;
+        synchronized (SortableIdGenerator.class) {
+            // 시계가 뒤로 가도 마지막 시각을 유지해 순서를 지킨다
+            millis = Math.max(System.currentTimeMillis(), lastMillis);
+            if (millis == lastMillis) {
+                sequence = (sequence + 1) & MAX_SEQUENCE;
+                if (sequence == 0) {
+                    // 같은 밀리초에 4096개를 넘기면 다음 밀리초로 넘긴다
+                    millis = lastMillis + 1;
+                }
+            } else {
+                sequence = 0;
+            }
+            lastMillis = millis;
+            seq = sequence;
+        }
+        long raw = ((millis - EPOCH) << (NODE_BITS + SEQUENCE_BITS)) | (NODE_ID << SEQUENCE_BITS) | seq;
+        return new SortableId(prefix + encode(raw), millis);
+    }
+
+    public static String nextId(String prefix) {
+        return next(prefix).value();
+    }
+
+    public static boolean isSortableId(String id, String prefix) {
+        if (id == null || id.length() != prefix.length() + BODY_LENGTH || !id.startsWith(prefix)) {
+            return false;
+        }
+        for (int i = prefix.length(); i < id.length(); i++) {
+            if (indexOf(id.charAt(i)) < 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * ID 에 담긴 생성 시각 (epoch millis)
+     */
+    public static long epochMillisOf(String id, String prefix) {
+        if (!isSortableId(id, prefix)) {
+            throw new IllegalArgumentException("정렬 가능한 ID 형식이 아닙니다: " + id);
+        }
+        long raw = 0;
+        for (int i = prefix.length(); i < id.length(); i++) {
+            raw = (raw << 5) | indexOf(id.charAt(i));
+        }
+        return (raw >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH;
+    }
+
+    public static LocalDateTime createdAtOf(String id, String prefix) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillisOf(id, prefix)), ZoneId.systemDefault());
+    }
+
+    private static String encode(long raw) {
+        char[] out = new char[BODY_LENGTH];
+        for (int i = BODY_LENGTH - 1; i >= 0; i--) {
+            out[i] = ALPHABET[(int) (raw & 31)];
+            raw >>>= 5;
+        }
+        return new String(out);
+    }
+
+    private static int indexOf(char c) {
+        for (int i = 0; i < ALPHABET.length; i++) {
+            if (ALPHABET[i] == c) return i;
+        }
+        return -1;
+    }
+
+    private static long resolveNodeId() {
+        String configured = System.getProperty("talktrip.node-id", System.getenv("TALKTRIP_NODE_ID"));
+        long max = (1L << NODE_BITS) - 1;
+        if (configured != null && !configured.isBlank()) {
+            return Long.parseLong(configured.trim()) & max;
+        }
+        // 지정하지 않으면 임의 값 (노드 수가 많으면 충돌 가능성이 있으므로 운영에서는 지정할 것)
+        return new SecureRandom().nextInt((int) max + 1);
+    }
+}
@@ -0,0 +1,82 @@
+package com.talktrip.talktrip.cluster;
+
+import com.talktrip.talktrip.cluster.bench.BenchCluster;
+import com.talktrip.talktrip.cluster.bench.BenchLoadGenerator;
+import com.talktrip.talktrip.cluster.bench.BenchReport;
+import com.talktrip.talktrip.cluster.bench.BenchSettings;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 대의 리눅스 머신에서 도는 채팅 클러스터 부하/지연 벤치마크 (./gradlew benchmarkTest 로만 실행).
+ * - 앱 인스턴스 N 개를 같은 JVM 에 띄우고 (내장 Redis + 공유 H2), 수천 개 STOMP 세션을 여러 방에 붙인다
+ * - 일정 속도로 보내고 종단 지연 분위수(HdrHistogram), 처리량, 노드별 CPU, 힙을 출력한다
+ * - build/bench 에 결과 JSON 을 남기고, 커밋된 기준선 대비 허용 오차 밖 회귀를 실패로 본다
+ *   기준선이 없거나 시나리오가 다르면 비교를 건너뛰지 않고 실패한다 (-Dbench.updateBaseline=true 로 기록)
+ *
+ * 설정은 BenchSettings 참고 (-Dbench.nodes, -Dbench.sessions, -Dbench.rate ...)
+ */
+@Tag("benchmark")
+class ChatClusterBenchmarkTest {
+
+    @Test
+    @DisplayName("여러 노드/세션에서 메시지가 모두 전달되고 기준선 대비 지연/처리량 회귀가 없다")
+    void clusterDeliveryLatency() throws Exception {
+        BenchSettings settings = BenchSettings.fromSystemProperties();
+
+        try (BenchCluster cluster = new BenchCluster(settings)) {
+            cluster.start();
+            cluster.seed();
+
+            try (BenchLoadGenerator load = new BenchLoadGenerator(settings, cluster)) {
+                load.connectAll(32);
+                Thread.sleep(1000); // 구독이 각 노드 Redis 채널까지 붙을 시간
+
+                // 워밍업 (JIT, 커넥션 풀, 캐시) 후 카운터와 지연 기록을 비운다
+                load.run(settings.warmupSeconds(), false);
+                load.drain(5_000);
+                load.resetCounters();
+
+                Map<Long, Map.Entry<String, Long>> cpuBefore = BenchReport.threadCpu();
+                double processCpuBefore = BenchReport.processCpuSeconds();
+
+                load.run(settings.durationSeconds(), true);
+                load.drain(10_000);
+
+                Histogram latency = load.latencySnapshot();
+                BenchReport.Result result = BenchReport.build(settings, load, latency,
+                        BenchReport.cpuByNode(cpuBefore, BenchReport.threadCpu(), cluster.ports()),
+                        BenchReport.processCpuSeconds() - processCpuBefore);
+
+                System.out.println(BenchReport.format(result));
+                Path file = BenchReport.write(result);
+                System.out.println("result written to " + file.toAbsolutePath());
+
+                assertThat(result.sendFailures()).isZero();
+                assertThat(result.delivered())
+                        .as("모든 멤버 세션에 전달되어야 한다")
+                        .isEqualTo(result.expectedDeliveries());
+
+                // 기준선을 새로 기록하는 실행만 비교를 건너뛴다 (방금 쓴 값과 비교할 의미가 없다)
+                if (settings.updateBaseline()) {
+                    BenchReport.updateBaseline(result);
+                    System.out.println("baseline updated: " + BenchReport.BASELINE_SOURCE.toAbsolutePath());
+                    return;
+                }
+
+                BenchReport.Baseline baseline = BenchReport.loadBaseline();
+                BenchReport.requireComparable(baseline, result);
+                List<String> regressions = BenchReport.regressions(baseline, result, settings.tolerance());
+                assertThat(regressions).as("기준선 대비 회귀 (허용 오차 %.0f%%)", settings.tolerance() * 100).isEmpty();
+            }
+        }
+    }
+}
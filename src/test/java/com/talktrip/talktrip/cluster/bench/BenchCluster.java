@@ -0,0 +1,169 @@
+package com.talktrip.talktrip.cluster.bench;
+
+import com.talktrip.talktrip.TalkTripApplication;
+import com.talktrip.talktrip.domain.chat.entity.ChatRoom;
+import com.talktrip.talktrip.domain.chat.entity.ChatRoomAccount;
+import com.talktrip.talktrip.domain.chat.entity.RoomType;
+import com.talktrip.talktrip.domain.chat.repository.ChatRoomMemberRepository;
+import com.talktrip.talktrip.domain.chat.repository.ChatRoomRepository;
+import com.talktrip.talktrip.domain.member.entity.Member;
+import com.talktrip.talktrip.domain.member.enums.MemberRole;
+import com.talktrip.talktrip.domain.member.enums.MemberState;
+import com.talktrip.talktrip.domain.member.repository.MemberRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import redis.embedded.RedisServer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 JVM 안에서 N 개의 앱 인스턴스를 띄운다.
+ * - Redis: 내장 redis-server (bench.redis=host:port 를 주면 외부 Redis 사용)
+ * - DB: 이름 붙은 H2 인메모리 DB (MySQL 모드) 를 모든 노드가 공유, 스키마는 첫 노드가 만든다
+ * - 노드마다 포트가 달라 인스턴스 ID / 스트림 소비자 그룹 / Tomcat 스레드 이름이 구분된다
+ */
+public class BenchCluster implements AutoCloseable {
+
+    static final String JWT_SECRET = "bench-secret-key-0123456789-abcdefghijklmnop";
+
+    private final BenchSettings settings;
+    private final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+    private RedisServer redisServer;
+
+    public BenchCluster(BenchSettings settings) {
+        this.settings = settings;
+    }
+
+    public void start() throws Exception {
+        String redisHost = "localhost";
+        int redisPort = settings.redisPort();
+        if (settings.externalRedis().isBlank()) {
+            redisServer = new RedisServer(redisPort);
+            redisServer.start();
+        } else {
+            String[] hostPort = settings.externalRedis().split(":");
+            redisHost = hostPort[0];
+            redisPort = Integer.parseInt(hostPort[1]);
+        }
+
+        for (int i = 0; i < settings.nodes(); i++) {
+            nodes.add(new SpringApplicationBuilder(TalkTripApplication.class, BenchNodeConfig.class)
+                    .properties(nodeProperties(port(i), i == 0, redisHost, redisPort))
+                    .run());
+        }
+    }
+
+    public int port(int node) {
+        return settings.basePort() + node;
+    }
+
+    public List<Integer> ports() {
+        List<Integer> ports = new ArrayList<>();
+        for (int i = 0; i < settings.nodes(); i++) ports.add(port(i));
+        return ports;
+    }
+
+    /**
+     * 사용자와 방을 만든다. 방 r 의 멤버 = 사용자 (r * membersPerRoom + j) % sessions
+     */
+    public void seed() {
+        ConfigurableApplicationContext ctx = nodes.get(0);
+        MemberRepository memberRepository = ctx.getBean(MemberRepository.class);
+        ChatRoomRepository chatRoomRepository = ctx.getBean(ChatRoomRepository.class);
+        ChatRoomMemberRepository chatRoomMemberRepository = ctx.getBean(ChatRoomMemberRepository.class);
+
+        List<Member> members = new ArrayList<>(settings.sessions());
+        for (int u = 0; u < settings.sessions(); u++) {
+            members.add(Member.builder()
+                    .accountEmail(email(u))
+                    .nickname("bench" + u)
+                    .memberRole(MemberRole.U)
+                    .memberState(MemberState.A)
+                    .build());
+        }
+        memberRepository.saveAll(members);
+
+        List<ChatRoom> rooms = new ArrayList<>(settings.rooms());
+        List<ChatRoomAccount> accounts = new ArrayList<>(settings.rooms() * settings.membersPerRoom());
+        for (int r = 0; r < settings.rooms(); r++) {
+            rooms.add(ChatRoom.builder()
+                    .roomId(roomId(r))
+                    .title("bench room " + r)
+                    .productId(0)
+                    .roomType(settings.membersPerRoom() > 2 ? RoomType.GROUP : RoomType.DIRECT)
+                    .build());
+            for (int u : roomMembers(r)) {
+                accounts.add(ChatRoomAccount.create(roomId(r), email(u)));
+            }
+        }
+        chatRoomRepository.saveAll(rooms);
+        chatRoomMemberRepository.saveAll(accounts);
+    }
+
+    public int[] roomMembers(int room) {
+        int[] members = new int[settings.membersPerRoom()];
+        for (int j = 0; j < members.length; j++) {
+            members[j] = (room * settings.membersPerRoom() + j) % settings.sessions();
+        }
+        return members;
+    }
+
+    public static String email(int user) {
+        return "bench-user-%05d@bench.local".formatted(user);
+    }
+
+    public static String roomId(int room) {
+        return "ROOM_BENCH_%05d".formatted(room);
+    }
+
+    @Override
+    public void close() {
+        for (ConfigurableApplicationContext node : nodes) {
+            try { node.close(); } catch (Exception ignore) {}
+        }
+        if (redisServer != null) {
+            try { redisServer.stop(); } catch (Exception ignore) {}
+        }
+    }
+
+    private Map<String, Object> nodeProperties(int port, boolean first, String redisHost, int redisPort) {
+        Map<String, Object> p = new HashMap<>();
+        p.put("server.port", port);
+        p.put("spring.main.banner-mode", "off");
+        p.put("spring.jmx.enabled", false);
+        p.put("logging.level.root", "WARN");
+
+        p.put("spring.datasource.url", "jdbc:h2:mem:chatbench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        p.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        p.put("spring.datasource.username", "sa");
+        p.put("spring.datasource.password", "");
+        p.put("spring.jpa.hibernate.ddl-auto", first ? "create" : "none");
+        p.put("spring.jpa.open-in-view", false);
+
+        p.put("spring.data.redis.host", redisHost);
+        p.put("spring.data.redis.port", redisPort);
+
+        // 측정 대상이 아닌 외부 연동 값 (빈 생성에만 필요)
+        p.put("jwt.secret-key", JWT_SECRET);
+        p.put("cloud.aws.credentials.access-key", "bench");
+        p.put("cloud.aws.credentials.secret-key", "bench");
+        p.put("cloud.aws.region.static", "ap-northeast-2");
+        p.put("cloud.aws.s3.bucket", "bench");
+        p.put("spring.security.oauth2.client.provider.kakao.authorization-uri", "http://localhost/kakao/authorize");
+        p.put("spring.security.oauth2.client.provider.kakao.user-info-uri", "http://localhost/kakao/me");
+        p.put("spring.security.oauth2.client.provider.kakao.token-uri", "http://localhost/kakao/token");
+        p.put("spring.security.oauth2.client.registration.kakao.client-id", "bench");
+        p.put("spring.security.oauth2.client.registration.kakao.client-secret", "bench");
+        p.put("spring.security.oauth2.client.registration.kakao.redirect-uri", "http://localhost/kakao/callback");
+        p.put("fastapi.base-url", "http://localhost:8000");
+        p.put("toss.secretKey", "bench");
+
+        // 부하 생성기가 의도적으로 빠르게 보내므로 속도 제한은 끈다
+        p.put("chat.rate-limit.enabled", false);
+        p.put("chat.presence.instance-id", "bench-" + port);
+        return p;
+    }
+}
@@ -0,0 +1,222 @@
+package com.talktrip.talktrip.cluster.bench;
+
+import com.talktrip.talktrip.domain.chat.dto.request.ChatMessageRequestDto;
+import com.talktrip.talktrip.global.util.JWTUtil;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.messaging.converter.ByteArrayMessageConverter;
+import org.springframework.messaging.converter.CompositeMessageConverter;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * STOMP 부하 생성기.
+ * - 사용자마다 세션 1개 (노드에 라운드로빈), 자기 방 토픽을 모두 구독
+ * - 전체 초당 ratePerSecond 건을 무작위 방의 무작위 멤버가 /app/chat/message 로 보낸다
+ * - 메시지 본문에 보낸 시각(System.nanoTime)을 넣고, 수신 측에서 같은 JVM 시계로 종단 지연을 잰다
+ */
+public class BenchLoadGenerator implements AutoCloseable {
+
+    static final String MARKER = "bench:";
+    private static final byte[] MARKER_FIELD = ("\"message\":\"" + MARKER).getBytes(StandardCharsets.UTF_8);
+
+    private final BenchSettings settings;
+    private final BenchCluster cluster;
+    private final WebSocketStompClient stompClient;
+    private final StompSession[] sessions;
+
+    // 종단 지연 (µs), 최대 60초
+    private final Recorder latency = new Recorder(TimeUnit.SECONDS.toMicros(60), 3);
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder sendFailures = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder errorFrames = new LongAdder();
+
+    public BenchLoadGenerator(BenchSettings settings, BenchCluster cluster) {
+        this.settings = settings;
+        this.cluster = cluster;
+        this.sessions = new StompSession[settings.sessions()];
+
+        ByteArrayMessageConverter bytes = new ByteArrayMessageConverter();
+        bytes.setContentTypeResolver(null); // 수신 content-type 과 관계없이 바이트 그대로
+        this.stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        this.stompClient.setMessageConverter(new CompositeMessageConverter(
+                List.of(bytes, new MappingJackson2MessageConverter())));
+        this.stompClient.setInboundMessageSizeLimit(256 * 1024);
+    }
+
+    /**
+     * 모든 세션 연결 + 방/에러 구독
+     */
+    public void connectAll(int parallelism) throws Exception {
+        List<List<String>> roomsByUser = new ArrayList<>(settings.sessions());
+        for (int u = 0; u < settings.sessions(); u++) roomsByUser.add(new ArrayList<>());
+        for (int r = 0; r < settings.rooms(); r++) {
+            for (int u : cluster.roomMembers(r)) roomsByUser.get(u).add(BenchCluster.roomId(r));
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Future<?>> futures = new ArrayList<>(settings.sessions());
+            for (int u = 0; u < settings.sessions(); u++) {
+                final int user = u;
+                futures.add(pool.submit(() -> {
+                    sessions[user] = connect(user, roomsByUser.get(user));
+                    return null;
+                }));
+            }
+            for (Future<?> f : futures) f.get(60, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * 정해진 시간 동안 일정한 속도로 보낸다. 측정 시작 시점에 지연 기록을 비운다.
+     */
+    public void run(int seconds, boolean resetAtStart) throws InterruptedException {
+        if (resetAtStart) latency.getIntervalHistogram();
+        ExecutorService senders = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, settings.ratePerSecond());
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(seconds);
+        long next = start;
+        try {
+            while (next < end) {
+                long wait = next - System.nanoTime();
+                if (wait > 0) TimeUnit.NANOSECONDS.sleep(wait);
+                senders.execute(this::sendOne);
+                next += intervalNanos;
+            }
+        } finally {
+            senders.shutdown();
+            senders.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * 보낸 메시지가 모두 도착하거나 timeout 이 지날 때까지 기다린다.
+     */
+    public void drain(long timeoutMs) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (System.currentTimeMillis() < deadline && delivered.sum() < expectedDeliveries()) {
+            Thread.sleep(100);
+        }
+    }
+
+    public long expectedDeliveries() {
+        return sent.sum() * settings.membersPerRoom();
+    }
+
+    public Histogram latencySnapshot() {
+        return latency.getIntervalHistogram();
+    }
+
+    public long sent() { return sent.sum(); }
+    public long sendFailures() { return sendFailures.sum(); }
+    public long delivered() { return delivered.sum(); }
+    public long errorFrames() { return errorFrames.sum(); }
+
+    public void resetCounters() {
+        sent.reset();
+        sendFailures.reset();
+        delivered.reset();
+        errorFrames.reset();
+    }
+
+    @Override
+    public void close() {
+        for (StompSession s : sessions) {
+            if (s == null) continue;
+            try { s.disconnect(); } catch (Exception ignore) {}
+        }
+        stompClient.stop();
+    }
+
+    private StompSession connect(int user, List<String> roomIds) throws Exception {
+        String token = JWTUtil.generateToken(Map.of("email", BenchCluster.email(user)), 60);
+        String url = "ws://localhost:" + cluster.port(user % settings.nodes()) + "/ws/websocket";
+
+        WebSocketHttpHeaders handshake = new WebSocketHttpHeaders();
+        handshake.add("Origin", "http://localhost:5173");
+        StompHeaders connect = new StompHeaders();
+        connect.add("Authorization", "Bearer " + token);
+
+        StompSession session = stompClient.connectAsync(url, handshake, connect, new StompSessionHandlerAdapter() {})
+                .get(30, TimeUnit.SECONDS);
+        for (String roomId : roomIds) {
+            session.subscribe("/topic/chat/room/" + roomId, new RoomFrameHandler());
+        }
+        session.subscribe("/user/queue/errors", new StompFrameHandler() {
+            @Override public Type getPayloadType(StompHeaders headers) { return byte[].class; }
+            @Override public void handleFrame(StompHeaders headers, Object payload) { errorFrames.increment(); }
+        });
+        return session;
+    }
+
+    private void sendOne() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int room = random.nextInt(settings.rooms());
+        int[] members = cluster.roomMembers(room);
+        int user = members[random.nextInt(members.length)];
+        StompSession session = sessions[user];
+        try {
+            // 한 WebSocket 세션에 동시에 쓰면 안 되므로 세션 단위로 직렬화
+            synchronized (session) {
+                session.send("/app/chat/message", new ChatMessageRequestDto(
+                        BenchCluster.roomId(room), BenchCluster.email(user), MARKER + System.nanoTime()));
+            }
+            sent.increment();
+        } catch (Exception e) {
+            sendFailures.increment();
+        }
+    }
+
+    private final class RoomFrameHandler implements StompFrameHandler {
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return byte[].class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            long now = System.nanoTime();
+            long sentAt = sentAt((byte[]) payload);
+            if (sentAt < 0) return;
+            delivered.increment();
+            latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(now - sentAt), TimeUnit.SECONDS.toMicros(60)));
+        }
+    }
+
+    // JSON 전체를 파싱하지 않고 "message":"bench:<nanos>" 만 찾는다 (클라이언트 비용이 지연에 섞이지 않게)
+    static long sentAt(byte[] json) {
+        outer:
+        for (int i = 0; i + MARKER_FIELD.length < json.length; i++) {
+            for (int k = 0; k < MARKER_FIELD.length; k++) {
+                if (json[i + k] != MARKER_FIELD[k]) continue outer;
+            }
+            long value = 0;
+            int digits = 0;
+            for (int p = i + MARKER_FIELD.length; p < json.length && json[p] >= '0' && json[p] <= '9'; p++) {
+                value = value * 10 + (json[p] - '0');
+                digits++;
+            }
+            return digits == 0 ? -1 : value;
+        }
+        return -1;
+    }
+}
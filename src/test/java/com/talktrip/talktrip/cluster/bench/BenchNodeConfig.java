@@ -0,0 +1,28 @@
+package com.talktrip.talktrip.cluster.bench;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.web.SecurityFilterChain;
+
+/**
+ * 벤치마크 노드 전용 설정 (BenchCluster 가 소스로 직접 추가한다).
+ * WebSocket 핸드셰이크(/ws/**)는 HTTP 인증 없이 열고, 인증은 STOMP CONNECT 의 JWT 로만 한다
+ * (JwtStompChannelInterceptor 경로는 운영과 같다).
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class BenchNodeConfig {
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    SecurityFilterChain benchWebSocketChain(HttpSecurity http) throws Exception {
+        return http
+                .securityMatcher("/ws/**")
+                .csrf(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(auth -> auth.anyRequest().permitAll())
+                .build();
+    }
+}
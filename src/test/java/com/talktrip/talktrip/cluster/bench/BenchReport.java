@@ -0,0 +1,201 @@
+package com.talktrip.talktrip.cluster.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 측정 결과, 노드별 CPU 집계, 기준선 비교.
+ * 노드가 한 JVM 에 있으므로 CPU 는 스레드 이름의 포트(http-nio-{port}-exec-*, 등)로 노드에 나누고,
+ * 이름으로 구분되지 않는 스레드(브로커 채널, Redis, 부하 생성기)는 shared 로 묶는다. 힙은 JVM 전체 값이다.
+ */
+public final class BenchReport {
+
+    static final String BASELINE_RESOURCE = "/bench/chat-cluster-baseline.json";
+    public static final Path BASELINE_SOURCE = Path.of("src/test/resources/bench/chat-cluster-baseline.json");
+    static final Path RESULT_DIR = Path.of("build/bench");
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .findAndRegisterModules()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private BenchReport() {}
+
+    public record Result(
+            BenchSettings.Scenario scenario,
+            long sent,
+            long sendFailures,
+            long expectedDeliveries,
+            long delivered,
+            long errorFrames,
+            double sendsPerSecond,
+            double deliveriesPerSecond,
+            double p50Ms,
+            double p90Ms,
+            double p99Ms,
+            double p999Ms,
+            double maxMs,
+            Map<String, Double> cpuSecondsByNode,
+            double processCpuSeconds,
+            long heapUsedMb,
+            long heapMaxMb,
+            LocalDateTime measuredAt
+    ) {}
+
+    public record Baseline(boolean recorded, String note, Result result) {}
+
+    public static Result build(BenchSettings settings, BenchLoadGenerator load, Histogram latency,
+                               Map<String, Double> cpuSecondsByNode, double processCpuSeconds) {
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        int seconds = settings.durationSeconds();
+        return new Result(
+                settings.scenario(),
+                load.sent(),
+                load.sendFailures(),
+                load.expectedDeliveries(),
+                load.delivered(),
+                load.errorFrames(),
+                load.sent() / (double) seconds,
+                load.delivered() / (double) seconds,
+                ms(latency.getValueAtPercentile(50)),
+                ms(latency.getValueAtPercentile(90)),
+                ms(latency.getValueAtPercentile(99)),
+                ms(latency.getValueAtPercentile(99.9)),
+                ms(latency.getMaxValue()),
+                cpuSecondsByNode,
+                processCpuSeconds,
+                heap.getUsed() / (1024 * 1024),
+                heap.getMax() / (1024 * 1024),
+                LocalDateTime.now());
+    }
+
+    public static String format(Result r) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("\n=== Chat cluster benchmark ===\n");
+        sb.append("scenario        : ").append(r.scenario()).append('\n');
+        sb.append("sent / failed   : ").append(r.sent()).append(" / ").append(r.sendFailures()).append('\n');
+        sb.append("delivered       : ").append(r.delivered()).append(" / ").append(r.expectedDeliveries())
+                .append(" expected, error frames ").append(r.errorFrames()).append('\n');
+        sb.append("throughput      : %.1f sends/s, %.1f deliveries/s%n".formatted(r.sendsPerSecond(), r.deliveriesPerSecond()));
+        sb.append("latency (ms)    : p50 %.2f  p90 %.2f  p99 %.2f  p99.9 %.2f  max %.2f%n"
+                .formatted(r.p50Ms(), r.p90Ms(), r.p99Ms(), r.p999Ms(), r.maxMs()));
+        r.cpuSecondsByNode().forEach((node, cpu) -> sb.append("cpu %-11s : %.2f s%n".formatted(node, cpu)));
+        sb.append("process cpu     : %.2f s%n".formatted(r.processCpuSeconds()));
+        sb.append("heap (JVM)      : ").append(r.heapUsedMb()).append(" / ").append(r.heapMaxMb()).append(" MB\n");
+        return sb.toString();
+    }
+
+    public static Path write(Result result) throws Exception {
+        Files.createDirectories(RESULT_DIR);
+        Path file = RESULT_DIR.resolve("chat-cluster-" + System.currentTimeMillis() + ".json");
+        MAPPER.writeValue(file.toFile(), result);
+        return file;
+    }
+
+    public static void updateBaseline(Result result) throws Exception {
+        Files.createDirectories(BASELINE_SOURCE.getParent());
+        MAPPER.writeValue(BASELINE_SOURCE.toFile(),
+                new Baseline(true, "recorded with -Dbench.updateBaseline=true", result));
+    }
+
+    public static Baseline loadBaseline() throws Exception {
+        try (InputStream in = BenchReport.class.getResourceAsStream(BASELINE_RESOURCE)) {
+            if (in == null) return new Baseline(false, "baseline file missing", null);
+            return MAPPER.readValue(in, Baseline.class);
+        }
+    }
+
+    /**
+     * 비교할 수 없는 기준선(파일 없음, 미기록, 다른 시나리오)이면 조용히 건너뛰지 않고 실패시킨다.
+     */
+    public static void requireComparable(Baseline baseline, Result current) {
+        String record = "record one on the reference box with ./gradlew benchmarkTest --tests '*ChatClusterBenchmarkTest'"
+                + " -Dbench.updateBaseline=true (same -Dbench.* scenario) and commit " + BASELINE_SOURCE;
+        if (!baseline.recorded() || baseline.result() == null) {
+            throw new IllegalStateException("benchmark baseline not recorded (" + baseline.note() + "); " + record);
+        }
+        if (!baseline.result().scenario().equals(current.scenario())) {
+            throw new IllegalStateException("benchmark baseline scenario " + baseline.result().scenario()
+                    + " differs from current " + current.scenario() + "; " + record);
+        }
+    }
+
+    /**
+     * 기준선 대비 회귀 목록. requireComparable 을 통과한 기준선만 넘긴다.
+     */
+    public static List<String> regressions(Baseline baseline, Result current, double tolerance) {
+        List<String> out = new ArrayList<>();
+        Result base = baseline.result();
+        if (current.p50Ms() > base.p50Ms() * (1 + tolerance)) {
+            out.add("p50 %.2fms > baseline %.2fms".formatted(current.p50Ms(), base.p50Ms()));
+        }
+        if (current.p99Ms() > base.p99Ms() * (1 + tolerance)) {
+            out.add("p99 %.2fms > baseline %.2fms".formatted(current.p99Ms(), base.p99Ms()));
+        }
+        if (current.deliveriesPerSecond() < base.deliveriesPerSecond() * (1 - tolerance)) {
+            out.add("throughput %.1f/s < baseline %.1f/s".formatted(current.deliveriesPerSecond(), base.deliveriesPerSecond()));
+        }
+        return out;
+    }
+
+    /**
+     * 스레드별 누적 CPU 시간 스냅샷 (thread id → [이름, ns])
+     */
+    public static Map<Long, Map.Entry<String, Long>> threadCpu() {
+        ThreadMXBean mx = ManagementFactory.getThreadMXBean();
+        Map<Long, Map.Entry<String, Long>> out = new HashMap<>();
+        for (ThreadInfo info : mx.getThreadInfo(mx.getAllThreadIds())) {
+            if (info == null) continue;
+            long cpu = mx.getThreadCpuTime(info.getThreadId());
+            if (cpu >= 0) out.put(info.getThreadId(), Map.entry(info.getThreadName(), cpu));
+        }
+        return out;
+    }
+
+    public static Map<String, Double> cpuByNode(Map<Long, Map.Entry<String, Long>> before,
+                                                Map<Long, Map.Entry<String, Long>> after,
+                                                List<Integer> ports) {
+        Map<String, Double> out = new LinkedHashMap<>();
+        for (int port : ports) out.put("node-" + port, 0d);
+        out.put("shared", 0d);
+        after.forEach((id, entry) -> {
+            long start = before.containsKey(id) ? before.get(id).getValue() : 0L;
+            double seconds = (entry.getValue() - start) / 1e9;
+            String node = "shared";
+            for (int port : ports) {
+                if (entry.getKey().contains("-" + port + "-")) {
+                    node = "node-" + port;
+                    break;
+                }
+            }
+            out.merge(node, seconds, Double::sum);
+        });
+        return out;
+    }
+
+    public static double processCpuSeconds() {
+        if (ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean os) {
+            return os.getProcessCpuTime() / 1e9;
+        }
+        return -1;
+    }
+
+    private static double ms(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,52 @@
+package com.talktrip.talktrip.cluster.bench;
+
+/**
+ * 벤치마크 시나리오 설정. 모두 -Dbench.* 시스템 프로퍼티로 바꿀 수 있다.
+ * 예) ./gradlew benchmarkTest -Dbench.nodes=3 -Dbench.sessions=3000 -Dbench.rate=1000
+ */
+public record BenchSettings(
+        int nodes,
+        int sessions,
+        int rooms,
+        int membersPerRoom,
+        int ratePerSecond,
+        int warmupSeconds,
+        int durationSeconds,
+        int basePort,
+        int redisPort,
+        String externalRedis,
+        double tolerance,
+        boolean updateBaseline
+) {
+
+    public static BenchSettings fromSystemProperties() {
+        return new BenchSettings(
+                intProp("bench.nodes", 3),
+                intProp("bench.sessions", 1500),
+                intProp("bench.rooms", 500),
+                intProp("bench.membersPerRoom", 3),
+                intProp("bench.rate", 500),
+                intProp("bench.warmupSeconds", 5),
+                intProp("bench.durationSeconds", 30),
+                intProp("bench.basePort", 18081),
+                intProp("bench.redisPort", 16379),
+                System.getProperty("bench.redis", ""),
+                Double.parseDouble(System.getProperty("bench.tolerance", "0.2")),
+                Boolean.parseBoolean(System.getProperty("bench.updateBaseline", "false"))
+        );
+    }
+
+    /**
+     * 기준선과 비교할 때 같아야 하는 항목 (포트/허용 오차 등 실행 환경 값은 제외)
+     */
+    public Scenario scenario() {
+        return new Scenario(nodes, sessions, rooms, membersPerRoom, ratePerSecond, durationSeconds);
+    }
+
+    public record Scenario(int nodes, int sessions, int rooms, int membersPerRoom, int ratePerSecond,
+                           int durationSeconds) {}
+
+    private static int intProp(String key, int defaultValue) {
+        return Integer.parseInt(System.getProperty(key, String.valueOf(defaultValue)));
+    }
+}
@@ -3,7 +3,9 @@ package com.talktrip.talktrip.domain.chat.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.talktrip.talktrip.domain.chat.dto.request.ChatRoomRequestDto;
 import com.talktrip.talktrip.domain.chat.dto.response.*;
+import com.talktrip.talktrip.domain.chat.service.ChatSearchIndexService;
 import com.talktrip.talktrip.domain.chat.service.ChatService;
+import com.talktrip.talktrip.domain.chat.service.ChatSyncService;
 import com.talktrip.talktrip.global.dto.SliceResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -32,6 +34,12 @@ class ChatApiControllerTest {
     @Mock
     private ChatService chatService;
 
+    @Mock
+    private ChatSearchIndexService chatSearchIndexService;
+
+    @Mock
+    private ChatSyncService chatSyncService;
+
     @InjectMocks
     private ChatApiController chatApiController;
 
@@ -73,6 +81,47 @@ class ChatApiControllerTest {
         verify(chatService).getRooms("test@example.com");
     }
 
+    @Test
+    @DisplayName("채팅 검색 - GET /api/chat/me/search")
+    void searchMessages() throws Exception {
+        // Given
+        ChatSearchHitDto hit = new ChatSearchHitDto("ROOM_001", "MSG_001", "other@example.com",
+                "제주 항공권 예약했어요", LocalDateTime.of(2025, 1, 27, 10, 0), "CURSOR");
+        when(chatSearchIndexService.search("test@example.com", "ROOM_001", "항공권", 20, null))
+                .thenReturn(SliceResponse.of(List.of(hit), "1737939600000", true));
+
+        // When & Then
+        mockMvc.perform(get("/api/chat/me/search")
+                        .param("q", "항공권")
+                        .param("roomId", "ROOM_001")
+                        .param("limit", "20")
+                        .principal(() -> "test@example.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].messageId").value("MSG_001"))
+                .andExpect(jsonPath("$.items[0].contextCursor").value("CURSOR"))
+                .andExpect(jsonPath("$.nextCursor").value("1737939600000"));
+    }
+
+    @Test
+    @DisplayName("재연결 동기화 - GET /api/chat/me/sync")
+    void sync() throws Exception {
+        // Given
+        ChatSyncResponse response = new ChatSyncResponse("NEXT_TOKEN", false, List.of(),
+                List.of(new ChatSyncResponse.RoomMessages("ROOM_001", List.of(), true)),
+                List.of(), java.util.Map.of("ROOM_001", 3));
+        when(chatSyncService.sync("test@example.com", "TOKEN")).thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(get("/api/chat/me/sync")
+                        .param("token", "TOKEN")
+                        .principal(() -> "test@example.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.syncToken").value("NEXT_TOKEN"))
+                .andExpect(jsonPath("$.reset").value(false))
+                .andExpect(jsonPath("$.messages[0].truncated").value(true))
+                .andExpect(jsonPath("$.unreadByRoom.ROOM_001").value(3));
+    }
+
     @Test
     @DisplayName("안읽은 모든 채팅 개수 조회 - GET /api/chat/countALLUnreadMessages")
     void getCountAllUnreadMessages() throws Exception {
@@ -8,9 +8,11 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 
 import java.security.Principal;
+import java.sql.SQLException;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
@@ -67,6 +69,39 @@ class ChatWebSocketControllerTest {
         verify(messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any());
     }
 
+    @Test
+    @DisplayName("같은 clientMessageKey 재전송이 유니크 제약에 걸리면 오류 대신 원래 영수증을 보낸다")
+    void handleMessage_duplicateClientKey_resendsAck() {
+        // Given
+        ChatMessageRequestDto dto = new ChatMessageRequestDto("ROOM_001", "testuser@test.com", "Hello", "ck-1");
+        doThrow(new DataIntegrityViolationException("uk_msg_sender_client_key"))
+                .when(chatService).saveAndSend(eq(dto), eq(mockPrincipal));
+
+        // When
+        chatWebSocketController.handleMessage(dto, mockPrincipal);
+
+        // Then
+        verify(chatService).resendAck(dto, mockPrincipal);
+        verify(messagingTemplate, never()).convertAndSendToUser(anyString(), eq("/queue/errors"), any());
+    }
+
+    @Test
+    @DisplayName("중복 키가 아닌 무결성 오류(길이 초과 등)는 영수증 대신 오류 응답을 보낸다")
+    void handleMessage_otherIntegrityViolation_sendsError() {
+        // Given
+        ChatMessageRequestDto dto = new ChatMessageRequestDto("ROOM_001", "testuser@test.com", "Hello", "ck-1");
+        doThrow(new DataIntegrityViolationException("could not execute statement",
+                new SQLException("Data truncation: Data too long for column 'message' at row 1")))
+                .when(chatService).saveAndSend(eq(dto), eq(mockPrincipal));
+        when(chatService.resendAck(dto, mockPrincipal)).thenReturn(false);
+
+        // When
+        chatWebSocketController.handleMessage(dto, mockPrincipal);
+
+        // Then
+        verify(messagingTemplate).convertAndSendToUser(eq("testuser@test.com"), eq("/queue/errors"), any());
+    }
+
     @Test
     @DisplayName("메시지 처리 중 Null DTO 발생")
     void handleMessage_nullDto() {
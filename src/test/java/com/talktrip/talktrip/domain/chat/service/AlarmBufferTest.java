@@ -0,0 +1,104 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import com.talktrip.talktrip.domain.chat.dto.response.AlarmPush;
+import com.talktrip.talktrip.domain.chat.entity.AlarmType;
+import com.talktrip.talktrip.global.config.AlarmProperties;
+import com.talktrip.talktrip.global.redis.RedisPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AlarmBufferTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private RedisPublisher redisPublisher;
+
+    private AlarmBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new AlarmBuffer(new AlarmProperties(), jdbcTemplate, transactionManager, redisPublisher, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("같은 방의 채팅 알림은 한 행으로 합쳐지고 사용자마다 한 번만 발행된다")
+    @SuppressWarnings("unchecked")
+    void flush_coalescesBurst() {
+        // Given
+        for (int i = 0; i < 30; i++) {
+            buffer.add("a@test.com", AlarmType.CHAT, "chat:ROOM_1", "b: 메시지 " + i, "/chat/ROOM_1");
+        }
+        buffer.add("a@test.com", AlarmType.ORDER, "order:1", "결제 완료", "/orders/1");
+
+        // When
+        buffer.flush();
+
+        // Then
+        ArgumentCaptor<List<Object[]>> alarmRows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("INSERT INTO alarm"), alarmRows.capture());
+        assertThat(alarmRows.getValue()).hasSize(2);
+        Object[] chatRow = alarmRows.getValue().stream().filter(row -> "chat:ROOM_1".equals(row[2])).findFirst().orElseThrow();
+        assertThat(chatRow[4]).isEqualTo("b: 메시지 29");
+        assertThat(chatRow[6]).isEqualTo(30);
+
+        ArgumentCaptor<AlarmPush> push = ArgumentCaptor.forClass(AlarmPush.class);
+        verify(redisPublisher, times(1)).publish(eq("chat:alarm:a@test.com"), push.capture());
+        assertThat(push.getValue().alarms()).hasSize(2);
+        assertThat(buffer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 안 읽은 알림이 있는 대상은 안 읽은 알림 수를 늘리지 않는다")
+    @SuppressWarnings("unchecked")
+    void flush_incrementsOnlyNewAlarms() {
+        // Given
+        buffer.add("a@test.com", AlarmType.CHAT, "chat:ROOM_1", "b: 안녕", "/chat/ROOM_1");
+        buffer.add("a@test.com", AlarmType.CHAT, "chat:ROOM_2", "c: 안녕", "/chat/ROOM_2");
+        when(jdbcTemplate.queryForList(contains("open_key IN"), eq(String.class), any(Object[].class)))
+                .thenReturn(List.of("a@test.com|chat:ROOM_1"));
+
+        // When
+        buffer.flush();
+
+        // Then
+        ArgumentCaptor<List<Object[]>> statusRows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("user_alarm_status"), statusRows.capture());
+        assertThat(statusRows.getValue()).singleElement()
+                .satisfies(row -> assertThat(row).containsExactly("a@test.com", 1));
+    }
+
+    @Test
+    @DisplayName("DB 반영 실패 시 발행하지 않고 다음 flush 에서 다시 시도한다")
+    void flush_failureKeepsAlarms() {
+        // Given
+        buffer.add("a@test.com", AlarmType.REVIEW, "review:product:1", "새 리뷰", "/products/1");
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new RuntimeException("db down"));
+
+        // When
+        buffer.flush();
+
+        // Then
+        assertThat(buffer.pendingCount()).isEqualTo(1);
+        verify(redisPublisher, never()).publish(anyString(), any());
+    }
+}
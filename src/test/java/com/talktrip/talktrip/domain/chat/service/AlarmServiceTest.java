@@ -0,0 +1,46 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import com.talktrip.talktrip.domain.chat.repository.AlarmRepository;
+import com.talktrip.talktrip.domain.chat.repository.UserAlarmStatusRepository;
+import com.talktrip.talktrip.global.config.AlarmProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class AlarmServiceTest {
+
+    @Mock
+    private AlarmBuffer alarmBuffer;
+
+    @Mock
+    private AlarmRepository alarmRepository;
+
+    @Mock
+    private UserAlarmStatusRepository userAlarmStatusRepository;
+
+    private AlarmService alarmService;
+
+    @BeforeEach
+    void setUp() {
+        alarmService = new AlarmService(alarmBuffer, alarmRepository, userAlarmStatusRepository, new AlarmProperties());
+    }
+
+    @Test
+    @DisplayName("숫자가 아닌 커서는 500 이 아니라 400 으로 거절한다")
+    void getAlarms_malformedCursor_badRequest() {
+        assertThatThrownBy(() -> alarmService.getAlarms("a@test.com", 20, "abc"))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        verifyNoInteractions(alarmRepository);
+    }
+}
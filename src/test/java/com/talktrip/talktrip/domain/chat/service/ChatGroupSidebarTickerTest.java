@@ -0,0 +1,129 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import com.talktrip.talktrip.domain.chat.message.dto.ChatRoomSidebarEvent;
+import com.talktrip.talktrip.global.config.ChatGroupProperties;
+import com.talktrip.talktrip.global.redis.RedisPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatGroupSidebarTickerTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisPublisher redisPublisher;
+
+    @Mock
+    private ChatGroupRoomService groupRoomService;
+
+    @Mock
+    private ChatRoomIndexService roomIndexService;
+
+    @Mock
+    private ChatMembershipCache membershipCache;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ChatGroupSidebarTicker ticker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ticker = new ChatGroupSidebarTicker(new ChatGroupProperties(), stringRedisTemplate, redisPublisher,
+                groupRoomService, roomIndexService, membershipCache, jdbcTemplate, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("한 주기 안의 여러 메시지는 방마다 최신 이벤트 1건으로 묶어 발행한다")
+    void tick_publishesLatestEventPerRoom() {
+        // Given
+        givenGate("3", 1L);
+        when(membershipCache.members("ROOM_G")).thenReturn(Set.of("a@test.com", "b@test.com"));
+        ticker.record(event(2L));
+        ticker.record(event(1L));
+        ticker.record(event(3L));
+
+        // When
+        ticker.tick();
+
+        // Then
+        verify(redisPublisher).publish(eq("chat:sidebar:ROOM_G"),
+                argThat(e -> ((ChatRoomSidebarEvent) e).getSeq() == 3L));
+        verify(groupRoomService).persistSeq(Map.of("ROOM_G", 3L));
+        verify(roomIndexService).touch(eq("ROOM_G"), anyList(), any(LocalDateTime.class));
+        assertThat(ticker.pendingCount()).isZero();
+        assertThat(meterRegistry.get("chat.group.sidebar.coalesced").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 이번 주기 게이트를 잡았으면 발행하지 않고 다음 주기로 남긴다")
+    void tick_gateTaken_keepsPending() {
+        // Given
+        givenGate("1", 0L);
+        ticker.record(event(1L));
+
+        // When
+        ticker.tick();
+
+        // Then
+        verify(redisPublisher, never()).publish(anyString(), any());
+        verifyNoInteractions(jdbcTemplate);
+        assertThat(ticker.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 더 새 순번을 이미 보냈으면 오래된 이벤트는 발행하지 않고 버린다")
+    void tick_olderThanPublishedSeq_dropped() {
+        // Given
+        givenGate("2", -1L);
+        ticker.record(event(2L));
+
+        // When
+        ticker.tick();
+
+        // Then
+        verify(redisPublisher, never()).publish(anyString(), any());
+        verify(groupRoomService).persistSeq(Map.of());
+        assertThat(ticker.pendingCount()).isZero();
+        assertThat(meterRegistry.get("chat.group.sidebar.stale_dropped").counter().count()).isEqualTo(1.0);
+    }
+
+    private void givenGate(String seq, long result) {
+        when(stringRedisTemplate.execute(any(DefaultRedisScript.class),
+                eq(List.of("chat:group:sidebar-gate:{ROOM_G}", "chat:group:sidebar-seq:{ROOM_G}")),
+                eq(seq), eq("1000"), eq("86400")))
+                .thenReturn(result);
+    }
+
+    private static ChatRoomSidebarEvent event(long seq) {
+        return ChatRoomSidebarEvent.builder()
+                .roomId("ROOM_G")
+                .messageId("MSG_" + seq)
+                .message("메시지 " + seq)
+                .senderAccountEmail("a@test.com")
+                .createdAt(LocalDateTime.now())
+                .seq(seq)
+                .build();
+    }
+}
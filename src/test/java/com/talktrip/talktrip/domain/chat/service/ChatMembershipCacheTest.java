@@ -0,0 +1,135 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talktrip.talktrip.domain.chat.repository.ChatRoomMemberRepository;
+import com.talktrip.talktrip.domain.chat.message.dto.ChatMembershipInvalidation;
+import com.talktrip.talktrip.global.config.ChatCodecProperties;
+import com.talktrip.talktrip.global.config.ChatMembershipProperties;
+import com.talktrip.talktrip.global.redis.RedisHealthMonitor;
+import com.talktrip.talktrip.global.redis.RedisPayloadCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMembershipCacheTest {
+
+    @Mock
+    private ChatRoomMemberRepository chatRoomMemberRepository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisHealthMonitor redisHealthMonitor;
+
+    @Mock
+    private ObjectProvider<RedisMessageListenerContainer> listenerContainer;
+
+    private ChatMembershipProperties properties;
+    private RedisPayloadCodec codec;
+    private ChatMembershipCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ChatMembershipProperties();
+        codec = new RedisPayloadCodec(new ObjectMapper(), new ChatCodecProperties());
+        cache = new ChatMembershipCache(chatRoomMemberRepository, properties, stringRedisTemplate, codec,
+                redisHealthMonitor, listenerContainer, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("방 멤버 집합은 한 번만 DB 에서 읽고 이후 확인은 캐시로 처리한다")
+    void isMember_loadsRoomOnce() {
+        // Given
+        when(chatRoomMemberRepository.findParticipantEmails("ROOM_1")).thenReturn(List.of("a@test.com", "b@test.com"));
+
+        // When
+        boolean a = cache.isMember("ROOM_1", "a@test.com");
+        boolean b = cache.isMember("ROOM_1", "b@test.com");
+        boolean c = cache.isMember("ROOM_1", "c@test.com");
+
+        // Then
+        assertThat(a).isTrue();
+        assertThat(b).isTrue();
+        assertThat(c).isFalse();
+        verify(chatRoomMemberRepository, times(1)).findParticipantEmails("ROOM_1");
+    }
+
+    @Test
+    @DisplayName("사용자 → 방 집합이 채워져 있으면 방 집합 없이도 확인한다")
+    void isMember_usesUserRooms() {
+        // Given
+        when(chatRoomMemberRepository.findRoomIdsByAccountEmail("a@test.com")).thenReturn(List.of("ROOM_1", "ROOM_2"));
+        cache.rooms("a@test.com");
+
+        // When & Then
+        assertThat(cache.isMember("ROOM_2", "a@test.com")).isTrue();
+        verify(chatRoomMemberRepository, never()).findParticipantEmails(anyString());
+    }
+
+    @Test
+    @DisplayName("무효화하면 다음 확인에서 DB 를 다시 읽는다")
+    void invalidate_reloads() {
+        // Given
+        when(chatRoomMemberRepository.findParticipantEmails("ROOM_1"))
+                .thenReturn(List.of("a@test.com"))
+                .thenReturn(List.of("a@test.com", "b@test.com"));
+        assertThat(cache.isMember("ROOM_1", "b@test.com")).isFalse();
+
+        when(redisHealthMonitor.isAvailable()).thenReturn(true);
+
+        // When
+        cache.invalidate("ROOM_1", List.of("a@test.com", "b@test.com"));
+
+        // Then
+        assertThat(cache.isMember("ROOM_1", "b@test.com")).isTrue();
+        verify(chatRoomMemberRepository, times(2)).findParticipantEmails("ROOM_1");
+        verify(stringRedisTemplate).execute(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 발행한 무효화를 받으면 로컬 항목을 지운다")
+    void onMessage_evictsRemoteInvalidation() throws Exception {
+        // Given
+        when(chatRoomMemberRepository.findParticipantEmails("ROOM_1")).thenReturn(List.of("a@test.com"));
+        cache.members("ROOM_1");
+        byte[] body = codec.encode(new ChatMembershipInvalidation("ROOM_1", List.of("a@test.com")));
+
+        // When
+        cache.onMessage(new DefaultMessage("chat:membership-cache:invalidate".getBytes(), body), null);
+        cache.members("ROOM_1");
+
+        // Then
+        verify(chatRoomMemberRepository, times(2)).findParticipantEmails("ROOM_1");
+    }
+
+    @Test
+    @DisplayName("캐시를 끄면 매번 DB 로 확인한다")
+    void disabled_queriesDb() {
+        // Given
+        properties.setEnabled(false);
+        when(chatRoomMemberRepository.existsByRoomIdAndAccountEmail("ROOM_1", "a@test.com")).thenReturn(true);
+
+        // When & Then
+        assertThat(cache.isMember("ROOM_1", "a@test.com")).isTrue();
+        assertThat(cache.isMember("ROOM_1", "a@test.com")).isTrue();
+        verify(chatRoomMemberRepository, times(2)).existsByRoomIdAndAccountEmail("ROOM_1", "a@test.com");
+    }
+}
@@ -0,0 +1,184 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import com.talktrip.talktrip.domain.chat.entity.ChatMessage;
+import com.talktrip.talktrip.domain.chat.entity.ChatMessageArchiveRoom;
+import com.talktrip.talktrip.domain.chat.repository.ChatMessageArchiveRoomRepository;
+import com.talktrip.talktrip.global.config.ChatArchiveProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageArchiveServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ChatMessageArchiveRoomRepository archiveRoomRepository;
+
+    @Mock
+    private ChatSearchIndexService searchIndexService;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private ChatMessageArchiveService archiveService;
+
+    @BeforeEach
+    void setUp() {
+        archiveService = new ChatMessageArchiveService(new ChatArchiveProperties(), jdbcTemplate,
+                transactionManager, stringRedisTemplate, archiveRoomRepository, searchIndexService);
+    }
+
+    @Test
+    @DisplayName("배치는 달마다 아카이브 테이블에 넣고, 방 범위를 갱신한 뒤 핫 테이블에서 지운다")
+    @SuppressWarnings("unchecked")
+    void moveBatch_splitsByMonth() {
+        // Given
+        ChatMessage keyed = new ChatMessage("M1", "ROOM_1", "a@test.com", "1월", LocalDateTime.of(2024, 1, 31, 23, 59));
+        keyed.setClientMessageKey("ck-1");
+        List<ChatMessage> batch = List.of(
+                keyed,
+                new ChatMessage("M2", "ROOM_1", "b@test.com", "2월", LocalDateTime.of(2024, 2, 1, 0, 0)),
+                new ChatMessage("M3", "ROOM_2", "a@test.com", "2월", LocalDateTime.of(2024, 2, 3, 0, 0)));
+        // 202402 는 client_message_key 도입 전에 만든 테이블
+        when(jdbcTemplate.queryForObject(contains("information_schema.columns"), eq(Integer.class),
+                eq("chatting_message_archive_202401"))).thenReturn(1);
+        when(jdbcTemplate.queryForObject(contains("information_schema.columns"), eq(Integer.class),
+                eq("chatting_message_archive_202402"))).thenReturn(0);
+
+        // When
+        archiveService.moveBatch(batch);
+
+        // Then
+        verify(jdbcTemplate).execute(contains("chatting_message_archive_202401 LIKE chatting_message_history_tab"));
+        verify(jdbcTemplate).execute(contains("chatting_message_archive_202402 LIKE chatting_message_history_tab"));
+
+        verify(jdbcTemplate).execute("ALTER TABLE chatting_message_archive_202402 ADD COLUMN client_message_key VARCHAR(64) NULL");
+        verify(jdbcTemplate, never()).execute(
+                "ALTER TABLE chatting_message_archive_202401 ADD COLUMN client_message_key VARCHAR(64) NULL");
+
+        InOrder inOrder = inOrder(jdbcTemplate);
+        ArgumentCaptor<List<Object[]>> janRows = ArgumentCaptor.forClass(List.class);
+        inOrder.verify(jdbcTemplate).batchUpdate(contains("INSERT IGNORE INTO chatting_message_archive_202401"), janRows.capture());
+        inOrder.verify(jdbcTemplate).batchUpdate(contains("INSERT IGNORE INTO chatting_message_archive_202402"), anyList());
+        ArgumentCaptor<List<Object[]>> roomRows = ArgumentCaptor.forClass(List.class);
+        inOrder.verify(jdbcTemplate).batchUpdate(contains("chatting_message_archive_room_tab"), roomRows.capture());
+        ArgumentCaptor<List<Object[]>> deletes = ArgumentCaptor.forClass(List.class);
+        inOrder.verify(jdbcTemplate).batchUpdate(startsWith("DELETE FROM chatting_message_history_tab"), deletes.capture());
+
+        assertThat(janRows.getValue().get(0)[4]).isEqualTo("ck-1");
+        assertThat(roomRows.getValue()).hasSize(2);
+        assertThat(deletes.getValue()).hasSize(3);
+        verify(searchIndexService).remove(batch);
+    }
+
+    @Test
+    @DisplayName("아카이브 테이블이 하나도 없으면 방 범위도 조회하지 않는다")
+    void findSliceBefore_noArchiveTables() {
+        // Given
+        when(jdbcTemplate.queryForList(contains("information_schema"), eq(String.class))).thenReturn(List.of());
+
+        // When
+        List<ChatMessage> first = archiveService.findSliceBefore("ROOM_1", LocalDateTime.now(), "M9", 50);
+        List<ChatMessage> second = archiveService.findSliceBefore("ROOM_2", LocalDateTime.now(), "M9", 50);
+
+        // Then (테이블 목록도 재조회 간격 안에서는 한 번만 읽는다)
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        verify(jdbcTemplate, times(1)).queryForList(contains("information_schema"), eq(String.class));
+        verifyNoInteractions(archiveRoomRepository);
+    }
+
+    @Test
+    @DisplayName("아카이브 범위가 없는 방도 캐시해 짧은 페이지마다 DB 를 보지 않는다")
+    void findSliceBefore_noArchivedRoom_cached() {
+        // Given
+        when(jdbcTemplate.queryForList(contains("information_schema"), eq(String.class)))
+                .thenReturn(List.of("chatting_message_archive_202401"));
+        when(archiveRoomRepository.findById("ROOM_1")).thenReturn(Optional.empty());
+
+        // When
+        archiveService.findSliceBefore("ROOM_1", LocalDateTime.now(), "M9", 50);
+        List<ChatMessage> result = archiveService.findSliceBefore("ROOM_1", LocalDateTime.now(), "M8", 50);
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(archiveRoomRepository, times(1)).findById("ROOM_1");
+        verify(jdbcTemplate, never()).query(anyString(), any(RowMapper.class), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("락은 자기 토큰일 때만 지우는 스크립트로 푼다")
+    @SuppressWarnings("unchecked")
+    void archive_releasesLockWithCompareAndDelete() {
+        // Given
+        ChatArchiveProperties properties = new ChatArchiveProperties();
+        properties.setEnabled(true);
+        archiveService = new ChatMessageArchiveService(properties, jdbcTemplate,
+                transactionManager, stringRedisTemplate, archiveRoomRepository, searchIndexService);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq("chat:archive:lock"), anyString(), any(Duration.class))).thenReturn(true);
+        when(jdbcTemplate.query(contains("FROM chatting_message_history_tab"), any(RowMapper.class), any(), any()))
+                .thenReturn(List.of());
+
+        // When
+        archiveService.archive();
+
+        // Then
+        verify(stringRedisTemplate).execute(any(DefaultRedisScript.class), eq(List.of("chat:archive:lock")), anyString());
+        verify(stringRedisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("커서가 있는 달부터 과거 달 순서로 페이지가 찰 때까지 이어 읽는다")
+    @SuppressWarnings("unchecked")
+    void findSliceBefore_walksMonthsNewestFirst() {
+        // Given
+        when(archiveRoomRepository.findById("ROOM_1")).thenReturn(Optional.of(new ChatMessageArchiveRoom(
+                "ROOM_1", LocalDateTime.of(2024, 1, 5, 0, 0), LocalDateTime.of(2024, 3, 20, 0, 0), 3)));
+        when(jdbcTemplate.queryForList(contains("information_schema"), eq(String.class)))
+                .thenReturn(List.of("chatting_message_archive_202401", "chatting_message_archive_202402",
+                        "chatting_message_archive_202403", "chatting_message_archive_room_tab"));
+        ChatMessage feb = new ChatMessage("M2", "ROOM_1", "a@test.com", "2월", LocalDateTime.of(2024, 2, 10, 0, 0));
+        ChatMessage jan = new ChatMessage("M1", "ROOM_1", "a@test.com", "1월", LocalDateTime.of(2024, 1, 10, 0, 0));
+        when(jdbcTemplate.query(contains("chatting_message_archive_202402"), any(RowMapper.class), any(Object[].class)))
+                .thenReturn(List.of(feb));
+        when(jdbcTemplate.query(contains("chatting_message_archive_202401"), any(RowMapper.class), any(Object[].class)))
+                .thenReturn(List.of(jan));
+
+        // When (커서는 2월 중순 → 3월 테이블은 건너뜀)
+        List<ChatMessage> result = archiveService.findSliceBefore("ROOM_1", LocalDateTime.of(2024, 2, 15, 0, 0), "M3", 2);
+
+        // Then
+        assertThat(result).containsExactly(feb, jan);
+        verify(jdbcTemplate, never()).query(contains("chatting_message_archive_202403"), any(RowMapper.class), any(Object[].class));
+    }
+}
@@ -0,0 +1,127 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import com.talktrip.talktrip.domain.chat.entity.ChatMessage;
+import com.talktrip.talktrip.domain.chat.repository.ChatUnreadCounterRepository;
+import com.talktrip.talktrip.global.config.ChatWriteBehindProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageWriteBehindBufferTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ChatUnreadCounterRepository unreadCounterRepository;
+
+    @Mock
+    private ChatRoomSummaryService roomSummaryService;
+
+    @Mock
+    private ChatGroupRoomService groupRoomService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ChatWriteBehindProperties properties;
+    private ChatMessageWriteBehindBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ChatWriteBehindProperties();
+        properties.setEnabled(true);
+        properties.setQueueCapacity(2);
+        buffer = new ChatMessageWriteBehindBuffer(properties, jdbcTemplate, unreadCounterRepository, roomSummaryService, groupRoomService, transactionManager, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("flush 시 메시지는 한 번의 batch insert, 방 갱신은 방마다 한 건으로 합쳐진다")
+    @SuppressWarnings("unchecked")
+    void flush_coalescesRoomUpdates() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        var batch = List.of(
+                pending("MSG_1", "ROOM_A", now),
+                pending("MSG_2", "ROOM_A", now.plusSeconds(1)),
+                pending("MSG_3", "ROOM_B", now)
+        );
+
+        // When
+        buffer.flush(batch);
+
+        // Then
+        ArgumentCaptor<List<Object[]>> inserts = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("INSERT INTO chatting_message_history_tab"), inserts.capture());
+        assertThat(inserts.getValue()).hasSize(3);
+
+        ArgumentCaptor<List<Object[]>> roomUpdates = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("UPDATE chatting_room_tab"), roomUpdates.capture());
+        assertThat(roomUpdates.getValue()).hasSize(2);
+
+        verify(roomSummaryService).record(batch.get(1).message(), 2);
+        verify(roomSummaryService).record(batch.get(2).message(), 1);
+        verify(unreadCounterRepository).incrementForRoom("ROOM_A", "a@test.com", 2);
+        verify(unreadCounterRepository).incrementForRoom("ROOM_B", "a@test.com", 1);
+
+        assertThat(batch).allMatch(p -> p.persisted().isDone() && !p.persisted().isCompletedExceptionally());
+    }
+
+    @Test
+    @DisplayName("배치 저장이 실패하면 단건으로 재시도하고 실패한 메시지만 예외로 완료된다")
+    void flush_isolatesPoisonMessage() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        var ok = pending("MSG_OK", "ROOM_A", now);
+        var bad = pending("MSG_BAD", "ROOM_A", now);
+        // 방 갱신 SQL 도 같은 메서드를 타므로 lenient 로 스텁
+        lenient().when(jdbcTemplate.batchUpdate(contains("INSERT INTO chatting_message_history_tab"), anyList()))
+                .thenAnswer(inv -> {
+                    List<Object[]> rows = inv.getArgument(1);
+                    if (rows.stream().anyMatch(r -> "MSG_BAD".equals(r[0]))) {
+                        throw new IllegalStateException("duplicate key");
+                    }
+                    return new int[rows.size()];
+                });
+
+        // When
+        buffer.flush(List.of(ok, bad));
+
+        // Then
+        assertThat(ok.persisted().isCompletedExceptionally()).isFalse();
+        assertThat(bad.persisted().isCompletedExceptionally()).isTrue();
+    }
+
+    @Test
+    @DisplayName("writer 가 시작되지 않았으면 enqueue 를 거절한다")
+    void enqueue_rejectedWhenNotRunning() {
+        ChatMessage message = new ChatMessage("MSG_1", "ROOM_A", "a@test.com", "hi", LocalDateTime.now());
+
+        assertThatThrownBy(() -> buffer.enqueue(message))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private ChatMessageWriteBehindBuffer.PendingMessage pending(String id, String roomId, LocalDateTime at) {
+        return new ChatMessageWriteBehindBuffer.PendingMessage(
+                new ChatMessage(id, roomId, "a@test.com", "hi", at), new CompletableFuture<>());
+    }
+}
@@ -0,0 +1,149 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talktrip.talktrip.domain.chat.dto.response.ChatDeliveryTrace;
+import com.talktrip.talktrip.domain.chat.dto.response.ChatMessagePush;
+import com.talktrip.talktrip.domain.chat.entity.ChatOutboxEvent;
+import com.talktrip.talktrip.global.config.ChatOutboxProperties;
+import com.talktrip.talktrip.global.redis.RedisHealthMonitor;
+import com.talktrip.talktrip.global.redis.RedisPayloadCodec;
+import com.talktrip.talktrip.global.redis.RedisStreamTransport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatOutboxRelayTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisPayloadCodec codec;
+
+    @Mock
+    private RedisStreamTransport streamTransport;
+
+    @Mock
+    private RedisHealthMonitor healthMonitor;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ChatOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new ChatOutboxRelay(new ChatOutboxProperties(), jdbcTemplate, stringRedisTemplate, codec,
+                streamTransport, healthMonitor, new ObjectMapper(), transactionManager, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("방 브로드캐스트와 사이드바를 호출자 트랜잭션 안에서 배치 insert 한 번으로 기록한다")
+    void save_writesRowsInOneBatch() throws Exception {
+        // Given
+        when(streamTransport.isEnabled()).thenReturn(false);
+        when(codec.encode(any())).thenReturn(new byte[]{1});
+
+        // When
+        relay.save(List.of(relay.room("ROOM_1", "push"), ChatOutboxRelay.channel("chat:sidebar:ROOM_1", "sidebar")));
+
+        // Then
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("INSERT INTO chatting_outbox_tab"), rows.capture());
+        assertThat(rows.getValue()).extracting(row -> row[1]).containsExactly("chat:room:ROOM_1", "chat:sidebar:ROOM_1");
+        assertThat(rows.getValue()).extracting(row -> row[0]).containsOnly(ChatOutboxEvent.Kind.PUBLISH.name());
+    }
+
+    @Test
+    @DisplayName("SKIP LOCKED 로 가져온 배치를 파이프라인 한 번으로 발행하고 지운다")
+    void relayOnce_publishesPipelinedAndDeletes() {
+        // Given
+        when(healthMonitor.isAvailable()).thenReturn(true);
+        when(jdbcTemplate.query(contains("FOR UPDATE SKIP LOCKED"), any(RowMapper.class), eq(500))).thenReturn(List.of(
+                row(1L, "chat:room:ROOM_1"), row(2L, "chat:sidebar:ROOM_1")));
+
+        // When
+        int relayed = relay.relayOnce();
+
+        // Then
+        assertThat(relayed).isEqualTo(2);
+        verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(jdbcTemplate).update(eq("DELETE FROM chatting_outbox_tab WHERE id IN (?,?)"), eq(1L), eq(2L));
+        verify(healthMonitor).recordSuccess();
+        assertThat(meterRegistry.get("chat.outbox.published").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("발행이 실패하면 행을 지우지 않아 다음 차례에 다시 보낸다")
+    void relayOnce_publishFailure_keepsRows() {
+        // Given
+        when(healthMonitor.isAvailable()).thenReturn(true);
+        when(jdbcTemplate.query(contains("FOR UPDATE SKIP LOCKED"), any(RowMapper.class), eq(500)))
+                .thenReturn(List.of(row(1L, "chat:room:ROOM_1")));
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        // When & Then
+        assertThatThrownBy(() -> relay.relayOnce()).isInstanceOf(RedisConnectionFailureException.class);
+        verify(jdbcTemplate, never()).update(startsWith("DELETE FROM chatting_outbox_tab"), any(Object[].class));
+        verify(healthMonitor).recordFailure(any());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    @DisplayName("방 메시지는 outbox 에 쓸 때가 아니라 relay 가 발행하기 직전에 publishedAt 을 찍는다")
+    void relayOnce_stampsPublishedAtAtRelayTime() throws Exception {
+        // Given
+        ObjectMapper objectMapper = new ObjectMapper();
+        ChatDeliveryTrace trace = ChatDeliveryTrace.accepted(1L);
+        trace.markPersisted();
+        ChatMessagePush push = ChatMessagePush.builder()
+                .messageId("MSG_1").roomId("ROOM_1").sender("a@test.com").message("안녕")
+                .trace(trace)
+                .build();
+        when(healthMonitor.isAvailable()).thenReturn(true);
+        when(jdbcTemplate.query(contains("FOR UPDATE SKIP LOCKED"), any(RowMapper.class), eq(500))).thenReturn(List.of(
+                new ChatOutboxRelay.OutboxRow(1L, ChatOutboxEvent.Kind.STREAM, "ROOM_1",
+                        objectMapper.writeValueAsBytes(push), LocalDateTime.now())));
+
+        // When
+        relay.relayOnce();
+
+        // Then
+        ArgumentCaptor<String> appended = ArgumentCaptor.forClass(String.class);
+        verify(streamTransport).append(eq("ROOM_1"), appended.capture());
+        ChatMessagePush relayed = objectMapper.readValue(appended.getValue(), ChatMessagePush.class);
+        assertThat(relayed.getTrace().getPersistedAt()).isEqualTo(trace.getPersistedAt());
+        assertThat(relayed.getTrace().getPublishedAt()).isGreaterThanOrEqualTo(trace.getPersistedAt());
+    }
+
+    private static ChatOutboxRelay.OutboxRow row(long id, String channel) {
+        return new ChatOutboxRelay.OutboxRow(id, ChatOutboxEvent.Kind.PUBLISH, channel, new byte[]{1},
+                LocalDateTime.now().minusNanos(5_000_000));
+    }
+}
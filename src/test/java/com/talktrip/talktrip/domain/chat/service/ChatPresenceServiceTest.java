@@ -0,0 +1,117 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import com.talktrip.talktrip.global.config.ChatPresenceProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatPresenceServiceTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private ChatPresenceService presenceService;
+
+    @BeforeEach
+    void setUp() {
+        ChatPresenceProperties properties = new ChatPresenceProperties();
+        properties.setInstanceId("node-self");
+        presenceService = new ChatPresenceService(properties, stringRedisTemplate, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("이 노드에 세션이 있는 사용자는 Redis 조회 없이 온라인으로 본다")
+    void onlineUsers_localSessionSkipsRedis() {
+        // Given
+        when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+        presenceService.onConnected(connected("s1", "local@test.com"));
+
+        // When
+        Set<String> online = presenceService.onlineUsers(List.of("local@test.com"));
+
+        // Then
+        assertThat(online).containsExactly("local@test.com");
+        verify(hashOperations).put("chat:presence:local@test.com", "node-self", "1");
+        verify(stringRedisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("다른 노드의 세션은 하트비트가 살아 있는 노드 것만 인정한다")
+    @SuppressWarnings("unchecked")
+    void onlineUsers_filtersDeadNodes() {
+        // Given
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.rangeByScore(eq("chat:presence:nodes"), anyDouble(), anyDouble())).thenReturn(Set.of("node-a"));
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenReturn(List.of())
+                .thenReturn(List.of(Map.of("node-a", "1"), Map.of("node-dead", "2"), Map.of()));
+        presenceService.heartbeat();
+
+        // When
+        Set<String> online = presenceService.onlineUsers(List.of("a@test.com", "b@test.com", "c@test.com"));
+
+        // Then
+        assertThat(online).containsExactly("a@test.com");
+    }
+
+    @Test
+    @DisplayName("Redis 조회에 실패하면 전원을 온라인으로 본다")
+    @SuppressWarnings("unchecked")
+    void onlineUsers_failsOpen() {
+        // Given
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenThrow(new RuntimeException("redis down"));
+
+        // When
+        Set<String> online = presenceService.onlineUsers(List.of("a@test.com", "b@test.com"));
+
+        // Then
+        assertThat(online).containsExactlyInAnyOrder("a@test.com", "b@test.com");
+    }
+
+    @Test
+    @DisplayName("인스턴스 ID 를 지정하지 않으면 같은 호스트의 프로세스끼리도 겹치지 않는 값을 쓴다")
+    void instanceId_uniquePerProcess() {
+        // When
+        ChatPresenceService first = new ChatPresenceService(new ChatPresenceProperties(), stringRedisTemplate, new SimpleMeterRegistry());
+        ChatPresenceService second = new ChatPresenceService(new ChatPresenceProperties(), stringRedisTemplate, new SimpleMeterRegistry());
+
+        // Then
+        assertThat(first.getInstanceId()).isNotEqualTo(second.getInstanceId());
+        assertThat(presenceService.getInstanceId()).isEqualTo("node-self");
+    }
+
+    private SessionConnectedEvent connected(String sessionId, String email) {
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create();
+        headers.setSessionId(sessionId);
+        Principal user = () -> email;
+        return new SessionConnectedEvent(this,
+                MessageBuilder.createMessage(new byte[0], headers.getMessageHeaders()), user);
+    }
+}
@@ -0,0 +1,125 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import com.talktrip.talktrip.domain.chat.repository.ChatRoomMemberRepository;
+import com.talktrip.talktrip.global.config.ChatReadMarkerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.security.Principal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatReadMarkerBufferTest {
+
+    @Mock
+    private ChatRoomMemberRepository chatRoomMemberRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ChatReadMarkerProperties properties;
+    private ChatReadMarkerBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ChatReadMarkerProperties();
+        buffer = new ChatReadMarkerBuffer(properties, chatRoomMemberRepository, jdbcTemplate, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("같은 (방, 사용자) 읽음 처리는 하나로 합쳐져 flush 때 한 번의 batch UPDATE 로 반영된다")
+    @SuppressWarnings("unchecked")
+    void flush_coalescesMarkers() {
+        // Given
+        buffer.mark("ROOM_1", "a@test.com");
+        buffer.mark("ROOM_1", "a@test.com");
+        buffer.mark("ROOM_1", "a@test.com");
+        buffer.mark("ROOM_2", "a@test.com");
+
+        // When
+        buffer.flush();
+
+        // Then
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("GREATEST"), rows.capture());
+        assertThat(rows.getValue()).hasSize(2);
+        assertThat(buffer.pendingCount()).isZero();
+        verify(chatRoomMemberRepository, never()).updateLastReadTime(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("flush 전에는 버퍼 값을 내 마지막 읽은 시각으로 돌려준다")
+    void findLastReadAt_prefersBufferedValue() {
+        // Given
+        buffer.mark("ROOM_1", "a@test.com");
+
+        // When & Then
+        assertThat(buffer.findLastReadAt("ROOM_1", "a@test.com")).isNotNull();
+        verify(chatRoomMemberRepository, never()).findMyLastReadAt(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("세션 종료 시 그 사용자의 읽음 위치만 바로 반영한다")
+    @SuppressWarnings("unchecked")
+    void onDisconnect_flushesOnlyThatUser() {
+        // Given
+        buffer.mark("ROOM_1", "a@test.com");
+        buffer.mark("ROOM_1", "b@test.com");
+        Principal user = () -> "a@test.com";
+
+        // When
+        buffer.onDisconnect(new SessionDisconnectEvent(this,
+                MessageBuilder.withPayload(new byte[0]).build(),
+                "s1", CloseStatus.NORMAL, user));
+
+        // Then
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        assertThat(rows.getValue()).singleElement().satisfies(row -> assertThat(row[3]).isEqualTo("a@test.com"));
+        assertThat(buffer.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("DB 반영 실패 시 다음 flush 에서 다시 시도하도록 버퍼에 되돌린다")
+    void flush_failureKeepsMarkers() {
+        // Given
+        buffer.mark("ROOM_1", "a@test.com");
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new RuntimeException("db down"));
+
+        // When
+        buffer.flush();
+
+        // Then
+        assertThat(buffer.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비활성화 시 기존처럼 바로 UPDATE 한다")
+    void mark_disabledUpdatesImmediately() {
+        // Given
+        properties.setEnabled(false);
+
+        // When
+        buffer.mark("ROOM_1", "a@test.com");
+
+        // Then
+        verify(chatRoomMemberRepository).updateLastReadTime("ROOM_1", "a@test.com");
+        assertThat(buffer.pendingCount()).isZero();
+    }
+}
@@ -0,0 +1,126 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.talktrip.talktrip.domain.chat.dto.response.ChatMemberRoomWithMessageDto;
+import com.talktrip.talktrip.domain.chat.entity.ChatMessage;
+import com.talktrip.talktrip.domain.member.repository.MemberRepository;
+import com.talktrip.talktrip.global.config.ChatRecentCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRecentMessageCacheTest {
+
+    private static final String ROOM_ID = "ROOM_001";
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private ListOperations<String, String> listOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ChatRecentCacheProperties properties;
+    private ChatRecentMessageCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ChatRecentCacheProperties();
+        properties.setCapacity(3);
+        cache = new ChatRecentMessageCache(properties, stringRedisTemplate, objectMapper, memberRepository, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("리스트가 capacity 보다 짧으면 방 전체로 보고 요청 크기보다 적어도 적중 처리한다")
+    void firstPage_shortListIsComplete() throws Exception {
+        // Given
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0, 0, 123_456_000);
+        when(stringRedisTemplate.opsForList()).thenReturn(listOperations);
+        when(listOperations.range(ChatRecentMessageCache.key(ROOM_ID), 0, 2)).thenReturn(List.of(
+                json("MSG_2", "a@test.com", now, "A"),
+                json("MSG_1", "a@test.com", now.minusSeconds(1), null)
+        ));
+
+        // When
+        Optional<List<ChatMemberRoomWithMessageDto>> page = cache.firstPage(ROOM_ID, 3);
+
+        // Then
+        assertThat(page).isPresent();
+        assertThat(page.get()).extracting(ChatMemberRoomWithMessageDto::messageId).containsExactly("MSG_2", "MSG_1");
+        assertThat(page.get().get(0).createdAt()).isEqualTo(now); // 커서용 마이크로초 유지
+        assertThat(page.get().get(1).senderName()).isEqualTo("A"); // 같은 발신자 이름으로 채움
+        assertThat(meterRegistry.get("chat.recent_cache.hit").tag("layer", "redis").counter().count()).isEqualTo(1.0);
+        verifyNoInteractions(memberRepository);
+    }
+
+    @Test
+    @DisplayName("이름을 찾지 못한 발신자도 캐시해 다시 읽을 때 회원 테이블을 조회하지 않는다")
+    void firstPage_missingSenderNameIsCached() throws Exception {
+        // Given
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        when(stringRedisTemplate.opsForList()).thenReturn(listOperations);
+        when(listOperations.range(ChatRecentMessageCache.key(ROOM_ID), 0, 2)).thenReturn(List.of(
+                json("MSG_1", "gone@test.com", now, null)
+        ));
+        when(memberRepository.findByAccountEmail("gone@test.com")).thenReturn(Optional.empty());
+
+        // When
+        cache.firstPage(ROOM_ID, 3);
+        Optional<List<ChatMemberRoomWithMessageDto>> page = cache.firstPage(ROOM_ID, 3);
+
+        // Then
+        assertThat(page).isPresent();
+        assertThat(page.get().get(0).senderName()).isNull();
+        verify(memberRepository, times(1)).findByAccountEmail("gone@test.com");
+    }
+
+    @Test
+    @DisplayName("리스트가 비어 있으면 미스로 기록하고 DB 로 넘긴다")
+    void firstPage_coldListIsMiss() {
+        // Given
+        when(stringRedisTemplate.opsForList()).thenReturn(listOperations);
+        when(listOperations.range(ChatRecentMessageCache.key(ROOM_ID), 0, 2)).thenReturn(List.of());
+
+        // When
+        Optional<List<ChatMemberRoomWithMessageDto>> page = cache.firstPage(ROOM_ID, 2);
+
+        // Then
+        assertThat(page).isEmpty();
+        assertThat(meterRegistry.get("chat.recent_cache.miss").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("요청 크기가 capacity 를 넘으면 Redis 를 보지 않고 미스 처리한다")
+    void firstPage_sizeOverCapacity() {
+        // When
+        Optional<List<ChatMemberRoomWithMessageDto>> page = cache.firstPage(ROOM_ID, 50);
+
+        // Then
+        assertThat(page).isEmpty();
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    private String json(String messageId, String email, LocalDateTime createdAt, String senderName) throws Exception {
+        ChatMessage message = new ChatMessage(messageId, ROOM_ID, email, "본문", createdAt);
+        return objectMapper.writeValueAsString(ChatRecentMessageCache.CachedMessage.of(message, senderName));
+    }
+}
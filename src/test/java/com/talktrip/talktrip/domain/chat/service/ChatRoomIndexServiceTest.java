@@ -0,0 +1,120 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import com.talktrip.talktrip.domain.chat.repository.ChatRoomRepository;
+import com.talktrip.talktrip.global.config.ChatRoomIndexProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomIndexServiceTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ChatRoomRepository chatRoomRepository;
+
+    @Mock
+    private StringRedisConnection connection;
+
+    private ChatRoomIndexService roomIndexService;
+
+    @BeforeEach
+    void setUp() {
+        roomIndexService = new ChatRoomIndexService(stringRedisTemplate, chatRoomRepository, new ChatRoomIndexProperties());
+    }
+
+    @Test
+    @DisplayName("멤버마다 단일 키 스크립트를 한 파이프라인으로 보내 클러스터에서 CROSSSLOT 이 나지 않는다")
+    @SuppressWarnings("unchecked")
+    void touch_singleKeyScriptPerMember() throws Exception {
+        // Given
+        LocalDateTime at = LocalDateTime.of(2025, 1, 1, 12, 0);
+        String score = String.valueOf(ChatRoomIndexService.toScore(at));
+
+        // When
+        roomIndexService.touch("ROOM_1", List.of("a@test.com", "b@test.com"), at);
+
+        // Then
+        ArgumentCaptor<RedisCallback<Object>> callback = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(stringRedisTemplate).executePipelined(callback.capture());
+        callback.getValue().doInRedis(connection);
+        verify(connection).eval(anyString(), eq(ReturnType.INTEGER), eq(1),
+                eq("chat:rooms:a@test.com"), eq("ROOM_1"), eq(score), anyString());
+        verify(connection).eval(anyString(), eq(ReturnType.INTEGER), eq(1),
+                eq("chat:rooms:b@test.com"), eq("ROOM_1"), eq(score), anyString());
+    }
+
+    @Test
+    @DisplayName("(시각, roomId) 커서를 그대로 넘기고, 같은 시각의 방은 roomId 역순 그대로 이어 받는다")
+    void page_compositeCursorKeepsTies() {
+        // Given
+        when(stringRedisTemplate.hasKey("chat:rooms:a@test.com")).thenReturn(true);
+        when(stringRedisTemplate.execute(any(DefaultRedisScript.class), eq(List.of("chat:rooms:a@test.com")),
+                eq("0"), eq("ROOM_5"), eq("3")))
+                .thenReturn(List.of("ROOM_4", "0", "ROOM_2", "0", "ROOM_1", "0"));
+
+        // When
+        List<ZSetOperations.TypedTuple<String>> page =
+                roomIndexService.page("a@test.com", 3, ChatRoomIndexService.RoomCursor.parse("0:ROOM_5"));
+
+        // Then
+        assertThat(page).extracting(ZSetOperations.TypedTuple::getValue).containsExactly("ROOM_4", "ROOM_2", "ROOM_1");
+        assertThat(page).extracting(ZSetOperations.TypedTuple::getScore).containsOnly(0.0);
+    }
+
+    @Test
+    @DisplayName("이전 형식(시각만) 커서는 빈 roomId 로 넘겨 그 시각 미만부터 읽는다")
+    void page_legacyCursorHasEmptyRoomId() {
+        // Given
+        when(stringRedisTemplate.hasKey("chat:rooms:a@test.com")).thenReturn(true);
+        when(stringRedisTemplate.execute(any(DefaultRedisScript.class), eq(List.of("chat:rooms:a@test.com")),
+                eq("1700000000000"), eq(""), eq("2")))
+                .thenReturn(List.of("ROOM_9", "1699999999000"));
+
+        // When
+        List<ZSetOperations.TypedTuple<String>> page =
+                roomIndexService.page("a@test.com", 2, ChatRoomIndexService.RoomCursor.parse("1700000000000"));
+
+        // Then
+        assertThat(page).extracting(ZSetOperations.TypedTuple::getValue).containsExactly("ROOM_9");
+        assertThat(page.get(0).getScore()).isEqualTo(1699999999000.0);
+    }
+
+    @Test
+    @DisplayName("커서 방이 다른 시각으로 옮겨졌어도 커서 위치(이전 시각, roomId)로 조회해 동점 방을 건너뛰지 않는다")
+    void page_movedCursorUsesCursorPosition() {
+        // Given — ROOM_5 는 새 메시지로 맨 앞으로 갔지만 커서는 예전 위치를 가리킨다
+        ChatRoomIndexService.RoomCursor cursor = new ChatRoomIndexService.RoomCursor(1700000000000L, "ROOM_5");
+        when(stringRedisTemplate.hasKey("chat:rooms:a@test.com")).thenReturn(true);
+        when(stringRedisTemplate.execute(any(DefaultRedisScript.class), eq(List.of("chat:rooms:a@test.com")),
+                eq("1700000000000"), eq("ROOM_5"), eq("2")))
+                .thenReturn(List.of("ROOM_3", "1700000000000", "ROOM_8", "1699999999000"));
+
+        // When
+        List<ZSetOperations.TypedTuple<String>> page = roomIndexService.page("a@test.com", 2, cursor);
+
+        // Then
+        assertThat(page).extracting(ZSetOperations.TypedTuple::getValue).containsExactly("ROOM_3", "ROOM_8");
+        assertThat(new ChatRoomIndexService.RoomCursor(1700000000000L, "ROOM_3").precedes(cursor)).isFalse();
+        assertThat(cursor.precedes(new ChatRoomIndexService.RoomCursor(1700000000000L, "ROOM_3"))).isTrue();
+    }
+}
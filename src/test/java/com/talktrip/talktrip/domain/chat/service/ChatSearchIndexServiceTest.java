@@ -0,0 +1,83 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import com.talktrip.talktrip.domain.chat.dto.response.ChatSearchHitDto;
+import com.talktrip.talktrip.domain.chat.entity.ChatMessage;
+import com.talktrip.talktrip.domain.chat.repository.ChatMessageRepository;
+import com.talktrip.talktrip.domain.chat.repository.ChatRoomMemberRepository;
+import com.talktrip.talktrip.global.config.ChatSearchProperties;
+import com.talktrip.talktrip.global.dto.SliceResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatSearchIndexServiceTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private ChatRoomMemberRepository chatRoomMemberRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ChatSearchIndexService searchIndexService;
+
+    @BeforeEach
+    void setUp() {
+        searchIndexService = new ChatSearchIndexService(stringRedisTemplate, chatMessageRepository,
+                chatRoomMemberRepository, new ChatSearchProperties(), jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("형식이 틀린 커서는 500 이 아니라 400 으로 거절한다")
+    void search_malformedCursor_badRequest() {
+        assertThatThrownBy(() -> searchIndexService.search("a@test.com", "ROOM_1", "제주", 20, "abc"))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("같은 시각의 메시지는 (시각, messageId) 커서로 이어 읽고, 스캔 예산을 다 쓰면 멈춘 위치를 다음 커서로 준다")
+    void search_compositeCursorAndScanBudget() {
+        // Given
+        when(chatRoomMemberRepository.existsByRoomIdAndAccountEmail("ROOM_1", "a@test.com")).thenReturn(true);
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(10L));
+        when(stringRedisTemplate.execute(any(DefaultRedisScript.class), eq(List.of("chat:search:{ROOM_1}:제주")),
+                eq("1700000000000"), eq("MSG_5"), eq("21"), eq("200"), eq("2000"), anyString()))
+                .thenReturn(List.of("MSG_2", "1700000000000", "MSG_3", "1700000000000"));
+        ChatMessage hit = new ChatMessage("MSG_3", "ROOM_1", "b@test.com", "ＪＥＪＵ 제주 갑니다", LocalDateTime.now());
+        when(chatMessageRepository.findAllById(List.of("MSG_3"))).thenReturn(List.of(hit));
+
+        // When
+        SliceResponse<ChatSearchHitDto> result =
+                searchIndexService.search("a@test.com", "ROOM_1", "제주", 20, "1700000000000:MSG_5");
+
+        // Then
+        assertThat(result.items()).extracting(ChatSearchHitDto::messageId).containsExactly("MSG_3");
+        assertThat(result.nextCursor()).isEqualTo("1700000000000:MSG_2");
+        assertThat(result.hasNext()).isTrue();
+    }
+}
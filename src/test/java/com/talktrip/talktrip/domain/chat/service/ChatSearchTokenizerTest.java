@@ -0,0 +1,40 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatSearchTokenizerTest {
+
+    @Test
+    @DisplayName("한글은 2-gram, 영문/숫자는 소문자 단어로 나눈다")
+    void tokenize_mixedText() {
+        // When
+        var tokens = ChatSearchTokenizer.tokenize("제주항공 JEJU 2025 예약!", 64);
+
+        // Then
+        assertThat(tokens).containsExactly("제주", "주항", "항공", "jeju", "2025", "예약");
+    }
+
+    @Test
+    @DisplayName("조사가 붙은 메시지도 질의 토큰을 모두 포함한다")
+    void tokenize_queryIsSubsetOfMessage() {
+        // When
+        var message = ChatSearchTokenizer.tokenize("항공권은 내일 보내드릴게요", 64);
+        var query = ChatSearchTokenizer.tokenize("항공권", 64);
+
+        // Then
+        assertThat(message).containsAll(query);
+    }
+
+    @Test
+    @DisplayName("토큰 수는 상한을 넘지 않는다")
+    void tokenize_respectsMaxTokens() {
+        // When
+        var tokens = ChatSearchTokenizer.tokenize("가나다라마바사아자차카타파하", 5);
+
+        // Then
+        assertThat(tokens).hasSize(5);
+    }
+}
@@ -0,0 +1,111 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talktrip.talktrip.domain.chat.dto.response.ChatSendAck;
+import com.talktrip.talktrip.domain.chat.entity.ChatMessage;
+import com.talktrip.talktrip.domain.chat.repository.ChatMessageRepository;
+import com.talktrip.talktrip.global.config.ChatSendDedupProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatSendDedupServiceTest {
+
+    private static final String KEY = "chat:send-dedup:a@test.com:ck-1";
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ChatSendDedupService dedupService;
+
+    @BeforeEach
+    void setUp() {
+        dedupService = new ChatSendDedupService(new ChatSendDedupProperties(), stringRedisTemplate,
+                chatMessageRepository, objectMapper);
+    }
+
+    @Test
+    @DisplayName("처음 보는 키는 처리 중으로 표시하고 처리 권한을 얻는다")
+    void claim_newKey_claimed() {
+        // Given
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(KEY), eq("PENDING"), any(Duration.class))).thenReturn(true);
+
+        // When
+        ChatSendDedupService.Claim claim = dedupService.claim("a@test.com", "ck-1");
+
+        // Then
+        assertThat(claim.claimed()).isTrue();
+        verifyNoInteractions(chatMessageRepository);
+    }
+
+    @Test
+    @DisplayName("저장이 끝난 키로 다시 보내면 원래 영수증을 중복 표시와 함께 돌려주고, 처리 중이면 영수증 없이 건너뛴다")
+    void claim_existingKey_duplicateOrInFlight() throws Exception {
+        // Given
+        ChatSendAck receipt = new ChatSendAck("ck-1", "MSG_001", "ROOM_001", "2025-01-01T10:00", false);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(KEY), eq("PENDING"), any(Duration.class))).thenReturn(false);
+        when(valueOperations.get(KEY)).thenReturn(objectMapper.writeValueAsString(receipt), "PENDING");
+
+        // When
+        ChatSendDedupService.Claim duplicate = dedupService.claim("a@test.com", "ck-1");
+        ChatSendDedupService.Claim inFlight = dedupService.claim("a@test.com", "ck-1");
+
+        // Then
+        assertThat(duplicate.status()).isEqualTo(ChatSendDedupService.Status.DUPLICATE);
+        assertThat(duplicate.receipt().messageId()).isEqualTo("MSG_001");
+        assertThat(duplicate.receipt().duplicate()).isTrue();
+        assertThat(inFlight.status()).isEqualTo(ChatSendDedupService.Status.IN_FLIGHT);
+        assertThat(inFlight.receipt()).isNull();
+    }
+
+    @Test
+    @DisplayName("Redis 가 실패하면 DB 의 (발신자, 키) 로 이미 저장된 메시지를 찾는다")
+    void claim_redisFailure_fallsBackToDb() {
+        // Given
+        when(stringRedisTemplate.opsForValue()).thenThrow(new RedisConnectionFailureException("down"));
+        ChatMessage saved = new ChatMessage("MSG_001", "ROOM_001", "a@test.com", "안녕", LocalDateTime.now());
+        saved.setClientMessageKey("ck-1");
+        when(chatMessageRepository.findByAccountEmailAndClientMessageKey("a@test.com", "ck-1"))
+                .thenReturn(Optional.of(saved));
+
+        // When
+        ChatSendDedupService.Claim claim = dedupService.claim("a@test.com", "ck-1");
+
+        // Then
+        assertThat(claim.status()).isEqualTo(ChatSendDedupService.Status.DUPLICATE);
+        assertThat(claim.receipt().messageId()).isEqualTo("MSG_001");
+    }
+
+    @Test
+    @DisplayName("DB 컬럼보다 긴 키는 거부한다")
+    void claim_tooLongKey_rejected() {
+        assertThatThrownBy(() -> dedupService.claim("a@test.com", "k".repeat(65)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(stringRedisTemplate);
+    }
+}
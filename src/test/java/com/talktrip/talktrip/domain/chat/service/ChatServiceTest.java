@@ -6,11 +6,13 @@ import com.talktrip.talktrip.domain.chat.dto.response.*;
 import com.talktrip.talktrip.domain.chat.entity.ChatMessage;
 import com.talktrip.talktrip.domain.chat.entity.ChatRoom;
 import com.talktrip.talktrip.domain.chat.entity.ChatRoomAccount;
+import com.talktrip.talktrip.domain.chat.message.dto.ChatRoomSidebarEvent;
 import com.talktrip.talktrip.domain.chat.message.dto.ChatRoomUpdateMessage;
 import com.talktrip.talktrip.domain.chat.repository.ChatMessageRepository;
 import com.talktrip.talktrip.domain.chat.repository.ChatRoomMemberRepository;
 import com.talktrip.talktrip.domain.chat.repository.ChatRoomRepository;
 import com.talktrip.talktrip.global.dto.SliceResponse;
+import com.talktrip.talktrip.global.redis.RedisHealthMonitor;
 import com.talktrip.talktrip.global.redis.RedisPublisher;
 import com.talktrip.talktrip.global.util.CursorUtil;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,14 +23,20 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.security.Principal;
 import java.sql.Timestamp;
@@ -37,6 +45,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.lang.reflect.Method;
 
@@ -74,6 +85,60 @@ class ChatServiceTest {
     @Mock
     private StringRedisTemplate stringRedisTemplate;
 
+    @Mock
+    private ChatMessageWriteBehindBuffer writeBehindBuffer;
+
+    @Mock
+    private ChatUnreadCounterService unreadCounterService;
+
+    @Mock
+    private ChatReadMarkerBuffer readMarkerBuffer;
+
+    @Mock
+    private ChatPresenceService presenceService;
+
+    @Mock
+    private ChatMissedMessageService missedMessageService;
+
+    @Mock
+    private AlarmService alarmService;
+
+    @Mock
+    private ChatMessageArchiveService archiveService;
+
+    @Mock
+    private ChatSearchIndexService searchIndexService;
+
+    @Mock
+    private ChatMembershipCache membershipCache;
+
+    @Mock
+    private ChatGroupRoomService groupRoomService;
+
+    @Mock
+    private ChatGroupSidebarTicker groupSidebarTicker;
+
+    @Mock
+    private ChatSendDedupService sendDedupService;
+
+    @Mock
+    private ChatOutboxRelay outboxRelay;
+
+    @Mock
+    private ChatRoomSummaryService roomSummaryService;
+
+    @Mock
+    private ChatRoomIndexService roomIndexService;
+
+    @Mock
+    private ChatRecentMessageCache recentMessageCache;
+
+    @Mock
+    private RedisHealthMonitor redisHealthMonitor;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @InjectMocks
     private ChatService chatService;
 
@@ -90,6 +155,12 @@ class ChatServiceTest {
         mockRoomRequestDto.setBuyerAccountEmail("buyer@example.com");
         mockRoomRequestDto.setSellerAccountEmail("seller@example.com");
         mockRoomRequestDto.setProductId(1);
+
+        // 트랜잭션 경계는 콜백을 그대로 실행
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
     }
 
     @Test
@@ -197,9 +268,8 @@ class ChatServiceTest {
         ChatMessageRequestDto mockMessageDto = new ChatMessageRequestDto("ROOM_001", "test@example.com", "테스트 메시지");
         Principal mockPrincipal = () -> "test@example.com";
         
-        // Redis 연결 실패 시뮬레이션
-        when(stringRedisTemplate.opsForValue()).thenReturn(mock(org.springframework.data.redis.core.ValueOperations.class));
-        when(stringRedisTemplate.opsForValue().get("health_check")).thenThrow(new RuntimeException("Redis connection failed"));
+        // Redis 서킷 OPEN 시뮬레이션
+        when(redisHealthMonitor.isAvailable()).thenReturn(false);
         
         // When & Then
         // Redis 연결 실패 시 예외 발생 확인
@@ -216,8 +286,7 @@ class ChatServiceTest {
         Principal mockPrincipal = () -> "test@example.com";
         
         // Redis 연결 성공
-        when(stringRedisTemplate.opsForValue()).thenReturn(mock(org.springframework.data.redis.core.ValueOperations.class));
-        when(stringRedisTemplate.opsForValue().get("health_check")).thenReturn("ok");
+        when(redisHealthMonitor.isAvailable()).thenReturn(true);
         
         // When & Then
         // 테스트 에러 메시지 시 예외 발생 확인
@@ -234,19 +303,15 @@ class ChatServiceTest {
         Principal mockPrincipal = () -> "test@example.com";
         
         // Redis 연결 성공
-        when(stringRedisTemplate.opsForValue()).thenReturn(mock(org.springframework.data.redis.core.ValueOperations.class));
-        when(stringRedisTemplate.opsForValue().get("health_check")).thenReturn("ok");
+        when(redisHealthMonitor.isAvailable()).thenReturn(true);
         
         // 메시지 저장 성공
         ChatMessage savedMessage = new ChatMessage("MSG_001", "ROOM_001", "test@example.com", "정상 메시지", LocalDateTime.now());
         when(chatMessageRepository.save(any(ChatMessage.class))).thenReturn(savedMessage);
+        when(membershipCache.isMember("ROOM_001", "test@example.com")).thenReturn(true);
         
-        // 방 멤버 조회 성공
-        when(chatRoomMemberRepository.findAllAccountEmailsByRoomId("ROOM_001"))
-                .thenReturn(Arrays.asList(
-                        ChatRoomAccount.create("ROOM_001", "test@example.com"),
-                        ChatRoomAccount.create("ROOM_001", "other@example.com")
-                ));
+        // 방 멤버 조회 성공 (멤버십 캐시)
+        when(membershipCache.members("ROOM_001")).thenReturn(Set.of("test@example.com", "other@example.com"));
         
         // When & Then
         // 정상적인 메시지 처리 시 예외가 발생하지 않아야 함
@@ -256,6 +321,144 @@ class ChatServiceTest {
 
 
 
+    @Test
+    @DisplayName("saveAndSend - 같은 clientMessageKey 재전송은 저장/발행 없이 원래 영수증만 다시 보낸다")
+    void saveAndSend_duplicateClientKey_resendsReceipt() {
+        // Given
+        ChatMessageRequestDto dto = new ChatMessageRequestDto("ROOM_001", "test@example.com", "안녕", "ck-1");
+        Principal principal = () -> "test@example.com";
+        ChatSendAck receipt = new ChatSendAck("ck-1", "MSG_001", "ROOM_001", "2025-01-01T10:00", true);
+        when(redisHealthMonitor.isAvailable()).thenReturn(true);
+        when(membershipCache.isMember("ROOM_001", "test@example.com")).thenReturn(true);
+        when(sendDedupService.claim("test@example.com", "ck-1"))
+                .thenReturn(new ChatSendDedupService.Claim(ChatSendDedupService.Status.DUPLICATE, receipt));
+
+        // When
+        chatService.saveAndSend(dto, principal);
+
+        // Then
+        verify(chatMessageRepository, never()).save(any());
+        verify(writeBehindBuffer, never()).enqueue(any());
+        verify(redisPublisher).publish(ChatSendDedupService.ackChannel("test@example.com"), receipt);
+        verify(redisPublisher, never()).publishRoom(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("saveAndSend - 중복 제거 창이 빈 뒤 같은 clientMessageKey 재전송은 유니크 제약 예외를 감싸지 않고 던지고 키를 푼다")
+    void saveAndSend_sameClientKeyTwiceThroughDb_rethrowsUniqueViolation() {
+        // Given
+        ChatMessageRequestDto dto = new ChatMessageRequestDto("ROOM_001", "test@example.com", "안녕", "ck-1");
+        Principal principal = () -> "test@example.com";
+        ChatMessage saved = new ChatMessage("MSG_001", "ROOM_001", "test@example.com", "안녕", LocalDateTime.now());
+        saved.setClientMessageKey("ck-1");
+        when(redisHealthMonitor.isAvailable()).thenReturn(true);
+        when(membershipCache.isMember("ROOM_001", "test@example.com")).thenReturn(true);
+        when(membershipCache.members("ROOM_001")).thenReturn(Set.of("test@example.com", "other@example.com"));
+        when(sendDedupService.claim("test@example.com", "ck-1"))
+                .thenReturn(new ChatSendDedupService.Claim(ChatSendDedupService.Status.CLAIMED, null));
+        when(chatMessageRepository.save(any(ChatMessage.class)))
+                .thenReturn(saved)
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry for key 'uk_msg_sender_client_key'"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When - 첫 전송은 저장되고 커밋 후 영수증을 보낸다
+            chatService.saveAndSend(dto, principal);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+            // Then
+            verify(sendDedupService).complete(eq("test@example.com"), argThat(ack -> "MSG_001".equals(ack.messageId())));
+            verify(redisPublisher).publish(eq(ChatSendDedupService.ackChannel("test@example.com")), any(ChatSendAck.class));
+
+            // When & Then - 두 번째 전송은 DB 유니크 제약에 걸린다
+            assertThatThrownBy(() -> chatService.saveAndSend(dto, principal))
+                    .isExactlyInstanceOf(DataIntegrityViolationException.class);
+            verify(sendDedupService).release("test@example.com", "ck-1");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("saveAndSend - write-behind 그룹 커밋 대기는 트랜잭션(풀 커넥션) 밖에서 한다")
+    void saveAndSend_writeBehindGroupCommit_awaitsWithoutTransaction() {
+        // Given
+        CompletableFuture<Void> persisted = CompletableFuture.completedFuture(null);
+        when(writeBehindBuffer.isEnabled()).thenReturn(true);
+        when(writeBehindBuffer.isGroupCommit()).thenReturn(true);
+        when(writeBehindBuffer.enqueue(any(ChatMessage.class))).thenReturn(persisted);
+        when(redisHealthMonitor.isAvailable()).thenReturn(true);
+        when(membershipCache.isMember("ROOM_001", "test@example.com")).thenReturn(true);
+        when(membershipCache.members("ROOM_001")).thenReturn(Set.of("test@example.com", "other@example.com"));
+
+        // When
+        chatService.saveAndSend(mockMessageDto, mockPrincipal);
+
+        // Then
+        verify(writeBehindBuffer).awaitPersisted(persisted);
+        verify(transactionTemplate, never()).executeWithoutResult(any());
+        verify(chatMessageRepository, never()).save(any(ChatMessage.class));
+    }
+
+    @Test
+    @DisplayName("saveAndSend - write-behind 모드는 행이 저장된 뒤에야 최근 메시지 캐시에 붙인다")
+    void saveAndSend_writeBehind_appendsRecentCacheAfterPersist() {
+        // Given
+        CompletableFuture<Void> persisted = new CompletableFuture<>();
+        when(writeBehindBuffer.isEnabled()).thenReturn(true);
+        when(writeBehindBuffer.enqueue(any(ChatMessage.class))).thenReturn(persisted);
+        when(redisHealthMonitor.isAvailable()).thenReturn(true);
+        when(membershipCache.isMember("ROOM_001", "test@example.com")).thenReturn(true);
+        when(membershipCache.members("ROOM_001")).thenReturn(Set.of("test@example.com", "other@example.com"));
+
+        // When
+        chatService.saveAndSend(mockMessageDto, mockPrincipal);
+
+        // Then - flush 전에는 붙이지 않는다
+        verify(recentMessageCache, never()).append(any());
+        verify(redisPublisher).publishRoom(eq("ROOM_001"), any());
+
+        // When - writer 가 저장을 끝냄
+        persisted.complete(null);
+
+        // Then
+        verify(recentMessageCache).append(argThat(m -> "ROOM_001".equals(m.getRoomId())));
+    }
+
+    @Test
+    @DisplayName("addGroupMember - 새 멤버는 가입 시점의 방 순번까지 읽은 것으로 시작한다")
+    void addGroupMember_seedsLastReadSeq() {
+        // Given
+        when(groupRoomService.isGroupRoom("ROOM_G")).thenReturn(true);
+        when(membershipCache.isMember("ROOM_G", "new@example.com")).thenReturn(false);
+        when(groupRoomService.joinSeq("ROOM_G", "new@example.com")).thenReturn(42L);
+
+        // When
+        chatService.addGroupMember("ROOM_G", "new@example.com");
+
+        // Then
+        verify(chatRoomMemberRepository).save(argThat(account ->
+                "new@example.com".equals(account.getAccountEmail()) && account.getLastReadSeq() == 42L));
+        verify(membershipCache).invalidate("ROOM_G", List.of("new@example.com"));
+        verify(redisPublisher).publishAfterCommit(any(ChannelTopic.class), any());
+    }
+
+    @Test
+    @DisplayName("saveAndSend - 방 멤버가 아니면 저장하지 않는다")
+    void saveAndSend_notMember() {
+        // Given
+        when(redisHealthMonitor.isAvailable()).thenReturn(true);
+        when(membershipCache.isMember("ROOM_001", "test@example.com")).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> chatService.saveAndSend(mockMessageDto, mockPrincipal))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("채팅방에 접근할 권한이 없습니다");
+        verify(chatMessageRepository, never()).save(any(ChatMessage.class));
+        verify(writeBehindBuffer, never()).enqueue(any());
+    }
+
     @Test
     @DisplayName("saveAndSend - 빈 메시지로 저장 시도")
     void saveAndSend_emptyMessage() {
@@ -349,6 +552,70 @@ class ChatServiceTest {
         assertThat(result.get(2).getRoomId()).isEqualTo("ROOM_001");
     }
 
+    @Test
+    @DisplayName("채팅방 목록 조회 - 안 읽은 수는 카운터에서 채운다")
+    void getRooms_unreadFromCounters() {
+        // Given
+        List<ChatRoomDTO> mockRooms = Arrays.asList(
+                new ChatRoomDTO("ROOM_001", "RA_001", LocalDateTime.now(), LocalDateTime.now(), "방1", "메시지", 0L, null),
+                new ChatRoomDTO("ROOM_002", "RA_002", LocalDateTime.now().minusHours(1), LocalDateTime.now().minusHours(1), "방2", "메시지", 0L, null)
+        );
+        when(chatRoomRepository.findRoomsWithLastMessageByMemberId("test@example.com")).thenReturn(mockRooms);
+        when(unreadCounterService.getUnreadByRoom("test@example.com")).thenReturn(java.util.Map.of("ROOM_002", 7));
+
+        // When
+        List<ChatRoomDTO> result = chatService.getRooms("test@example.com");
+
+        // Then
+        assertThat(result.get(0).getNotReadMessageCount()).isZero();
+        assertThat(result.get(1).getNotReadMessageCount()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("채팅방 목록 페이지 - Redis 인덱스 순서로 보이는 방만 조회한다")
+    void getRoomPage_fromIndex() {
+        // Given
+        List<ZSetOperations.TypedTuple<String>> indexed = List.of(
+                ZSetOperations.TypedTuple.of("ROOM_002", 3000.0),
+                ZSetOperations.TypedTuple.of("ROOM_001", 2000.0),
+                ZSetOperations.TypedTuple.of("ROOM_003", 1000.0)
+        );
+        when(roomIndexService.page("test@example.com", 3, null)).thenReturn(indexed);
+        when(chatRoomRepository.findRoomsWithLastMessageByMemberIdAndRoomIds("test@example.com", List.of("ROOM_002", "ROOM_001")))
+                .thenReturn(new ArrayList<>(List.of(
+                        new ChatRoomDTO("ROOM_001", "RA_001", LocalDateTime.now(), LocalDateTime.now(), "방1", "메시지", 0L, null),
+                        new ChatRoomDTO("ROOM_002", "RA_002", LocalDateTime.now(), LocalDateTime.now(), "방2", "메시지", 0L, null)
+                )));
+        when(unreadCounterService.getUnreadByRoom("test@example.com")).thenReturn(java.util.Map.of("ROOM_001", 2));
+
+        // When
+        SliceResponse<ChatRoomDTO> result = chatService.getRoomPage("test@example.com", 2, null);
+
+        // Then
+        assertThat(result.items()).extracting(ChatRoomDTO::getRoomId).containsExactly("ROOM_002", "ROOM_001");
+        assertThat(result.items().get(1).getNotReadMessageCount()).isEqualTo(2L);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.nextCursor()).isEqualTo("2000:ROOM_001");
+        verify(chatRoomRepository, never()).findRoomsWithLastMessageByMemberId(anyString());
+    }
+
+    @Test
+    @DisplayName("채팅방 목록 페이지 - 커서는 (마지막 활동, roomId) 로 넘기고 형식이 틀리면 400")
+    void getRoomPage_compositeCursor() {
+        // Given
+        ChatRoomIndexService.RoomCursor cursor = new ChatRoomIndexService.RoomCursor(0L, "ROOM_005");
+        when(roomIndexService.page("test@example.com", 3, cursor)).thenReturn(List.of());
+
+        // When
+        SliceResponse<ChatRoomDTO> result = chatService.getRoomPage("test@example.com", 2, "0:ROOM_005");
+
+        // Then
+        assertThat(result.items()).isEmpty();
+        assertThatThrownBy(() -> chatService.getRoomPage("test@example.com", 2, "not-a-cursor"))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
     @Test
     @DisplayName("채팅방 목록 조회 - 빈 방 목록")
     void getRooms_emptyList() {
@@ -386,21 +653,21 @@ class ChatServiceTest {
     @DisplayName("전체 미읽 메시지 수 조회 - 성공")
     void getCountAllUnreadMessages_success() {
         // Given
-        when(chatMessageRepository.countUnreadMessages("test@example.com")).thenReturn(15);
+        when(unreadCounterService.getTotalUnread("test@example.com")).thenReturn(15);
 
         // When
         int result = chatService.getCountAllUnreadMessages("test@example.com");
 
         // Then
         assertThat(result).isEqualTo(15);
-        verify(chatMessageRepository).countUnreadMessages("test@example.com");
+        verify(unreadCounterService).getTotalUnread("test@example.com");
     }
 
     @Test
     @DisplayName("전체 미읽 메시지 수 조회 - 0개")
     void getCountAllUnreadMessages_zero() {
         // Given
-        when(chatMessageRepository.countUnreadMessages("test@example.com")).thenReturn(0);
+        when(unreadCounterService.getTotalUnread("test@example.com")).thenReturn(0);
 
         // When
         int result = chatService.getCountAllUnreadMessages("test@example.com");
@@ -413,21 +680,21 @@ class ChatServiceTest {
     @DisplayName("특정 방 미읽 메시지 수 조회 - 성공")
     void getCountUnreadMessagesByRoomId_success() {
         // Given
-        when(chatMessageRepository.countUnreadMessagesByRoomId("ROOM_001", "test@example.com")).thenReturn(5);
+        when(unreadCounterService.getUnread("ROOM_001", "test@example.com")).thenReturn(5);
 
         // When
         int result = chatService.getCountUnreadMessagesByRoomId("ROOM_001", "test@example.com");
 
         // Then
         assertThat(result).isEqualTo(5);
-        verify(chatMessageRepository).countUnreadMessagesByRoomId("ROOM_001", "test@example.com");
+        verify(unreadCounterService).getUnread("ROOM_001", "test@example.com");
     }
 
     @Test
     @DisplayName("특정 방 미읽 메시지 수 조회 - 0개")
     void getCountUnreadMessagesByRoomId_zero() {
         // Given
-        when(chatMessageRepository.countUnreadMessagesByRoomId("ROOM_001", "test@example.com")).thenReturn(0);
+        when(unreadCounterService.getUnread("ROOM_001", "test@example.com")).thenReturn(0);
 
         // When
         int result = chatService.getCountUnreadMessagesByRoomId("ROOM_001", "test@example.com");
@@ -440,28 +707,28 @@ class ChatServiceTest {
     @DisplayName("모든 방 미읽 메시지 수 조회 - 성공")
     void getCountALLUnreadMessagesRooms_success() {
         // Given
-        when(chatMessageRepository.countUnreadMessagesRooms("test@example.com")).thenReturn(25);
+        when(unreadCounterService.getUnreadRoomCount("test@example.com")).thenReturn(25);
 
         // When
         int result = chatService.getCountALLUnreadMessagesRooms("test@example.com");
 
         // Then
         assertThat(result).isEqualTo(25);
-        verify(chatMessageRepository).countUnreadMessagesRooms("test@example.com");
+        verify(unreadCounterService).getUnreadRoomCount("test@example.com");
     }
 
     @Test
     @DisplayName("모든 방 미읽 메시지 수 조회 - 0개")
     void getCountALLUnreadMessagesRooms_zero() {
         // Given
-        when(chatMessageRepository.countUnreadMessagesRooms("test@example.com")).thenReturn(0);
+        when(unreadCounterService.getUnreadRoomCount("test@example.com")).thenReturn(0);
 
         // When
         int result = chatService.getCountALLUnreadMessagesRooms("test@example.com");
 
         // Then
         assertThat(result).isEqualTo(0);
-        verify(chatMessageRepository).countUnreadMessagesRooms("test@example.com");
+        verify(unreadCounterService).getUnreadRoomCount("test@example.com");
     }
 
     @Test
@@ -479,7 +746,6 @@ class ChatServiceTest {
         List<ChatMessage> mockMessages = Arrays.asList(mockMessage);
         when(chatMessageRepository.findFirstPage(eq("ROOM_001"), any(PageRequest.class)))
                 .thenReturn(mockMessages);
-        when(chatRoomMemberRepository.updateLastReadTime("ROOM_001", "test@example.com")).thenReturn(1);
 
         // When
         SliceResponse<ChatMemberRoomWithMessageDto> result = chatService
@@ -490,13 +756,34 @@ class ChatServiceTest {
         verify(chatMessageRepository).findFirstPage(eq("ROOM_001"), any(PageRequest.class));
     }
 
+    @Test
+    @DisplayName("채팅방 메시지 히스토리 조회 - 최근 메시지 캐시 적중 시 DB 를 조회하지 않는다")
+    void getRoomChattingHistoryAndMarkAsRead_recentCacheHit() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        List<ChatMemberRoomWithMessageDto> cached = List.of(
+                new ChatMemberRoomWithMessageDto("MSG_002", "ROOM_001", "a@example.com", "두번째", now, "A"),
+                new ChatMemberRoomWithMessageDto("MSG_001", "ROOM_001", "b@example.com", "첫번째", now.minusSeconds(1), "B")
+        );
+        when(recentMessageCache.firstPage("ROOM_001", 2)).thenReturn(Optional.of(cached));
+
+        // When
+        SliceResponse<ChatMemberRoomWithMessageDto> result = chatService
+                .getRoomChattingHistoryAndMarkAsRead("ROOM_001", "test@example.com", 2, null);
+
+        // Then
+        assertThat(result.items()).containsExactlyElementsOf(cached);
+        assertThat(result.nextCursor()).isEqualTo(CursorUtil.encode(now.minusSeconds(1), "MSG_001"));
+        verify(chatMessageRepository, never()).findFirstPage(anyString(), any(PageRequest.class));
+        verify(readMarkerBuffer).mark("ROOM_001", "test@example.com");
+    }
+
     @Test
     @DisplayName("채팅방 메시지 히스토리 조회 - limit이 0 이하일 때 기본값 사용")
     void getRoomChattingHistoryAndMarkAsRead_limitZero() {
         // Given
         when(chatMessageRepository.findFirstPage(eq("ROOM_001"), any(PageRequest.class)))
                 .thenReturn(new ArrayList<>());
-        when(chatRoomMemberRepository.updateLastReadTime("ROOM_001", "test@example.com")).thenReturn(1);
 
         // When
         chatService.getRoomChattingHistoryAndMarkAsRead("ROOM_001", "test@example.com", 0, null);
@@ -513,7 +800,6 @@ class ChatServiceTest {
         // Given
         when(chatMessageRepository.findFirstPage(eq("ROOM_001"), any(PageRequest.class)))
                 .thenReturn(new ArrayList<>());
-        when(chatRoomMemberRepository.updateLastReadTime("ROOM_001", "test@example.com")).thenReturn(1);
 
         // When
         chatService.getRoomChattingHistoryAndMarkAsRead("ROOM_001", "test@example.com", null, null);
@@ -530,7 +816,6 @@ class ChatServiceTest {
         // Given
         when(chatMessageRepository.findFirstPage(eq("ROOM_001"), any(PageRequest.class)))
                 .thenReturn(new ArrayList<>());
-        when(chatRoomMemberRepository.updateLastReadTime("ROOM_001", "test@example.com")).thenReturn(1);
 
         // When
         chatService.getRoomChattingHistoryAndMarkAsRead("ROOM_001", "test@example.com", 250, null);
@@ -547,7 +832,6 @@ class ChatServiceTest {
         // Given
         when(chatMessageRepository.findFirstPage(eq("ROOM_001"), any(PageRequest.class)))
                 .thenReturn(new ArrayList<>());
-        when(chatRoomMemberRepository.updateLastReadTime("ROOM_001", "test@example.com")).thenReturn(1);
 
         // When
         chatService.getRoomChattingHistoryAndMarkAsRead("ROOM_001", "test@example.com", 50, "   ");
@@ -562,7 +846,6 @@ class ChatServiceTest {
         // Given
         when(chatMessageRepository.findFirstPage(eq("ROOM_001"), any(PageRequest.class)))
                 .thenReturn(new ArrayList<>());
-        when(chatRoomMemberRepository.updateLastReadTime("ROOM_001", "test@example.com")).thenReturn(1);
 
         // When
         chatService.getRoomChattingHistoryAndMarkAsRead("ROOM_001", "test@example.com", 50, null);
@@ -594,7 +877,6 @@ class ChatServiceTest {
 
         when(chatMessageRepository.findSliceBefore(eq("ROOM_001"), any(LocalDateTime.class), anyString(), any(PageRequest.class)))
                 .thenReturn(mockMessages);
-        when(chatRoomMemberRepository.updateLastReadTime("ROOM_001", "test@example.com")).thenReturn(1);
 
         // When
         SliceResponse<ChatMemberRoomWithMessageDto> result = chatService
@@ -605,6 +887,30 @@ class ChatServiceTest {
         verify(chatMessageRepository).findSliceBefore(eq("ROOM_001"), any(LocalDateTime.class), anyString(), any(PageRequest.class));
     }
 
+    @Test
+    @DisplayName("채팅방 메시지 히스토리 조회 - 핫 테이블이 모자라면 아카이브에서 이어 읽음")
+    void getRoomChattingHistoryAndMarkAsRead_continuesIntoArchive() {
+        // Given
+        LocalDateTime hotTime = LocalDateTime.of(2025, 1, 27, 9, 0, 0);
+        ChatMessage hot = new ChatMessage("MSG_010", "ROOM_001", "test@example.com", "핫 메시지", hotTime);
+        ChatMessage archived = new ChatMessage("MSG_005", "ROOM_001", "test@example.com", "아카이브 메시지",
+                LocalDateTime.of(2024, 6, 1, 12, 0, 0));
+        String cursor = CursorUtil.encode(LocalDateTime.of(2025, 1, 27, 10, 0, 0), "MSG_011");
+
+        when(chatMessageRepository.findSliceBefore(eq("ROOM_001"), any(LocalDateTime.class), anyString(), any(PageRequest.class)))
+                .thenReturn(List.of(hot));
+        when(archiveService.findSliceBefore("ROOM_001", hotTime, "MSG_010", 1)).thenReturn(List.of(archived));
+
+        // When
+        SliceResponse<ChatMemberRoomWithMessageDto> result = chatService
+                .getRoomChattingHistoryAndMarkAsRead("ROOM_001", "test@example.com", 2, cursor);
+
+        // Then
+        assertThat(result.items()).extracting(ChatMemberRoomWithMessageDto::messageId)
+                .containsExactly("MSG_010", "MSG_005");
+        assertThat(result.hasNext()).isTrue();
+    }
+
     @Test
     @DisplayName("채팅방 메시지 히스토리 조회 - 다음 페이지 있음")
     void getRoomChattingHistoryAndMarkAsRead_hasNext() {
@@ -628,7 +934,6 @@ class ChatServiceTest {
         List<ChatMessage> mockMessages = Arrays.asList(mockMessage1, mockMessage2);
         when(chatMessageRepository.findFirstPage(eq("ROOM_001"), any(PageRequest.class)))
                 .thenReturn(mockMessages);
-        when(chatRoomMemberRepository.updateLastReadTime("ROOM_001", "test@example.com")).thenReturn(1);
 
         // When
         SliceResponse<ChatMemberRoomWithMessageDto> result = chatService
@@ -655,7 +960,6 @@ class ChatServiceTest {
         List<ChatMessage> mockMessages = Arrays.asList(mockMessage);
         when(chatMessageRepository.findFirstPage(eq("ROOM_001"), any(PageRequest.class)))
                 .thenReturn(mockMessages);
-        when(chatRoomMemberRepository.updateLastReadTime("ROOM_001", "test@example.com")).thenReturn(1);
 
         // When
         SliceResponse<ChatMemberRoomWithMessageDto> result = chatService
@@ -673,7 +977,6 @@ class ChatServiceTest {
         // Given
         when(chatMessageRepository.findFirstPage(eq("ROOM_001"), any(PageRequest.class)))
                 .thenReturn(new ArrayList<>());
-        when(chatRoomMemberRepository.updateLastReadTime("ROOM_001", "test@example.com")).thenReturn(1);
 
         // When
         SliceResponse<ChatMemberRoomWithMessageDto> result = chatService
@@ -699,6 +1002,7 @@ class ChatServiceTest {
         assertThat(result).isEqualTo("EXISTING_ROOM_001");
         verify(chatRoomRepository, never()).save(any(ChatRoom.class));
         verify(chatRoomMemberRepository, never()).save(any(ChatRoomAccount.class));
+        verify(membershipCache).invalidate("EXISTING_ROOM_001", List.of("test@example.com", "seller@example.com"));
     }
 
     @Test
@@ -731,6 +1035,7 @@ class ChatServiceTest {
 
         // Then
         verify(chatRoomMemberRepository).updateIsDelByMemberIdAndRoomId(accountEmail, roomId, 1);
+        verify(membershipCache).invalidate(roomId, List.of(accountEmail));
     }
 
     @Test
@@ -823,7 +1128,7 @@ class ChatServiceTest {
     }
 
     @Test
-    @DisplayName("publishToRedis - Redis 발행 테스트")
+    @DisplayName("publishToRedis - 방 메시지와 방 단위 사이드바 이벤트를 한 번씩 발행")
     void publishToRedis_test() throws Exception {
         // Given
         ChatMessageRequestDto mockMessageDto = new ChatMessageRequestDto("ROOM_001", "test@example.com", "테스트 메시지");
@@ -834,45 +1139,47 @@ class ChatServiceTest {
                 .message("테스트 메시지")
                 .createdAt(LocalDateTime.now().toString())
                 .build();
-        List<String> memberEmails = Arrays.asList("test@example.com", "other@example.com");
-        List<String> sidebars = Arrays.asList("ROOM_001", "ROOM_002");
-        
-        // Redis 템플릿 모킹
-        when(stringRedisTemplate.convertAndSend(anyString(), anyString())).thenReturn(0L);
-        
-        // When & Then
+        ChatRoomSidebarEvent sidebar = ChatRoomSidebarEvent.builder()
+                .roomId("ROOM_001")
+                .messageId("MSG_001")
+                .message("테스트 메시지")
+                .senderAccountEmail("test@example.com")
+                .unreadByMember(java.util.Map.of("test@example.com", 0, "other@example.com", 3))
+                .build();
+
+        // When
         // publishToRedis 메서드가 private이므로 reflection을 사용하여 테스트
-        Method publishMethod = ChatService.class.getDeclaredMethod("publishToRedis", 
-            ChatMessageRequestDto.class, ChatMessagePush.class, List.class, List.class);
+        Method publishMethod = ChatService.class.getDeclaredMethod("publishToRedis",
+            ChatMessageRequestDto.class, ChatMessagePush.class, ChatRoomSidebarEvent.class);
         publishMethod.setAccessible(true);
-        
-        // 메서드 실행
-        publishMethod.invoke(chatService, mockMessageDto, mockPush, memberEmails, sidebars);
-        
-        // Redis 발행이 호출되었는지 확인
-        verify(stringRedisTemplate, times(2)).convertAndSend(anyString(), anyString());
+        publishMethod.invoke(chatService, mockMessageDto, mockPush, sidebar);
+
+        // Then
+        // 멤버 수와 관계없이 방 채널 1건 + 사이드바 채널 1건
+        verify(redisPublisher).publishRoom("ROOM_001", mockPush);
+        verify(redisPublisher).publish("chat:sidebar:ROOM_001", sidebar);
+        verify(redisPublisher, never()).publish(startsWith("chat:user:"), any());
     }
 
     @Test
-    @DisplayName("publishSidebarUpdates - 사이드바 업데이트 테스트")
-    void publishSidebarUpdates_test() throws Exception {
+    @DisplayName("사이드바 이벤트 - 멤버별 안 읽은 수로 기존 사이드바 메시지를 만든다")
+    void sidebarEvent_toUpdateMessage() {
         // Given
-        List<String> memberEmails = Arrays.asList("test@example.com", "other@example.com");
-        List<String> sidebars = Arrays.asList("ROOM_001", "ROOM_002");
-        
-        // Redis 템플릿 모킹
-        when(stringRedisTemplate.convertAndSend(anyString(), anyString())).thenReturn(0L);
-        
-        // When & Then
-        // publishSidebarUpdates 메서드가 private이므로 reflection을 사용하여 테스트
-        Method publishMethod = ChatService.class.getDeclaredMethod("publishSidebarUpdates", List.class, List.class);
-        publishMethod.setAccessible(true);
-        
-        // 메서드 실행
-        publishMethod.invoke(chatService, memberEmails, sidebars);
-        
-        // Redis 발행이 호출되었는지 확인
-        verify(stringRedisTemplate, times(2)).convertAndSend(anyString(), anyString());
+        ChatRoomSidebarEvent sidebar = ChatRoomSidebarEvent.builder()
+                .roomId("ROOM_001")
+                .messageId("MSG_001")
+                .message("테스트 메시지")
+                .senderAccountEmail("test@example.com")
+                .unreadByMember(java.util.Map.of("test@example.com", 0, "other@example.com", 3))
+                .build();
+
+        // When
+        ChatRoomUpdateMessage forOther = sidebar.toUpdateMessage("other@example.com");
+
+        // Then
+        assertThat(forOther.getRoomId()).isEqualTo("ROOM_001");
+        assertThat(forOther.getUnreadCountForReceiver()).isEqualTo(3);
+        assertThat(sidebar.toUpdateMessage("test@example.com").getUnreadCountForReceiver()).isZero();
     }
 
     @Test
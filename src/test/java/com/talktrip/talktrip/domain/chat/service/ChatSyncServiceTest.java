@@ -0,0 +1,142 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import com.talktrip.talktrip.domain.chat.dto.response.ChatReadMarkerDto;
+import com.talktrip.talktrip.domain.chat.dto.response.ChatRoomDTO;
+import com.talktrip.talktrip.domain.chat.dto.response.ChatSyncResponse;
+import com.talktrip.talktrip.domain.chat.repository.ChatRoomMemberRepository;
+import com.talktrip.talktrip.domain.chat.repository.ChatRoomRepository;
+import com.talktrip.talktrip.global.config.ChatSyncProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatSyncServiceTest {
+
+    @Mock
+    private ChatRoomRepository chatRoomRepository;
+
+    @Mock
+    private ChatRoomMemberRepository chatRoomMemberRepository;
+
+    @Mock
+    private ChatUnreadCounterService unreadCounterService;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ChatSyncProperties properties;
+    private ChatSyncService syncService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ChatSyncProperties();
+        properties.setMaxMessagesPerRoom(2);
+        syncService = new ChatSyncService(properties, chatRoomRepository, chatRoomMemberRepository,
+                unreadCounterService, jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("토큰이 없으면 전체 방 목록으로 reset 하고 메시지는 읽지 않는다")
+    void sync_withoutToken_resets() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        when(unreadCounterService.getUnreadByRoom("a@test.com")).thenReturn(Map.of("ROOM_2", 4));
+        when(chatRoomRepository.findRoomsWithLastMessageByMemberId("a@test.com")).thenReturn(List.of(
+                room("ROOM_1", now.minusDays(1)), room("ROOM_2", now)));
+
+        // When
+        ChatSyncResponse response = syncService.sync("a@test.com", null);
+
+        // Then
+        assertThat(response.reset()).isTrue();
+        assertThat(response.rooms()).extracting(ChatRoomDTO::getRoomId).containsExactly("ROOM_2", "ROOM_1");
+        assertThat(response.rooms().get(0).getNotReadMessageCount()).isEqualTo(4L);
+        assertThat(response.messages()).isEmpty();
+        assertThat(ChatSyncService.decodeToken(response.syncToken())).isBefore(now);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("토큰 이후 바뀐 방만 한 번의 쿼리로 방별 최신 N개 메시지와 함께 돌려준다")
+    void sync_withToken_returnsDelta() throws Exception {
+        // Given
+        LocalDateTime since = LocalDateTime.now().withNano(0).minusMinutes(10);
+        when(unreadCounterService.getUnreadByRoom("a@test.com")).thenReturn(Map.of("ROOM_1", 5));
+        when(chatRoomRepository.findRoomsWithLastMessageByMemberIdUpdatedAfter("a@test.com", since))
+                .thenReturn(List.of(room("ROOM_1", since.plusMinutes(5))));
+        ChatReadMarkerDto marker = new ChatReadMarkerDto("ROOM_9", since.plusMinutes(1));
+        when(chatRoomMemberRepository.findReadMarkersAfter("a@test.com", since)).thenReturn(List.of(marker));
+        ResultSet first = row("M4", "ROOM_1", since.plusMinutes(4), 5);
+        ResultSet second = row("M5", "ROOM_1", since.plusMinutes(5), 5);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(first);
+            handler.processRow(second);
+            return null;
+        }).when(jdbcTemplate).query(contains("ROW_NUMBER() OVER"), any(RowCallbackHandler.class), any(Object[].class));
+
+        // When
+        ChatSyncResponse response = syncService.sync("a@test.com", ChatSyncService.encodeToken(since));
+
+        // Then
+        assertThat(response.reset()).isFalse();
+        assertThat(response.rooms()).singleElement()
+                .satisfies(room -> assertThat(room.getNotReadMessageCount()).isEqualTo(5L));
+        assertThat(response.messages()).singleElement().satisfies(group -> {
+            assertThat(group.roomId()).isEqualTo("ROOM_1");
+            assertThat(group.items()).extracting(m -> m.messageId()).containsExactly("M4", "M5");
+            assertThat(group.truncated()).isTrue();
+        });
+        assertThat(response.readMarkers()).containsExactly(marker);
+    }
+
+    @Test
+    @DisplayName("바뀐 방이 상한을 넘으면 델타 대신 reset 한다")
+    void sync_tooManyChangedRooms_resets() {
+        // Given
+        properties.setMaxRooms(1);
+        LocalDateTime since = LocalDateTime.now().withNano(0).minusMinutes(10);
+        when(unreadCounterService.getUnreadByRoom("a@test.com")).thenReturn(Map.of());
+        List<ChatRoomDTO> changed = List.of(room("ROOM_1", since.plusMinutes(1)), room("ROOM_2", since.plusMinutes(2)));
+        when(chatRoomRepository.findRoomsWithLastMessageByMemberIdUpdatedAfter("a@test.com", since)).thenReturn(changed);
+        when(chatRoomRepository.findRoomsWithLastMessageByMemberId("a@test.com")).thenReturn(changed);
+
+        // When
+        ChatSyncResponse response = syncService.sync("a@test.com", ChatSyncService.encodeToken(since));
+
+        // Then
+        assertThat(response.reset()).isTrue();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private static ChatRoomDTO room(String roomId, LocalDateTime updatedAt) {
+        return new ChatRoomDTO(roomId, "RA_" + roomId, updatedAt.minusDays(30), updatedAt, roomId, "메시지", 0L, null);
+    }
+
+    private static ResultSet row(String messageId, String roomId, LocalDateTime createdAt, long total) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString("message_id")).thenReturn(messageId);
+        when(rs.getString("room_id")).thenReturn(roomId);
+        when(rs.getString("account_email")).thenReturn("b@test.com");
+        when(rs.getString("message")).thenReturn("본문 " + messageId);
+        when(rs.getTimestamp("created_at")).thenReturn(Timestamp.valueOf(createdAt));
+        when(rs.getLong("total")).thenReturn(total);
+        return rs;
+    }
+}
@@ -0,0 +1,101 @@
+package com.talktrip.talktrip.domain.chat.service;
+
+import com.talktrip.talktrip.domain.chat.entity.ChatUnreadCounter;
+import com.talktrip.talktrip.domain.chat.repository.ChatUnreadCounterRepository;
+import com.talktrip.talktrip.global.config.ChatUnreadProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatUnreadCounterServiceTest {
+
+    private static final String EMAIL = "user@test.com";
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ChatUnreadCounterRepository counterRepository;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private ChatGroupRoomService groupRoomService;
+
+    private ChatUnreadCounterService counterService;
+
+    @BeforeEach
+    void setUp() {
+        counterService = new ChatUnreadCounterService(stringRedisTemplate, counterRepository, new ChatUnreadProperties(), groupRoomService);
+        when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+    }
+
+    @Test
+    @DisplayName("워밍된 Redis 해시가 있으면 DB 를 조회하지 않고 합계를 계산한다")
+    void totalUnread_fromWarmHash() {
+        // Given
+        when(hashOperations.entries(ChatUnreadCounterService.key(EMAIL))).thenReturn(Map.of(
+                "ROOM_A", "3",
+                "ROOM_B", "0",
+                "ROOM_C", "2",
+                ChatUnreadCounterService.WARM_FIELD, "1"
+        ));
+
+        // When & Then
+        assertThat(counterService.getTotalUnread(EMAIL)).isEqualTo(5);
+        assertThat(counterService.getUnreadRoomCount(EMAIL)).isEqualTo(2);
+        assertThat(counterService.getUnread("ROOM_A", EMAIL)).isEqualTo(3);
+        verifyNoInteractions(counterRepository);
+    }
+
+    @Test
+    @DisplayName("단체방은 카운터 대신 방 순번으로 계산한 안 읽은 수를 쓴다")
+    void unreadByRoom_groupRoomsOverrideCounters() {
+        // Given
+        when(hashOperations.entries(ChatUnreadCounterService.key(EMAIL))).thenReturn(Map.of(
+                "ROOM_A", "3",
+                "GROUP_1", "99",
+                ChatUnreadCounterService.WARM_FIELD, "1"
+        ));
+        when(groupRoomService.unreadByRoom(EMAIL)).thenReturn(Map.of("GROUP_1", 7, "GROUP_2", 0));
+
+        // When
+        Map<String, Integer> unread = counterService.getUnreadByRoom(EMAIL);
+
+        // Then
+        assertThat(unread).containsExactlyInAnyOrderEntriesOf(Map.of("ROOM_A", 3, "GROUP_1", 7, "GROUP_2", 0));
+    }
+
+    @Test
+    @DisplayName("콜드 해시면 DB 카운터를 읽고 Redis 를 다시 채운다")
+    void totalUnread_coldHashFallsBackToDb() {
+        // Given
+        when(hashOperations.entries(ChatUnreadCounterService.key(EMAIL))).thenReturn(Map.of("ROOM_A", "1"));
+        when(counterRepository.findAllByAccountEmail(EMAIL)).thenReturn(List.of(
+                new ChatUnreadCounter("ROOM_A", EMAIL, 4),
+                new ChatUnreadCounter("ROOM_B", EMAIL, 1)
+        ));
+
+        // When
+        int total = counterService.getTotalUnread(EMAIL);
+
+        // Then
+        assertThat(total).isEqualTo(5);
+        verify(stringRedisTemplate).executePipelined(any(RedisCallback.class));
+    }
+}
@@ -1,5 +1,6 @@
 package com.talktrip.talktrip.domain.review.service;
 
+import com.talktrip.talktrip.domain.chat.service.AlarmService;
 import com.talktrip.talktrip.domain.member.entity.Member;
 import com.talktrip.talktrip.domain.member.enums.MemberRole;
 import com.talktrip.talktrip.domain.member.enums.MemberState;
@@ -45,6 +46,7 @@ class ReviewServiceTest {
     @Mock ProductRepository productRepository;
     @Mock MemberRepository memberRepository;
     @Mock OrderRepository orderRepository;
+    @Mock AlarmService alarmService;
 
     private Member user() {
         return Member.builder()
@@ -95,6 +97,7 @@ class ReviewServiceTest {
             reviewService.createReview(ORDER_ID, USER_ID, new ReviewRequest(COMMENT_TEST, STAR_4_0));
 
             then(reviewRepository).should().save(any(Review.class));
+            then(alarmService).should().notifyReviewCreated(any(Review.class));
         }
 
         @Test @DisplayName("USER_NOT_FOUND")
@@ -0,0 +1,149 @@
+package com.talktrip.talktrip.global.interceptor;
+
+import com.talktrip.talktrip.global.config.ChatRateLimitProperties;
+import com.talktrip.talktrip.global.redis.RedisHealthMonitor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StompRateLimitInterceptorTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisHealthMonitor redisHealthMonitor;
+
+    @Mock
+    private ObjectProvider<SimpMessagingTemplate> messagingTemplateProvider;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private ChatRateLimitProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private StompRateLimitInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ChatRateLimitProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new StompRateLimitInterceptor(stringRedisTemplate, redisHealthMonitor,
+                messagingTemplateProvider, properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("세션 버킷을 다 쓰면 SEND 를 버리고 /queue/errors 로 알린다")
+    @SuppressWarnings("unchecked")
+    void sessionBurst_isRejected() {
+        // Given
+        properties.setSessionCapacity(3);
+        properties.setSessionRefillPerSecond(0.001);
+        when(redisHealthMonitor.isAvailable()).thenReturn(true);
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(List.of(1L, 0L));
+        when(messagingTemplateProvider.getObject()).thenReturn(messagingTemplate);
+
+        // When
+        int passed = 0;
+        for (int i = 0; i < 5; i++) {
+            if (interceptor.preSend(send("S1", "a@test.com"), null) != null) passed++;
+        }
+
+        // Then
+        assertThat(passed).isEqualTo(3);
+        ArgumentCaptor<Object> error = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate, times(2)).convertAndSendToUser(eq("a@test.com"), eq("/queue/errors"), error.capture());
+        assertThat((Map<String, Object>) error.getValue())
+                .containsEntry("errorCode", "RATE_LIMITED")
+                .containsEntry("scope", "session");
+        assertThat(meterRegistry.get("chat.ratelimit.rejected").tag("scope", "session").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Redis 사용자 버킷이 거절하면 다른 세션이어도 버린다")
+    @SuppressWarnings("unchecked")
+    void userBucket_isSharedAcrossSessions() {
+        // Given
+        when(redisHealthMonitor.isAvailable()).thenReturn(true);
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("chat:ratelimit:user:a@test.com")), any(), any()))
+                .thenReturn(List.of(0L, 250L));
+        when(messagingTemplateProvider.getObject()).thenReturn(messagingTemplate);
+
+        // When
+        Message<?> result = interceptor.preSend(send("S2", "a@test.com"), null);
+
+        // Then
+        assertThat(result).isNull();
+        ArgumentCaptor<Object> error = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate).convertAndSendToUser(eq("a@test.com"), eq("/queue/errors"), error.capture());
+        assertThat((Map<String, Object>) error.getValue())
+                .containsEntry("scope", "user")
+                .containsEntry("retryAfterMs", 250L);
+        assertThat(meterRegistry.get("chat.ratelimit.rejected").tag("scope", "user").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis 서킷이 열려 있으면 사용자 버킷을 건너뛰고 통과시킨다")
+    void redisUnavailable_failsOpen() {
+        // Given
+        when(redisHealthMonitor.isAvailable()).thenReturn(false);
+
+        // When
+        Message<?> result = interceptor.preSend(send("S3", "a@test.com"), null);
+
+        // Then
+        assertThat(result).isNotNull();
+        verifyNoInteractions(stringRedisTemplate, messagingTemplateProvider);
+        assertThat(meterRegistry.get("chat.ratelimit.redis.skipped").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("DISCONNECT 시 세션 버킷을 정리한다")
+    void disconnect_removesSessionBucket() {
+        // Given
+        when(redisHealthMonitor.isAvailable()).thenReturn(false);
+        interceptor.preSend(send("S4", "a@test.com"), null);
+        assertThat(interceptor.sessionBucketCount()).isEqualTo(1);
+
+        StompHeaderAccessor acc = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        acc.setSessionId("S4");
+        acc.setLeaveMutable(true);
+
+        // When
+        interceptor.preSend(MessageBuilder.createMessage(new byte[0], acc.getMessageHeaders()), null);
+
+        // Then
+        assertThat(interceptor.sessionBucketCount()).isZero();
+    }
+
+    private Message<byte[]> send(String sessionId, String email) {
+        StompHeaderAccessor acc = StompHeaderAccessor.create(StompCommand.SEND);
+        acc.setSessionId(sessionId);
+        acc.setDestination("/app/chat/message");
+        acc.setUser(new UsernamePasswordAuthenticationToken(email, null, List.of()));
+        acc.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], acc.getMessageHeaders());
+    }
+}
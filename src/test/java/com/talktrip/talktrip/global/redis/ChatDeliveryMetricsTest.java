@@ -0,0 +1,95 @@
+package com.talktrip.talktrip.global.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talktrip.talktrip.domain.chat.dto.response.ChatDeliveryTrace;
+import com.talktrip.talktrip.domain.chat.dto.response.ChatMessagePush;
+import com.talktrip.talktrip.domain.chat.service.ChatPresenceService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ChatDeliveryMetricsTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SimpleMeterRegistry meterRegistry;
+    private ChatDeliveryMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        ChatPresenceService presenceService = mock(ChatPresenceService.class);
+        when(presenceService.getInstanceId()).thenReturn("node-1");
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new ChatDeliveryMetrics(presenceService, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("파싱 없이 JSON 바이트에서 trace 시각을 읽는다 (본문 안의 같은 문자열은 무시)")
+    void extract_readsTraceFromJsonBytes() throws Exception {
+        // Given
+        ChatMessagePush push = ChatMessagePush.builder()
+                .messageId("MSG_001").roomId("ROOM_001").sender("a@test.com")
+                .message("\"trace\":{\"acceptedAt\":1}")
+                .trace(new ChatDeliveryTrace(1_000L, 3_000L, 7_000L))
+                .build();
+
+        // When
+        ChatDeliveryTrace trace = ChatDeliveryMetrics.extract(objectMapper.writeValueAsBytes(push));
+
+        // Then
+        assertThat(trace.getAcceptedAt()).isEqualTo(1_000L);
+        assertThat(trace.getPersistedAt()).isEqualTo(3_000L);
+        assertThat(trace.getPublishedAt()).isEqualTo(7_000L);
+        assertThat(ChatDeliveryMetrics.extract(objectMapper.writeValueAsBytes(
+                new ChatMessagePush("MSG_002", "ROOM_001", "a@test.com", "A", "본문", "2025-01-01T10:00:00")))).isNull();
+    }
+
+    @Test
+    @DisplayName("클라이언트로 넘기는 JSON 에서는 trace 를 잘라 낸다")
+    void withoutTrace_dropsInternalTimings() throws Exception {
+        // Given
+        ChatMessagePush push = ChatMessagePush.builder()
+                .messageId("MSG_001").roomId("ROOM_001").sender("a@test.com").message("안녕")
+                .trace(ChatDeliveryTrace.accepted(1_000L))
+                .build();
+        byte[] withoutTraceField = objectMapper.writeValueAsBytes(push.forClient());
+
+        // When
+        byte[] clientJson = ChatDeliveryMetrics.withoutTrace(objectMapper.writeValueAsBytes(push));
+
+        // Then
+        assertThat(objectMapper.readTree(clientJson).has("trace")).isFalse();
+        assertThat(objectMapper.readTree(clientJson)).isEqualTo(objectMapper.readTree(withoutTraceField));
+        assertThat(ChatDeliveryMetrics.withoutTrace(withoutTraceField)).isSameAs(withoutTraceField);
+    }
+
+    @Test
+    @DisplayName("단계별 지연을 인스턴스 태그로 기록하고, 시계 차이로 음수면 0 으로 기록한다")
+    void record_stagesTaggedByInstance() {
+        // Given (발행 시각이 수신 시각보다 늦음 = 노드 간 시계 차이)
+        ChatDeliveryTrace trace = new ChatDeliveryTrace(1_000L, 3_000L, 12_000L);
+
+        // When
+        metrics.record(trace, 10_000L, 10_500L);
+
+        // Then
+        assertThat(stageMillis("persist")).isEqualTo(2.0);
+        assertThat(stageMillis("publish")).isEqualTo(9.0);
+        assertThat(stageMillis("transit")).isZero();
+        assertThat(stageMillis("broker")).isEqualTo(0.5);
+        assertThat(meterRegistry.get("chat.delivery.latency").tag("instance", "node-1").timer()
+                .totalTime(TimeUnit.MILLISECONDS)).isEqualTo(9.5);
+        assertThat(meterRegistry.get("chat.delivery.clock_skew").counter().count()).isEqualTo(1.0);
+    }
+
+    private double stageMillis(String stage) {
+        return meterRegistry.get("chat.delivery.stage").tag("stage", stage).tag("instance", "node-1").timer()
+                .totalTime(TimeUnit.MILLISECONDS);
+    }
+}
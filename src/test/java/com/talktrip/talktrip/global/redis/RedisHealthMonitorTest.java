@@ -0,0 +1,83 @@
+package com.talktrip.talktrip.global.redis;
+
+import com.talktrip.talktrip.global.config.RedisHealthProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisHealthMonitorTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RedisHealthMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        RedisHealthProperties properties = new RedisHealthProperties();
+        properties.setFailureThreshold(2);
+        properties.setOpenDurationMs(0);
+        monitor = new RedisHealthMonitor(stringRedisTemplate, properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("연속 실패가 임계치에 닿으면 서킷이 열린다")
+    void recordFailure_opensAtThreshold() {
+        // When
+        monitor.recordFailure(new RedisConnectionFailureException("down"));
+        boolean afterOne = monitor.isAvailable();
+        monitor.recordFailure(new RedisConnectionFailureException("down"));
+
+        // Then
+        assertThat(afterOne).isTrue();
+        assertThat(monitor.isAvailable()).isFalse();
+        assertThat(monitor.getState()).isEqualTo(RedisHealthMonitor.State.OPEN);
+        assertThat(meterRegistry.get("redis.circuit.transitions").tag("to", "OPEN").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("OPEN 상태에서 PING 이 성공하면 HALF_OPEN 을 거쳐 닫힌다")
+    void probe_closesAfterSuccessfulPing() {
+        // Given
+        monitor.recordFailure(new RedisConnectionFailureException("down"));
+        monitor.recordFailure(new RedisConnectionFailureException("down"));
+        when(stringRedisTemplate.execute(any(RedisCallback.class), eq(true))).thenReturn("PONG");
+
+        // When
+        monitor.probe();
+
+        // Then
+        assertThat(monitor.getState()).isEqualTo(RedisHealthMonitor.State.CLOSED);
+        assertThat(meterRegistry.get("redis.circuit.transitions").tag("to", "HALF_OPEN").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 에서 PING 이 실패하면 바로 다시 열린다")
+    void probe_reopensOnFailedPing() {
+        // Given
+        monitor.recordFailure(new RedisConnectionFailureException("down"));
+        monitor.recordFailure(new RedisConnectionFailureException("down"));
+        when(stringRedisTemplate.execute(any(RedisCallback.class), eq(true)))
+                .thenThrow(new RedisConnectionFailureException("still down"));
+
+        // When
+        monitor.probe();
+
+        // Then
+        assertThat(monitor.isAvailable()).isFalse();
+    }
+}
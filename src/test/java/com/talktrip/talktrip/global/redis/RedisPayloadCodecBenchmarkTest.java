@@ -0,0 +1,77 @@
+package com.talktrip.talktrip.global.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talktrip.talktrip.domain.chat.dto.response.ChatMessagePush;
+import com.talktrip.talktrip.global.config.ChatCodecProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 수신 측 방 메시지 처리 비용 비교 (./gradlew benchmarkTest 로만 실행).
+ * - legacy: byte[] → String → DTO 파싱 → 브로커용 JSON 재직렬화 (기존 RedisSubscriber)
+ * - tagged json: 헤더 확인 후 클라이언트용 JSON 바이트를 그대로 사용
+ * 스레드 할당 바이트(ThreadMXBean)와 초당 처리 수를 출력한다.
+ */
+@Tag("benchmark")
+class RedisPayloadCodecBenchmarkTest {
+
+    private static final int WARMUP = 50_000;
+    private static final int ITERATIONS = 200_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("TAGGED_JSON 수신 경로는 기존 JSON 파싱/재직렬화보다 메시지당 할당이 적다")
+    void taggedJsonForwarding_allocatesLessThanLegacyParsing() throws Exception {
+        // Given
+        ChatCodecProperties properties = new ChatCodecProperties();
+        properties.setFormat(ChatCodecProperties.Format.TAGGED_JSON);
+        RedisPayloadCodec codec = new RedisPayloadCodec(objectMapper, properties);
+        ChatMessagePush push = new ChatMessagePush("msg0A1B2C3D4E5F6", "ROOM_0A1B2C3D4E5F6", "sender@test.com",
+                "보낸사람", "여행 일정 관련해서 문의드립니다. 내일 오전 출발 가능할까요?", "2025-01-01T10:00:00.123");
+        byte[] legacyBody = objectMapper.writeValueAsString(push).getBytes(StandardCharsets.UTF_8);
+        byte[] taggedBody = codec.encode(push);
+
+        // When
+        Result legacy = measure(() -> {
+            String payload = new String(legacyBody, StandardCharsets.UTF_8);
+            ChatMessagePush dto = objectMapper.readValue(payload, ChatMessagePush.class);
+            return objectMapper.writeValueAsBytes(dto).length;
+        });
+        Result tagged = measure(() -> codec.decode(taggedBody).json().length);
+
+        // Then
+        System.out.printf("[codec-bench] legacy: %.0f ops/s, %d B/op%n", legacy.opsPerSecond(), legacy.bytesPerOp());
+        System.out.printf("[codec-bench] tagged-json: %.0f ops/s, %d B/op%n", tagged.opsPerSecond(), tagged.bytesPerOp());
+        assertThat(tagged.bytesPerOp()).isLessThan(legacy.bytesPerOp());
+    }
+
+    private Result measure(Op op) throws Exception {
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) sink += op.run();
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) sink += op.run();
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        assertThat(sink).isPositive(); // 결과를 사용해 루프가 제거되지 않게 한다
+        return new Result(ITERATIONS * 1_000_000_000.0 / elapsed, allocated / ITERATIONS);
+    }
+
+    @FunctionalInterface
+    private interface Op {
+        int run() throws Exception;
+    }
+
+    private record Result(double opsPerSecond, long bytesPerOp) {}
+}
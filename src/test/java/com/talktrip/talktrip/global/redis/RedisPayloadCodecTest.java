@@ -0,0 +1,79 @@
+package com.talktrip.talktrip.global.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talktrip.talktrip.domain.chat.dto.response.ChatMessagePush;
+import com.talktrip.talktrip.global.config.ChatCodecProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RedisPayloadCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ChatCodecProperties properties;
+    private RedisPayloadCodec codec;
+    private ChatMessagePush push;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ChatCodecProperties();
+        codec = new RedisPayloadCodec(objectMapper, properties);
+        push = new ChatMessagePush("MSG_001", "ROOM_001", "a@test.com", "A", "안녕하세요", "2025-01-01T10:00:00");
+    }
+
+    @Test
+    @DisplayName("TAGGED_JSON - 헤더 뒤 본문은 클라이언트에 그대로 보낼 JSON 바이트다")
+    void taggedJson_bodyIsClientJson() throws Exception {
+        // Given
+        properties.setFormat(ChatCodecProperties.Format.TAGGED_JSON);
+
+        // When
+        byte[] encoded = codec.encode(push);
+        RedisPayloadCodec.Decoded decoded = codec.decode(encoded);
+
+        // Then
+        assertThat(encoded[0]).isEqualTo(RedisPayloadCodec.MAGIC);
+        assertThat(decoded.type()).isEqualTo(RedisPayloadCodec.PayloadType.ROOM_MESSAGE);
+        assertThat(decoded.json()).isEqualTo(objectMapper.writeValueAsBytes(push));
+        assertThat(codec.read(decoded, ChatMessagePush.class).getMessageId()).isEqualTo("MSG_001");
+    }
+
+    @Test
+    @DisplayName("기존 JSON 문자열과 이중 직렬화된 문자열도 읽는다")
+    void legacy_jsonAndDoubleEncoded() throws Exception {
+        // Given
+        String json = objectMapper.writeValueAsString(push);
+        byte[] plain = json.getBytes(StandardCharsets.UTF_8);
+        byte[] doubleEncoded = objectMapper.writeValueAsBytes(json);
+
+        // When & Then
+        assertThat(codec.decode(plain).json()).isEqualTo(plain);
+        assertThat(codec.decode(doubleEncoded).json()).isEqualTo(plain);
+        assertThat(codec.decode(plain).type()).isEqualTo(RedisPayloadCodec.PayloadType.UNKNOWN);
+    }
+
+    @Test
+    @DisplayName("JSON 형식 설정이면 헤더 없이 기존과 같은 바이트를 만든다")
+    void json_encodesWithoutHeader() throws Exception {
+        // When
+        byte[] encoded = codec.encode(push);
+
+        // Then
+        assertThat(new String(encoded, StandardCharsets.UTF_8)).isEqualTo(objectMapper.writeValueAsString(push));
+    }
+
+    @Test
+    @DisplayName("모르는 버전의 헤더는 거부한다")
+    void unknownVersion_isRejected() {
+        // Given
+        byte[] body = {RedisPayloadCodec.MAGIC, 9, 1, '{', '}'};
+
+        // When & Then
+        assertThatThrownBy(() -> codec.decode(body)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
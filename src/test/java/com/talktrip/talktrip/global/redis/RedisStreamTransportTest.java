@@ -0,0 +1,225 @@
+package com.talktrip.talktrip.global.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talktrip.talktrip.domain.chat.dto.response.ChatMessagePush;
+import com.talktrip.talktrip.domain.chat.dto.response.ChatStreamReplayResponse;
+import com.talktrip.talktrip.global.config.ChatTransportProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoConsumer;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoConsumers;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoGroup;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoGroups;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpSubscription;
+import org.springframework.messaging.simp.user.SimpSubscriptionMatcher;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisStreamTransportTest {
+
+    private static final String ROOM_ID = "ROOM_001";
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private StreamOperations<String, String, String> streamOperations;
+
+    @Mock
+    private RedisConnectionFactory connectionFactory;
+
+    @Mock
+    private RedisSubscriber redisSubscriber;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private SimpUserRegistry simpUserRegistry;
+
+    @Mock
+    private ChatDeliveryMetrics deliveryMetrics;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ChatTransportProperties properties;
+    private RedisStreamTransport transport;
+    private String key;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ChatTransportProperties();
+        properties.setMode(ChatTransportProperties.Mode.STREAM);
+        transport = new RedisStreamTransport(properties, stringRedisTemplate, connectionFactory, redisSubscriber,
+                messagingTemplate, simpUserRegistry, deliveryMetrics, objectMapper, new SimpleMeterRegistry());
+        key = RedisStreamTransport.streamKey(transport.shardOf(ROOM_ID));
+        lenient().doReturn(streamOperations).when(stringRedisTemplate).opsForStream();
+    }
+
+    @Test
+    @DisplayName("재전송 - 같은 샤드의 다른 방 메시지는 거르고 streamId 를 채워 오래된 순으로 돌려준다")
+    void replay_filtersRoomAndSetsStreamId() throws Exception {
+        // Given
+        when(streamOperations.range(eq(key), any(Range.class), any(Limit.class))).thenReturn(
+                List.of(record("1-0", ROOM_ID, "MSG_0")),                  // 가장 오래된 항목
+                List.of(record("2-0", ROOM_ID, "MSG_1"),
+                        record("3-0", "ROOM_OTHER", "MSG_X"),
+                        record("4-0", ROOM_ID, "MSG_2")));
+
+        // When
+        ChatStreamReplayResponse response = transport.replay(ROOM_ID, "1-0", 10);
+
+        // Then
+        assertThat(response.complete()).isTrue();
+        assertThat(response.messages()).extracting(ChatMessagePush::getMessageId).containsExactly("MSG_1", "MSG_2");
+        assertThat(response.messages()).extracting(ChatMessagePush::getStreamId).containsExactly("2-0", "4-0");
+    }
+
+    @Test
+    @DisplayName("재전송 - 마지막 ID 가 이미 잘려 나간 구간이면 complete=false")
+    void replay_trimmedStreamIsIncomplete() throws Exception {
+        // Given
+        when(streamOperations.range(eq(key), any(Range.class), any(Limit.class))).thenReturn(
+                List.of(record("50-0", ROOM_ID, "MSG_50")),
+                List.of(record("50-0", ROOM_ID, "MSG_50")));
+
+        // When
+        ChatStreamReplayResponse response = transport.replay(ROOM_ID, "10-0", 10);
+
+        // Then
+        assertThat(response.complete()).isFalse();
+        assertThat(response.messages()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("재전송 - limit 를 넘으면 잘라서 보내고 complete=false")
+    void replay_overLimitIsIncomplete() throws Exception {
+        // Given
+        when(streamOperations.range(eq(key), any(Range.class), any(Limit.class))).thenReturn(
+                List.of(record("1-0", ROOM_ID, "MSG_0")),
+                List.of(record("2-0", ROOM_ID, "MSG_1"),
+                        record("3-0", ROOM_ID, "MSG_2"),
+                        record("4-0", ROOM_ID, "MSG_3")));
+
+        // When
+        ChatStreamReplayResponse response = transport.replay(ROOM_ID, "1-0", 2);
+
+        // Then
+        assertThat(response.complete()).isFalse();
+        assertThat(response.messages()).extracting(ChatMessagePush::getMessageId).containsExactly("MSG_1", "MSG_2");
+    }
+
+    @Test
+    @DisplayName("컨슈머 그룹으로 읽은 항목은 로컬에 전달하고 ACK 한다")
+    void onRecord_forwardsAndAcks() throws Exception {
+        // Given
+        properties.setNodeName("node-1");
+        MapRecord<String, String, String> record = record("7-0", ROOM_ID, "MSG_7");
+
+        // When
+        transport.onRecord(record);
+
+        // Then
+        verify(redisSubscriber).forwardRoomMessage(argThat(push -> "7-0".equals(push.getStreamId())));
+        verify(streamOperations).acknowledge(key, "chat-node:node-1", RecordId.of("7-0"));
+    }
+
+    @Test
+    @DisplayName("이 노드에 로컬 구독자가 있는 방의 샤드만 읽는다")
+    @SuppressWarnings("unchecked")
+    void localShards_onlyRoomsWithLocalSubscribers() {
+        // Given
+        Set<SimpSubscription> subscriptions = Set.of(subscription("/topic/chat/room/" + ROOM_ID), subscription("/user/queue/alarm"));
+        when(simpUserRegistry.findSubscriptions(any())).thenAnswer(inv -> subscriptions.stream()
+                .filter(((SimpSubscriptionMatcher) inv.getArgument(0))::match)
+                .collect(Collectors.toSet()));
+
+        // When
+        Set<Integer> shards = transport.localShards();
+
+        // Then
+        assertThat(shards).containsExactly(transport.shardOf(ROOM_ID));
+    }
+
+    @Test
+    @DisplayName("다른 노드의 그룹 중 모든 컨슈머가 오래 쉬고 있는 그룹만 지운다")
+    void cleanupIdleGroups_destroysDeadInstanceGroups() {
+        // Given
+        properties.setStreamShards(1);
+        properties.setNodeName("node-1");
+        String shardKey = RedisStreamTransport.streamKey(0);
+        XInfoGroups groups = mock(XInfoGroups.class);
+        XInfoGroup own = group("chat-node:node-1");
+        XInfoGroup dead = group("chat-node:dead");
+        XInfoGroup live = group("chat-node:live");
+        when(groups.stream()).thenReturn(Stream.of(own, dead, live));
+        when(streamOperations.groups(shardKey)).thenReturn(groups);
+        XInfoConsumers deadConsumers = consumers(7_200_000L);
+        XInfoConsumers liveConsumers = consumers(1_000L);
+        when(streamOperations.consumers(shardKey, "chat-node:dead")).thenReturn(deadConsumers);
+        when(streamOperations.consumers(shardKey, "chat-node:live")).thenReturn(liveConsumers);
+        when(streamOperations.destroyGroup(shardKey, "chat-node:dead")).thenReturn(true);
+
+        // When
+        transport.cleanupIdleGroups();
+
+        // Then
+        verify(streamOperations).destroyGroup(shardKey, "chat-node:dead");
+        verify(streamOperations, never()).destroyGroup(shardKey, "chat-node:live");
+        verify(streamOperations, never()).destroyGroup(shardKey, "chat-node:node-1");
+    }
+
+    private static SimpSubscription subscription(String destination) {
+        SimpSubscription subscription = mock(SimpSubscription.class);
+        when(subscription.getDestination()).thenReturn(destination);
+        return subscription;
+    }
+
+    private static XInfoGroup group(String name) {
+        XInfoGroup group = mock(XInfoGroup.class);
+        when(group.groupName()).thenReturn(name);
+        return group;
+    }
+
+    private static XInfoConsumers consumers(long idleMs) {
+        XInfoConsumer consumer = mock(XInfoConsumer.class);
+        when(consumer.idleTimeMs()).thenReturn(idleMs);
+        XInfoConsumers consumers = mock(XInfoConsumers.class);
+        when(consumers.size()).thenReturn(1);
+        when(consumers.stream()).thenReturn(Stream.of(consumer));
+        return consumers;
+    }
+
+    private MapRecord<String, String, String> record(String id, String roomId, String messageId) throws Exception {
+        String payload = objectMapper.writeValueAsString(
+                new ChatMessagePush(messageId, roomId, "a@test.com", "A", "본문", "2025-01-01T10:00:00"));
+        return StreamRecords.newRecord()
+                .in(key)
+                .withId(RecordId.of(id))
+                .ofMap(Map.of("roomId", roomId, "payload", payload));
+    }
+}
@@ -0,0 +1,39 @@
+package com.talktrip.talktrip.global.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talktrip.talktrip.domain.chat.dto.response.ChatDeliveryTrace;
+import com.talktrip.talktrip.domain.chat.dto.response.ChatMessagePush;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisSubscriberTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("ChatMessagePush 는 messageId 를 첫 필드, trace 를 마지막 필드로 직렬화한다 (바이트 그대로 읽는 전제)")
+    void chatMessagePush_fieldOrderIsPinned() throws Exception {
+        // Given
+        ChatDeliveryTrace trace = ChatDeliveryTrace.accepted(1_000L);
+        trace.markPersisted();
+        ChatMessagePush push = ChatMessagePush.builder()
+                .messageId("MSG_001").roomId("ROOM_001").sender("a@test.com").senderName("A")
+                .message("안녕").createdAt("2025-01-01T10:00:00").streamId("1-0")
+                .trace(trace)
+                .build();
+
+        // When
+        byte[] json = objectMapper.writeValueAsBytes(push);
+        String text = new String(json, StandardCharsets.UTF_8);
+
+        // Then
+        assertThat(text).startsWith("{\"messageId\":\"MSG_001\"");
+        assertThat(text).containsPattern("\"trace\":\\{[^}]*}}$");
+        assertThat(RedisSubscriber.extractMessageId(json)).isEqualTo("MSG_001");
+        assertThat(ChatDeliveryMetrics.extract(json).getAcceptedAt()).isEqualTo(1_000L);
+    }
+}
@@ -0,0 +1,128 @@
+package com.talktrip.talktrip.global.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talktrip.talktrip.domain.chat.repository.ChatRoomMemberRepository;
+import com.talktrip.talktrip.global.config.ChatCodecProperties;
+import com.talktrip.talktrip.global.config.ChatSubscriptionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.security.Principal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisSubscriptionManagerTest {
+
+    @Mock
+    private RedisMessageListenerContainer container;
+
+    @Mock
+    private MessageListener subscriber;
+
+    @Mock
+    private ChatRoomMemberRepository chatRoomMemberRepository;
+
+    private RedisSubscriptionManager manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = new RedisSubscriptionManager(container, subscriber, chatRoomMemberRepository,
+                new RedisPayloadCodec(new ObjectMapper(), new ChatCodecProperties()), new ChatSubscriptionProperties(),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("같은 방을 여러 세션이 구독해도 Redis 채널은 한 번만 SUBSCRIBE 하고 마지막 해제 때 UNSUBSCRIBE 한다")
+    void roomChannel_isReferenceCounted() {
+        // When
+        manager.onSubscribe(new SessionSubscribeEvent(this, stomp(StompCommand.SUBSCRIBE, "s1", "sub-0", "/topic/chat/room/ROOM_1")));
+        manager.onSubscribe(new SessionSubscribeEvent(this, stomp(StompCommand.SUBSCRIBE, "s2", "sub-0", "/topic/chat/room/ROOM_1")));
+        manager.onUnsubscribe(new SessionUnsubscribeEvent(this, stomp(StompCommand.UNSUBSCRIBE, "s1", "sub-0", null)));
+
+        // Then
+        verify(container, times(1)).addMessageListener(subscriber, new ChannelTopic("chat:room:ROOM_1"));
+        verify(container, never()).removeMessageListener(subscriber, new ChannelTopic("chat:room:ROOM_1"));
+        assertThat(manager.isSubscribed("chat:room:ROOM_1")).isTrue();
+
+        // When - 마지막 세션 종료
+        manager.onDisconnect(new SessionDisconnectEvent(this, stomp(StompCommand.DISCONNECT, "s2", null, null), "s2", CloseStatus.NORMAL));
+
+        // Then
+        verify(container).removeMessageListener(subscriber, new ChannelTopic("chat:room:ROOM_1"));
+        assertThat(manager.channelCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("사용자 첫 세션 연결 시 사용자 채널과 소속 방 사이드바 채널을 구독한다")
+    void connect_subscribesUserAndSidebarChannels() {
+        // Given
+        Principal user = () -> "a@test.com";
+        when(chatRoomMemberRepository.findRoomIdsByAccountEmail("a@test.com")).thenReturn(List.of("ROOM_1", "ROOM_2"));
+
+        // When
+        manager.onConnected(new SessionConnectedEvent(this, stomp(StompCommand.CONNECTED, "s1", null, null), user));
+        manager.onConnected(new SessionConnectedEvent(this, stomp(StompCommand.CONNECTED, "s2", null, null), user));
+
+        // Then
+        assertThat(manager.isSubscribed("chat:user:a@test.com")).isTrue();
+        assertThat(manager.isSubscribed("chat:alarm:a@test.com")).isTrue();
+        assertThat(manager.isSubscribed("chat:sidebar:ROOM_1")).isTrue();
+        assertThat(manager.isSubscribed("chat:sidebar:ROOM_2")).isTrue();
+        verify(chatRoomMemberRepository, times(1)).findRoomIdsByAccountEmail("a@test.com");
+        verify(container).addMessageListener(manager, new ChannelTopic(RedisSubscriptionManager.membershipChannel("a@test.com")));
+
+        // When - 한 세션만 끊김
+        manager.onDisconnect(new SessionDisconnectEvent(this, stomp(StompCommand.DISCONNECT, "s1", null, null), "s1", CloseStatus.NORMAL));
+
+        // Then
+        assertThat(manager.isSubscribed("chat:sidebar:ROOM_1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("첫 세션의 방 목록 조회 중에 사용자가 끊기면 조회 결과로 사이드바를 구독하지 않는다")
+    void connect_disconnectDuringRoomLookup_leavesNoSubscriptions() {
+        // Given - 방 목록 조회 도중 같은 세션이 끊긴다
+        Principal user = () -> "a@test.com";
+        when(chatRoomMemberRepository.findRoomIdsByAccountEmail("a@test.com")).thenAnswer(inv -> {
+            manager.onDisconnect(new SessionDisconnectEvent(this, stomp(StompCommand.DISCONNECT, "s1", null, null), "s1", CloseStatus.NORMAL));
+            return List.of("ROOM_1");
+        });
+
+        // When
+        manager.onConnected(new SessionConnectedEvent(this, stomp(StompCommand.CONNECTED, "s1", null, null), user));
+
+        // Then
+        assertThat(manager.isSubscribed("chat:sidebar:ROOM_1")).isFalse();
+        assertThat(manager.channelCount()).isZero();
+        verify(container).removeMessageListener(manager, new ChannelTopic(RedisSubscriptionManager.membershipChannel("a@test.com")));
+        verify(container, never()).addMessageListener(subscriber, new ChannelTopic("chat:sidebar:ROOM_1"));
+    }
+
+    private Message<byte[]> stomp(StompCommand command, String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor acc = StompHeaderAccessor.create(command);
+        acc.setSessionId(sessionId);
+        if (subscriptionId != null) acc.setSubscriptionId(subscriptionId);
+        if (destination != null) acc.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], acc.getMessageHeaders());
+    }
+}
@@ -0,0 +1,93 @@
+package com.talktrip.talktrip.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SortableIdGeneratorTest {
+
+    private static final String PREFIX = SortableIdGenerator.MESSAGE_PREFIX;
+
+    @Test
+    @DisplayName("연속 생성한 ID 는 문자열 순서가 생성 순서와 같다")
+    void nextId_isLexicographicallyOrdered() {
+        // Given
+        List<String> ids = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(SortableIdGenerator.nextId(PREFIX));
+        }
+
+        // Then
+        List<String> sorted = new ArrayList<>(ids);
+        Collections.sort(sorted);
+        assertThat(sorted).isEqualTo(ids);
+        assertThat(new HashSet<>(ids)).hasSize(ids.size());
+        assertThat(ids.get(0)).startsWith(PREFIX).hasSize(PREFIX.length() + SortableIdGenerator.BODY_LENGTH);
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 생성해도 중복이 없다")
+    void nextId_uniqueAcrossThreads() throws InterruptedException {
+        // Given
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+
+        // When
+        for (int t = 0; t < 8; t++) {
+            pool.submit(() -> {
+                for (int i = 0; i < 5_000; i++) {
+                    ids.add(SortableIdGenerator.nextId(PREFIX));
+                }
+            });
+        }
+        pool.shutdown();
+        pool.awaitTermination(10, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(ids).hasSize(40_000);
+    }
+
+    @Test
+    @DisplayName("ID 에서 생성 시각을 복원하고, 기존 mgs ID 보다 뒤에 정렬된다")
+    void createdAtOf_roundTrip() {
+        // When
+        SortableIdGenerator.SortableId id = SortableIdGenerator.next(PREFIX);
+
+        // Then
+        assertThat(SortableIdGenerator.epochMillisOf(id.value(), PREFIX)).isEqualTo(id.epochMillis());
+        assertThat(SortableIdGenerator.createdAtOf(id.value(), PREFIX)).isEqualTo(id.createdAt());
+        assertThat(id.value()).isGreaterThan("mgs1a2b3c4");
+        assertThat(SortableIdGenerator.isSortableId("mgs1a2b3c4", PREFIX)).isFalse();
+    }
+
+    @Test
+    @DisplayName("커서: 정렬 가능한 ID 는 그대로, 기존 ID 는 Base64 복합 커서로 인코딩된다")
+    void cursor_singleValueForSortableIds() {
+        // Given
+        SortableIdGenerator.SortableId id = SortableIdGenerator.next(PREFIX);
+        LocalDateTime legacyTime = LocalDateTime.of(2024, 5, 1, 10, 0, 0, 123_456_000);
+
+        // When
+        String cursor = CursorUtil.encode(id.createdAt(), id.value());
+        String legacyCursor = CursorUtil.encode(legacyTime, "mgs1a2b3c4");
+
+        // Then
+        assertThat(cursor).isEqualTo(id.value());
+        assertThat(CursorUtil.decode(cursor)).isEqualTo(new CursorUtil.Cursor(id.createdAt(), id.value()));
+        assertThat(CursorUtil.decode(legacyCursor)).isEqualTo(new CursorUtil.Cursor(legacyTime, "mgs1a2b3c4"));
+    }
+}